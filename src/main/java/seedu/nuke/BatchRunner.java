@@ -0,0 +1,86 @@
+package seedu.nuke;
+
+import seedu.nuke.command.CommandResult;
+import seedu.nuke.command.ExitCommand;
+import seedu.nuke.data.storage.StorageManager;
+import seedu.nuke.directory.DirectoryTraverser;
+import seedu.nuke.ui.Ui;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+/**
+ * Runs the commands in a command file one after another through the {@link Executor}, as if they were typed into
+ * the console, e.g. to load the modules and tasks of a whole semester at once.
+ * <p></p>
+ * Unlike the console, the list is not saved and no screen shot is taken after every command. Instead, the whole list
+ * is committed into the data file in one atomic step every few commands and once the batch is done. A batch that is
+ * interrupted therefore leaves the list as it was at the last commit.
+ * <p></p>
+ * Empty lines and lines starting with <code>#</code> are skipped, and the batch stops early at an exit command.
+ */
+public class BatchRunner {
+    private static final String COMMENT_PREFIX = "#";
+
+    private final StorageManager storageManager;
+    private final Ui ui;
+    private final int commitInterval;
+
+    /**
+     * Constructs the batch runner.
+     *
+     * @param storageManager
+     *  The storage manager to commit the list with
+     * @param ui
+     *  The user interface to show the commands and their results in
+     * @param commitInterval
+     *  The number of commands to run between commits, or <code>0</code> to only commit at the end of the batch
+     */
+    public BatchRunner(StorageManager storageManager, Ui ui, int commitInterval) {
+        assert commitInterval >= 0 : "The commit interval cannot be negative";
+        this.storageManager = storageManager;
+        this.ui = ui;
+        this.commitInterval = commitInterval;
+    }
+
+    /**
+     * Runs the commands read from the command file, one command on each line, until the end of the file or an exit
+     * command.
+     *
+     * @param reader
+     *  The reader of the command file
+     * @return
+     *  The number of commands that were run
+     * @throws IOException
+     *  If the command file cannot be read, or the list cannot be committed
+     */
+    public int run(BufferedReader reader) throws IOException {
+        int commandCount = 0;
+        int uncommittedCount = 0;
+        String input;
+        while (!ExitCommand.isExit() && (input = reader.readLine()) != null) {
+            input = input.trim();
+            if (input.isEmpty() || input.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+
+            ui.showMessage(String.format("%s : %s", DirectoryTraverser.getFullPath(), input));
+            CommandResult commandResult = Executor.executeCommand(input);
+            ui.showResult(commandResult);
+            ++commandCount;
+
+            if (commitInterval > 0 && ++uncommittedCount >= commitInterval) {
+                commit();
+                uncommittedCount = 0;
+            }
+        }
+        commit();
+        return commandCount;
+    }
+
+    private void commit() throws IOException {
+        if (StorageManager.isToSave()) {
+            storageManager.commitList();
+        }
+    }
+}
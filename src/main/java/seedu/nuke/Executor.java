@@ -3,6 +3,7 @@ package seedu.nuke;
 import seedu.nuke.command.Command;
 import seedu.nuke.command.CommandResult;
 import seedu.nuke.command.promptcommand.PromptType;
+import seedu.nuke.data.ChangeBus;
 import seedu.nuke.directory.Directory;
 import seedu.nuke.directory.DirectoryLevel;
 import seedu.nuke.parser.Parser;
@@ -140,7 +141,20 @@ public class Executor {
         return execute(command);
     }
 
+    /**
+     * Executes the command, sending the changes it makes to the Module List together once it is done.
+     *
+     * @param command
+     *  The command to be executed
+     * @return
+     *  The result of the command
+     */
     public static CommandResult execute(Command command) {
-        return command.execute();
+        ChangeBus.beginBatch();
+        try {
+            return command.execute();
+        } finally {
+            ChangeBus.endBatch();
+        }
     }
 }
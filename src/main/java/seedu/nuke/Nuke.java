@@ -5,18 +5,31 @@ import seedu.nuke.command.ExitCommand;
 import seedu.nuke.data.ModuleLoader;
 import seedu.nuke.data.ModuleManager;
 import seedu.nuke.data.ScreenShotManager;
+import seedu.nuke.data.storage.SaveFormat;
 import seedu.nuke.data.storage.StorageManager;
 import seedu.nuke.data.storage.StoragePath;
 import seedu.nuke.ui.TextUi;
 import seedu.nuke.ui.Ui;
 import seedu.nuke.util.Message;
 
+import java.io.BufferedReader;
+import java.io.FileNotFoundException;
+import java.io.FileReader;
 import java.io.IOException;
-import java.util.HashMap;
+import java.io.InputStreamReader;
+import java.util.Map;
 
 public class Nuke {
+    private static final String BATCH_OPTION = "--batch";
+    private static final String COMMIT_INTERVAL_OPTION = "--commit-every";
+    private static final String STANDARD_INPUT = "-";
+    private static final String MESSAGE_USAGE = String.format(
+            "Usage: nuke [%s [<command file>] [%s <number of commands>]]\n"
+            + "The commands are read from the standard input if no command file is given.",
+            BATCH_OPTION, COMMIT_INTERVAL_OPTION);
+
     private CommandResult commandResult;
-    private HashMap<String, String> modulesMap;
+    private Map<String, String> modulesMap;
     private Ui ui;
     private StorageManager storageManager;
 
@@ -26,9 +39,12 @@ public class Nuke {
      */
     public Nuke() {
         ui = new Ui();
-        modulesMap = ModuleLoader.load(StoragePath.NUS_MODULE_LIST_PATH);
-        storageManager = new StorageManager(StoragePath.SAVE_PATH);
+        modulesMap = ModuleLoader.loadCatalogue(StoragePath.NUS_MODULE_LIST_PATH);
+        storageManager = new StorageManager(StoragePath.BINARY_SAVE_PATH, StoragePath.JOURNAL_PATH,
+                SaveFormat.BINARY);
+        storageManager.setLegacyDataFileName(StoragePath.SAVE_PATH);
         ModuleManager.initialise(modulesMap);
+        ModuleLoader.refreshCatalogueInBackground(StoragePath.NUS_MODULE_LIST_PATH);
         storageManager.loadList();
         ScreenShotManager.initialise();
     }
@@ -39,7 +55,32 @@ public class Nuke {
      * @param args arguments passed to the programme.
      */
     public static void main(String[] args) {
-        new Nuke().run();
+        if (args.length == 0) {
+            new Nuke().run();
+            return;
+        }
+
+        String commandFileName = null;
+        int commitInterval = 0;
+        try {
+            for (int i = 0; i < args.length; ++i) {
+                if (args[i].equals(BATCH_OPTION)) {
+                    boolean hasFileName = i + 1 < args.length && !args[i + 1].startsWith("--");
+                    commandFileName = hasFileName ? args[++i] : STANDARD_INPUT;
+                } else if (args[i].equals(COMMIT_INTERVAL_OPTION)) {
+                    commitInterval = Integer.parseInt(args[++i]);
+                } else {
+                    throw new IllegalArgumentException();
+                }
+            }
+        } catch (ArrayIndexOutOfBoundsException | IllegalArgumentException e) {
+            commandFileName = null;
+        }
+        if (commandFileName == null || commitInterval < 0) {
+            System.out.println(MESSAGE_USAGE);
+            return;
+        }
+        new Nuke().runBatch(commandFileName, commitInterval);
     }
 
     /**
@@ -51,6 +92,34 @@ public class Nuke {
         exit();
     }
 
+    /**
+     * Runs the commands in a command file without the user typing them, saving the list only every few commands
+     * and at the end instead of after every command.
+     *
+     * @param commandFileName
+     *  The name of the command file, or <code>-</code> to read the commands from the standard input
+     * @param commitInterval
+     *  The number of commands to run between saves, or <code>0</code> to only save at the end
+     */
+    public void runBatch(String commandFileName, int commitInterval) {
+        try (BufferedReader reader = openCommandFile(commandFileName)) {
+            int commandCount = new BatchRunner(storageManager, ui, commitInterval).run(reader);
+            ui.showMessage(String.format("Commands run: %d", commandCount));
+        } catch (FileNotFoundException e) {
+            ui.showMessage("Cannot read the command file: " + e.getMessage());
+        } catch (IOException e) {
+            ui.showMessage(e.getMessage());
+        }
+        exit();
+    }
+
+    private static BufferedReader openCommandFile(String commandFileName) throws FileNotFoundException {
+        if (commandFileName.equals(STANDARD_INPUT)) {
+            return new BufferedReader(new InputStreamReader(System.in));
+        }
+        return new BufferedReader(new FileReader(commandFileName));
+    }
+
     /**
      * Method to print the welcome message to the user.
      */
@@ -73,6 +142,7 @@ public class Nuke {
 
         try {
             storageManager.saveList();
+            storageManager.closeJournal();
         } catch (IOException e) {
             ui.showMessage(e.getMessage());
         }
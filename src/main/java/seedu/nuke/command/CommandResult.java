@@ -11,7 +11,7 @@ import java.util.ArrayList;
 public class CommandResult {
     private final String feedbackToUser;
     private final DirectoryLevel directoryLevel;
-    private final ArrayList<Directory> shownList;
+    private final ResultPages<? extends Directory> shownPages;
     private final ArrayList<String> helpGuide;
 
     /**
@@ -24,9 +24,14 @@ public class CommandResult {
      */
     public CommandResult(String feedbackToUser, DirectoryLevel directoryLevel,
                           ArrayList<Directory> listToShow, ArrayList<String> helpGuide) {
+        this(feedbackToUser, directoryLevel, (listToShow == null) ? null : new ResultPages<>(listToShow), helpGuide);
+    }
+
+    private CommandResult(String feedbackToUser, DirectoryLevel directoryLevel,
+                          ResultPages<? extends Directory> pagesToShow, ArrayList<String> helpGuide) {
         this.feedbackToUser = feedbackToUser;
         this.directoryLevel = directoryLevel;
-        this.shownList = listToShow;
+        this.shownPages = pagesToShow;
         this.helpGuide = helpGuide;
     }
 
@@ -44,8 +49,23 @@ public class CommandResult {
         this(feedbackToUser, directoryLevel, listToShow, null);
     }
 
+    /**
+     * Constructs a command result that contains both feedback message and the pages of results to show.
+     *
+     * @param feedbackToUser
+     *  The feedback message to be shown to the user
+     * @param directoryLevel
+     *  The data type of the results
+     * @param pagesToShow
+     *  The pages of results to be shown to the user
+     */
+    public CommandResult(String feedbackToUser, DirectoryLevel directoryLevel,
+                         ResultPages<? extends Directory> pagesToShow) {
+        this(feedbackToUser, directoryLevel, pagesToShow, null);
+    }
+
     public CommandResult(String feedbackToUser, ArrayList<String> helpGuide) {
-        this(feedbackToUser, DirectoryLevel.NONE, null, helpGuide);
+        this(feedbackToUser, DirectoryLevel.NONE, (ResultPages<Directory>) null, helpGuide);
     }
 
     /**
@@ -54,7 +74,7 @@ public class CommandResult {
      *  The feedback message to be shown to the user
      */
     public CommandResult(String feedbackToUser) {
-        this(feedbackToUser, DirectoryLevel.NONE, null, null);
+        this(feedbackToUser, DirectoryLevel.NONE, (ResultPages<Directory>) null, null);
     }
 
     /**
@@ -78,13 +98,28 @@ public class CommandResult {
     }
 
     /**
-     * Returns the list to be shown to the user.
+     * Returns the whole list to be shown to the user, in order.
      *
      * @return
      *  The list to be shown to the user
      */
     public ArrayList<Directory> getShownList() {
-        return shownList;
+        return (shownPages == null) ? null : new ArrayList<>(shownPages.getAll());
+    }
+
+    /**
+     * Returns the pages of results to be shown to the user, as results of the type given by the directory level.
+     *
+     * @param type
+     *  The type of the results
+     * @return
+     *  The pages of results to be shown to the user
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Directory> ResultPages<T> getShownPages(Class<T> type) {
+        assert shownPages == null || shownPages.size() == 0 || type.isInstance(shownPages.getPage(0).get(0))
+                : "The results have to be of the type of the directory level";
+        return (ResultPages<T>) shownPages;
     }
 
     public ArrayList<String> getHelpGuide() {
@@ -23,6 +23,8 @@ import seedu.nuke.command.filtercommand.listcommand.ListTagCommand;
 import seedu.nuke.command.filtercommand.listcommand.ListTaskCommand;
 import seedu.nuke.command.filtercommand.listcommand.ListTaskSortedCommand;
 import seedu.nuke.command.misc.ChangeDirectoryCommand;
+import seedu.nuke.command.misc.ExportCommand;
+import seedu.nuke.command.misc.ImportCommand;
 import seedu.nuke.command.misc.InfoCommand;
 import seedu.nuke.command.misc.OpenFileCommand;
 import seedu.nuke.command.misc.RedoCommand;
@@ -91,6 +93,8 @@ public class HelpCommand extends Command {
 
             ChangeDirectoryCommand.MESSAGE_USAGE,
             OpenFileCommand.MESSAGE_USAGE,
+            ImportCommand.MESSAGE_USAGE,
+            ExportCommand.MESSAGE_USAGE,
             InfoCommand.MESSAGE_USAGE,
             UndoCommand.MESSAGE_USAGE,
             RedoCommand.MESSAGE_USAGE,
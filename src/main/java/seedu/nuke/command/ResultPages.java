@@ -0,0 +1,162 @@
+package seedu.nuke.command;
+
+import seedu.nuke.directory.Directory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * The results of a command to be shown to the user, fetched one page at a time.
+ * <p></p>
+ * The results are only put in order when a page is fetched. The first page is selected with a bounded heap, so
+ * that the results do not have to be sorted if only the first page is shown, and all the results are sorted once
+ * a later page is fetched.
+ *
+ * @param <T>
+ *  The type of the results
+ */
+public class ResultPages<T extends Directory> {
+    public static final int PAGE_SIZE = 50;
+
+    private final ArrayList<T> results;
+    private final Comparator<? super T> order;
+    private boolean isInOrder;
+    private List<T> firstPage;
+
+    /**
+     * Constructs the pages of results that are put in the specified order when fetched.
+     *
+     * @param results
+     *  The results to be shown, in any order
+     * @param order
+     *  The order to show the results in. Equal results are shown in the order they are given.
+     */
+    public ResultPages(List<? extends T> results, Comparator<? super T> order) {
+        this.results = new ArrayList<>(results);
+        this.order = order;
+        this.isInOrder = false;
+    }
+
+    /**
+     * Constructs the pages of results that are already in order.
+     *
+     * @param results
+     *  The results to be shown, in the order to show them
+     */
+    public ResultPages(List<? extends T> results) {
+        this.results = new ArrayList<>(results);
+        this.order = null;
+        this.isInOrder = true;
+    }
+
+    /**
+     * Returns the total number of results.
+     *
+     * @return
+     *  The number of results
+     */
+    public int size() {
+        return results.size();
+    }
+
+    /**
+     * Returns the number of pages needed to show all the results.
+     *
+     * @return
+     *  The number of pages
+     */
+    public int countPages() {
+        return (results.size() + PAGE_SIZE - 1) / PAGE_SIZE;
+    }
+
+    /**
+     * Returns the index of the first result of the specified page among all the results.
+     *
+     * @param pageIndex
+     *  The index of the page, starting from 0
+     * @return
+     *  The index of the first result of the page
+     */
+    public int getFirstIndex(int pageIndex) {
+        return pageIndex * PAGE_SIZE;
+    }
+
+    /**
+     * Returns the results of the specified page, in order.
+     *
+     * @param pageIndex
+     *  The index of the page, starting from 0
+     * @return
+     *  The results of the page
+     * @throws IndexOutOfBoundsException
+     *  If there is no page with the specified index
+     */
+    public List<T> getPage(int pageIndex) {
+        if (pageIndex < 0 || pageIndex >= countPages()) {
+            throw new IndexOutOfBoundsException(String.format("Page %d of %d", pageIndex, countPages()));
+        }
+        int fromIndex = getFirstIndex(pageIndex);
+        int toIndex = Math.min(fromIndex + PAGE_SIZE, results.size());
+        if (!isInOrder && pageIndex == 0 && toIndex < results.size()) {
+            if (firstPage == null) {
+                firstPage = selectFirst(toIndex);
+            }
+            return firstPage;
+        }
+        putInOrder();
+        return Collections.unmodifiableList(results.subList(fromIndex, toIndex));
+    }
+
+    /**
+     * Returns all the results, in order.
+     *
+     * @return
+     *  All the results
+     */
+    public List<T> getAll() {
+        putInOrder();
+        return Collections.unmodifiableList(results);
+    }
+
+    private void putInOrder() {
+        if (!isInOrder) {
+            results.sort(order);
+            isInOrder = true;
+        }
+    }
+
+    /**
+     * Selects the first results in order without sorting all the results, by keeping the results selected so far
+     * in a heap with the last of them on top.
+     *
+     * @param count
+     *  The number of results to select
+     * @return
+     *  The first results, in order
+     */
+    private List<T> selectFirst(int count) {
+        // Equal results are ordered by their positions, the same as a stable sort of all the results
+        Comparator<Integer> byResult = (i, j) -> {
+            int comparison = order.compare(results.get(i), results.get(j));
+            return (comparison != 0) ? comparison : Integer.compare(i, j);
+        };
+        PriorityQueue<Integer> selected = new PriorityQueue<>(count, byResult.reversed());
+        for (int i = 0; i < results.size(); ++i) {
+            if (selected.size() < count) {
+                selected.add(i);
+            } else if (byResult.compare(i, selected.peek()) < 0) {
+                selected.poll();
+                selected.add(i);
+            }
+        }
+
+        ArrayList<T> firstResults = new ArrayList<>(Collections.nCopies(selected.size(), null));
+        for (int i = selected.size() - 1; i >= 0; --i) {
+            firstResults.set(i, results.get(selected.poll()));
+        }
+        return Collections.unmodifiableList(firstResults);
+    }
+}
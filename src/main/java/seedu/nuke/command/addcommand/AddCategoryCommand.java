@@ -4,14 +4,17 @@ import seedu.nuke.command.Command;
 import seedu.nuke.command.CommandResult;
 import seedu.nuke.data.CategoryManager;
 import seedu.nuke.data.ModuleManager;
-import seedu.nuke.data.storage.StorageManager;
 import seedu.nuke.directory.Category;
 import seedu.nuke.directory.DirectoryTraverser;
 import seedu.nuke.directory.Module;
 import seedu.nuke.exception.IncorrectDirectoryLevelException;
+import seedu.nuke.parser.CommandGrammar;
 
-import java.util.regex.Pattern;
-
+import static seedu.nuke.parser.CommandGrammar.MODULE_GROUP;
+import static seedu.nuke.parser.CommandGrammar.PRIORITY_GROUP;
+import static seedu.nuke.parser.CommandGrammar.attribute;
+import static seedu.nuke.parser.CommandGrammar.identifier;
+import static seedu.nuke.parser.CommandGrammar.value;
 import static seedu.nuke.parser.Parser.MODULE_PREFIX;
 import static seedu.nuke.parser.Parser.PRIORITY_PREFIX;
 import static seedu.nuke.util.ExceptionMessage.MESSAGE_DUPLICATE_CATEGORY;
@@ -35,11 +38,10 @@ public class AddCategoryCommand extends AddCommand {
             + "Format: %s\n"
             + "Example: addc Project -m CS2113T -p 4\n",
             COMMAND_WORD, FORMAT);
-    public static final Pattern REGEX_FORMAT = Pattern.compile(
-            "(?<identifier>(?:\\s+\\w\\S*)*)"
-            + "(?<moduleCode>(?:\\s+" + MODULE_PREFIX + "(?:\\s+\\w\\S*)+)?)"
-            + "(?<priority>(?:\\s+" + PRIORITY_PREFIX + "\\s+\\S+)?)"
-            + "(?<invalid>.*)"
+    public static final CommandGrammar GRAMMAR = new CommandGrammar(
+            identifier(),
+            attribute(MODULE_GROUP, MODULE_PREFIX),
+            value(PRIORITY_GROUP, PRIORITY_PREFIX)
     );
 
     private String moduleCode;
@@ -94,7 +96,6 @@ public class AddCategoryCommand extends AddCommand {
             Module parentModule = DirectoryTraverser.getModuleDirectory(moduleCode);
             Category toAdd = new Category(parentModule, categoryName, categoryPriority);
             parentModule.getCategories().add(toAdd);
-            StorageManager.setIsSave();
             return new CommandResult(messageAddCategorySuccess(categoryName));
         } catch (ModuleManager.ModuleNotFoundException e) {
             return new CommandResult(MESSAGE_MODULE_NOT_FOUND);
@@ -7,7 +7,6 @@ import seedu.nuke.data.CategoryManager;
 import seedu.nuke.data.ModuleManager;
 import seedu.nuke.data.TaskFileManager;
 import seedu.nuke.data.TaskManager;
-import seedu.nuke.data.storage.StorageManager;
 import seedu.nuke.data.storage.StoragePath;
 import seedu.nuke.directory.DirectoryTraverser;
 import seedu.nuke.directory.Task;
@@ -16,6 +15,7 @@ import seedu.nuke.exception.ExceedLimitException;
 import seedu.nuke.exception.IncorrectDirectoryLevelException;
 import seedu.nuke.exception.InvalidFormatException;
 import seedu.nuke.gui.io.GuiExecutor;
+import seedu.nuke.parser.CommandGrammar;
 
 import java.io.File;
 import java.io.FileNotFoundException;
@@ -24,9 +24,14 @@ import java.nio.file.FileSystemException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.security.SecureRandom;
-import java.util.regex.Pattern;
 
 import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static seedu.nuke.parser.CommandGrammar.CATEGORY_GROUP;
+import static seedu.nuke.parser.CommandGrammar.FILE_GROUP;
+import static seedu.nuke.parser.CommandGrammar.MODULE_GROUP;
+import static seedu.nuke.parser.CommandGrammar.TASK_GROUP;
+import static seedu.nuke.parser.CommandGrammar.attribute;
+import static seedu.nuke.parser.CommandGrammar.identifier;
 import static seedu.nuke.parser.Parser.CATEGORY_PREFIX;
 import static seedu.nuke.parser.Parser.FILE_PREFIX;
 import static seedu.nuke.parser.Parser.MODULE_PREFIX;
@@ -64,13 +69,12 @@ public class AddFileCommand extends AddCommand {
             + "Format: %s\n"
             + "Example: addf tut_1 -m CS2113T -c Tutorial -t do tutorial 1 -f C:/Users/a/Desktop/CS2113T/tut_1.pdf\n",
             COMMAND_WORD, FORMAT);
-    public static final Pattern REGEX_FORMAT = Pattern.compile(
-            "(?<identifier>(?:\\s+\\w\\S*)*)"
-            + "(?<moduleCode>(?:\\s+" + MODULE_PREFIX + "(?:\\s+\\w\\S*)+)?)"
-            + "(?<categoryName>(?:\\s+" + CATEGORY_PREFIX + "(?:\\s+\\w\\S*)+)?)"
-            + "(?<taskDescription>(?:\\s+" + TASK_PREFIX + "(?:\\s+\\w\\S*)+)?)"
-            + "(?<fileInfo>(?:\\s+" + FILE_PREFIX + "(?:\\s+\\w\\S*)+)?)"
-            + "(?<invalid>.*)"
+    public static final CommandGrammar GRAMMAR = new CommandGrammar(
+            identifier(),
+            attribute(MODULE_GROUP, MODULE_PREFIX),
+            attribute(CATEGORY_GROUP, CATEGORY_PREFIX),
+            attribute(TASK_GROUP, TASK_PREFIX),
+            attribute(FILE_GROUP, FILE_PREFIX)
     );
 
     private String moduleCode;
@@ -238,7 +242,6 @@ public class AddFileCommand extends AddCommand {
             String fullFilePath = new File(originalFilePath).getAbsolutePath();
             TaskFile toAdd = new TaskFile(parentTask, fileName, filePath, fullFilePath);
             parentTask.getFiles().add(toAdd);
-            StorageManager.setIsSave();
             return new CommandResult(messageAddFileSuccess(fileName));
         } catch (ModuleManager.ModuleNotFoundException e) {
             return new CommandResult(MESSAGE_MODULE_NOT_FOUND);
@@ -4,14 +4,14 @@ import seedu.nuke.NukeLogger;
 import seedu.nuke.command.Command;
 import seedu.nuke.command.CommandResult;
 import seedu.nuke.data.ModuleManager;
-import seedu.nuke.data.storage.StorageManager;
 import seedu.nuke.exception.ModuleNotProvidedException;
 import seedu.nuke.directory.Module;
+import seedu.nuke.parser.CommandGrammar;
 
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.regex.Pattern;
 
+import static seedu.nuke.parser.CommandGrammar.identifier;
 import static seedu.nuke.util.ExceptionMessage.MESSAGE_DUPLICATE_MODULE;
 import static seedu.nuke.util.ExceptionMessage.MESSAGE_MODULE_NOT_PROVIDED;
 import static seedu.nuke.util.Message.messageAddModuleSuccess;
@@ -30,9 +30,8 @@ public class AddModuleCommand extends AddCommand {
             + "Format: %s\n"
             + "Example: addm CS2113T\n",
             COMMAND_WORD, FORMAT);
-    public static final Pattern REGEX_FORMAT = Pattern.compile(
-            "(?<identifier>(?:\\s+\\w\\S*)*)"
-            + "(?<invalid>.*)"
+    public static final CommandGrammar GRAMMAR = new CommandGrammar(
+            identifier()
     );
 
     private String moduleCode;
@@ -64,7 +63,6 @@ public class AddModuleCommand extends AddCommand {
             ModuleManager.add(toAdd);
             //logger.log(Level.INFO, String.format("Module %s was added into the module list.", moduleCode));
             assert toAdd.getModuleCode().equals(moduleCode) : "Incorrect last added module!";
-            StorageManager.setIsSave();
             return new CommandResult(messageAddModuleSuccess(toAdd.getModuleCode(), toAdd.getTitle()));
         } catch (ModuleManager.DuplicateModuleException e) {
             //logger.log(Level.WARNING, String.format("Duplicate module %s attempted to be added.", moduleCode));
@@ -8,10 +8,15 @@ import seedu.nuke.data.TaskManager;
 import seedu.nuke.directory.DirectoryTraverser;
 import seedu.nuke.directory.Task;
 import seedu.nuke.exception.IncorrectDirectoryLevelException;
+import seedu.nuke.parser.CommandGrammar;
 
 import java.util.ArrayList;
-import java.util.regex.Pattern;
 
+import static seedu.nuke.parser.CommandGrammar.CATEGORY_GROUP;
+import static seedu.nuke.parser.CommandGrammar.MODULE_GROUP;
+import static seedu.nuke.parser.CommandGrammar.TASK_GROUP;
+import static seedu.nuke.parser.CommandGrammar.attribute;
+import static seedu.nuke.parser.CommandGrammar.identifier;
 import static seedu.nuke.parser.Parser.CATEGORY_PREFIX;
 import static seedu.nuke.parser.Parser.MODULE_PREFIX;
 import static seedu.nuke.parser.Parser.TASK_PREFIX;
@@ -31,12 +36,11 @@ public class AddTagCommand extends Command {
             + "Format: %s\n"
             + "Example: addg urgent -m CS2113T -c Lab -t complete project\n",
             COMMAND_WORD, FORMAT);
-    public static final Pattern REGEX_FORMATS = Pattern.compile(
-            "(?<identifier>(?:\\s+\\w\\S*)*)"
-            + "(?<moduleCode>(?:\\s+" + MODULE_PREFIX + "(?:\\s+\\w\\S*)+)?)"
-            + "(?<categoryName>(?:\\s+" + CATEGORY_PREFIX + "(?:\\s+\\w\\S*)+)?)"
-            + "(?<taskDescription>(?:\\s+" + TASK_PREFIX + "(?:\\s+\\w\\S*)+)?)"
-            + "(?<invalid>.*)"
+    public static final CommandGrammar GRAMMAR = new CommandGrammar(
+            identifier(),
+            attribute(MODULE_GROUP, MODULE_PREFIX),
+            attribute(CATEGORY_GROUP, CATEGORY_PREFIX),
+            attribute(TASK_GROUP, TASK_PREFIX)
     );
     private final ArrayList<String> tagNames;
     private String taskDescription;
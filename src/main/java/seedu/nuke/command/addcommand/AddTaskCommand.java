@@ -5,15 +5,21 @@ import seedu.nuke.command.CommandResult;
 import seedu.nuke.data.CategoryManager;
 import seedu.nuke.data.ModuleManager;
 import seedu.nuke.data.TaskManager;
-import seedu.nuke.data.storage.StorageManager;
 import seedu.nuke.directory.Category;
 import seedu.nuke.directory.DirectoryTraverser;
 import seedu.nuke.directory.Task;
 import seedu.nuke.exception.IncorrectDirectoryLevelException;
+import seedu.nuke.parser.CommandGrammar;
 import seedu.nuke.util.DateTime;
 
-import java.util.regex.Pattern;
-
+import static seedu.nuke.parser.CommandGrammar.CATEGORY_GROUP;
+import static seedu.nuke.parser.CommandGrammar.DEADLINE_GROUP;
+import static seedu.nuke.parser.CommandGrammar.MODULE_GROUP;
+import static seedu.nuke.parser.CommandGrammar.PRIORITY_GROUP;
+import static seedu.nuke.parser.CommandGrammar.PRIORITY_GROUP_SECOND;
+import static seedu.nuke.parser.CommandGrammar.attribute;
+import static seedu.nuke.parser.CommandGrammar.identifier;
+import static seedu.nuke.parser.CommandGrammar.value;
 import static seedu.nuke.parser.Parser.CATEGORY_PREFIX;
 import static seedu.nuke.parser.Parser.DEADLINE_PREFIX;
 import static seedu.nuke.parser.Parser.MODULE_PREFIX;
@@ -41,14 +47,13 @@ public class AddTaskCommand extends AddCommand {
             + "Format: %s\n"
             + "Example: addt do tutorial 1 -m CS2113T -c Tutorial -d sat 2359 -p 8\n",
             COMMAND_WORD, FORMAT);
-    public static final Pattern REGEX_FORMAT = Pattern.compile(
-            "(?<identifier>(?:\\s+\\w\\S*)*)"
-            + "(?<moduleCode>(?:\\s+" + MODULE_PREFIX + "(?:\\s+\\w\\S*)+)?)"
-            + "(?<categoryName>(?:\\s+" + CATEGORY_PREFIX + "(?:\\s+\\w\\S*)+)?)"
-            + "(?<priority>(?:\\s+" + PRIORITY_PREFIX + "\\s+\\S+)?)"
-            + "(?<deadline>(?:\\s+" + DEADLINE_PREFIX + "(?:\\s+\\w\\S*)+)?)"
-            + "(?<prioritySecond>(?:\\s+" + PRIORITY_PREFIX + "\\s+\\S+)?)"
-            + "(?<invalid>.*)"
+    public static final CommandGrammar GRAMMAR = new CommandGrammar(
+            identifier(),
+            attribute(MODULE_GROUP, MODULE_PREFIX),
+            attribute(CATEGORY_GROUP, CATEGORY_PREFIX),
+            value(PRIORITY_GROUP, PRIORITY_PREFIX),
+            attribute(DEADLINE_GROUP, DEADLINE_PREFIX),
+            value(PRIORITY_GROUP_SECOND, PRIORITY_PREFIX)
     );
 
     private String moduleCode;
@@ -119,7 +124,6 @@ public class AddTaskCommand extends AddCommand {
             }
             Task toAdd = new Task(parentCategory, description, deadline, priority);
             parentCategory.getTasks().add(toAdd);
-            StorageManager.setIsSave();
             return new CommandResult(messageAddTaskSuccess(description));
         } catch (ModuleManager.ModuleNotFoundException e) {
             return new CommandResult(MESSAGE_MODULE_NOT_FOUND);
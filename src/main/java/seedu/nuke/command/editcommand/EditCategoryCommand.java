@@ -4,14 +4,18 @@ import seedu.nuke.command.Command;
 import seedu.nuke.command.CommandResult;
 import seedu.nuke.data.CategoryManager;
 import seedu.nuke.data.ModuleManager;
-import seedu.nuke.data.storage.StorageManager;
 import seedu.nuke.directory.Category;
 import seedu.nuke.directory.Directory;
 import seedu.nuke.directory.DirectoryTraverser;
 import seedu.nuke.exception.IncorrectDirectoryLevelException;
+import seedu.nuke.parser.CommandGrammar;
 
-import java.util.regex.Pattern;
-
+import static seedu.nuke.parser.CommandGrammar.CATEGORY_GROUP;
+import static seedu.nuke.parser.CommandGrammar.MODULE_GROUP;
+import static seedu.nuke.parser.CommandGrammar.PRIORITY_GROUP;
+import static seedu.nuke.parser.CommandGrammar.attribute;
+import static seedu.nuke.parser.CommandGrammar.identifier;
+import static seedu.nuke.parser.CommandGrammar.value;
 import static seedu.nuke.parser.Parser.CATEGORY_PREFIX;
 import static seedu.nuke.parser.Parser.MODULE_PREFIX;
 import static seedu.nuke.parser.Parser.PRIORITY_PREFIX;
@@ -37,12 +41,11 @@ public class EditCategoryCommand extends EditCommand {
             + "Format: %s\n"
             + "Example: edc Priject -m CS2113T -c Project -p 3\n",
             COMMAND_WORD, FORMAT);
-    public static final Pattern REGEX_FORMAT = Pattern.compile(
-            "(?<identifier>(?:\\s+\\w\\S*)*)"
-            + "(?<moduleCode>(?:\\s+" + MODULE_PREFIX + "(?:\\s+\\w\\S*)+)?)"
-            + "(?<categoryName>(?:\\s+" + CATEGORY_PREFIX + "(?:\\s+\\w\\S*)+)?)"
-            + "(?<priority>(?:\\s+" + PRIORITY_PREFIX + "\\s+\\S+)?)"
-            + "(?<invalid>.*)"
+    public static final CommandGrammar GRAMMAR = new CommandGrammar(
+            identifier(),
+            attribute(MODULE_GROUP, MODULE_PREFIX),
+            attribute(CATEGORY_GROUP, CATEGORY_PREFIX),
+            value(PRIORITY_GROUP, PRIORITY_PREFIX)
     );
 
     private String oldCategoryName;
@@ -134,7 +137,6 @@ public class EditCategoryCommand extends EditCommand {
             Category toEdit = DirectoryTraverser.getCategoryDirectory(moduleCode, oldCategoryName);
             fillAllAttributes(toEdit);
             edit(toEdit);
-            StorageManager.setIsSave();
             return new CommandResult(MESSAGE_EDIT_CATEGORY_SUCCESS);
         } catch (ModuleManager.ModuleNotFoundException e) {
             return new CommandResult(MESSAGE_MODULE_NOT_FOUND);
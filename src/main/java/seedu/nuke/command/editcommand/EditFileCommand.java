@@ -6,14 +6,18 @@ import seedu.nuke.data.CategoryManager;
 import seedu.nuke.data.ModuleManager;
 import seedu.nuke.data.TaskFileManager;
 import seedu.nuke.data.TaskManager;
-import seedu.nuke.data.storage.StorageManager;
 import seedu.nuke.directory.Directory;
 import seedu.nuke.directory.DirectoryTraverser;
 import seedu.nuke.directory.TaskFile;
 import seedu.nuke.exception.IncorrectDirectoryLevelException;
+import seedu.nuke.parser.CommandGrammar;
 
-import java.util.regex.Pattern;
-
+import static seedu.nuke.parser.CommandGrammar.CATEGORY_GROUP;
+import static seedu.nuke.parser.CommandGrammar.FILE_GROUP;
+import static seedu.nuke.parser.CommandGrammar.MODULE_GROUP;
+import static seedu.nuke.parser.CommandGrammar.TASK_GROUP;
+import static seedu.nuke.parser.CommandGrammar.attribute;
+import static seedu.nuke.parser.CommandGrammar.identifier;
 import static seedu.nuke.parser.Parser.CATEGORY_PREFIX;
 import static seedu.nuke.parser.Parser.FILE_PREFIX;
 import static seedu.nuke.parser.Parser.MODULE_PREFIX;
@@ -42,13 +46,12 @@ public class EditFileCommand extends EditCommand {
             + "Format: %s\n"
             + "Example: edf tut_2 -m CS2113T -c Tutorial -t do tutorial 3 -f tut_3\n",
             COMMAND_WORD, FORMAT);
-    public static final Pattern REGEX_FORMAT = Pattern.compile(
-            "(?<identifier>(?:\\s+\\w\\S*)*)"
-            + "(?<moduleCode>(?:\\s+" + MODULE_PREFIX + "(?:\\s+\\w\\S*)+)?)"
-            + "(?<categoryName>(?:\\s+" + CATEGORY_PREFIX + "(?:\\s+\\w\\S*)+)?)"
-            + "(?<taskDescription>(?:\\s+" + TASK_PREFIX + "(?:\\s+\\w\\S*)+)?)"
-            + "(?<fileInfo>(?:\\s+" + FILE_PREFIX + "(?:\\s+\\w\\S*)+)?)"
-            + "(?<invalid>.*)"
+    public static final CommandGrammar GRAMMAR = new CommandGrammar(
+            identifier(),
+            attribute(MODULE_GROUP, MODULE_PREFIX),
+            attribute(CATEGORY_GROUP, CATEGORY_PREFIX),
+            attribute(TASK_GROUP, TASK_PREFIX),
+            attribute(FILE_GROUP, FILE_PREFIX)
     );
 
 
@@ -116,7 +119,6 @@ public class EditFileCommand extends EditCommand {
             TaskFile toEdit =
                     DirectoryTraverser.getFileDirectory(moduleCode, categoryName, taskDescription, oldFileName);
             edit(toEdit);
-            StorageManager.setIsSave();
             return new CommandResult(MESSAGE_EDIT_FILE_SUCCESS);
         } catch (ModuleManager.ModuleNotFoundException e) {
             return new CommandResult(MESSAGE_MODULE_NOT_FOUND);
@@ -3,15 +3,16 @@ package seedu.nuke.command.editcommand;
 import seedu.nuke.command.Command;
 import seedu.nuke.command.CommandResult;
 import seedu.nuke.data.ModuleManager;
-import seedu.nuke.data.storage.StorageManager;
 import seedu.nuke.directory.Directory;
 import seedu.nuke.directory.DirectoryTraverser;
 import seedu.nuke.directory.Module;
 import seedu.nuke.exception.IncorrectDirectoryLevelException;
 import seedu.nuke.exception.ModuleNotProvidedException;
+import seedu.nuke.parser.CommandGrammar;
 
-import java.util.regex.Pattern;
-
+import static seedu.nuke.parser.CommandGrammar.MODULE_GROUP;
+import static seedu.nuke.parser.CommandGrammar.attribute;
+import static seedu.nuke.parser.CommandGrammar.identifier;
 import static seedu.nuke.parser.Parser.MODULE_PREFIX;
 import static seedu.nuke.util.ExceptionMessage.MESSAGE_DUPLICATE_MODULE;
 import static seedu.nuke.util.ExceptionMessage.MESSAGE_INCORRECT_DIRECTORY_LEVEL;
@@ -33,10 +34,9 @@ public class EditModuleCommand extends EditCommand {
             + "Format: %s\n"
             + "Example: edm CS2113 -m CS2113T\n",
             COMMAND_WORD, FORMAT);
-    public static final Pattern REGEX_FORMAT = Pattern.compile(
-            "(?<identifier>(?:\\s+\\w\\S*)*)"
-            + "(?<moduleCode>(?:\\s+" + MODULE_PREFIX + "(?:\\s+\\w\\S*)+)?)"
-            + "(?<invalid>.*)"
+    public static final CommandGrammar GRAMMAR = new CommandGrammar(
+            identifier(),
+            attribute(MODULE_GROUP, MODULE_PREFIX)
     );
 
     private String oldModuleCode;
@@ -84,7 +84,6 @@ public class EditModuleCommand extends EditCommand {
         try {
             Module toEdit = DirectoryTraverser.getModuleDirectory(oldModuleCode);
             edit(toEdit);
-            StorageManager.setIsSave();
             return new CommandResult(MESSAGE_EDIT_MODULE_SUCCESS);
         }  catch (ModuleNotProvidedException e) {
             return new CommandResult(MESSAGE_MODULE_NOT_PROVIDED);
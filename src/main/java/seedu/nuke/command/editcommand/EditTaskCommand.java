@@ -5,15 +5,22 @@ import seedu.nuke.command.CommandResult;
 import seedu.nuke.data.CategoryManager;
 import seedu.nuke.data.ModuleManager;
 import seedu.nuke.data.TaskManager;
-import seedu.nuke.data.storage.StorageManager;
 import seedu.nuke.directory.Directory;
 import seedu.nuke.directory.DirectoryTraverser;
 import seedu.nuke.directory.Task;
 import seedu.nuke.exception.IncorrectDirectoryLevelException;
+import seedu.nuke.parser.CommandGrammar;
 import seedu.nuke.util.DateTime;
 
-import java.util.regex.Pattern;
-
+import static seedu.nuke.parser.CommandGrammar.CATEGORY_GROUP;
+import static seedu.nuke.parser.CommandGrammar.DEADLINE_GROUP;
+import static seedu.nuke.parser.CommandGrammar.MODULE_GROUP;
+import static seedu.nuke.parser.CommandGrammar.PRIORITY_GROUP;
+import static seedu.nuke.parser.CommandGrammar.PRIORITY_GROUP_SECOND;
+import static seedu.nuke.parser.CommandGrammar.TASK_GROUP;
+import static seedu.nuke.parser.CommandGrammar.attribute;
+import static seedu.nuke.parser.CommandGrammar.identifier;
+import static seedu.nuke.parser.CommandGrammar.value;
 import static seedu.nuke.parser.Parser.CATEGORY_PREFIX;
 import static seedu.nuke.parser.Parser.DEADLINE_PREFIX;
 import static seedu.nuke.parser.Parser.MODULE_PREFIX;
@@ -43,15 +50,14 @@ public class EditTaskCommand extends EditCommand {
             + "Format: %s\n"
             + "Example: edt read week 6 nites -m CS2113T -c Lecture -t read week 8 notes -d sun -p 1\n",
             COMMAND_WORD, FORMAT);
-    public static final Pattern REGEX_FORMAT = Pattern.compile(
-            "(?<identifier>(?:\\s+\\w\\S*)*)"
-            + "(?<moduleCode>(?:\\s+" + MODULE_PREFIX + "(?:\\s+\\w\\S*)+)?)"
-            + "(?<categoryName>(?:\\s+" + CATEGORY_PREFIX + "(?:\\s+\\w\\S*)+)?)"
-            + "(?<taskDescription>(?:\\s+" + TASK_PREFIX + "(?:\\s+\\w\\S*)+)?)"
-            + "(?<priority>(?:\\s+" + PRIORITY_PREFIX + "\\s+\\S+)?)"
-            + "(?<deadline>(?:\\s+" + DEADLINE_PREFIX + "(?:\\s+\\w\\S*)+)?)"
-            + "(?<prioritySecond>(?:\\s+" + PRIORITY_PREFIX + "\\s+\\S+)?)"
-            + "(?<invalid>.*)"
+    public static final CommandGrammar GRAMMAR = new CommandGrammar(
+            identifier(),
+            attribute(MODULE_GROUP, MODULE_PREFIX),
+            attribute(CATEGORY_GROUP, CATEGORY_PREFIX),
+            attribute(TASK_GROUP, TASK_PREFIX),
+            value(PRIORITY_GROUP, PRIORITY_PREFIX),
+            attribute(DEADLINE_GROUP, DEADLINE_PREFIX),
+            value(PRIORITY_GROUP_SECOND, PRIORITY_PREFIX)
     );
 
     private String oldTaskDescription;
@@ -161,7 +167,6 @@ public class EditTaskCommand extends EditCommand {
             Task toEdit = DirectoryTraverser.getTaskDirectory(moduleCode, categoryName, oldTaskDescription);
             fillAllAttributes(toEdit);
             edit(toEdit);
-            StorageManager.setIsSave();
             return new CommandResult(MESSAGE_EDIT_TASK_SUCCESS);
         } catch (ModuleManager.ModuleNotFoundException e) {
             return new CommandResult(MESSAGE_MODULE_NOT_FOUND);
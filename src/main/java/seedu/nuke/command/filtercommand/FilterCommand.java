@@ -6,6 +6,7 @@ import seedu.nuke.data.ModuleManager;
 import seedu.nuke.data.TaskFileManager;
 import seedu.nuke.data.TaskManager;
 import seedu.nuke.directory.Category;
+import seedu.nuke.directory.Directory;
 import seedu.nuke.directory.DirectoryLevel;
 import seedu.nuke.directory.DirectoryTraverser;
 import seedu.nuke.directory.Module;
@@ -13,11 +14,25 @@ import seedu.nuke.directory.Task;
 import seedu.nuke.directory.TaskFile;
 import seedu.nuke.directory.TaskTag;
 import seedu.nuke.exception.IncorrectDirectoryLevelException;
+import seedu.nuke.parser.CommandGrammar;
+import seedu.nuke.tag.TagQuery;
 
 import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.regex.Pattern;
 
+import static seedu.nuke.parser.CommandGrammar.ALL_GROUP;
+import static seedu.nuke.parser.CommandGrammar.ALL_GROUP_SECOND;
+import static seedu.nuke.parser.CommandGrammar.CATEGORY_GROUP;
+import static seedu.nuke.parser.CommandGrammar.DEADLINE_GROUP;
+import static seedu.nuke.parser.CommandGrammar.EXACT_GROUP;
+import static seedu.nuke.parser.CommandGrammar.MODULE_GROUP;
+import static seedu.nuke.parser.CommandGrammar.PRIORITY_GROUP;
+import static seedu.nuke.parser.CommandGrammar.PRIORITY_GROUP_SECOND;
+import static seedu.nuke.parser.CommandGrammar.TASK_GROUP;
+import static seedu.nuke.parser.CommandGrammar.attribute;
+import static seedu.nuke.parser.CommandGrammar.flag;
+import static seedu.nuke.parser.CommandGrammar.identifier;
+import static seedu.nuke.parser.CommandGrammar.tagIdentifier;
 import static seedu.nuke.parser.Parser.ALL_FLAG;
 import static seedu.nuke.parser.Parser.CATEGORY_PREFIX;
 import static seedu.nuke.parser.Parser.DEADLINE_PREFIX;
@@ -27,66 +42,55 @@ import static seedu.nuke.parser.Parser.PRIORITY_PREFIX;
 import static seedu.nuke.parser.Parser.TASK_PREFIX;
 
 public abstract class FilterCommand extends Command {
-    public static final Pattern MODULE_REGEX_FORMAT = Pattern.compile(
-            "(?<identifier>(?:\\s+\\w\\S*)*)"
-            + "(?<all>(?:\\s+" + ALL_FLAG + ")?)"
-            + "(?<exact>(?:\\s+" + EXACT_FLAG + ")?)"
-            + "(?<allSecond>(?:\\s+" + ALL_FLAG + ")?)"
-            + "(?<invalid>.*)"
+    public static final CommandGrammar MODULE_GRAMMAR = new CommandGrammar(
+            identifier(),
+            flag(ALL_GROUP, ALL_FLAG),
+            flag(EXACT_GROUP, EXACT_FLAG),
+            flag(ALL_GROUP_SECOND, ALL_FLAG)
     );
-    public static final Pattern CATEGORY_REGEX_FORMAT = Pattern.compile(
-            "(?<identifier>(?:\\s+\\w\\S*)*)"
-            + "(?<moduleCode>(?:\\s+" + MODULE_PREFIX + "(?:\\s+\\w\\S*)+)?)"
-            + "(?<all>(?:\\s+" + ALL_FLAG + ")?)"
-            + "(?<exact>(?:\\s+" + EXACT_FLAG + ")?)"
-            + "(?<allSecond>(?:\\s+" + ALL_FLAG + ")?)"
-            + "(?<invalid>.*)"
+    public static final CommandGrammar CATEGORY_GRAMMAR = new CommandGrammar(
+            identifier(),
+            attribute(MODULE_GROUP, MODULE_PREFIX),
+            flag(ALL_GROUP, ALL_FLAG),
+            flag(EXACT_GROUP, EXACT_FLAG),
+            flag(ALL_GROUP_SECOND, ALL_FLAG)
     );
-    public static final Pattern TASK_REGEX_FORMAT = Pattern.compile(
-            "(?<identifier>(?:\\s+\\w\\S*)*)"
-            + "(?<moduleCode>(?:\\s+" + MODULE_PREFIX + "(?:\\s+\\w\\S*)+)?)"
-            + "(?<categoryName>(?:\\s+" + CATEGORY_PREFIX + "(?:\\s+\\w\\S*)+)?)"
-            + "(?<all>(?:\\s+" + ALL_FLAG + ")?)"
-            + "(?<exact>(?:\\s+" + EXACT_FLAG + ")?)"
-            + "(?<allSecond>(?:\\s+" + ALL_FLAG + ")?)"
-            + "(?<invalid>.*)"
+    public static final CommandGrammar TASK_GRAMMAR = new CommandGrammar(
+            identifier(),
+            attribute(MODULE_GROUP, MODULE_PREFIX),
+            attribute(CATEGORY_GROUP, CATEGORY_PREFIX),
+            flag(ALL_GROUP, ALL_FLAG),
+            flag(EXACT_GROUP, EXACT_FLAG),
+            flag(ALL_GROUP_SECOND, ALL_FLAG)
     );
 
-    public static final Pattern TASK_SORTED_REGEX_FORMAT = Pattern.compile(
-            "(?<moduleCode>(?:\\s+" + MODULE_PREFIX + "(?:\\s+\\w\\S*)+)?)"
-            + "(?<categoryName>(?:\\s+" + CATEGORY_PREFIX + "(?:\\s+\\w\\S*)+)?)"
-            + "(?<priority>(?:\\s+" + PRIORITY_PREFIX + ")?)"
-            + "(?<deadline>(?:\\s+" + DEADLINE_PREFIX + ")?)"
-            + "(?<prioritySecond>(?:\\s+" + PRIORITY_PREFIX + ")?)"
-            + "(?<invalid>.*)"
+    public static final CommandGrammar TASK_SORTED_GRAMMAR = new CommandGrammar(
+            attribute(MODULE_GROUP, MODULE_PREFIX),
+            attribute(CATEGORY_GROUP, CATEGORY_PREFIX),
+            flag(PRIORITY_GROUP, PRIORITY_PREFIX),
+            flag(DEADLINE_GROUP, DEADLINE_PREFIX),
+            flag(PRIORITY_GROUP_SECOND, PRIORITY_PREFIX)
     );
 
-    public static final Pattern FILE_REGEX_FORMAT = Pattern.compile(
-            "(?<identifier>(?:\\s+\\w\\S*)*)"
-            + "(?<moduleCode>(?:\\s+" + MODULE_PREFIX + "(?:\\s+\\w\\S*)+)?)"
-            + "(?<categoryName>(?:\\s+" + CATEGORY_PREFIX + "(?:\\s+\\w\\S*)+)?)"
-            + "(?<taskDescription>(?:\\s+" + TASK_PREFIX + "(?:\\s+\\w\\S*)+)?)"
-            + "(?<all>(?:\\s+" + ALL_FLAG + ")?)"
-            + "(?<exact>(?:\\s+" + EXACT_FLAG + ")?)"
-            + "(?<allSecond>(?:\\s+" + ALL_FLAG + ")?)"
-            + "(?<invalid>.*)"
+    public static final CommandGrammar FILE_GRAMMAR = new CommandGrammar(
+            identifier(),
+            attribute(MODULE_GROUP, MODULE_PREFIX),
+            attribute(CATEGORY_GROUP, CATEGORY_PREFIX),
+            attribute(TASK_GROUP, TASK_PREFIX),
+            flag(ALL_GROUP, ALL_FLAG),
+            flag(EXACT_GROUP, EXACT_FLAG),
+            flag(ALL_GROUP_SECOND, ALL_FLAG)
     );
 
-    public static final Pattern TAG_REGEX_FORMAT = Pattern.compile(
-            "(?<identifier>(?:\\s+\\w\\S*)*)"
-            + "(?<moduleCode>(?:\\s+" + MODULE_PREFIX + "(?:\\s+\\w\\S*)+)?)"
-            + "(?<categoryName>(?:\\s+" + CATEGORY_PREFIX + "(?:\\s+\\w\\S*)+)?)"
-            + "(?<taskDescription>(?:\\s+" + TASK_PREFIX + "(?:\\s+\\w\\S*)+)?)"
-            + "(?<all>(?:\\s+" + ALL_FLAG + ")?)"
-            + "(?<exact>(?:\\s+" + EXACT_FLAG + ")?)"
-            + "(?<allSecond>(?:\\s+" + ALL_FLAG + ")?)"
-            + "(?<invalid>.*)"
-    );
-
-    public static final Pattern REGEX_OPTIONAL_FORMAT = Pattern.compile(
-            "(?<all>(?:\\s+" + ALL_FLAG + ")?)"
-            + "(?<exact>(?:\\s+" + EXACT_FLAG + ")?)"
-            + "(?<allSecond>(?:\\s+" + ALL_FLAG + ")?)"
+    // The tag keyword may also combine tags with the operators of a tag query
+    public static final CommandGrammar TAG_GRAMMAR = new CommandGrammar(
+            tagIdentifier(),
+            attribute(MODULE_GROUP, MODULE_PREFIX),
+            attribute(CATEGORY_GROUP, CATEGORY_PREFIX),
+            attribute(TASK_GROUP, TASK_PREFIX),
+            flag(ALL_GROUP, ALL_FLAG),
+            flag(EXACT_GROUP, EXACT_FLAG),
+            flag(ALL_GROUP_SECOND, ALL_FLAG)
     );
 
     protected ArrayList<Module> createFilteredModuleList(String moduleKeyword, boolean isExact) {
@@ -137,19 +141,23 @@ public abstract class FilterCommand extends Command {
 
     protected ArrayList<TaskTag> createFilteredTagList(String moduleKeyword,
             String categoryKeyword, String taskKeyword, String tagKeyword, boolean isExact, boolean isAll) {
-        ArrayList<Task> filteredTaskList;
-        ArrayList<TaskTag> filteredTagList = new ArrayList<>();
-        filteredTaskList = createFilteredTaskList(moduleKeyword, categoryKeyword, taskKeyword, isExact, isAll);
-
-        if (filteredTaskList.isEmpty()) {
-            return filteredTagList;
-        }
+        TagQuery tagQuery = TagQuery.parse(tagKeyword);
+        Directory baseDirectory = getBaseDirectory(moduleKeyword, categoryKeyword, isAll);
 
-        for (Task task: filteredTaskList) {
+        // Only the tasks with the queried tags are looked up, then checked against the other keywords
+        ArrayList<TaskTag> filteredTagList = new ArrayList<>();
+        for (Task task : ModuleManager.getTasksTagged(tagQuery, isExact)) {
+            Category category = task.getParent();
+            Module module = category.getParent();
+            if ((baseDirectory != null && baseDirectory != category && baseDirectory != module)
+                    || !isMatch(module.getModuleCode(), moduleKeyword, isExact)
+                    || !isMatch(category.getCategoryName(), categoryKeyword, isExact)
+                    || !isMatch(task.getDescription(), taskKeyword, isExact)) {
+                continue;
+            }
             int i = 0;
             for (String tag: task.getTags()) {
-                if ((isExact && tag.equalsIgnoreCase(tagKeyword))
-                        || (!isExact && tag.toLowerCase().contains(tagKeyword.toLowerCase()))) {
+                if (tagQuery.isShown(tag, isExact)) {
                     filteredTagList.add(new TaskTag(task, tag, i));
                 }
                 i++;
@@ -158,6 +166,40 @@ public abstract class FilterCommand extends Command {
         return filteredTagList;
     }
 
+    /**
+     * Returns the directory to filter the tasks within with respect of the current level, in the same way as
+     * {@link #createFilteredTaskList(String, String, String, boolean, boolean)}.
+     *
+     * @return
+     *  The base category or module to filter within, or <code>NULL</code> to filter across all modules
+     */
+    private Directory getBaseDirectory(String moduleKeyword, String categoryKeyword, boolean isAll) {
+        if (isAll) {
+            return null;
+        }
+        try {
+            if (moduleKeyword.isEmpty() && categoryKeyword.isEmpty()
+                    && DirectoryTraverser.getCurrentDirectoryLevel().ordinal() >= DirectoryLevel.CATEGORY.ordinal()) {
+                return DirectoryTraverser.getBaseCategory();
+            }
+            if (moduleKeyword.isEmpty()
+                    && DirectoryTraverser.getCurrentDirectoryLevel().ordinal() >= DirectoryLevel.MODULE.ordinal()) {
+                return DirectoryTraverser.getBaseModule();
+            }
+            return null;
+        } catch (IncorrectDirectoryLevelException e) {
+            return null;
+        }
+    }
+
+    private static boolean isMatch(String name, String keyword, boolean isExact) {
+        if (keyword.isEmpty()) {
+            return true;
+        }
+        return isExact ? name.toLowerCase().equals(keyword.toLowerCase())
+                : name.toLowerCase().contains(keyword.toLowerCase());
+    }
+
     protected ArrayList<TaskFile> createFilteredFileList(String moduleKeyword,
             String categoryKeyword, String taskKeyword, String fileKeyword, boolean isExact, boolean isAll) {
         if (isAll) {
@@ -209,16 +251,29 @@ public abstract class FilterCommand extends Command {
                 ModuleManager.filter(moduleKeyword, categoryKeyword, taskKeyword, fileKeyword);
     }
 
+    // The orders the results of the commands are shown in
+    protected static final Comparator<Module> MODULE_ORDER = Comparator.comparing(Module::getModuleCode);
+    protected static final Comparator<Category> CATEGORY_ORDER =
+            Comparator.comparing((Category category) -> category.getParent().getModuleCode())
+            .thenComparing(Category::getCategoryName);
+    protected static final Comparator<TaskFile> FILE_ORDER =
+            Comparator.comparing((TaskFile file) -> file.getParent().getParent().getParent().getModuleCode())
+            .thenComparing(file -> file.getParent().getParent().getCategoryName())
+            .thenComparing(file -> file.getParent().getDescription())
+            .thenComparing(TaskFile::getFileName);
+    protected static final Comparator<TaskTag> TAG_ORDER =
+            Comparator.comparing((TaskTag taskTag) -> taskTag.getParent().getParent().getParent().getModuleCode())
+            .thenComparing(taskTag -> taskTag.getParent().getParent().getCategoryName())
+            .thenComparing(taskTag -> taskTag.getParent().getDescription())
+            .thenComparing(TaskTag::getTagInfo);
+
     /**
      * Sorts modules in a list by their module codes.
      * @param toSort
      *  The list of modules to be sorted
      */
     protected void sortModuleList(ArrayList<Module> toSort) {
-        Comparator<Module> sortByModule =
-                Comparator.comparing(Module::getModuleCode);
-
-        toSort.sort(sortByModule);
+        toSort.sort(MODULE_ORDER);
     }
 
     /**
@@ -228,12 +283,7 @@ public abstract class FilterCommand extends Command {
      *  The list of categories to be sorted
      */
     protected void sortCategoryList(ArrayList<Category> toSort) {
-        Comparator<Category> sortByModule =
-                Comparator.comparing(category -> category.getParent().getModuleCode());
-        Comparator<Category> sortByCategory =
-                Comparator.comparing(Category::getCategoryName);
-
-        toSort.sort(sortByModule.thenComparing(sortByCategory));
+        toSort.sort(CATEGORY_ORDER);
     }
 
     /**
@@ -243,6 +293,20 @@ public abstract class FilterCommand extends Command {
      *  The list of tasks to be sorted
      */
     protected void sortTaskList(ArrayList<Task> toSort, boolean isSortDeadline, boolean isSortPriority) {
+        toSort.sort(getTaskOrder(isSortDeadline, isSortPriority));
+    }
+
+    /**
+     * Returns the order to sort tasks in, by their description, deadline or priority.
+     *
+     * @param isSortDeadline
+     *  <code>TRUE</code> if the tasks are sorted by their deadlines first
+     * @param isSortPriority
+     *  <code>TRUE</code> if the tasks are sorted by their priorities first
+     * @return
+     *  The order to sort the tasks in
+     */
+    protected static Comparator<Task> getTaskOrder(boolean isSortDeadline, boolean isSortPriority) {
         Comparator<Task> sortByModule =
                 Comparator.comparing(task -> task.getParent().getParent().getModuleCode());
         Comparator<Task> sortByCategory =
@@ -250,18 +314,18 @@ public abstract class FilterCommand extends Command {
         Comparator<Task> sortByTask =
                 Comparator.comparing(Task::getDescription);
         Comparator<Task> sortByDeadline =
-                Comparator.comparing(task -> task.getDeadline().getDateTimeInSortFormat());
+                Comparator.comparingLong(task -> task.getDeadline().getSortKey());
         Comparator<Task> sortByPriority =
-                Comparator.comparing(Task::getPriority, Comparator.reverseOrder());
+                (task1, task2) -> Integer.compare(task2.getPriority(), task1.getPriority());
 
         if (isSortDeadline) {
-            toSort.sort(sortByDeadline.thenComparing(sortByPriority).thenComparing(sortByModule)
-                    .thenComparing(sortByCategory).thenComparing(sortByTask));
+            return sortByDeadline.thenComparing(sortByPriority).thenComparing(sortByModule)
+                    .thenComparing(sortByCategory).thenComparing(sortByTask);
         } else if (isSortPriority) {
-            toSort.sort(sortByPriority.thenComparing(sortByDeadline).thenComparing(sortByModule)
-                    .thenComparing(sortByCategory).thenComparing(sortByTask));
+            return sortByPriority.thenComparing(sortByDeadline).thenComparing(sortByModule)
+                    .thenComparing(sortByCategory).thenComparing(sortByTask);
         } else {
-            toSort.sort(sortByModule.thenComparing(sortByCategory).thenComparing(sortByTask));
+            return sortByModule.thenComparing(sortByCategory).thenComparing(sortByTask);
         }
     }
 
@@ -272,27 +336,10 @@ public abstract class FilterCommand extends Command {
      *  The list of files to be sorted
      */
     protected void sortFileList(ArrayList<TaskFile> toSort) {
-        Comparator<TaskFile> sortByModule =
-                Comparator.comparing(file -> file.getParent().getParent().getParent().getModuleCode());
-        Comparator<TaskFile> sortByCategory =
-                Comparator.comparing(file -> file.getParent().getParent().getCategoryName());
-        Comparator<TaskFile> sortByTask =
-                Comparator.comparing(file -> file.getParent().getDescription());
-        Comparator<TaskFile> sortByFile =
-                Comparator.comparing(TaskFile::getFileName);
-
-        toSort.sort(sortByModule.thenComparing(sortByCategory).thenComparing(sortByTask).thenComparing(sortByFile));
+        toSort.sort(FILE_ORDER);
     }
 
     protected void sortTagList(ArrayList<TaskTag> toSort) {
-        Comparator<TaskTag> sortByModule =
-                Comparator.comparing(taskTag -> taskTag.getParent().getParent().getParent().getModuleCode());
-        Comparator<TaskTag> sortByCategory =
-                Comparator.comparing(taskTag -> taskTag.getParent().getParent().getCategoryName());
-        Comparator<TaskTag> sortByTask =
-                Comparator.comparing(taskTag -> taskTag.getParent().getDescription());
-        Comparator<TaskTag> sortByTag =
-                Comparator.comparing(TaskTag::getTagInfo);
-        toSort.sort(sortByModule.thenComparing(sortByCategory).thenComparing(sortByTask).thenComparing(sortByTag));
+        toSort.sort(TAG_ORDER);
     }
 }
@@ -2,15 +2,19 @@ package seedu.nuke.command.filtercommand.listcommand;
 
 import seedu.nuke.command.Command;
 import seedu.nuke.command.CommandResult;
+import seedu.nuke.command.ResultPages;
 import seedu.nuke.data.ModuleManager;
 import seedu.nuke.directory.DirectoryLevel;
 import seedu.nuke.directory.Task;
-import seedu.nuke.util.DateTime;
+import seedu.nuke.parser.CommandGrammar;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.regex.Pattern;
 
+import static seedu.nuke.parser.CommandGrammar.ALL_GROUP;
+import static seedu.nuke.parser.CommandGrammar.flag;
+import static seedu.nuke.parser.CommandGrammar.requiredIdentifier;
 import static seedu.nuke.parser.Parser.ALL_FLAG;
 import static seedu.nuke.util.Message.MESSAGE_INVALID_TIME_SPECIFIER;
 import static seedu.nuke.util.Message.MESSAGE_NO_TASKS_TO_SHOW;
@@ -32,10 +36,9 @@ public class DueCommand extends ListCommand {
             + "Format: %s\n"
             + "Example: due after monday\tdue over\n",
             COMMAND_WORD, FORMAT);
-    public static final Pattern REGEX_FORMAT = Pattern.compile(
-            "(?<identifier>(?:\\s+\\w\\S*)+)"
-            + "(?<all>(?:\\s+" + ALL_FLAG + ")?)"
-            + "(?<invalid>.*)"
+    public static final CommandGrammar GRAMMAR = new CommandGrammar(
+            requiredIdentifier(),
+            flag(ALL_GROUP, ALL_FLAG)
     );
 
     private LocalDate searchDate;
@@ -74,91 +77,49 @@ public class DueCommand extends ListCommand {
 
     /**
      * Filters the <i>tasks</i> for <i>deadlines</i> on the <u>same</u> <i>date</i> as the specified search date.
-     * <br> Returns an <code>ArrayList</code> containing the filtered <i>tasks</i>.
+     * <br> Returns an <code>ArrayList</code> containing the filtered <i>tasks</i> in the order of their deadlines.
      *
-     * @param tasks
-     *  The initial task list to filter from
      * @return
      *  The <code>ArrayList</code> of filtered tasks
      */
-    private ArrayList<Task> filterDate(ArrayList<Task> tasks) {
-        ArrayList<Task> filteredTasks = new ArrayList<>();
-        for (Task task : tasks) {
-            // Ignore done tasks if not displaying all the tasks
-            if (!isAll && task.isDone()) {
-                continue;
-            }
-            DateTime deadline = task.getDeadline();
-            if (deadline.isPresent() && deadline.isOn(searchDate)) {
-                filteredTasks.add(task);
-            }
-        }
-        return filteredTasks;
+    private ArrayList<Task> filterDate() {
+        return ModuleManager.getTasksDueBetween(searchDate.atStartOfDay(), searchDate.plusDays(1).atStartOfDay(),
+                isAll);
     }
 
     /**
      * Filters the <i>tasks</i> for <i>deadlines</i> on an <u>earlier</u> <i>date</i> compared to the specified
      * search date.
-     * <br> Returns an <code>ArrayList</code> containing the filtered <i>tasks</i>.
+     * <br> Returns an <code>ArrayList</code> containing the filtered <i>tasks</i> in the order of their deadlines.
      *
-     * @param tasks
-     *  The initial task list to filter from
      * @return
      *  The <code>ArrayList</code> of filtered tasks
      */
-    private ArrayList<Task> filterDateBefore(ArrayList<Task> tasks) {
-        ArrayList<Task> filteredTasks = new ArrayList<>();
-        for (Task task : tasks) {
-            // Ignore done tasks if not displaying all the tasks
-            if (!isAll && task.isDone()) {
-                continue;
-            }
-            DateTime deadline = task.getDeadline();
-            if (deadline.isPresent() && deadline.isBefore(searchDate)) {
-                filteredTasks.add(task);
-            }
-        }
-        return filteredTasks;
+    private ArrayList<Task> filterDateBefore() {
+        return ModuleManager.getTasksDueBetween(null, searchDate.atStartOfDay(), isAll);
     }
 
     /**
      * Filters the <i>tasks</i> for <i>deadlines</i> on a <u>later</u> <i>date</i> compared to the specified
      * search date.
-     * <br> Returns an <code>ArrayList</code> containing the filtered <i>tasks</i>.
+     * <br> Returns an <code>ArrayList</code> containing the filtered <i>tasks</i> in the order of their deadlines.
      *
-     * @param tasks
-     *  The initial task list to filter from
      * @return
      *  The <code>ArrayList</code> of filtered tasks
      */
-    private ArrayList<Task> filterDateAfter(ArrayList<Task> tasks) {
-        ArrayList<Task> filteredTasks = new ArrayList<>();
-        for (Task task : tasks) {
-            // Ignore done tasks if not displaying all the tasks
-            if (!isAll && task.isDone()) {
-                continue;
-            }
-            DateTime deadline = task.getDeadline();
-            if (deadline.isPresent() && deadline.isAfter(searchDate)) {
-                filteredTasks.add(task);
-            }
-        }
-        return filteredTasks;
+    private ArrayList<Task> filterDateAfter() {
+        return ModuleManager.getTasksDueBetween(searchDate.plusDays(1).atStartOfDay(), null, isAll);
     }
 
-    private ArrayList<Task> filterOverdue(ArrayList<Task> tasks) {
-        ArrayList<Task> filteredTasks = new ArrayList<>();
-        for (Task task : tasks) {
-            // Ignore done tasks if not displaying all the tasks
-            if (!isAll && task.isDone()) {
-                continue;
-            }
-            DateTime deadline = task.getDeadline();
-            if (deadline.isPresent() && deadline.isDue()) {
-                filteredTasks.add(task);
-            }
-        }
-        return filteredTasks;
+    /**
+     * Filters the <i>tasks</i> for <i>deadlines</i> that have passed.
+     * <br> Returns an <code>ArrayList</code> containing the filtered <i>tasks</i> in the order of their deadlines.
+     *
+     * @return
+     *  The <code>ArrayList</code> of filtered tasks
+     */
+    private ArrayList<Task> filterOverdue() {
+        return ModuleManager.getTasksDueBetween(null, LocalDateTime.now(), isAll);
     }
 
     /**
@@ -171,28 +132,27 @@ public class DueCommand extends ListCommand {
      */
     @Override
     public CommandResult execute() {
-        ArrayList<Task> allTasks = ModuleManager.getAllTasks();
         ArrayList<Task> filteredTasks;
 
         switch (timeSpecifier) {
 
         case "":
         case "on":
-            filteredTasks = filterDate(allTasks);
+            filteredTasks = filterDate();
             break;
 
         case "before":
         case "b":
-            filteredTasks = filterDateBefore(allTasks);
+            filteredTasks = filterDateBefore();
             break;
 
         case "after":
         case "a":
-            filteredTasks = filterDateAfter(allTasks);
+            filteredTasks = filterDateAfter();
             break;
 
         case "over":
-            filteredTasks = filterOverdue(allTasks);
+            filteredTasks = filterOverdue();
             break;
 
         default:
@@ -203,7 +163,7 @@ public class DueCommand extends ListCommand {
             return new CommandResult(MESSAGE_NO_TASKS_TO_SHOW);
         }
 
-        sortTaskList(filteredTasks, true, false);
-        return new CommandResult(MESSAGE_SHOW_LIST, DirectoryLevel.TASK, new ArrayList<>(filteredTasks));
+        // The tasks are already in the order of their deadlines
+        return new CommandResult(MESSAGE_SHOW_LIST, DirectoryLevel.TASK, new ResultPages<>(filteredTasks));
     }
 }
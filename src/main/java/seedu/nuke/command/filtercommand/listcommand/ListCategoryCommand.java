@@ -1,6 +1,7 @@
 package seedu.nuke.command.filtercommand.listcommand;
 
 import seedu.nuke.command.CommandResult;
+import seedu.nuke.command.ResultPages;
 import seedu.nuke.directory.Category;
 import seedu.nuke.directory.DirectoryLevel;
 
@@ -57,7 +58,7 @@ public class ListCategoryCommand extends ListCommand {
         if (filteredCategoryList.isEmpty()) {
             return new CommandResult(MESSAGE_NO_CATEGORIES_TO_SHOW);
         }
-        sortCategoryList(filteredCategoryList);
-        return new CommandResult(MESSAGE_SHOW_LIST, DirectoryLevel.CATEGORY, new ArrayList<>(filteredCategoryList));
+        return new CommandResult(MESSAGE_SHOW_LIST, DirectoryLevel.CATEGORY,
+                new ResultPages<>(filteredCategoryList, CATEGORY_ORDER));
     }
 }
@@ -1,6 +1,7 @@
 package seedu.nuke.command.filtercommand.listcommand;
 
 import seedu.nuke.command.CommandResult;
+import seedu.nuke.command.ResultPages;
 import seedu.nuke.directory.DirectoryLevel;
 import seedu.nuke.directory.Task;
 import seedu.nuke.directory.TaskFile;
@@ -68,7 +69,7 @@ public class ListFileCommand extends ListCommand {
         if (filteredFileList.isEmpty()) {
             return new CommandResult(MESSAGE_NO_FILES_TO_SHOW);
         }
-        sortFileList(filteredFileList);
-        return new CommandResult(MESSAGE_SHOW_LIST, DirectoryLevel.FILE, new ArrayList<>(filteredFileList));
+        return new CommandResult(MESSAGE_SHOW_LIST, DirectoryLevel.FILE,
+                new ResultPages<>(filteredFileList, FILE_ORDER));
     }
 }
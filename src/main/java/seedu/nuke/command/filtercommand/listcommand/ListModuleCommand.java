@@ -1,6 +1,7 @@
 package seedu.nuke.command.filtercommand.listcommand;
 
 import seedu.nuke.command.CommandResult;
+import seedu.nuke.command.ResultPages;
 import seedu.nuke.directory.DirectoryLevel;
 import seedu.nuke.directory.Module;
 
@@ -48,7 +49,7 @@ public class ListModuleCommand extends ListCommand {
         if (filteredModuleList.isEmpty()) {
             return new CommandResult(MESSAGE_NO_MODULES_TO_SHOW);
         }
-        sortModuleList(filteredModuleList);
-        return new CommandResult(MESSAGE_SHOW_LIST, DirectoryLevel.MODULE, new ArrayList<>(filteredModuleList));
+        return new CommandResult(MESSAGE_SHOW_LIST, DirectoryLevel.MODULE,
+                new ResultPages<>(filteredModuleList, MODULE_ORDER));
     }
 }
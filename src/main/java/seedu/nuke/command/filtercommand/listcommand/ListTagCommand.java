@@ -1,6 +1,7 @@
 package seedu.nuke.command.filtercommand.listcommand;
 
 import seedu.nuke.command.CommandResult;
+import seedu.nuke.command.ResultPages;
 import seedu.nuke.command.filtercommand.FilterCommand;
 import seedu.nuke.directory.DirectoryLevel;
 import seedu.nuke.directory.TaskTag;
@@ -17,8 +18,10 @@ public class ListTagCommand extends FilterCommand {
     public static final String MESSAGE_USAGE = String.format(
             "%s - Filter and show the tags of task(s)\n"
                     + "Note: -e to filter for exact keywords; -a to filter across ALL your files\n"
+                    + "Note: tags can be combined with & (and), | (or) and ! (not)\n"
                     + "Format: %s\n"
-                    + "Example: lsg urgent -m cs2113t -t tut -a\n",
+                    + "Example: lsg urgent -m cs2113t -t tut -a\n"
+                    + "Example: lsg urgent & !reading -a\n",
             COMMAND_WORD, FORMAT);
 
     private String moduleKeyword;
@@ -54,7 +57,6 @@ public class ListTagCommand extends FilterCommand {
         if (filteredTagList.isEmpty()) {
             return new CommandResult(MESSAGE_NO_TAGS_TO_SHOW);
         }
-        sortTagList(filteredTagList);
-        return new CommandResult(MESSAGE_SHOW_LIST, DirectoryLevel.TAG, new ArrayList<>(filteredTagList));
+        return new CommandResult(MESSAGE_SHOW_LIST, DirectoryLevel.TAG, new ResultPages<>(filteredTagList, TAG_ORDER));
     }
 }
@@ -1,6 +1,7 @@
 package seedu.nuke.command.filtercommand.listcommand;
 
 import seedu.nuke.command.CommandResult;
+import seedu.nuke.command.ResultPages;
 import seedu.nuke.directory.DirectoryLevel;
 import seedu.nuke.directory.Task;
 
@@ -62,7 +63,7 @@ public class ListTaskCommand extends ListCommand {
         if (filteredTaskList.isEmpty()) {
             return new CommandResult(MESSAGE_NO_TASKS_TO_SHOW);
         }
-        sortTaskList(filteredTaskList, false, false);
-        return new CommandResult(MESSAGE_SHOW_LIST, DirectoryLevel.TASK, new ArrayList<>(filteredTaskList));
+        return new CommandResult(MESSAGE_SHOW_LIST, DirectoryLevel.TASK,
+                new ResultPages<>(filteredTaskList, getTaskOrder(false, false)));
     }
 }
@@ -1,6 +1,7 @@
 package seedu.nuke.command.filtercommand.listcommand;
 
 import seedu.nuke.command.CommandResult;
+import seedu.nuke.command.ResultPages;
 import seedu.nuke.directory.DirectoryLevel;
 import seedu.nuke.directory.Task;
 
@@ -55,15 +56,9 @@ public class ListTaskSortedCommand extends ListCommand {
             return new CommandResult(MESSAGE_NO_TASKS_TO_SHOW);
         }
 
-        if (isByPriority) {
-            sortTaskList(filteredTaskList, false, true);
-        } else {
-            sortTaskList(filteredTaskList, true, false);
-        }
-
         assert !filteredTaskList.isEmpty() : "make sure there are some tasks in the list to show";
 
         return new CommandResult(messageTaskSuccessfullyList(filteredTaskList.size()),
-                DirectoryLevel.TASK, new ArrayList<>(filteredTaskList));
+                DirectoryLevel.TASK, new ResultPages<>(filteredTaskList, getTaskOrder(!isByPriority, isByPriority)));
     }
 }
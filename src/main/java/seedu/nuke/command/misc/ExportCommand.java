@@ -0,0 +1,80 @@
+package seedu.nuke.command.misc;
+
+import seedu.nuke.command.Command;
+import seedu.nuke.command.CommandResult;
+import seedu.nuke.data.ModuleManager;
+import seedu.nuke.data.storage.TaskRow;
+import seedu.nuke.data.storage.TaskRowFormat;
+import seedu.nuke.data.storage.TaskRowWriter;
+import seedu.nuke.directory.Category;
+import seedu.nuke.directory.Module;
+import seedu.nuke.directory.Task;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Paths;
+
+import static seedu.nuke.util.ExceptionMessage.MESSAGE_EXPORT_IO_EXCEPTION;
+import static seedu.nuke.util.ExceptionMessage.MESSAGE_INVALID_FILE_PATH;
+import static seedu.nuke.util.Message.messageExportSuccess;
+
+/**
+ * <h3>Export Command</h3>
+ * A <b>Command</b> to write every task in the <b>Module List</b> into a CSV or JSON Lines file, one row for each
+ * task, which can be imported again with the {@link ImportCommand}.
+ *
+ * @see TaskRowWriter
+ */
+public class ExportCommand extends Command {
+    public static final String COMMAND_WORD = "export";
+    public static final String FORMAT = COMMAND_WORD + " <file path>";
+    public static final String MESSAGE_USAGE = String.format(
+            "%s - Export all tasks into a .csv or .jsonl file\n"
+            + "Format: %s\n"
+            + "Example: export semester.jsonl\n",
+            COMMAND_WORD, FORMAT);
+
+    private String filePath;
+    private TaskRowFormat format;
+
+    /**
+     * Constructs the command to export all tasks into a file.
+     *
+     * @param filePath
+     *  The path of the file
+     * @param format
+     *  The format of the file
+     */
+    public ExportCommand(String filePath, TaskRowFormat format) {
+        this.filePath = filePath;
+        this.format = format;
+    }
+
+    /**
+     * Executes the <b>Export Command</b> to write every task in the <b>Module List</b> into the file.
+     *
+     * @return The <b>Command Result</b> of the execution
+     */
+    @Override
+    public CommandResult execute() {
+        int exportedCount = 0;
+        try (TaskRowWriter writer = new TaskRowWriter(
+                Files.newBufferedWriter(Paths.get(filePath), StandardCharsets.UTF_8), format)) {
+            for (Module module : ModuleManager.getModuleList()) {
+                for (Category category : module.getCategories().getCategoryList()) {
+                    for (Task task : category.getTasks().getTaskList()) {
+                        writer.writeRow(TaskRow.fromTask(task));
+                        ++exportedCount;
+                    }
+                }
+            }
+        } catch (IOException e) {
+            return new CommandResult(String.format("%s%s\n", MESSAGE_EXPORT_IO_EXCEPTION, e.getMessage()));
+        } catch (InvalidPathException e) {
+            return new CommandResult(MESSAGE_INVALID_FILE_PATH);
+        }
+        return new CommandResult(messageExportSuccess(exportedCount, filePath));
+    }
+}
@@ -0,0 +1,264 @@
+package seedu.nuke.command.misc;
+
+import seedu.nuke.command.Command;
+import seedu.nuke.command.CommandResult;
+import seedu.nuke.data.CategoryManager;
+import seedu.nuke.data.ChangeBus;
+import seedu.nuke.data.ModuleManager;
+import seedu.nuke.data.TaskManager;
+import seedu.nuke.data.storage.TaskRow;
+import seedu.nuke.data.storage.TaskRowFormat;
+import seedu.nuke.data.storage.TaskRowReader;
+import seedu.nuke.data.storage.TaskRowReader.InvalidRowException;
+import seedu.nuke.directory.Category;
+import seedu.nuke.directory.Module;
+import seedu.nuke.directory.Task;
+import seedu.nuke.exception.ModuleNotProvidedException;
+import seedu.nuke.util.DateTime;
+import seedu.nuke.util.DateTimeFormat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+
+import static seedu.nuke.util.ExceptionMessage.MESSAGE_DUPLICATE_TASK;
+import static seedu.nuke.util.ExceptionMessage.MESSAGE_IMPORT_IO_EXCEPTION;
+import static seedu.nuke.util.ExceptionMessage.MESSAGE_INVALID_DATETIME_FORMAT;
+import static seedu.nuke.util.ExceptionMessage.MESSAGE_INVALID_DONE_STATUS;
+import static seedu.nuke.util.ExceptionMessage.MESSAGE_INVALID_FILE_PATH;
+import static seedu.nuke.util.ExceptionMessage.MESSAGE_INVALID_PRIORITY;
+import static seedu.nuke.util.ExceptionMessage.MESSAGE_LINE_BREAK_IN_ROW;
+import static seedu.nuke.util.ExceptionMessage.MESSAGE_MODULE_NOT_PROVIDED;
+import static seedu.nuke.util.Message.MESSAGE_CATEGORY_EXCEED_LIMIT;
+import static seedu.nuke.util.Message.MESSAGE_MISSING_CATEGORY_NAME;
+import static seedu.nuke.util.Message.MESSAGE_MISSING_MODULE_CODE;
+import static seedu.nuke.util.Message.MESSAGE_MISSING_TASK_DESCRIPTION;
+import static seedu.nuke.util.Message.MESSAGE_TASK_EXCEED_LIMIT;
+import static seedu.nuke.util.Message.messageImportPartial;
+import static seedu.nuke.util.Message.messageImportSuccess;
+
+/**
+ * <h3>Import Command</h3>
+ * A <b>Command</b> to add the tasks in a CSV or JSON Lines file into the <b>Module List</b>, adding any module or
+ * category of the tasks that does not exist yet.
+ * <p></p>
+ * The file is read one row at a time, and every row is checked before anything is added, so an invalid row is
+ * skipped as a whole and reported with its line number. The list is only saved once the whole file is imported.
+ *
+ * @see TaskRowReader
+ */
+public class ImportCommand extends Command {
+    public static final String COMMAND_WORD = "import";
+    public static final String FORMAT = COMMAND_WORD + " <file path>";
+    public static final String MESSAGE_USAGE = String.format(
+            "%s - Import tasks from a .csv or .jsonl file, with the fields module, category, task, deadline, "
+            + "priority, tags and done\n"
+            + "Format: %s\n"
+            + "Example: import semester.csv\n",
+            COMMAND_WORD, FORMAT);
+
+    private static final int MAX_ERRORS_SHOWN = 10;
+    private static final int ROWS_PER_FLUSH = 1000;
+    private static final int MAX_CATEGORY_NAME_LENGTH = 15;
+    private static final int MAX_TASK_DESCRIPTION_LENGTH = 25;
+    private static final int MAX_PRIORITY = 20;
+
+    private String filePath;
+    private TaskRowFormat format;
+    private int importedCount;
+    private int skippedCount;
+    private ArrayList<String> errors;
+
+    /**
+     * Constructs the command to import the tasks in a file.
+     *
+     * @param filePath
+     *  The path of the file
+     * @param format
+     *  The format of the file
+     */
+    public ImportCommand(String filePath, TaskRowFormat format) {
+        this.filePath = filePath;
+        this.format = format;
+    }
+
+    /**
+     * Executes the <b>Import Command</b> to add the tasks in the file into the <b>Module List</b>.
+     *
+     * @return The <b>Command Result</b> of the execution, with the rows that were skipped
+     */
+    @Override
+    public CommandResult execute() {
+        importedCount = 0;
+        skippedCount = 0;
+        errors = new ArrayList<>();
+        try (TaskRowReader reader = new TaskRowReader(
+                Files.newBufferedReader(Paths.get(filePath), StandardCharsets.UTF_8), format)) {
+            importRows(reader);
+        } catch (IOException e) {
+            String failure = String.format("%s%s\n", MESSAGE_IMPORT_IO_EXCEPTION, e.getMessage());
+            if (importedCount + skippedCount == 0) {
+                return new CommandResult(failure);
+            }
+            // The rows read before the error stay imported, so they are reported without claiming a success
+            return new CommandResult(failure + messageImportPartial(importedCount, skippedCount)
+                    + String.join("", errors));
+        } catch (InvalidPathException e) {
+            return new CommandResult(MESSAGE_INVALID_FILE_PATH);
+        }
+        return new CommandResult(messageImportSuccess(importedCount, skippedCount) + String.join("", errors));
+    }
+
+    private void importRows(TaskRowReader reader) throws IOException {
+        while (true) {
+            try {
+                TaskRow row = reader.readRow();
+                if (row == null) {
+                    return;
+                }
+                importRow(row, reader.getLineNumber());
+                ++importedCount;
+            } catch (InvalidRowException e) {
+                skipRow(e);
+            }
+            // Send the changes made so far, instead of holding back one change for every row until the end
+            if ((importedCount + skippedCount) % ROWS_PER_FLUSH == 0) {
+                ChangeBus.flushBatch();
+            }
+        }
+    }
+
+    private void skipRow(InvalidRowException e) {
+        if (++skippedCount <= MAX_ERRORS_SHOWN) {
+            // Only the first line of the reason is shown, e.g. without the accepted datetime format
+            errors.add(String.format("Line %d: %s\n", e.getLineNumber(), e.getReason().split("\n", 2)[0]));
+        } else if (skippedCount == MAX_ERRORS_SHOWN + 1) {
+            errors.add("...\n");
+        }
+    }
+
+    /**
+     * Adds the task of a row into the Module List, together with its module and category if they do not exist yet.
+     * The row is checked as a whole first, so nothing is added if it is invalid.
+     *
+     * @param row
+     *  The row to import
+     * @param lineNumber
+     *  The line number of the row
+     * @throws InvalidRowException
+     *  If the row is invalid
+     */
+    private void importRow(TaskRow row, int lineNumber) throws InvalidRowException {
+        String moduleCode = row.getModuleCode().trim().toUpperCase();
+        String categoryName = row.getCategoryName().trim();
+        String taskDescription = row.getTaskDescription().trim();
+        if (moduleCode.isEmpty()) {
+            throw new InvalidRowException(lineNumber, MESSAGE_MISSING_MODULE_CODE);
+        } else if (categoryName.isEmpty()) {
+            throw new InvalidRowException(lineNumber, MESSAGE_MISSING_CATEGORY_NAME);
+        } else if (taskDescription.isEmpty()) {
+            throw new InvalidRowException(lineNumber, MESSAGE_MISSING_TASK_DESCRIPTION);
+        } else if (categoryName.length() > MAX_CATEGORY_NAME_LENGTH) {
+            throw new InvalidRowException(lineNumber, MESSAGE_CATEGORY_EXCEED_LIMIT);
+        } else if (taskDescription.length() > MAX_TASK_DESCRIPTION_LENGTH) {
+            throw new InvalidRowException(lineNumber, MESSAGE_TASK_EXCEED_LIMIT);
+        } else if (hasLineBreak(moduleCode, categoryName, taskDescription)
+                || hasLineBreak(row.getTags().toArray(new String[0]))) {
+            // The save file and CSV files are read one line at a time, so a line break would split the task
+            throw new InvalidRowException(lineNumber, MESSAGE_LINE_BREAK_IN_ROW);
+        }
+        DateTime deadline = parseDeadline(row.getDeadline().trim(), lineNumber);
+        int priority = parsePriority(row.getPriority().trim(), lineNumber);
+        boolean isDone = parseDoneStatus(row.getDoneStatus().trim(), lineNumber);
+
+        Category category = getOrAddCategory(moduleCode, categoryName, lineNumber);
+        if (priority < 0) {
+            priority = category.getCategoryPriority();
+        }
+        // The task is completed before it is added, so that it is indexed only once with its done status and tags
+        Task task = new Task(category, taskDescription, deadline, priority, isDone, new ArrayList<>(row.getTags()));
+        try {
+            category.getTasks().add(task);
+        } catch (TaskManager.DuplicateTaskException e) {
+            throw new InvalidRowException(lineNumber, MESSAGE_DUPLICATE_TASK);
+        }
+    }
+
+    private static boolean hasLineBreak(String... names) {
+        for (String name : names) {
+            if (name.indexOf('\n') >= 0 || name.indexOf('\r') >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Category getOrAddCategory(String moduleCode, String categoryName, int lineNumber)
+            throws InvalidRowException {
+        Module module = ModuleManager.getModuleWithCode(moduleCode);
+        if (module == null) {
+            module = new Module(moduleCode);
+            try {
+                ModuleManager.add(module);
+            } catch (ModuleManager.DuplicateModuleException | ModuleNotProvidedException e) {
+                throw new InvalidRowException(lineNumber, MESSAGE_MODULE_NOT_PROVIDED);
+            }
+        }
+
+        CategoryManager categories = module.getCategories();
+        try {
+            return categories.getCategory(categoryName);
+        } catch (CategoryManager.CategoryNotFoundException e) {
+            Category category = new Category(module, categoryName, 0);
+            try {
+                categories.add(category);
+            } catch (CategoryManager.DuplicateCategoryException duplicate) {
+                // The category was not found, so it cannot be a duplicate
+                assert false : "The category cannot exist already";
+            }
+            return category;
+        }
+    }
+
+    private static DateTime parseDeadline(String deadline, int lineNumber) throws InvalidRowException {
+        if (deadline.isEmpty()) {
+            return new DateTime();
+        }
+        try {
+            return DateTimeFormat.canonicalStringToDateTime(deadline);
+        } catch (DateTimeFormat.InvalidDateTimeException e) {
+            throw new InvalidRowException(lineNumber, MESSAGE_INVALID_DATETIME_FORMAT);
+        }
+    }
+
+    /**
+     * Parses the priority of a row, or returns -1 if the row uses the priority of its category.
+     */
+    private static int parsePriority(String priority, int lineNumber) throws InvalidRowException {
+        if (priority.isEmpty()) {
+            return -1;
+        }
+        try {
+            int priorityToSet = Integer.parseInt(priority);
+            if (priorityToSet >= 0 && priorityToSet <= MAX_PRIORITY) {
+                return priorityToSet;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below together with the out of range priorities
+        }
+        throw new InvalidRowException(lineNumber, MESSAGE_INVALID_PRIORITY);
+    }
+
+    private static boolean parseDoneStatus(String doneStatus, int lineNumber) throws InvalidRowException {
+        if (doneStatus.isEmpty() || doneStatus.equalsIgnoreCase("false")) {
+            return false;
+        } else if (doneStatus.equalsIgnoreCase("true")) {
+            return true;
+        } else {
+            throw new InvalidRowException(lineNumber, MESSAGE_INVALID_DONE_STATUS);
+        }
+    }
+}
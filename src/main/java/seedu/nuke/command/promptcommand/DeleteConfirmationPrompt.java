@@ -4,7 +4,6 @@ import seedu.nuke.Executor;
 import seedu.nuke.command.Command;
 import seedu.nuke.command.CommandResult;
 import seedu.nuke.data.ModuleManager;
-import seedu.nuke.data.storage.StorageManager;
 import seedu.nuke.directory.Category;
 import seedu.nuke.directory.Directory;
 import seedu.nuke.directory.DirectoryLevel;
@@ -84,7 +83,7 @@ public class DeleteConfirmationPrompt extends Command {
     }
 
     private void deleteSingleTag(TaskTag toDelete) {
-        toDelete.getParent().getTags().remove(toDelete.getTagIndex());
+        toDelete.getParent().removeTag(toDelete.getTagIndex());
     }
 
     /**
@@ -345,10 +344,8 @@ public class DeleteConfirmationPrompt extends Command {
                 return new CommandResult("Error in deletion.");
             }
             if (filteredList.size() == 1) {
-                StorageManager.setIsSave();
                 return executeSingleDelete(filteredList.get(0), directoryLevel);
             } else {
-                StorageManager.setIsSave();
                 return executeMultipleDelete(filteredList, directoryLevel);
             }
         case ABORT:
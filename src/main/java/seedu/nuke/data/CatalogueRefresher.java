@@ -0,0 +1,195 @@
+package seedu.nuke.data;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * <h3>Catalogue Refresher</h3>
+ * Keeps the local copy of the NUS module list up to date with NUSMods.
+ * <p></p>
+ * The module list is fetched with the <code>ETag</code> and <code>Last-Modified</code> of the local copy, so that an
+ * unchanged list is not downloaded again. A changed list is streamed into a temporary file, which then replaces the
+ * local copy in one step. If the local copy cannot be replaced while it is in use, the download is kept as a pending
+ * file, and replaces the local copy the next time the catalogue is loaded.
+ */
+public class CatalogueRefresher {
+    private static final String VALIDATOR_SUFFIX = ".etag";
+    private static final String PENDING_SUFFIX = ".new";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final int TIMEOUT_MILLIS = 10000;
+
+    private static ExecutorService refreshExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "catalogue-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private String moduleListUrl;
+    private Path moduleListPath;
+    private Path validatorPath;
+    private Path pendingPath;
+
+    /**
+     * Constructs the refresher of a local module list.
+     *
+     * @param moduleListUrl
+     *  The URL to fetch the module list from
+     * @param moduleListPath
+     *  The path of the local copy of the module list
+     */
+    public CatalogueRefresher(String moduleListUrl, Path moduleListPath) {
+        this.moduleListUrl = moduleListUrl;
+        this.moduleListPath = moduleListPath.toAbsolutePath();
+        this.validatorPath = this.moduleListPath.resolveSibling(moduleListPath.getFileName() + VALIDATOR_SUFFIX);
+        this.pendingPath = this.moduleListPath.resolveSibling(moduleListPath.getFileName() + PENDING_SUFFIX);
+    }
+
+    /**
+     * Replaces the local copy of the module list with a download that could not replace it earlier, if there is one.
+     * This should be called before the local copy is opened.
+     */
+    public void applyPendingDownload() {
+        if (!Files.exists(pendingPath)) {
+            return;
+        }
+        try {
+            move(pendingPath, moduleListPath);
+        } catch (IOException e) {
+            // The pending download is applied again the next time
+        }
+    }
+
+    /**
+     * Refreshes the local copy of the module list on a background thread.
+     *
+     * @param onRefreshed
+     *  The action to run on the background thread after the local copy was replaced with a changed list
+     * @return
+     *  The result of the refresh, which is <code>TRUE</code> if the local copy was replaced
+     */
+    public Future<Boolean> refreshInBackground(Runnable onRefreshed) {
+        return refreshExecutor.submit(() -> {
+            boolean isRefreshed;
+            try {
+                isRefreshed = refresh();
+            } catch (IOException e) {
+                // The local copy is kept as it is if NUSMods cannot be reached
+                return false;
+            }
+            if (isRefreshed) {
+                onRefreshed.run();
+            }
+            return isRefreshed;
+        });
+    }
+
+    /**
+     * Fetches the module list if it has changed since the local copy was downloaded.
+     *
+     * @return
+     *  <code>TRUE</code> if the local copy was replaced with a changed list, and <code>FALSE</code> if the list has
+     *  not changed, or the changed list will only replace the local copy the next time the catalogue is loaded
+     * @throws IOException
+     *  If the module list could not be fetched
+     */
+    public boolean refresh() throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL(moduleListUrl).openConnection();
+        connection.setConnectTimeout(TIMEOUT_MILLIS);
+        connection.setReadTimeout(TIMEOUT_MILLIS);
+        List<String> validators = readValidators();
+        if (Files.exists(moduleListPath)) {
+            if (!validators.get(0).isEmpty()) {
+                connection.setRequestProperty("If-None-Match", validators.get(0));
+            }
+            if (!validators.get(1).isEmpty()) {
+                connection.setRequestProperty("If-Modified-Since", validators.get(1));
+            }
+        }
+
+        try {
+            int responseCode = connection.getResponseCode();
+            if (responseCode == HttpURLConnection.HTTP_NOT_MODIFIED) {
+                return false;
+            }
+            if (responseCode != HttpURLConnection.HTTP_OK) {
+                throw new IOException("Cannot fetch the module list: HTTP " + responseCode);
+            }
+            download(connection);
+            writeValidators(connection.getHeaderField("ETag"), connection.getHeaderField("Last-Modified"));
+        } finally {
+            connection.disconnect();
+        }
+
+        try {
+            move(pendingPath, moduleListPath);
+            return true;
+        } catch (IOException e) {
+            // The local copy is in use; the pending download replaces it the next time
+            return false;
+        }
+    }
+
+    /**
+     * Streams the response into a temporary file, then moves the complete file to the pending path.
+     */
+    private void download(HttpURLConnection connection) throws IOException {
+        Files.createDirectories(moduleListPath.getParent());
+        Path tempPath = moduleListPath.resolveSibling(moduleListPath.getFileName() + TEMP_SUFFIX);
+        try (InputStream in = connection.getInputStream();
+                ReadableByteChannel source = Channels.newChannel(in);
+                FileChannel target = FileChannel.open(tempPath, StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            long position = 0;
+            long transferred;
+            while ((transferred = target.transferFrom(source, position, Long.MAX_VALUE)) > 0) {
+                position += transferred;
+            }
+            target.force(true);
+        }
+        move(tempPath, pendingPath);
+    }
+
+    private List<String> readValidators() {
+        try {
+            List<String> validators = Files.readAllLines(validatorPath, StandardCharsets.UTF_8);
+            if (validators.size() == 2) {
+                return validators;
+            }
+        } catch (IOException e) {
+            // There are no validators before the first download
+        }
+        return Arrays.asList("", "");
+    }
+
+    private void writeValidators(String entityTag, String lastModified) throws IOException {
+        String validators = (entityTag == null ? "" : entityTag) + System.lineSeparator()
+                + (lastModified == null ? "" : lastModified) + System.lineSeparator();
+        Path tempPath = validatorPath.resolveSibling(validatorPath.getFileName() + TEMP_SUFFIX);
+        Files.write(tempPath, validators.getBytes(StandardCharsets.UTF_8));
+        move(tempPath, validatorPath);
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
@@ -8,14 +8,17 @@ import seedu.nuke.exception.DataNotFoundException;
 import seedu.nuke.exception.DuplicateDataException;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 
 public class CategoryManager {
     private ArrayList<Category> categoryList;
+    // The categories in the Category List by their names
+    private HashMap<String, Category> categoryIndex;
 
     private static final String NO_KEYWORD = "";
 
     public CategoryManager() {
-        categoryList = new ArrayList<>();
+        loadCategoryList(new ArrayList<>());
     }
 
     /**
@@ -25,7 +28,8 @@ public class CategoryManager {
      *  The parent module of the category in the directory
      */
     public CategoryManager(Module parentModule) {
-        categoryList = initialiseCategories(parentModule);
+        // The module is still being constructed, so it cannot be in the Module List yet
+        loadCategoryList(initialiseCategories(parentModule));
     }
 
     /**
@@ -63,7 +67,45 @@ public class CategoryManager {
      *  The new Category List to be set
      */
     public void setCategoryList(ArrayList<Category> categoryList) {
+        TaskIndex taskIndex = ModuleManager.getTaskIndex();
+        KeywordIndex keywordIndex = ModuleManager.getKeywordIndex();
+        Module reloadedModule = null;
+        if (this.categoryList != null) {
+            for (Category category : this.categoryList) {
+                if (ModuleManager.isInModuleList(category)) {
+                    reloadedModule = category.getParent();
+                }
+                taskIndex.removeAll(category);
+                keywordIndex.remove(category);
+            }
+        }
+        loadCategoryList(categoryList);
+        for (Category category : categoryList) {
+            if (ModuleManager.isInModuleList(category)) {
+                reloadedModule = category.getParent();
+                taskIndex.addAll(category);
+                keywordIndex.add(category);
+            }
+        }
+        if (reloadedModule != null) {
+            ChangeBus.publish(DirectoryChange.Type.RELOADED, reloadedModule);
+        }
+    }
+
+    /**
+     * Fills the Category List of a module that is not in the Module List yet, e.g. while it is being decoded.
+     * <br> Unlike {@link #setCategoryList(ArrayList)}, the indexes of the Module List are neither read nor updated,
+     * so this can be called from a background thread. The tasks are indexed once the module is added into the list.
+     *
+     * @param categoryList
+     *  The new Category List to be set
+     */
+    public void loadCategoryList(ArrayList<Category> categoryList) {
         this.categoryList = categoryList;
+        categoryIndex = new HashMap<>();
+        for (Category category : categoryList) {
+            categoryIndex.putIfAbsent(category.getCategoryName(), category);
+        }
     }
 
     /**
@@ -77,12 +119,11 @@ public class CategoryManager {
      *  If the category is not found in the Category List
      */
     public Category getCategory(String categoryName) throws CategoryNotFoundException {
-        for (Category category : categoryList) {
-            if (category.getCategoryName().equals(categoryName)) {
-                return category;
-            }
+        Category category = categoryIndex.get(categoryName);
+        if (category == null) {
+            throw new CategoryNotFoundException();
         }
-        throw new CategoryNotFoundException();
+        return category;
     }
 
     /**
@@ -111,12 +152,7 @@ public class CategoryManager {
      *  <code>TRUE</code> if there exists a duplicate, and <code>FALSE</code> otherwise
      */
     private boolean contains(String categoryName) {
-        for (Category category : categoryList) {
-            if (category.isSameCategory(categoryName)) {
-                return true;
-            }
-        }
-        return false;
+        return categoryIndex.containsKey(categoryName);
     }
 
     /**
@@ -130,6 +166,12 @@ public class CategoryManager {
             throw new DuplicateCategoryException();
         } else {
             categoryList.add(toAdd);
+            categoryIndex.put(toAdd.getCategoryName(), toAdd);
+            if (ModuleManager.isInModuleList(toAdd)) {
+                ModuleManager.getTaskIndex().addAll(toAdd);
+                ModuleManager.getKeywordIndex().add(toAdd);
+                ChangeBus.publish(DirectoryChange.Type.ADDED, toAdd);
+            }
         }
     }
 
@@ -140,7 +182,17 @@ public class CategoryManager {
      *  The category to be deleted
      */
     public boolean delete(Category toDelete) {
-        return categoryList.remove(toDelete);
+        boolean wasInModuleList = ModuleManager.isInModuleList(toDelete);
+        if (!categoryList.remove(toDelete)) {
+            return false;
+        }
+        categoryIndex.remove(toDelete.getCategoryName(), toDelete);
+        ModuleManager.getTaskIndex().removeAll(toDelete);
+        ModuleManager.getKeywordIndex().remove(toDelete);
+        if (wasInModuleList) {
+            ChangeBus.publish(DirectoryChange.Type.DELETED, toDelete);
+        }
+        return true;
     }
 
     /**
@@ -154,7 +206,7 @@ public class CategoryManager {
      */
     public Category delete(String categoryName) throws CategoryNotFoundException {
         Category toDelete = getCategory(categoryName);
-        categoryList.remove(toDelete);
+        delete(toDelete);
         return toDelete;
     }
 
@@ -175,8 +227,14 @@ public class CategoryManager {
         if (!toEdit.isSameCategory(newCategoryName) && contains(newCategoryName)) {
             throw new DuplicateCategoryException();
         }
+        categoryIndex.remove(toEdit.getCategoryName(), toEdit);
         toEdit.setCategoryName(newCategoryName);
+        categoryIndex.put(newCategoryName, toEdit);
+        ModuleManager.getKeywordIndex().rename(toEdit);
         toEdit.setCategoryPriority(newPriority);
+        if (ModuleManager.isInModuleList(toEdit)) {
+            ChangeBus.publish(DirectoryChange.Type.EDITED, toEdit);
+        }
     }
 
     /**
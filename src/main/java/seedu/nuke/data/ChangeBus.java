@@ -0,0 +1,95 @@
+package seedu.nuke.data;
+
+import seedu.nuke.directory.Directory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The bus that sends the changes made to the Module List by the managers to the listeners, such as the storage,
+ * the screen shots and the directory tree.
+ * <p></p>
+ * The changes made during a batch, e.g. while a command is executed, are held back and sent together once the batch
+ * ends, so the listeners only react once per command. A change repeated right after itself is only sent once.
+ */
+public class ChangeBus {
+    private static ArrayList<DirectoryChange.Listener> listeners = new ArrayList<>();
+    private static ArrayList<DirectoryChange> pendingChanges = new ArrayList<>();
+    private static int batchDepth = 0;
+
+    /**
+     * Adds a listener to be told about every change made to the Module List.
+     *
+     * @param listener
+     *  The listener to add
+     */
+    public static void subscribe(DirectoryChange.Listener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes a listener added with {@link #subscribe(DirectoryChange.Listener)}.
+     *
+     * @param listener
+     *  The listener to remove
+     */
+    public static void unsubscribe(DirectoryChange.Listener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Starts a batch of changes. The changes are held back until every batch started is ended.
+     */
+    public static void beginBatch() {
+        ++batchDepth;
+    }
+
+    /**
+     * Ends a batch of changes started with {@link #beginBatch()}, and sends the changes held back if this is the
+     * outermost batch.
+     */
+    public static void endBatch() {
+        assert batchDepth > 0 : "A batch must be started before it is ended";
+        if (--batchDepth == 0) {
+            flush();
+        }
+    }
+
+    /**
+     * Sends the changes held back so far without ending the current batch, e.g. every few thousand rows of a bulk
+     * import, so that the changes of a long batch do not pile up until it ends.
+     */
+    public static void flushBatch() {
+        flush();
+    }
+
+    /**
+     * Sends a change made to a directory in the Module List, or holds it back until the current batch ends.
+     *
+     * @param type
+     *  The kind of change made
+     * @param directory
+     *  The directory that was changed
+     */
+    static void publish(DirectoryChange.Type type, Directory directory) {
+        DirectoryChange change = new DirectoryChange(type, directory);
+        if (pendingChanges.isEmpty() || !pendingChanges.get(pendingChanges.size() - 1).equals(change)) {
+            pendingChanges.add(change);
+        }
+        if (batchDepth == 0) {
+            flush();
+        }
+    }
+
+    private static void flush() {
+        if (pendingChanges.isEmpty()) {
+            return;
+        }
+        List<DirectoryChange> changes = Collections.unmodifiableList(pendingChanges);
+        pendingChanges = new ArrayList<>();
+        for (DirectoryChange.Listener listener : new ArrayList<>(listeners)) {
+            listener.onChange(changes);
+        }
+    }
+}
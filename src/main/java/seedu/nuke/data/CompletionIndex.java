@@ -0,0 +1,208 @@
+package seedu.nuke.data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+
+/**
+ * The completion index of a large set of names, e.g. the module codes of the module catalogue, that finds the first
+ * few names in order which contain what the user has typed so far.
+ * <p></p>
+ * Every suffix of every name is kept in lower case in a sorted array, so the names containing a keyword are the
+ * suffixes starting with the keyword, which are found with two binary searches. If the keyword is so common that
+ * going through its suffixes would take longer, the names are instead gone through in order until enough of them
+ * are found, which is quick exactly because the keyword is common.
+ * <p></p>
+ * The index is built once for the set of names. Names can be left out of the results without rebuilding the index,
+ * e.g. the modules that are already in the Module List.
+ */
+public class CompletionIndex {
+    private static final int OFFSET_BITS = 16;
+    private static final long OFFSET_MASK = (1L << OFFSET_BITS) - 1;
+
+    // The names in order, and the same names in lower case
+    private final String[] names;
+    private final String[] lowerNames;
+    // The suffixes of the names in order, each packed as the index of its name and the offset it starts from
+    private final long[] suffixes;
+
+    /**
+     * Builds the completion index of the specified names.
+     *
+     * @param names
+     *  The names to index
+     */
+    public CompletionIndex(Collection<String> names) {
+        this.names = new TreeSet<>(names).toArray(new String[0]);
+        this.lowerNames = new String[this.names.length];
+        int suffixCount = 0;
+        for (int i = 0; i < this.names.length; ++i) {
+            lowerNames[i] = this.names[i].toLowerCase();
+            suffixCount += Math.min(lowerNames[i].length(), (int) OFFSET_MASK);
+        }
+
+        Long[] unsortedSuffixes = new Long[suffixCount];
+        int count = 0;
+        for (int i = 0; i < lowerNames.length; ++i) {
+            for (int offset = 0; offset < lowerNames[i].length() && offset < OFFSET_MASK; ++offset) {
+                unsortedSuffixes[count++] = ((long) i << OFFSET_BITS) | offset;
+            }
+        }
+        Arrays.sort(unsortedSuffixes, this::compareSuffixes);
+        this.suffixes = new long[suffixCount];
+        for (int i = 0; i < suffixCount; ++i) {
+            suffixes[i] = unsortedSuffixes[i];
+        }
+    }
+
+    /**
+     * Returns the number of names in the index.
+     *
+     * @return
+     *  The number of names
+     */
+    public int size() {
+        return names.length;
+    }
+
+    /**
+     * Finds the first names in order that contain the specified keyword in a case-insensitive manner.
+     *
+     * @param keyword
+     *  The keyword the names have to contain
+     * @param limit
+     *  The maximum number of names to find
+     * @param isShown
+     *  Checks if a name may be found, so that names can be left out without rebuilding the index
+     * @return
+     *  The first names that contain the keyword, in order
+     */
+    public List<String> findFirst(String keyword, int limit, Predicate<String> isShown) {
+        String lowerKeyword = keyword.toLowerCase();
+        int from = findFirstSuffix(lowerKeyword, false);
+        int to = findFirstSuffix(lowerKeyword, true);
+
+        // Going through the names in order takes about (limit * suffixes / matching suffixes) steps, which is fewer
+        // than going through the matching suffixes once there are more than about sqrt(limit * suffixes) of them
+        int scanThreshold = (int) Math.sqrt((double) limit * suffixes.length) + limit;
+        ArrayList<String> foundNames = new ArrayList<>();
+        if (to - from > scanThreshold) {
+            for (int i = 0; i < names.length && foundNames.size() < limit; ++i) {
+                if (lowerNames[i].contains(lowerKeyword) && isShown.test(names[i])) {
+                    foundNames.add(names[i]);
+                }
+            }
+            return foundNames;
+        }
+
+        // Keep the first names found so far, dropping the last whenever there are too many
+        TreeSet<Integer> foundIndices = new TreeSet<>();
+        for (int i = from; i < to; ++i) {
+            int nameIndex = (int) (suffixes[i] >>> OFFSET_BITS);
+            if (foundIndices.size() == limit && nameIndex > foundIndices.last()) {
+                continue;
+            }
+            if (!foundIndices.contains(nameIndex) && isShown.test(names[nameIndex])) {
+                foundIndices.add(nameIndex);
+                if (foundIndices.size() > limit) {
+                    foundIndices.pollLast();
+                }
+            }
+        }
+        for (int nameIndex : foundIndices) {
+            foundNames.add(names[nameIndex]);
+        }
+        return foundNames;
+    }
+
+    /**
+     * Selects the first names in order that contain the specified keyword in a case-insensitive manner from a small
+     * list of names, without sorting the whole list. Repeated names are only selected once.
+     *
+     * @param names
+     *  The names to select from, in any order
+     * @param keyword
+     *  The keyword the names have to contain
+     * @param limit
+     *  The maximum number of names to select
+     * @return
+     *  The first names that contain the keyword, in order
+     */
+    public static List<String> selectFirst(Collection<String> names, String keyword, int limit) {
+        String lowerKeyword = keyword.toLowerCase();
+        TreeSet<String> selectedNames = new TreeSet<>();
+        for (String name : names) {
+            if (selectedNames.size() == limit && name.compareTo(selectedNames.last()) >= 0) {
+                continue;
+            }
+            if (name.toLowerCase().contains(lowerKeyword)) {
+                selectedNames.add(name);
+                if (selectedNames.size() > limit) {
+                    selectedNames.pollLast();
+                }
+            }
+        }
+        return new ArrayList<>(selectedNames);
+    }
+
+    /**
+     * Finds the position of the first suffix that starts with the keyword, or that comes after the keyword.
+     *
+     * @param keyword
+     *  The keyword in lower case
+     * @param isAfter
+     *  <code>TRUE</code> to find the first suffix after every suffix that starts with the keyword, and
+     *  <code>FALSE</code> to find the first suffix that starts with the keyword
+     * @return
+     *  The position of the suffix in the sorted suffixes
+     */
+    private int findFirstSuffix(String keyword, boolean isAfter) {
+        int low = 0;
+        int high = suffixes.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            int comparison = compareToKeyword(suffixes[middle], keyword);
+            if (comparison < 0 || (isAfter && comparison == 0)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Compares the start of the suffix with the keyword, so that every suffix starting with the keyword is equal to
+     * it.
+     */
+    private int compareToKeyword(long suffix, String keyword) {
+        String name = lowerNames[(int) (suffix >>> OFFSET_BITS)];
+        int offset = (int) (suffix & OFFSET_MASK);
+        int length = Math.min(name.length() - offset, keyword.length());
+        for (int i = 0; i < length; ++i) {
+            int comparison = Character.compare(name.charAt(offset + i), keyword.charAt(i));
+            if (comparison != 0) {
+                return comparison;
+            }
+        }
+        return (length == keyword.length()) ? 0 : -1;
+    }
+
+    private int compareSuffixes(long first, long second) {
+        String firstName = lowerNames[(int) (first >>> OFFSET_BITS)];
+        String secondName = lowerNames[(int) (second >>> OFFSET_BITS)];
+        int firstOffset = (int) (first & OFFSET_MASK);
+        int secondOffset = (int) (second & OFFSET_MASK);
+        int length = Math.min(firstName.length() - firstOffset, secondName.length() - secondOffset);
+        for (int i = 0; i < length; ++i) {
+            int comparison = Character.compare(firstName.charAt(firstOffset + i), secondName.charAt(secondOffset + i));
+            if (comparison != 0) {
+                return comparison;
+            }
+        }
+        return Integer.compare(firstName.length() - firstOffset, secondName.length() - secondOffset);
+    }
+}
@@ -0,0 +1,91 @@
+package seedu.nuke.data;
+
+import seedu.nuke.directory.Directory;
+
+import java.util.List;
+
+/**
+ * A change made to a directory in the Module List, which is sent to the listeners through the {@link ChangeBus}.
+ */
+public class DirectoryChange {
+    /**
+     * The kinds of changes that can be made to a directory.
+     */
+    public enum Type {
+        /** The directory was added to the Module List */
+        ADDED,
+        /** The directory was deleted from the Module List */
+        DELETED,
+        /** The name, deadline or priority of the directory was edited */
+        EDITED,
+        /** The done status of the task was changed */
+        DONE,
+        /** The tags of the task were changed */
+        TAGGED,
+        /** The whole list of children of the directory was replaced, e.g. when the Module List is loaded */
+        RELOADED
+    }
+
+    private final Type type;
+    private final Directory directory;
+
+    /**
+     * Constructs the change made to the specified directory.
+     *
+     * @param type
+     *  The kind of change made
+     * @param directory
+     *  The directory that was changed
+     */
+    public DirectoryChange(Type type, Directory directory) {
+        this.type = type;
+        this.directory = directory;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Directory getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Checks if the other object is the same kind of change made to the same directory.
+     *
+     * @param other
+     *  The other object to check
+     * @return
+     *  <code>TRUE</code> if the other object is the same change, and <code>FALSE</code> otherwise
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (!(other instanceof DirectoryChange)) {
+            return false;
+        }
+        return type == ((DirectoryChange) other).type && directory == ((DirectoryChange) other).directory;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * type.hashCode() + System.identityHashCode(directory);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s %s", type, directory.getClass().getSimpleName());
+    }
+
+    /**
+     * A listener that is told about the changes made to the Module List.
+     */
+    public interface Listener {
+        /**
+         * Handles the changes made to the Module List, e.g. by a command.
+         *
+         * @param changes
+         *  The changes made, in the order they were made
+         */
+        void onChange(List<DirectoryChange> changes);
+    }
+}
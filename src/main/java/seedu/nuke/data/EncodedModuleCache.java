@@ -0,0 +1,73 @@
+package seedu.nuke.data;
+
+import seedu.nuke.data.storage.Encoder;
+import seedu.nuke.directory.Module;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A cache of the encoded modules in the list, by the versions at which they were encoded.
+ * <br> A module is only encoded again after it is changed, so saving the list and taking a screen shot of it after a
+ * command share the same encoding.
+ */
+public class EncodedModuleCache {
+    private static final Encoder ENCODER = new Encoder(new ArrayList<>());
+
+    private static Map<Module, EncodedModule> encodedModules = new IdentityHashMap<>();
+
+    /**
+     * Returns the encoded state of the specified module, encoding it only if it has changed since it was last encoded.
+     *
+     * @param module
+     *  The module to encode
+     * @return
+     *  The encoded module
+     */
+    public static String getEncodedModule(Module module) {
+        EncodedModule encodedModule = encodedModules.get(module);
+        if (encodedModule == null || encodedModule.version != module.getVersion()) {
+            encodedModule = new EncodedModule(module.getVersion(), ENCODER.encodeModule(module));
+            encodedModules.put(module, encodedModule);
+        }
+        return encodedModule.encodedModule;
+    }
+
+    /**
+     * Sets the encoded state of the specified module at its current version, e.g. when the module was just decoded
+     * from the same encoding.
+     *
+     * @param module
+     *  The module that was encoded
+     * @param encodedModule
+     *  The encoded module
+     */
+    public static void setEncodedModule(Module module, String encodedModule) {
+        encodedModules.put(module, new EncodedModule(module.getVersion(), encodedModule));
+    }
+
+    /**
+     * Removes the encoded modules that are no longer in the specified list.
+     *
+     * @param moduleList
+     *  The current Module List
+     */
+    public static void retainAll(ArrayList<Module> moduleList) {
+        Set<Module> currentModules = Collections.newSetFromMap(new IdentityHashMap<>());
+        currentModules.addAll(moduleList);
+        encodedModules.keySet().retainAll(currentModules);
+    }
+
+    private static class EncodedModule {
+        private long version;
+        private String encodedModule;
+
+        private EncodedModule(long version, String encodedModule) {
+            this.version = version;
+            this.encodedModule = encodedModule;
+        }
+    }
+}
@@ -0,0 +1,512 @@
+package seedu.nuke.data;
+
+import seedu.nuke.directory.Category;
+import seedu.nuke.directory.Module;
+import seedu.nuke.directory.Task;
+import seedu.nuke.directory.TaskFile;
+import seedu.nuke.tag.TagQuery;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * The live keyword index of the module codes, category names, task descriptions, file names and tags in the Module
+ * List.
+ * <p></p>
+ * Every name is indexed in lower case by its trigrams (the substrings of three characters), so that the names which
+ * contain a keyword are found by looking up the trigrams of the keyword instead of going through every name. The
+ * names are also indexed as a whole for exact matches. The tags are kept in a {@link TagIndex}.
+ * <p></p>
+ * Like the {@link TaskIndex}, the index is kept up to date in place by the managers whenever the directories are
+ * added to, removed from or renamed in the Module List.
+ */
+class KeywordIndex {
+    private static final int GRAM_LENGTH = 3;
+    private static final String NO_KEYWORD = "";
+
+    private Keywords<Module> modules = new Keywords<>(Module::getModuleCode);
+    private Keywords<Category> categories = new Keywords<>(Category::getCategoryName);
+    private Keywords<Task> tasks = new Keywords<>(Task::getDescription);
+    private Keywords<TaskFile> files = new Keywords<>(TaskFile::getFileName);
+    private TagIndex tagIndex = new TagIndex();
+
+    void add(Module module) {
+        modules.add(module);
+        for (Category category : module.getCategories().getCategoryList()) {
+            add(category);
+        }
+    }
+
+    void remove(Module module) {
+        modules.remove(module);
+        for (Category category : module.getCategories().getCategoryList()) {
+            remove(category);
+        }
+    }
+
+    void add(Category category) {
+        categories.add(category);
+        for (Task task : category.getTasks().getTaskList()) {
+            add(task);
+        }
+    }
+
+    void remove(Category category) {
+        categories.remove(category);
+        for (Task task : category.getTasks().getTaskList()) {
+            remove(task);
+        }
+    }
+
+    void add(Task task) {
+        tasks.add(task);
+        tagIndex.add(task);
+        for (TaskFile file : task.getFiles().getFileList()) {
+            add(file);
+        }
+    }
+
+    void remove(Task task) {
+        tasks.remove(task);
+        tagIndex.remove(task);
+        for (TaskFile file : task.getFiles().getFileList()) {
+            remove(file);
+        }
+    }
+
+    void add(TaskFile file) {
+        files.add(file);
+    }
+
+    void remove(TaskFile file) {
+        files.remove(file);
+    }
+
+    /* Moves a directory to its current name, if it is in the index */
+
+    void rename(Module module) {
+        modules.rename(module);
+    }
+
+    void rename(Category category) {
+        categories.rename(category);
+    }
+
+    void rename(Task task) {
+        tasks.rename(task);
+    }
+
+    void rename(TaskFile file) {
+        files.rename(file);
+    }
+
+    /**
+     * Moves the task to its current tags, if it is in the index.
+     *
+     * @param task
+     *  The task whose tags have changed
+     */
+    void retag(Task task) {
+        if (tasks.contains(task)) {
+            tagIndex.update(task);
+        }
+    }
+
+    /**
+     * Replaces the directories in the index with every directory in the specified Module List.
+     *
+     * @param moduleList
+     *  The Module List to index
+     */
+    void rebuild(List<Module> moduleList) {
+        clear();
+        for (Module module : moduleList) {
+            add(module);
+        }
+    }
+
+    void clear() {
+        modules.clear();
+        categories.clear();
+        tasks.clear();
+        files.clear();
+        tagIndex.clear();
+    }
+
+    /**
+     * Finds the tasks in the Module List that satisfy the specified tag query.
+     *
+     * @param tagQuery
+     *  The tag query to satisfy
+     * @param isExact
+     *  <code>TRUE</code> if the tags have to match the keywords exactly, and <code>FALSE</code> otherwise
+     * @return
+     *  The tasks that satisfy the query, in no particular order
+     */
+    Set<Task> filter(TagQuery tagQuery, boolean isExact) {
+        return tagIndex.find(tagQuery, isExact);
+    }
+
+    /**
+     * Filters for modules in the Module List with module code that contains, or matches exactly, the specified
+     * keyword in a case-insensitive manner. The modules are returned in the order of the Module List.
+     *
+     * @param moduleList
+     *  The Module List to filter
+     * @param moduleKeyword
+     *  The keyword to filter the modules
+     * @param isExact
+     *  <code>TRUE</code> if the module code has to match the keyword exactly, and <code>FALSE</code> otherwise
+     * @return
+     *  The list of filtered modules
+     */
+    ArrayList<Module> filter(List<Module> moduleList, String moduleKeyword, boolean isExact) {
+        Set<Module> foundModules = modules.find(moduleKeyword, isExact);
+        ArrayList<Module> filteredModuleList = new ArrayList<>();
+        for (Module module : moduleList) {
+            if (foundModules == null ? modules.matches(module, moduleKeyword, isExact)
+                    : foundModules.contains(module)) {
+                filteredModuleList.add(module);
+            }
+        }
+        return filteredModuleList;
+    }
+
+    /**
+     * Filters for categories in the Module List with module code and category name that contain, or match exactly,
+     * the specified keywords in a case-insensitive manner. The categories are returned in the order of the Module
+     * List.
+     *
+     * @param moduleList
+     *  The Module List to filter
+     * @param moduleKeyword
+     *  The keyword to filter the modules
+     * @param categoryKeyword
+     *  The keyword to filter the categories
+     * @param isExact
+     *  <code>TRUE</code> if the names have to match the keywords exactly, and <code>FALSE</code> otherwise
+     * @return
+     *  The list of filtered categories
+     */
+    ArrayList<Category> filter(List<Module> moduleList, String moduleKeyword, String categoryKeyword,
+            boolean isExact) {
+        Set<Category> foundCategories = categories.find(categoryKeyword, isExact);
+        if (foundCategories == null) {
+            // The keyword cannot be looked up, so go through the categories of the filtered modules instead
+            ArrayList<Category> filteredCategoryList = new ArrayList<>();
+            for (Module module : filter(moduleList, moduleKeyword, isExact)) {
+                for (Category category : module.getCategories().getCategoryList()) {
+                    if (categories.matches(category, categoryKeyword, isExact)) {
+                        filteredCategoryList.add(category);
+                    }
+                }
+            }
+            return filteredCategoryList;
+        }
+
+        HashSet<Category> filteredCategories = new HashSet<>();
+        for (Category category : foundCategories) {
+            if (modules.matches(category.getParent(), moduleKeyword, isExact)) {
+                filteredCategories.add(category);
+            }
+        }
+        return orderCategories(moduleList, filteredCategories);
+    }
+
+    /**
+     * Filters for tasks in the Module List with module code, category name and task description that contain, or
+     * match exactly, the specified keywords in a case-insensitive manner. The tasks are returned in the order of the
+     * Module List.
+     *
+     * @param moduleList
+     *  The Module List to filter
+     * @param moduleKeyword
+     *  The keyword to filter the modules
+     * @param categoryKeyword
+     *  The keyword to filter the categories
+     * @param taskKeyword
+     *  The keyword to filter the tasks
+     * @param isExact
+     *  <code>TRUE</code> if the names have to match the keywords exactly, and <code>FALSE</code> otherwise
+     * @return
+     *  The list of filtered tasks
+     */
+    ArrayList<Task> filter(List<Module> moduleList, String moduleKeyword, String categoryKeyword,
+            String taskKeyword, boolean isExact) {
+        Set<Task> foundTasks = tasks.find(taskKeyword, isExact);
+        if (foundTasks == null) {
+            // The keyword cannot be looked up, so go through the tasks of the filtered categories instead
+            ArrayList<Task> filteredTaskList = new ArrayList<>();
+            for (Category category : filter(moduleList, moduleKeyword, categoryKeyword, isExact)) {
+                for (Task task : category.getTasks().getTaskList()) {
+                    if (tasks.matches(task, taskKeyword, isExact)) {
+                        filteredTaskList.add(task);
+                    }
+                }
+            }
+            return filteredTaskList;
+        }
+
+        HashSet<Task> filteredTasks = new HashSet<>();
+        for (Task task : foundTasks) {
+            Category category = task.getParent();
+            if (categories.matches(category, categoryKeyword, isExact)
+                    && modules.matches(category.getParent(), moduleKeyword, isExact)) {
+                filteredTasks.add(task);
+            }
+        }
+        return orderTasks(moduleList, filteredTasks);
+    }
+
+    /**
+     * Filters for files in the Module List with module code, category name, task description and file name that
+     * contain, or match exactly, the specified keywords in a case-insensitive manner. The files are returned in the
+     * order of the Module List.
+     *
+     * @param moduleList
+     *  The Module List to filter
+     * @param moduleKeyword
+     *  The keyword to filter the modules
+     * @param categoryKeyword
+     *  The keyword to filter the categories
+     * @param taskKeyword
+     *  The keyword to filter the tasks
+     * @param fileKeyword
+     *  The keyword to filter the files
+     * @param isExact
+     *  <code>TRUE</code> if the names have to match the keywords exactly, and <code>FALSE</code> otherwise
+     * @return
+     *  The list of filtered files
+     */
+    ArrayList<TaskFile> filter(List<Module> moduleList, String moduleKeyword, String categoryKeyword,
+            String taskKeyword, String fileKeyword, boolean isExact) {
+        Set<TaskFile> foundFiles = files.find(fileKeyword, isExact);
+        if (foundFiles == null) {
+            // The keyword cannot be looked up, so go through the files of the filtered tasks instead
+            ArrayList<TaskFile> filteredFileList = new ArrayList<>();
+            for (Task task : filter(moduleList, moduleKeyword, categoryKeyword, taskKeyword, isExact)) {
+                for (TaskFile file : task.getFiles().getFileList()) {
+                    if (files.matches(file, fileKeyword, isExact)) {
+                        filteredFileList.add(file);
+                    }
+                }
+            }
+            return filteredFileList;
+        }
+
+        HashSet<TaskFile> filteredFiles = new HashSet<>();
+        for (TaskFile file : foundFiles) {
+            Task task = file.getParent();
+            Category category = task.getParent();
+            if (tasks.matches(task, taskKeyword, isExact)
+                    && categories.matches(category, categoryKeyword, isExact)
+                    && modules.matches(category.getParent(), moduleKeyword, isExact)) {
+                filteredFiles.add(file);
+            }
+        }
+        return orderFiles(moduleList, filteredFiles);
+    }
+
+    /* Puts the found directories in the order of the Module List, by going through only the directories that
+     * contain them */
+
+    private static ArrayList<Category> orderCategories(List<Module> moduleList, Set<Category> toOrder) {
+        ArrayList<Category> orderedCategories = new ArrayList<>();
+        if (toOrder.isEmpty()) {
+            return orderedCategories;
+        }
+        HashSet<Module> parentModules = new HashSet<>();
+        for (Category category : toOrder) {
+            parentModules.add(category.getParent());
+        }
+        for (Module module : moduleList) {
+            if (!parentModules.contains(module)) {
+                continue;
+            }
+            for (Category category : module.getCategories().getCategoryList()) {
+                if (toOrder.contains(category)) {
+                    orderedCategories.add(category);
+                }
+            }
+        }
+        return orderedCategories;
+    }
+
+    private static ArrayList<Task> orderTasks(List<Module> moduleList, Set<Task> toOrder) {
+        ArrayList<Task> orderedTasks = new ArrayList<>();
+        if (toOrder.isEmpty()) {
+            return orderedTasks;
+        }
+        HashSet<Category> parentCategories = new HashSet<>();
+        for (Task task : toOrder) {
+            parentCategories.add(task.getParent());
+        }
+        for (Category category : orderCategories(moduleList, parentCategories)) {
+            for (Task task : category.getTasks().getTaskList()) {
+                if (toOrder.contains(task)) {
+                    orderedTasks.add(task);
+                }
+            }
+        }
+        return orderedTasks;
+    }
+
+    private static ArrayList<TaskFile> orderFiles(List<Module> moduleList, Set<TaskFile> toOrder) {
+        ArrayList<TaskFile> orderedFiles = new ArrayList<>();
+        if (toOrder.isEmpty()) {
+            return orderedFiles;
+        }
+        HashSet<Task> parentTasks = new HashSet<>();
+        for (TaskFile file : toOrder) {
+            parentTasks.add(file.getParent());
+        }
+        for (Task task : orderTasks(moduleList, parentTasks)) {
+            for (TaskFile file : task.getFiles().getFileList()) {
+                if (toOrder.contains(file)) {
+                    orderedFiles.add(file);
+                }
+            }
+        }
+        return orderedFiles;
+    }
+
+    /**
+     * The names of one level of the directory, indexed by their trigrams and as a whole.
+     *
+     * @param <T>
+     *  The type of the directories
+     */
+    private static class Keywords<T> {
+        private Function<T, String> nameOf;
+        // The name each directory is indexed by, in lower case, kept so that it can be removed after a rename
+        private HashMap<T, String> indexedNames = new HashMap<>();
+        private HashMap<String, HashSet<T>> grams = new HashMap<>();
+        private HashMap<String, HashSet<T>> names = new HashMap<>();
+
+        private Keywords(Function<T, String> nameOf) {
+            this.nameOf = nameOf;
+        }
+
+        private void add(T directory) {
+            if (indexedNames.containsKey(directory)) {
+                return;
+            }
+            String name = nameOf.apply(directory).toLowerCase();
+            indexedNames.put(directory, name);
+            names.computeIfAbsent(name, key -> new HashSet<>()).add(directory);
+            for (String gram : toGrams(name)) {
+                grams.computeIfAbsent(gram, key -> new HashSet<>()).add(directory);
+            }
+        }
+
+        private void remove(T directory) {
+            String name = indexedNames.remove(directory);
+            if (name == null) {
+                return;
+            }
+            removeFrom(names, name, directory);
+            for (String gram : toGrams(name)) {
+                removeFrom(grams, gram, directory);
+            }
+        }
+
+        private void rename(T directory) {
+            String name = indexedNames.get(directory);
+            if (name != null && !name.equals(nameOf.apply(directory).toLowerCase())) {
+                remove(directory);
+                add(directory);
+            }
+        }
+
+        private boolean contains(T directory) {
+            return indexedNames.containsKey(directory);
+        }
+
+        private void clear() {
+            indexedNames.clear();
+            grams.clear();
+            names.clear();
+        }
+
+        /**
+         * Finds the directories with names that contain, or match exactly, the specified keyword.
+         *
+         * @param keyword
+         *  The keyword to find
+         * @param isExact
+         *  <code>TRUE</code> if the name has to match the keyword exactly, and <code>FALSE</code> otherwise
+         * @return
+         *  The found directories, or <code>NULL</code> if the keyword is empty or too short to be looked up
+         */
+        private Set<T> find(String keyword, boolean isExact) {
+            if (keyword.equals(NO_KEYWORD)) {
+                return null;
+            }
+            String lowerCaseKeyword = keyword.toLowerCase();
+            if (isExact) {
+                return names.getOrDefault(lowerCaseKeyword, new HashSet<>());
+            }
+            if (lowerCaseKeyword.length() < GRAM_LENGTH) {
+                return null;
+            }
+
+            // Only the directories with the rarest trigram of the keyword need to be checked
+            HashSet<T> candidates = null;
+            for (String gram : toGrams(lowerCaseKeyword)) {
+                HashSet<T> sameGram = grams.get(gram);
+                if (sameGram == null) {
+                    return Collections.emptySet();
+                }
+                if (candidates == null || sameGram.size() < candidates.size()) {
+                    candidates = sameGram;
+                }
+            }
+            HashSet<T> found = new HashSet<>();
+            for (T candidate : candidates) {
+                if (indexedNames.get(candidate).contains(lowerCaseKeyword)) {
+                    found.add(candidate);
+                }
+            }
+            return found;
+        }
+
+        /**
+         * Checks if the name of the specified directory contains, or matches exactly, the specified keyword.
+         * An empty keyword matches every directory.
+         */
+        private boolean matches(T directory, String keyword, boolean isExact) {
+            if (keyword.equals(NO_KEYWORD)) {
+                return true;
+            }
+            String name = indexedNames.get(directory);
+            if (name == null) {
+                name = nameOf.apply(directory).toLowerCase();
+            }
+            return isExact ? name.equals(keyword.toLowerCase()) : name.contains(keyword.toLowerCase());
+        }
+
+        private static HashSet<String> toGrams(String name) {
+            HashSet<String> nameGrams = new HashSet<>();
+            for (int i = 0; i + GRAM_LENGTH <= name.length(); ++i) {
+                nameGrams.add(name.substring(i, i + GRAM_LENGTH));
+            }
+            return nameGrams;
+        }
+
+        private static <T> void removeFrom(HashMap<String, HashSet<T>> index, String key, T directory) {
+            HashSet<T> sameKey = index.get(key);
+            if (sameKey == null) {
+                return;
+            }
+            sameKey.remove(directory);
+            if (sameKey.isEmpty()) {
+                index.remove(key);
+            }
+        }
+    }
+}
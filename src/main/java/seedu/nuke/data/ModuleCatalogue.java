@@ -0,0 +1,338 @@
+package seedu.nuke.data;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * <h3>Module Catalogue</h3>
+ * A read-only map of the module codes of all NUS modules to their titles, backed by the memory-mapped module list
+ * file from NUSMods.
+ * <p></p>
+ * Only the module codes are read when the catalogue is opened, and are kept sorted together with the positions of
+ * their titles in the file. A title is only decoded from the file when it is looked up.
+ * <br> A module without a title in the file is still in the catalogue, with a <code>null</code> title.
+ */
+public class ModuleCatalogue extends AbstractMap<String, String> {
+    private static final byte[] MODULE_CODE_KEY = "moduleCode".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] TITLE_KEY = "title".getBytes(StandardCharsets.UTF_8);
+    /** The title position of a module that has no title, or whose title is not a string */
+    private static final int NO_TITLE = -1;
+
+    private ByteBuffer buffer;
+    private String[] moduleCodes;
+    private int[] titlePositions;
+
+    private ModuleCatalogue(ByteBuffer buffer, String[] moduleCodes, int[] titlePositions) {
+        this.buffer = buffer;
+        this.moduleCodes = moduleCodes;
+        this.titlePositions = titlePositions;
+    }
+
+    /**
+     * Opens the catalogue of the specified module list file.
+     *
+     * @param moduleListPath
+     *  The path of the module list file, which is a JSON array of objects with a <code>moduleCode</code> and
+     *  usually a <code>title</code>
+     * @return
+     *  The catalogue of the modules in the file
+     * @throws IOException
+     *  If the file could not be read, or is not in the expected format
+     */
+    public static ModuleCatalogue open(Path moduleListPath) throws IOException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(moduleListPath, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        return index(buffer);
+    }
+
+    /**
+     * Returns an empty catalogue, for when the module list is not available.
+     *
+     * @return
+     *  An empty catalogue
+     */
+    public static ModuleCatalogue empty() {
+        return new ModuleCatalogue(ByteBuffer.allocate(0), new String[0], new int[0]);
+    }
+
+    /**
+     * Scans the module list once, recording the module code and the position of the title of every module.
+     */
+    private static ModuleCatalogue index(ByteBuffer buffer) throws IOException {
+        String[] moduleCodes = new String[64];
+        int[] titlePositions = new int[64];
+        int moduleCount = 0;
+
+        String moduleCode = null;
+        int titlePosition = NO_TITLE;
+        int depth = 0;
+        int position = 0;
+        int limit = buffer.limit();
+        while (position < limit) {
+            byte currentByte = buffer.get(position);
+            if (currentByte == '{' || currentByte == '[') {
+                ++depth;
+                ++position;
+            } else if (currentByte == '}' || currentByte == ']') {
+                if (depth == 2 && currentByte == '}' && moduleCode != null) {
+                    if (moduleCount == moduleCodes.length) {
+                        moduleCodes = Arrays.copyOf(moduleCodes, moduleCount * 2);
+                        titlePositions = Arrays.copyOf(titlePositions, moduleCount * 2);
+                    }
+                    moduleCodes[moduleCount] = moduleCode;
+                    titlePositions[moduleCount] = titlePosition;
+                    ++moduleCount;
+                }
+                if (depth == 2) {
+                    moduleCode = null;
+                    titlePosition = NO_TITLE;
+                }
+                --depth;
+                ++position;
+            } else if (currentByte == '"') {
+                int stringEnd = skipString(buffer, position);
+                int valuePosition = skipWhitespace(buffer, stringEnd);
+                boolean isKey = valuePosition < limit && buffer.get(valuePosition) == ':';
+                if (isKey && depth == 2) {
+                    valuePosition = skipWhitespace(buffer, valuePosition + 1);
+                    if (matches(buffer, position, MODULE_CODE_KEY)) {
+                        moduleCode = decodeString(buffer, valuePosition);
+                    } else if (matches(buffer, position, TITLE_KEY)) {
+                        // A title of null is taken as no title
+                        boolean isString = valuePosition < limit && buffer.get(valuePosition) == '"';
+                        titlePosition = isString ? valuePosition : NO_TITLE;
+                    }
+                }
+                position = stringEnd;
+            } else {
+                ++position;
+            }
+        }
+
+        // Sort the module codes together with the positions of their titles
+        Integer[] order = new Integer[moduleCount];
+        for (int i = 0; i < moduleCount; ++i) {
+            order[i] = i;
+        }
+        final String[] unsortedModuleCodes = moduleCodes;
+        Arrays.sort(order, (first, second) -> unsortedModuleCodes[first].compareTo(unsortedModuleCodes[second]));
+        String[] sortedModuleCodes = new String[moduleCount];
+        int[] sortedTitlePositions = new int[moduleCount];
+        for (int i = 0; i < moduleCount; ++i) {
+            sortedModuleCodes[i] = moduleCodes[order[i]];
+            sortedTitlePositions[i] = titlePositions[order[i]];
+        }
+        return new ModuleCatalogue(buffer, sortedModuleCodes, sortedTitlePositions);
+    }
+
+    /**
+     * Returns the position just after the end of the string starting at the specified position.
+     */
+    private static int skipString(ByteBuffer buffer, int position) {
+        int limit = buffer.limit();
+        int current = position + 1;
+        while (current < limit) {
+            byte currentByte = buffer.get(current);
+            if (currentByte == '\\') {
+                current += 2;
+            } else if (currentByte == '"') {
+                return current + 1;
+            } else {
+                ++current;
+            }
+        }
+        return limit;
+    }
+
+    private static int skipWhitespace(ByteBuffer buffer, int position) {
+        int current = position;
+        while (current < buffer.limit() && Character.isWhitespace(buffer.get(current))) {
+            ++current;
+        }
+        return current;
+    }
+
+    /**
+     * Checks if the string starting at the specified position is exactly the specified key.
+     */
+    private static boolean matches(ByteBuffer buffer, int position, byte[] key) {
+        int end = position + 1 + key.length;
+        if (end >= buffer.limit() || buffer.get(end) != '"') {
+            return false;
+        }
+        for (int i = 0; i < key.length; ++i) {
+            if (buffer.get(position + 1 + i) != key[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Decodes the JSON string starting at the specified position.
+     */
+    private static String decodeString(ByteBuffer buffer, int position) throws IOException {
+        if (position >= buffer.limit() || buffer.get(position) != '"') {
+            throw new IOException("The module list is not in the expected format...");
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        StringBuilder decodedString = new StringBuilder();
+        int current = position + 1;
+        while (current < buffer.limit()) {
+            byte currentByte = buffer.get(current);
+            if (currentByte == '"') {
+                decodedString.append(new String(bytes.toByteArray(), StandardCharsets.UTF_8));
+                return decodedString.toString();
+            }
+            if (currentByte != '\\') {
+                bytes.write(currentByte);
+                ++current;
+                continue;
+            }
+            // Flush the bytes before the escaped character
+            decodedString.append(new String(bytes.toByteArray(), StandardCharsets.UTF_8));
+            bytes.reset();
+            if (current + 1 >= buffer.limit()) {
+                break;
+            }
+            char escapedChar = (char) buffer.get(current + 1);
+            switch (escapedChar) {
+            case 'u':
+                if (current + 6 > buffer.limit()) {
+                    throw new IOException("The module list is not in the expected format...");
+                }
+                byte[] hexDigits = new byte[4];
+                for (int i = 0; i < 4; ++i) {
+                    hexDigits[i] = buffer.get(current + 2 + i);
+                }
+                try {
+                    decodedString.append((char) Integer.parseInt(new String(hexDigits, StandardCharsets.US_ASCII), 16));
+                } catch (NumberFormatException e) {
+                    throw new IOException("The module list is not in the expected format...");
+                }
+                current += 6;
+                continue;
+            case 'n':
+                decodedString.append('\n');
+                break;
+            case 't':
+                decodedString.append('\t');
+                break;
+            case 'r':
+                decodedString.append('\r');
+                break;
+            case 'b':
+                decodedString.append('\b');
+                break;
+            case 'f':
+                decodedString.append('\f');
+                break;
+            default:
+                decodedString.append(escapedChar);
+                break;
+            }
+            current += 2;
+        }
+        throw new IOException("The module list is not in the expected format...");
+    }
+
+    private int indexOf(Object moduleCode) {
+        if (!(moduleCode instanceof String)) {
+            return -1;
+        }
+        int index = Arrays.binarySearch(moduleCodes, moduleCode);
+        return (index < 0) ? -1 : index;
+    }
+
+    private String getTitle(int index) {
+        if (titlePositions[index] == NO_TITLE) {
+            return null;
+        }
+        try {
+            return decodeString(buffer, titlePositions[index]);
+        } catch (IOException e) {
+            return "";
+        }
+    }
+
+    @Override
+    public boolean containsKey(Object moduleCode) {
+        return indexOf(moduleCode) >= 0;
+    }
+
+    @Override
+    public String get(Object moduleCode) {
+        int index = indexOf(moduleCode);
+        return (index < 0) ? null : getTitle(index);
+    }
+
+    @Override
+    public int size() {
+        return moduleCodes.length;
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return new AbstractSet<String>() {
+            @Override
+            public Iterator<String> iterator() {
+                return Arrays.asList(moduleCodes).iterator();
+            }
+
+            @Override
+            public boolean contains(Object moduleCode) {
+                return containsKey(moduleCode);
+            }
+
+            @Override
+            public int size() {
+                return moduleCodes.length;
+            }
+        };
+    }
+
+    @Override
+    public Set<Entry<String, String>> entrySet() {
+        return new AbstractSet<Entry<String, String>>() {
+            @Override
+            public Iterator<Entry<String, String>> iterator() {
+                return new Iterator<Entry<String, String>>() {
+                    private int index = 0;
+
+                    @Override
+                    public boolean hasNext() {
+                        return index < moduleCodes.length;
+                    }
+
+                    @Override
+                    public Entry<String, String> next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        Entry<String, String> entry = new SimpleImmutableEntry<>(moduleCodes[index], getTitle(index));
+                        ++index;
+                        return entry;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return moduleCodes.length;
+            }
+        };
+    }
+}
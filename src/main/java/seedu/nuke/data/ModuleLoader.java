@@ -1,22 +1,14 @@
 package seedu.nuke.data;
 
 import com.alibaba.fastjson.JSON;
-import org.apache.commons.io.FileUtils;
-import seedu.nuke.data.storage.StoragePath;
 import seedu.nuke.util.DummyModule;
 
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
-import java.io.FileWriter;
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
-import java.net.HttpURLConnection;
-import java.net.URL;
-import java.net.URLConnection;
-import java.net.UnknownHostException;
+import java.nio.file.Paths;
 import java.util.Calendar;
 import java.util.HashMap;
 import java.util.List;
@@ -46,6 +38,43 @@ public class ModuleLoader {
         return modulesMap;
     }
 
+    /**
+     * Opens the catalogue of all NUS modules from the local module list file, applying any module list that was
+     * downloaded but could not replace the file earlier. Only the module codes are read at startup, while the titles
+     * are read from the file when looked up.
+     *
+     * @param dataFileName name of the json file
+     * @return the catalogue of all NUS modules, which is empty if there is no local module list yet
+     */
+    public static ModuleCatalogue loadCatalogue(String dataFileName) {
+        new CatalogueRefresher(getModuleListUrlFromNusmods(), Paths.get(dataFileName)).applyPendingDownload();
+        return openCatalogue(dataFileName);
+    }
+
+    /**
+     * Refreshes the local module list from NUSMods in the background, without blocking the startup.
+     * If there was no local module list, the catalogue of the new list is set into the ModuleManager once it is
+     * downloaded.
+     *
+     * @param dataFileName name of the json file
+     */
+    public static void refreshCatalogueInBackground(String dataFileName) {
+        CatalogueRefresher refresher = new CatalogueRefresher(getModuleListUrlFromNusmods(), Paths.get(dataFileName));
+        refresher.refreshInBackground(() -> {
+            if (ModuleManager.getModulesMap().isEmpty()) {
+                ModuleManager.setModulesMap(openCatalogue(dataFileName));
+            }
+        });
+    }
+
+    private static ModuleCatalogue openCatalogue(String dataFileName) {
+        try {
+            return ModuleCatalogue.open(Paths.get(dataFileName));
+        } catch (IOException e) {
+            return ModuleCatalogue.empty();
+        }
+    }
+
     private static HashMap<String, String> convertToHashMap(List<DummyModule> moduleList) {
         HashMap<String, String> modulesMap = new HashMap<>();
         for (DummyModule module : moduleList) {
@@ -57,6 +86,13 @@ public class ModuleLoader {
     private static String loadJsonStringFromFile(String dataFileName) {
         String encoding = "utf8";
         File file = new File(dataFileName);
+        if (!file.exists()) {
+            try {
+                new CatalogueRefresher(getModuleListUrlFromNusmods(), file.toPath()).refresh();
+            } catch (IOException e) {
+                return "";
+            }
+        }
         Long fileLength = file.length();
         byte[] fileContent = new byte[fileLength.intValue()];
         try {
@@ -64,11 +100,7 @@ public class ModuleLoader {
             in.read(fileContent);
             in.close();
         } catch (FileNotFoundException e) {
-            File folder = new File(StoragePath.FILE_BASE_PATH);
-            if (!folder.exists() && !folder.isDirectory()) {
-                folder.mkdirs();
-            }
-            return openFile(getModuleListUrlFromNusmods());
+            return "";
         } catch (IOException e) {
             e.printStackTrace();
         }
@@ -81,50 +113,6 @@ public class ModuleLoader {
         }
     }
 
-    private static String openFile(String filePath) {
-        int httpResult; // the status from the server response
-        String content = "";
-        try {
-            URL url = new URL(filePath); // create URL
-            URLConnection urlConn = url.openConnection(); // try to connect and get the status code
-            try {
-                urlConn.connect();
-            } catch (UnknownHostException e) {
-                return "";
-            }
-            HttpURLConnection httpConn = (HttpURLConnection) urlConn;
-            httpResult = httpConn.getResponseCode();
-            if (httpResult != HttpURLConnection.HTTP_OK) {
-                System.out.print("cannot connect!");
-            } else {
-                int fileSize = urlConn.getContentLength(); // get the length of the data
-                InputStreamReader isReader = new InputStreamReader(urlConn.getInputStream(), "UTF-8");
-                BufferedReader reader = new BufferedReader(isReader);
-                StringBuffer buffer = new StringBuffer();
-                String line; // to save the content of every line
-                line = reader.readLine(); // read the first line
-                while (line != null) { // if line is empty, means finish reading
-                    buffer.append(line); // append to the buffer
-                    buffer.append(" "); // add new line
-                    line = reader.readLine(); // read the next line
-                }
-                content = buffer.toString();
-
-                saveModuleListToDisk();
-            }
-        } catch (FileNotFoundException e) {
-            e.printStackTrace();
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
-        return content;
-    }
-
-    private static void saveModuleListToDisk() throws IOException {
-        URL httpUrl = new URL(getModuleListUrlFromNusmods());
-        FileUtils.copyURLToFile(httpUrl, new File(StoragePath.NUS_MODULE_LIST_PATH));
-    }
-
     private static String getModuleListUrlFromNusmods() {
         Calendar cal = Calendar.getInstance();
         int year = cal.get(Calendar.YEAR);
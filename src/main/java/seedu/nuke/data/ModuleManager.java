@@ -1,6 +1,7 @@
 package seedu.nuke.data;
 
 import seedu.nuke.directory.Category;
+import seedu.nuke.directory.Directory;
 import seedu.nuke.directory.Module;
 import seedu.nuke.directory.Root;
 import seedu.nuke.directory.Task;
@@ -8,10 +9,17 @@ import seedu.nuke.directory.TaskFile;
 import seedu.nuke.exception.DataNotFoundException;
 import seedu.nuke.exception.DuplicateDataException;
 import seedu.nuke.exception.ModuleNotProvidedException;
+import seedu.nuke.tag.TagQuery;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * A manager that manages all modules.
@@ -19,23 +27,33 @@ import java.util.Iterator;
  */
 public class ModuleManager implements Iterable<Module> {
     private static ArrayList<Module> moduleList;
-    private static HashMap<String, String> modulesMap;
+    // The modules in the Module List by their module codes in upper case
+    private static HashMap<String, Module> moduleIndex = new HashMap<>();
+    private static TaskIndex taskIndex = new TaskIndex();
+    private static KeywordIndex keywordIndex = new KeywordIndex();
+    private static volatile Map<String, String> modulesMap;
+    private static long version = 0;
 
     private static final String NO_KEYWORD = "";
 
+    static {
+        // Move the changed modules to a new version, so that the screen shots and the journal pick them up
+        ChangeBus.subscribe(ModuleManager::markChangedModules);
+    }
+
     /**
      * Initialises the ModuleManager class.
      *
      * @param modulesMap
-     *  The hash map containing NUS provided modules
+     *  The map containing NUS provided modules
      */
-    public static void initialise(HashMap<String, String> modulesMap) {
+    public static void initialise(Map<String, String> modulesMap) {
         if (modulesMap == null) {
             ModuleManager.modulesMap = new HashMap<>();
         } else {
             ModuleManager.modulesMap = modulesMap;
         }
-        moduleList = new ArrayList<>();
+        setModuleList(new ArrayList<>());
     }
 
     public static void initialise() {
@@ -43,10 +61,20 @@ public class ModuleManager implements Iterable<Module> {
     }
 
 
-    public static HashMap<String, String> getModulesMap() {
+    public static Map<String, String> getModulesMap() {
         return modulesMap;
     }
 
+    /**
+     * Sets the map of NUS provided modules, e.g. after the module list is refreshed.
+     *
+     * @param modulesMap
+     *  The map containing NUS provided modules
+     */
+    public static void setModulesMap(Map<String, String> modulesMap) {
+        ModuleManager.modulesMap = modulesMap;
+    }
+
     /**
      * Sets the entire Module List to a new list.
      *
@@ -55,6 +83,109 @@ public class ModuleManager implements Iterable<Module> {
      */
     public static void setModuleList(ArrayList<Module> moduleList) {
         ModuleManager.moduleList = moduleList;
+        moduleIndex = new HashMap<>();
+        for (Module module : moduleList) {
+            moduleIndex.putIfAbsent(toIndexKey(module.getModuleCode()), module);
+        }
+        taskIndex.rebuild(moduleList);
+        keywordIndex.rebuild(moduleList);
+        ++version;
+        ChangeBus.publish(DirectoryChange.Type.RELOADED, new Root());
+    }
+
+    private static String toIndexKey(String moduleCode) {
+        return moduleCode.toUpperCase();
+    }
+
+    static TaskIndex getTaskIndex() {
+        return taskIndex;
+    }
+
+    static KeywordIndex getKeywordIndex() {
+        return keywordIndex;
+    }
+
+    /**
+     * Checks if the specified module is in the Module List.
+     *
+     * @param module
+     *  The module to check
+     * @return
+     *  <code>TRUE</code> if the module is in the Module List, and <code>FALSE</code> otherwise
+     */
+    static boolean isInModuleList(Module module) {
+        return module != null && moduleIndex.get(toIndexKey(module.getModuleCode())) == module;
+    }
+
+    /**
+     * Checks if the specified category is in the Category List of a module in the Module List.
+     *
+     * @param category
+     *  The category to check
+     * @return
+     *  <code>TRUE</code> if the category is in the Module List, and <code>FALSE</code> otherwise
+     */
+    static boolean isInModuleList(Category category) {
+        if (category == null || !isInModuleList(category.getParent())) {
+            return false;
+        }
+        try {
+            return category.getParent().getCategories().getCategory(category.getCategoryName()) == category;
+        } catch (CategoryManager.CategoryNotFoundException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Checks if the specified task is in the Task List of a category in the Module List.
+     *
+     * @param task
+     *  The task to check
+     * @return
+     *  <code>TRUE</code> if the task is in the Module List, and <code>FALSE</code> otherwise
+     */
+    static boolean isInModuleList(Task task) {
+        return task != null && taskIndex.contains(task);
+    }
+
+    /**
+     * Returns the version of the Module List. The version changes whenever a change is made to the list, so two
+     * states of the list with the same version are the same.
+     *
+     * @return
+     *  The version of the Module List
+     */
+    public static long getVersion() {
+        return version;
+    }
+
+    /**
+     * Marks the specified module as changed by moving it to a new version of the list.
+     *
+     * @param module
+     *  The module that was added, edited or deleted
+     */
+    public static void markAsChanged(Module module) {
+        module.setVersion(++version);
+    }
+
+    /**
+     * Marks the modules containing the changed directories as changed. Reloading the whole Module List already
+     * moves it to a new version.
+     *
+     * @param changes
+     *  The changes made to the Module List
+     */
+    private static void markChangedModules(List<DirectoryChange> changes) {
+        for (DirectoryChange change : changes) {
+            Directory directory = change.getDirectory();
+            while (directory != null && !(directory instanceof Module)) {
+                directory = directory.getParent();
+            }
+            if (directory != null) {
+                markAsChanged((Module) directory);
+            }
+        }
     }
 
     /**
@@ -76,12 +207,11 @@ public class ModuleManager implements Iterable<Module> {
      *  If the module is not found in the Module List
      */
     public static Module getModule(String moduleCode) throws ModuleNotFoundException {
-        for (Module module : moduleList) {
-            if (module.getModuleCode().equalsIgnoreCase(moduleCode)) {
-                return module;
-            }
+        Module module = (moduleCode == null) ? null : moduleIndex.get(toIndexKey(moduleCode));
+        if (module == null) {
+            throw new ModuleNotFoundException();
         }
-        throw new ModuleNotFoundException();
+        return module;
     }
 
     /**
@@ -169,12 +299,7 @@ public class ModuleManager implements Iterable<Module> {
      *  <code>TRUE</code> if there exists a duplicate, and <code>FALSE</code> otherwise
      */
     public static boolean contains(String moduleCode) {
-        for (Module module : moduleList) {
-            if (module.getModuleCode().equalsIgnoreCase(moduleCode)) {
-                return true;
-            }
-        }
-        return false;
+        return moduleCode != null && moduleIndex.containsKey(toIndexKey(moduleCode));
     }
 
     /**
@@ -193,9 +318,32 @@ public class ModuleManager implements Iterable<Module> {
             String moduleTitle = modulesMap.get(toAdd.getModuleCode());
             toAdd.setTitle(moduleTitle);
             moduleList.add(toAdd);
+            moduleIndex.put(toIndexKey(toAdd.getModuleCode()), toAdd);
+            taskIndex.addAll(toAdd);
+            keywordIndex.add(toAdd);
+            ChangeBus.publish(DirectoryChange.Type.ADDED, toAdd);
         }
     }
 
+    /**
+     * Puts a module restored by an undo or redo back into the Module List at the specified position.
+     * <br> Unlike {@link #add(Module)}, the module is not checked against the modules provided, as it was in the
+     * list before. Only the restored module is indexed, instead of the whole list.
+     *
+     * @param index
+     *  The position of the module in the Module List
+     * @param toRestore
+     *  The module to be restored
+     */
+    static void restore(int index, Module toRestore) {
+        assert !contains(toRestore.getModuleCode()) : "The module to restore must not be in the list";
+        moduleList.add(index, toRestore);
+        moduleIndex.put(toIndexKey(toRestore.getModuleCode()), toRestore);
+        taskIndex.addAll(toRestore);
+        keywordIndex.add(toRestore);
+        ChangeBus.publish(DirectoryChange.Type.ADDED, toRestore);
+    }
+
     /**
      * return an orders lists of all tasks of all modules.
      * @return an ArrayList of String which represents the ordered list
@@ -217,12 +365,10 @@ public class ModuleManager implements Iterable<Module> {
      * @return list of sorted tasks
      */
     public static ArrayList<Task> sortAllTasks() {
-        ArrayList<Task> allTasks = getAllTasks();
-        allTasks.sort((t1, t2) -> {
-            String t1Deadline = t1.getDeadline().isPresent() ? t1.getDeadline().getDateTimeInSortFormat() : "";
-            String t2Deadline = t2.getDeadline().isPresent() ? t2.getDeadline().getDateTimeInSortFormat() : "";
-            return t1Deadline.compareToIgnoreCase(t2Deadline);
-        });
+        ArrayList<Task> allTasks = new ArrayList<>(getAllTasks());
+        // Tasks without a complete deadline come first
+        allTasks.sort(Comparator.comparingLong(task ->
+                task.getDeadline().isPresent() ? task.getDeadline().getSortKey() : Long.MIN_VALUE));
         return allTasks;
     }
 
@@ -231,6 +377,10 @@ public class ModuleManager implements Iterable<Module> {
      */
     public void clear() {
         moduleList.clear();
+        moduleIndex.clear();
+        taskIndex.clear();
+        keywordIndex.clear();
+        ChangeBus.publish(DirectoryChange.Type.RELOADED, new Root());
     }
 
     /**
@@ -239,7 +389,12 @@ public class ModuleManager implements Iterable<Module> {
      *  The module to be deleted
      */
     public static void delete(Module toDelete) {
-        moduleList.remove(toDelete);
+        if (moduleList.remove(toDelete)) {
+            moduleIndex.remove(toIndexKey(toDelete.getModuleCode()), toDelete);
+            taskIndex.removeAll(toDelete);
+            keywordIndex.remove(toDelete);
+            ChangeBus.publish(DirectoryChange.Type.DELETED, toDelete);
+        }
     }
 
     /**
@@ -254,9 +409,16 @@ public class ModuleManager implements Iterable<Module> {
     public Module delete(String moduleCode) throws ModuleNotFoundException {
         if (getModuleWithCode(moduleCode) != null) {
             Module toDelete = getModuleWithCode(moduleCode);
-            getAllTasks().removeIf(task ->
-                    task.getParent().getParent().getModuleCode().toUpperCase().equals(moduleCode));
-            moduleList.removeIf(module -> module.getModuleCode().equalsIgnoreCase(moduleCode));
+            moduleList.removeIf(module -> {
+                if (!module.getModuleCode().equalsIgnoreCase(moduleCode)) {
+                    return false;
+                }
+                taskIndex.removeAll(module);
+                keywordIndex.remove(module);
+                return true;
+            });
+            moduleIndex.remove(toIndexKey(moduleCode));
+            ChangeBus.publish(DirectoryChange.Type.DELETED, toDelete);
             return toDelete;
         } else {
             throw new ModuleNotFoundException();
@@ -284,8 +446,18 @@ public class ModuleManager implements Iterable<Module> {
             throw new DuplicateModuleException();
         }
         String newTitle = modulesMap.get(newModuleCode);
+        // A module that is not in the Module List is edited without being indexed under its new module code
+        boolean isInModuleList = isInModuleList(toEdit);
+        if (isInModuleList) {
+            moduleIndex.remove(toIndexKey(toEdit.getModuleCode()), toEdit);
+        }
         toEdit.setModuleCode(newModuleCode);
         toEdit.setTitle(newTitle);
+        if (isInModuleList) {
+            moduleIndex.put(toIndexKey(newModuleCode), toEdit);
+            keywordIndex.rename(toEdit);
+            ChangeBus.publish(DirectoryChange.Type.EDITED, toEdit);
+        }
     }
 
     /* Retrieve a specific Data (Category / Task / File) List. Only 1 list is retrieved */
@@ -350,7 +522,8 @@ public class ModuleManager implements Iterable<Module> {
     }
 
     /* Filters for data (module / task / category) that *contains* given keywords (i.e. not exact match)
-     *  in a case-insensitive manner. There may be multiple data that matches. */
+     *  in a case-insensitive manner. There may be multiple data that matches.
+     *  The data is looked up in the keyword index, and returned in the order of the Module List. */
 
     /**
      * Filter for modules in the Module List with module code that contains the specified keyword.
@@ -362,13 +535,7 @@ public class ModuleManager implements Iterable<Module> {
      *  The list of filtered modules
      */
     public static ArrayList<Module> filter(String moduleKeyword) {
-        ArrayList<Module> filteredModuleList = new ArrayList<>();
-        for (Module module : moduleList) {
-            if (module.getModuleCode().toLowerCase().contains(moduleKeyword.toLowerCase())) {
-                filteredModuleList.add(module);
-            }
-        }
-        return filteredModuleList;
+        return keywordIndex.filter(moduleList, moduleKeyword, false);
     }
 
     /**
@@ -385,11 +552,7 @@ public class ModuleManager implements Iterable<Module> {
      *  The list of filtered categories
      */
     public static ArrayList<Category> filter(String moduleKeyword, String categoryKeyword) {
-        ArrayList<Category> filteredCategoryList = new ArrayList<>();
-        for (Module module : filter(moduleKeyword)) {
-            filteredCategoryList.addAll(module.getCategories().filter(categoryKeyword));
-        }
-        return filteredCategoryList;
+        return keywordIndex.filter(moduleList, moduleKeyword, categoryKeyword, false);
     }
 
     /**
@@ -409,11 +572,7 @@ public class ModuleManager implements Iterable<Module> {
      *  The list of filtered tasks
      */
     public static ArrayList<Task> filter(String moduleKeyword, String categoryKeyword, String taskKeyword) {
-        ArrayList<Task> filteredTaskList = new ArrayList<>();
-        for (Category category : filter(moduleKeyword, categoryKeyword)) {
-            filteredTaskList.addAll(category.getTasks().filter(taskKeyword));
-        }
-        return filteredTaskList;
+        return keywordIndex.filter(moduleList, moduleKeyword, categoryKeyword, taskKeyword, false);
     }
 
     /**
@@ -437,16 +596,13 @@ public class ModuleManager implements Iterable<Module> {
      */
     public static ArrayList<TaskFile> filter(String moduleKeyword, String categoryKeyword, String taskKeyword,
             String fileKeyword) {
-        ArrayList<TaskFile> filteredFileList = new ArrayList<>();
-        for (Task task : filter(moduleKeyword, categoryKeyword, taskKeyword)) {
-            filteredFileList.addAll(task.getFiles().filter(fileKeyword));
-        }
-        return filteredFileList;
+        return keywordIndex.filter(moduleList, moduleKeyword, categoryKeyword, taskKeyword, fileKeyword, false);
     }
 
     /* Filters for data (module / task / category) that *matches exactly* the given keywords in a case-insensitive
      *  manner. Empty keywords, however, will instead collect all instances of the data.
-     *  There may be multiple data that matches. */
+     *  There may be multiple data that matches.
+     *  The data is looked up in the keyword index, and returned in the order of the Module List. */
 
     /**
      * Filter for modules in the Module List with module code that matches <b>exactly</b> the specified keyword.
@@ -462,14 +618,7 @@ public class ModuleManager implements Iterable<Module> {
         if (moduleKeyword.equals(NO_KEYWORD)) {
             return moduleList;
         }
-
-        ArrayList<Module> filteredModuleList = new ArrayList<>();
-        for (Module module : moduleList) {
-            if (module.getModuleCode().toLowerCase().equals(moduleKeyword.toLowerCase())) {
-                filteredModuleList.add(module);
-            }
-        }
-        return filteredModuleList;
+        return keywordIndex.filter(moduleList, moduleKeyword, true);
     }
 
     /**
@@ -486,11 +635,7 @@ public class ModuleManager implements Iterable<Module> {
      *  The list of filtered categories
      */
     public static ArrayList<Category> filterExact(String moduleKeyword, String categoryKeyword) {
-        ArrayList<Category> filteredCategoryList = new ArrayList<>();
-        for (Module module : filterExact(moduleKeyword)) {
-            filteredCategoryList.addAll(module.getCategories().filterExact(categoryKeyword));
-        }
-        return filteredCategoryList;
+        return keywordIndex.filter(moduleList, moduleKeyword, categoryKeyword, true);
     }
 
     /**
@@ -510,11 +655,7 @@ public class ModuleManager implements Iterable<Module> {
      *  The list of filtered tasks
      */
     public static ArrayList<Task> filterExact(String moduleKeyword, String categoryKeyword, String taskKeyword) {
-        ArrayList<Task> filteredTaskList = new ArrayList<>();
-        for (Category category : filterExact(moduleKeyword, categoryKeyword)) {
-            filteredTaskList.addAll(category.getTasks().filterExact(taskKeyword));
-        }
-        return filteredTaskList;
+        return keywordIndex.filter(moduleList, moduleKeyword, categoryKeyword, taskKeyword, true);
     }
 
     /**
@@ -538,21 +679,105 @@ public class ModuleManager implements Iterable<Module> {
      */
     public static ArrayList<TaskFile> filterExact(String moduleKeyword, String categoryKeyword, String taskKeyword,
             String fileKeyword) {
-        ArrayList<TaskFile> filteredFileList = new ArrayList<>();
-        for (Task task : filterExact(moduleKeyword, categoryKeyword, taskKeyword)) {
-            filteredFileList.addAll(task.getFiles().filterExact(fileKeyword));
+        return keywordIndex.filter(moduleList, moduleKeyword, categoryKeyword, taskKeyword, fileKeyword, true);
+    }
+
+    /**
+     * Returns all the tasks across the entire Module List. The tasks are read from the live task index, so the
+     * returned view is not a copy, and reflects later changes to the Module List.
+     *
+     * @return
+     *  A read-only view of all the tasks in the entire Module List
+     */
+    public static Collection<Task> getAllTasks() {
+        return taskIndex.getTasks();
+    }
+
+    /**
+     * Returns the tasks across the entire Module List with deadlines within the specified period. The tasks are
+     * ordered by their deadlines, then by their priorities, module codes, category names and descriptions.
+     *
+     * @param from
+     *  The start of the period, which is included, or <code>NULL</code> if the period has no start
+     * @param to
+     *  The end of the period, which is excluded, or <code>NULL</code> if the period has no end
+     * @param isAll
+     *  <code>TRUE</code> to include the done tasks, and <code>FALSE</code> otherwise
+     * @return
+     *  An Array List of the tasks due within the period
+     */
+    public static ArrayList<Task> getTasksDueBetween(LocalDateTime from, LocalDateTime to, boolean isAll) {
+        return taskIndex.getTasksDueBetween(from, to, isAll);
+    }
+
+    /**
+     * Counts the tasks across the entire Module List with deadlines within the specified period.
+     *
+     * @param from
+     *  The start of the period, which is included, or <code>NULL</code> if the period has no start
+     * @param to
+     *  The end of the period, which is excluded, or <code>NULL</code> if the period has no end
+     * @param isAll
+     *  <code>TRUE</code> to include the done tasks, and <code>FALSE</code> otherwise
+     * @return
+     *  The number of tasks due within the period
+     */
+    public static int countTasksDueBetween(LocalDateTime from, LocalDateTime to, boolean isAll) {
+        return taskIndex.countTasksDueBetween(from, to, isAll);
+    }
+
+    /**
+     * Updates the task index after the deadline of the specified task has changed.
+     *
+     * @param task
+     *  The changed task
+     */
+    public static void updateTaskDeadline(Task task) {
+        taskIndex.update(task);
+        if (isInModuleList(task)) {
+            ChangeBus.publish(DirectoryChange.Type.EDITED, task);
+        }
+    }
+
+    /**
+     * Updates the task index after the done status of the specified task has changed.
+     *
+     * @param task
+     *  The changed task
+     */
+    public static void updateTaskDone(Task task) {
+        taskIndex.update(task);
+        if (isInModuleList(task)) {
+            ChangeBus.publish(DirectoryChange.Type.DONE, task);
         }
-        return filteredFileList;
     }
 
     /**
-     * Returns all the tasks across the entire Module List.
+     * Updates the tag index after the tags of the specified task have changed.
      *
+     * @param task
+     *  The changed task
+     */
+    public static void updateTaskTags(Task task) {
+        keywordIndex.retag(task);
+        if (isInModuleList(task)) {
+            ChangeBus.publish(DirectoryChange.Type.TAGGED, task);
+        }
+    }
+
+    /**
+     * Returns the tasks across the entire Module List that satisfy the specified tag query. The tasks are looked up
+     * in the tag index, so only the tasks with the queried tags are gone through.
+     *
+     * @param tagQuery
+     *  The tag query to satisfy
+     * @param isExact
+     *  <code>TRUE</code> if the tags have to match the keywords exactly, and <code>FALSE</code> otherwise
      * @return
-     *  An Array List of all the tasks in the entire Module List
+     *  The tasks that satisfy the query, in no particular order
      */
-    public static ArrayList<Task> getAllTasks() {
-        return filter(NO_KEYWORD, NO_KEYWORD, NO_KEYWORD);
+    public static Set<Task> getTasksTagged(TagQuery tagQuery, boolean isExact) {
+        return keywordIndex.filter(tagQuery, isExact);
     }
 
     @Override
@@ -577,20 +802,19 @@ public class ModuleManager implements Iterable<Module> {
      * @return a module object that has the moduleCode
      */
     public static Module getModuleWithCode(String moduleCode) {
-        for (Module module: moduleList) {
-            if (module.getModuleCode().equals(moduleCode)) {
-                assert module.getModuleCode().equals(moduleCode);
-                return module;
-            }
+        Module module = (moduleCode == null) ? null : moduleIndex.get(toIndexKey(moduleCode));
+        if (module == null || !module.getModuleCode().equals(moduleCode)) {
+            return null;
         }
-        return null;
+        assert module.getModuleCode().equals(moduleCode);
+        return module;
     }
 
     /**
      * return total number of tasks in all modules.
      */
     public static int countAllTasks() {
-        return filter(NO_KEYWORD, NO_KEYWORD, NO_KEYWORD).size();
+        return taskIndex.size();
     }
 
     public static class ModuleNotFoundException extends DataNotFoundException {
@@ -1,14 +1,85 @@
 package seedu.nuke.data;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A screen shot of the changes made to the list by a single command.
+ * <br> Only the modules that were changed are kept, encoded as they were before and after the change, so the size of
+ * a screen shot depends on the size of the change and not on the size of the whole list.
+ */
 public class ScreenShot {
-    private String encodedSavedList;
+    private static final int STRING_OVERHEAD = 40;
+
+    private ArrayList<String> moduleCodesBefore;
+    private ArrayList<String> moduleCodesAfter;
+    private LinkedHashMap<String, String> encodedModulesBefore;
+    private LinkedHashMap<String, String> encodedModulesAfter;
 
-    public ScreenShot(String encodedSavedList) {
-        this.encodedSavedList = encodedSavedList;
+    /**
+     * Constructs the screen shot of a change.
+     *
+     * @param moduleCodesBefore
+     *  The module codes of the list in order before the change, or <code>NULL</code> if the order is unchanged
+     * @param moduleCodesAfter
+     *  The module codes of the list in order after the change, or <code>NULL</code> if the order is unchanged
+     * @param encodedModulesBefore
+     *  The changed modules before the change, by their module codes
+     * @param encodedModulesAfter
+     *  The changed modules after the change, by their module codes
+     */
+    public ScreenShot(ArrayList<String> moduleCodesBefore, ArrayList<String> moduleCodesAfter,
+            LinkedHashMap<String, String> encodedModulesBefore, LinkedHashMap<String, String> encodedModulesAfter) {
+        this.moduleCodesBefore = moduleCodesBefore;
+        this.moduleCodesAfter = moduleCodesAfter;
+        this.encodedModulesBefore = encodedModulesBefore;
+        this.encodedModulesAfter = encodedModulesAfter;
     }
 
-    public String getEncodedSavedList() {
-        return encodedSavedList;
+    public ArrayList<String> getModuleCodesBefore() {
+        return moduleCodesBefore;
+    }
+
+    public ArrayList<String> getModuleCodesAfter() {
+        return moduleCodesAfter;
+    }
+
+    public LinkedHashMap<String, String> getEncodedModulesBefore() {
+        return encodedModulesBefore;
     }
-}
 
+    public LinkedHashMap<String, String> getEncodedModulesAfter() {
+        return encodedModulesAfter;
+    }
+
+    /**
+     * Estimates the number of bytes of memory held by the screen shot.
+     *
+     * @return
+     *  The estimated size of the screen shot in bytes
+     */
+    public long getSize() {
+        return getSize(moduleCodesBefore) + getSize(moduleCodesAfter)
+                + getSize(encodedModulesBefore) + getSize(encodedModulesAfter);
+    }
+
+    private static long getSize(ArrayList<String> moduleCodes) {
+        if (moduleCodes == null) {
+            return 0;
+        }
+        long size = 0;
+        for (String moduleCode : moduleCodes) {
+            size += STRING_OVERHEAD + 2L * moduleCode.length();
+        }
+        return size;
+    }
+
+    private static long getSize(Map<String, String> encodedModules) {
+        long size = 0;
+        for (Map.Entry<String, String> encodedModule : encodedModules.entrySet()) {
+            size += 2 * STRING_OVERHEAD + 2L * (encodedModule.getKey().length() + encodedModule.getValue().length());
+        }
+        return size;
+    }
+}
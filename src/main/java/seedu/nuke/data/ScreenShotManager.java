@@ -1,52 +1,70 @@
 package seedu.nuke.data;
 
 import seedu.nuke.data.storage.Decoder;
-import seedu.nuke.data.storage.Encoder;
 import seedu.nuke.directory.DirectoryTraverser;
 import seedu.nuke.directory.Module;
 import seedu.nuke.directory.Root;
 import seedu.nuke.exception.CorruptedFileException;
 
 import java.io.BufferedReader;
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.EmptyStackException;
-import java.util.Stack;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * A screen shot manager that stores the previous states of the list and performs operations to move about the states;
  * i.e. undo and redo.
+ * <br> Each screen shot only holds the modules changed by a single command. The total size of the screen shots is kept
+ * within a memory budget by discarding the oldest screen shots.
  */
 public class ScreenShotManager {
-    private static Stack<ScreenShot> undoStack = new Stack<>();
-    private static Stack<ScreenShot> redoStack = new Stack<>();
+    private static final long DEFAULT_MEMORY_BUDGET = 16 * 1024 * 1024;
+
+    private static Deque<ScreenShot> undoStack = new ArrayDeque<>();
+    private static Deque<ScreenShot> redoStack = new ArrayDeque<>();
+    private static long memoryBudget = DEFAULT_MEMORY_BUDGET;
+    private static long memoryUsage = 0;
+
+    // The state of the list at the latest screen shot
+    private static Map<Module, SavedModule> savedModules = new IdentityHashMap<>();
+    private static ArrayList<String> savedModuleCodes = new ArrayList<>();
+    private static long savedVersion = -1;
 
     /**
-     * Initialises the screen shot manager with its first screen shot of the starting list.
+     * Initialises the screen shot manager with the starting list.
      */
     public static void initialise() {
-        String encodedSavedList = new Encoder(ModuleManager.getModuleList()).encode();
-        ScreenShot screenShot = new ScreenShot(encodedSavedList);
-        assert undoStack.isEmpty() : "Undo stack should be empty!";
-        assert redoStack.isEmpty() : "Redo stack should be empty!";
-        undoStack.push(screenShot);
-    }
-
-    private static ScreenShot popPreviousScreenShot() throws EmptyStackException {
-        // There should be at least 2 screen shots to allow undo
-        if (undoStack.size() < 2) {
-            throw new EmptyStackException();
+        undoStack.clear();
+        redoStack.clear();
+        memoryUsage = 0;
+        savedModules.clear();
+        savedModuleCodes = new ArrayList<>();
+        for (Module module : ModuleManager.getModuleList()) {
+            savedModules.put(module, new SavedModule(module));
+            savedModuleCodes.add(module.getModuleCode());
         }
-        ScreenShot currentState = undoStack.pop();
-        redoStack.push(currentState);
-        return undoStack.peek();
+        savedVersion = ModuleManager.getVersion();
     }
 
-    private static ScreenShot peekPreviousScreenShot() {
-        return undoStack.peek();
+    /**
+     * Sets the maximum number of bytes the screen shots may take up. The oldest screen shots are discarded once the
+     * budget is exceeded, although the latest screen shot is always kept.
+     *
+     * @param memoryBudget
+     *  The memory budget in bytes
+     */
+    public static void setMemoryBudget(long memoryBudget) {
+        ScreenShotManager.memoryBudget = memoryBudget;
+        trimToMemoryBudget();
     }
 
     /**
@@ -57,18 +75,13 @@ public class ScreenShotManager {
      * @throws EmptyStackException exception is thrown when user trying to undo at the initial state.
      */
     public static void undo() throws IOException, CorruptedFileException, EmptyStackException {
-        ScreenShot previousState = popPreviousScreenShot();
-        String encodedSavedList = previousState.getEncodedSavedList();
-
-        InputStream stream = new ByteArrayInputStream(encodedSavedList.getBytes());
-        BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(stream));
-
-        ArrayList<Module> moduleList = new Decoder(bufferedReader).decode();
-        ModuleManager.setModuleList(moduleList);
-        bufferedReader.close();
-
-        // Move back to Root for now to avoid "unusual" situations
-        DirectoryTraverser.traverseTo(new Root());
+        if (undoStack.isEmpty()) {
+            throw new EmptyStackException();
+        }
+        ScreenShot previousChange = undoStack.peek();
+        restore(previousChange.getEncodedModulesAfter(), previousChange.getEncodedModulesBefore(),
+                previousChange.getModuleCodesBefore());
+        redoStack.push(undoStack.pop());
     }
 
     /**
@@ -79,49 +92,163 @@ public class ScreenShotManager {
      * @throws EmptyStackException exception is thrown when user trying to undo at the initial state.
      */
     public static void redo() throws IOException, CorruptedFileException, EmptyStackException {
-        ScreenShot redoScreenShot = popRedoScreenShot();
-        String encodedSavedList = redoScreenShot.getEncodedSavedList();
+        if (redoStack.isEmpty()) {
+            throw new EmptyStackException();
+        }
+        ScreenShot nextChange = redoStack.peek();
+        restore(nextChange.getEncodedModulesBefore(), nextChange.getEncodedModulesAfter(),
+                nextChange.getModuleCodesAfter());
+        undoStack.push(redoStack.pop());
+    }
 
-        InputStream stream = new ByteArrayInputStream(encodedSavedList.getBytes());
-        BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(stream));
+    /**
+     * Replaces the changed modules in the list with their encoded states on the other side of a change.
+     * <br> Only the changed modules are removed from and put back into the list through the <b>Module Manager</b>, so
+     * the indexes and the directory tree are patched for those modules alone.
+     *
+     * @param encodedModulesToRemove
+     *  The modules in the current list that are to be replaced
+     * @param encodedModulesToRestore
+     *  The modules to be decoded into the list
+     * @param moduleCodes
+     *  The module codes of the restored list in order, or <code>NULL</code> if the order is unchanged
+     */
+    private static void restore(Map<String, String> encodedModulesToRemove, Map<String, String> encodedModulesToRestore,
+            ArrayList<String> moduleCodes) throws IOException, CorruptedFileException {
+        HashMap<String, Module> modulesToRemove = new HashMap<>();
+        ArrayList<String> keptModuleCodes = new ArrayList<>();
+        ArrayList<String> currentModuleCodes = new ArrayList<>();
+        for (Module module : ModuleManager.getModuleList()) {
+            String moduleCode = module.getModuleCode();
+            currentModuleCodes.add(moduleCode);
+            if (encodedModulesToRemove.containsKey(moduleCode)) {
+                modulesToRemove.put(moduleCode, module);
+            } else {
+                keptModuleCodes.add(moduleCode);
+            }
+        }
 
-        ArrayList<Module> moduleList = new Decoder(bufferedReader).decode();
-        ModuleManager.setModuleList(moduleList);
-        bufferedReader.close();
+        // Decode every module first, so that the list is left untouched if any of them is corrupted
+        HashMap<String, Module> restoredModules = new HashMap<>();
+        for (Map.Entry<String, String> encodedModule : encodedModulesToRestore.entrySet()) {
+            BufferedReader bufferedReader = new BufferedReader(new StringReader(encodedModule.getValue()));
+            Module restoredModule = new Decoder(bufferedReader).decodeNextModule();
+            EncodedModuleCache.setEncodedModule(restoredModule, encodedModule.getValue());
+            restoredModules.put(encodedModule.getKey(), restoredModule);
+        }
+
+        // The modules that are kept stay in the same order, so only the restored modules have to be put in place
+        ArrayList<String> restoredModuleCodes = (moduleCodes == null) ? currentModuleCodes : moduleCodes;
+        ArrayList<String> expectedKeptModuleCodes = new ArrayList<>(restoredModuleCodes);
+        expectedKeptModuleCodes.removeAll(restoredModules.keySet());
+        if (modulesToRemove.size() != encodedModulesToRemove.size()
+                || restoredModules.size() + keptModuleCodes.size() != restoredModuleCodes.size()
+                || !expectedKeptModuleCodes.equals(keptModuleCodes)) {
+            throw new CorruptedFileException();
+        }
+
+        for (Module module : modulesToRemove.values()) {
+            ModuleManager.delete(module);
+            savedModules.remove(module);
+        }
+        for (int i = 0; i < restoredModuleCodes.size(); ++i) {
+            Module restoredModule = restoredModules.get(restoredModuleCodes.get(i));
+            if (restoredModule != null) {
+                ModuleManager.restore(i, restoredModule);
+                savedModules.put(restoredModule, new SavedModule(restoredModule));
+            }
+        }
+        savedModuleCodes = restoredModuleCodes;
+        savedVersion = ModuleManager.getVersion();
 
         // Move back to Root for now to avoid "unusual" situations
         DirectoryTraverser.traverseTo(new Root());
     }
 
-    private static ScreenShot popRedoScreenShot() throws EmptyStackException {
-        ScreenShot nextState = redoStack.pop();
-        undoStack.push(nextState);
-        return nextState;
-    }
-
     /**
-     * Save the moduleList as a string if it was changed.
+     * Save the changes made to the moduleList since the last screen shot, if there are any.
      */
     public static void saveScreenShot() {
-        String encodedSavedList = new Encoder(ModuleManager.getModuleList()).encode();
-        ScreenShot screenShot = new ScreenShot(encodedSavedList);
-        if (getUndoStackSize() == 0) {
-            undoStack.push(screenShot);
+        if (savedVersion == ModuleManager.getVersion()) {
             return;
         }
-        ScreenShot previousScreenShot = peekPreviousScreenShot();
-        String previousEncodedSavedList = previousScreenShot.getEncodedSavedList();
-        if (!previousEncodedSavedList.equals(encodedSavedList)) {
-            undoStack.push(screenShot);
-            if (!redoStack.isEmpty()) {
-                redoStack.clear();
+        ArrayList<Module> moduleList = ModuleManager.getModuleList();
+        Set<Module> currentModules = Collections.newSetFromMap(new IdentityHashMap<>());
+        currentModules.addAll(moduleList);
+
+        LinkedHashMap<String, String> encodedModulesBefore = new LinkedHashMap<>();
+        LinkedHashMap<String, String> encodedModulesAfter = new LinkedHashMap<>();
+
+        // Modules that were deleted
+        savedModules.entrySet().removeIf(savedModule -> {
+            if (currentModules.contains(savedModule.getKey())) {
+                return false;
+            }
+            encodedModulesBefore.put(savedModule.getValue().moduleCode, savedModule.getValue().encodedModule);
+            return true;
+        });
+
+        // Modules that were added or changed
+        ArrayList<String> moduleCodes = new ArrayList<>();
+        for (Module module : moduleList) {
+            moduleCodes.add(module.getModuleCode());
+            SavedModule savedModule = savedModules.get(module);
+            if (savedModule != null && savedModule.version == module.getVersion()) {
+                continue;
+            }
+            SavedModule changedModule = new SavedModule(module);
+            savedModules.put(module, changedModule);
+            if (savedModule != null && savedModule.moduleCode.equals(changedModule.moduleCode)
+                    && savedModule.encodedModule.equals(changedModule.encodedModule)) {
+                // The module was marked as changed, but was left as it was
+                continue;
             }
-            assert redoStack.isEmpty() : "Didn't clear the redo stack!!";
+            if (savedModule != null) {
+                encodedModulesBefore.put(savedModule.moduleCode, savedModule.encodedModule);
+            }
+            encodedModulesAfter.put(changedModule.moduleCode, changedModule.encodedModule);
+        }
+        savedVersion = ModuleManager.getVersion();
+        EncodedModuleCache.retainAll(moduleList);
+
+        boolean isOrderChanged = !moduleCodes.equals(savedModuleCodes);
+        if (!isOrderChanged && encodedModulesBefore.isEmpty() && encodedModulesAfter.isEmpty()) {
+            return;
+        }
+        ScreenShot screenShot = isOrderChanged
+                ? new ScreenShot(savedModuleCodes, moduleCodes, encodedModulesBefore, encodedModulesAfter)
+                : new ScreenShot(null, null, encodedModulesBefore, encodedModulesAfter);
+        savedModuleCodes = moduleCodes;
+
+        undoStack.push(screenShot);
+        memoryUsage += screenShot.getSize();
+        for (ScreenShot undoneScreenShot : redoStack) {
+            memoryUsage -= undoneScreenShot.getSize();
         }
+        redoStack.clear();
+        assert redoStack.isEmpty() : "Didn't clear the redo stack!!";
+        trimToMemoryBudget();
     }
 
-    private static int getUndoStackSize() {
-        return undoStack.size();
+    private static void trimToMemoryBudget() {
+        while (memoryUsage > memoryBudget && undoStack.size() > 1) {
+            // Discard the oldest state first
+            memoryUsage -= undoStack.removeLast().getSize();
+        }
     }
 
+    /**
+     * The module code, version and encoded state of a module at the latest screen shot.
+     */
+    private static class SavedModule {
+        private String moduleCode;
+        private long version;
+        private String encodedModule;
+
+        private SavedModule(Module module) {
+            this.moduleCode = module.getModuleCode();
+            this.version = module.getVersion();
+            this.encodedModule = EncodedModuleCache.getEncodedModule(module);
+        }
+    }
 }
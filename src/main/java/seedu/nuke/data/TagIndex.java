@@ -0,0 +1,174 @@
+package seedu.nuke.data;
+
+import seedu.nuke.directory.Task;
+import seedu.nuke.tag.TagQuery;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The live dictionary of the tags of the tasks in the Module List.
+ * <p></p>
+ * Every distinct tag, in lower case, is given an id, and each id has a posting list of the tasks with the tag. The
+ * tasks with a tag are then looked up instead of going through the tags of every task, and a {@link TagQuery} is
+ * answered by combining the posting lists of its tags.
+ */
+class TagIndex {
+    // The ids of the tags by their names in lower case, and the names of the tags by their ids
+    private HashMap<String, Integer> tagIds = new HashMap<>();
+    private ArrayList<String> tagNames = new ArrayList<>();
+    // The tasks with each tag by the id of the tag, with the number of times the task has the tag
+    private ArrayList<HashMap<Task, Integer>> postings = new ArrayList<>();
+    // The ids of the tags each task is indexed by, kept so that it can be removed after its tags have changed
+    private LinkedHashMap<Task, int[]> taggedTasks = new LinkedHashMap<>();
+
+    void add(Task task) {
+        if (taggedTasks.containsKey(task) || task.getTags().isEmpty()) {
+            return;
+        }
+        List<String> tags = task.getTags();
+        int[] ids = new int[tags.size()];
+        for (int i = 0; i < ids.length; ++i) {
+            ids[i] = toTagId(tags.get(i));
+            postings.get(ids[i]).merge(task, 1, Integer::sum);
+        }
+        taggedTasks.put(task, ids);
+    }
+
+    void remove(Task task) {
+        int[] ids = taggedTasks.remove(task);
+        if (ids == null) {
+            return;
+        }
+        for (int id : ids) {
+            postings.get(id).computeIfPresent(task, (sameTask, count) -> count == 1 ? null : count - 1);
+        }
+    }
+
+    /**
+     * Moves the task to its current tags.
+     *
+     * @param task
+     *  The task whose tags have changed
+     */
+    void update(Task task) {
+        remove(task);
+        add(task);
+    }
+
+    void clear() {
+        tagIds.clear();
+        tagNames.clear();
+        postings.clear();
+        taggedTasks.clear();
+    }
+
+    private int toTagId(String tag) {
+        String tagName = tag.toLowerCase();
+        Integer id = tagIds.get(tagName);
+        if (id == null) {
+            id = tagNames.size();
+            tagIds.put(tagName, id);
+            tagNames.add(tagName);
+            postings.add(new HashMap<>());
+        }
+        return id;
+    }
+
+    /**
+     * Finds the tasks with a tag that contains, or matches exactly, the specified keyword.
+     *
+     * @param tagKeyword
+     *  The keyword to find
+     * @param isExact
+     *  <code>TRUE</code> if the tag has to match the keyword exactly, and <code>FALSE</code> otherwise
+     * @return
+     *  The tasks with a matching tag
+     */
+    Set<Task> find(String tagKeyword, boolean isExact) {
+        if (isExact) {
+            Integer id = tagIds.get(tagKeyword.toLowerCase());
+            return id == null ? Collections.emptySet() : postings.get(id).keySet();
+        }
+        HashSet<Task> found = new HashSet<>();
+        for (int id = 0; id < tagNames.size(); ++id) {
+            if (tagNames.get(id).contains(tagKeyword.toLowerCase())) {
+                found.addAll(postings.get(id).keySet());
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Finds the tasks that satisfy the specified tag query. Only the tasks with at least one tag are found.
+     *
+     * @param tagQuery
+     *  The tag query to satisfy
+     * @param isExact
+     *  <code>TRUE</code> if the tags have to match the keywords exactly, and <code>FALSE</code> otherwise
+     * @return
+     *  The tasks that satisfy the query, in no particular order
+     */
+    Set<Task> find(TagQuery tagQuery, boolean isExact) {
+        List<TagQuery.Clause> clauses = tagQuery.getClauses();
+        if (clauses.size() == 1) {
+            return find(clauses.get(0), isExact);
+        }
+        HashSet<Task> found = new HashSet<>();
+        for (TagQuery.Clause clause : clauses) {
+            found.addAll(find(clause, isExact));
+        }
+        return found;
+    }
+
+    private Set<Task> find(TagQuery.Clause clause, boolean isExact) {
+        // Only the tasks with the rarest included tag need to be checked against the other tags
+        Set<Task> candidates = taggedTasks.keySet();
+        ArrayList<Set<Task>> includedTasks = new ArrayList<>();
+        for (String includedTag : clause.getIncludedTags()) {
+            Set<Task> sameTag = find(includedTag, isExact);
+            if (sameTag.size() < candidates.size()) {
+                candidates = sameTag;
+            }
+            includedTasks.add(sameTag);
+        }
+        if (candidates.isEmpty()) {
+            return Collections.emptySet();
+        }
+        ArrayList<Set<Task>> excludedTasks = new ArrayList<>();
+        for (String excludedTag : clause.getExcludedTags()) {
+            excludedTasks.add(find(excludedTag, isExact));
+        }
+
+        HashSet<Task> found = new HashSet<>();
+        for (Task candidate : candidates) {
+            if (isInAll(candidate, includedTasks) && !isInAny(candidate, excludedTasks)) {
+                found.add(candidate);
+            }
+        }
+        return found;
+    }
+
+    private static boolean isInAll(Task task, List<Set<Task>> taskSets) {
+        for (Set<Task> taskSet : taskSets) {
+            if (!taskSet.contains(task)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isInAny(Task task, List<Set<Task>> taskSets) {
+        for (Set<Task> taskSet : taskSets) {
+            if (taskSet.contains(task)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
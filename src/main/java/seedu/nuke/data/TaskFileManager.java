@@ -7,12 +7,15 @@ import seedu.nuke.exception.DuplicateDataException;
 import seedu.nuke.util.DateTime;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 
 public class TaskFileManager {
     ArrayList<TaskFile> fileList;
+    // The files in the File List by their file names
+    private HashMap<String, TaskFile> fileIndex;
 
     public TaskFileManager() {
-        fileList = new ArrayList<>();
+        loadFileList(new ArrayList<>());
     }
 
     public ArrayList<TaskFile> getFileList() {
@@ -26,7 +29,42 @@ public class TaskFileManager {
      *  The new File List to be set
      */
     public void setFileList(ArrayList<TaskFile> fileList) {
+        KeywordIndex keywordIndex = ModuleManager.getKeywordIndex();
+        Task reloadedTask = null;
+        if (this.fileList != null) {
+            for (TaskFile file : this.fileList) {
+                if (ModuleManager.isInModuleList(file.getParent())) {
+                    reloadedTask = file.getParent();
+                }
+                keywordIndex.remove(file);
+            }
+        }
+        loadFileList(fileList);
+        for (TaskFile file : fileList) {
+            if (ModuleManager.isInModuleList(file.getParent())) {
+                reloadedTask = file.getParent();
+                keywordIndex.add(file);
+            }
+        }
+        if (reloadedTask != null) {
+            ChangeBus.publish(DirectoryChange.Type.RELOADED, reloadedTask);
+        }
+    }
+
+    /**
+     * Fills the File List of a task that is not in the Module List yet, e.g. while it is being decoded.
+     * <br> Unlike {@link #setFileList(ArrayList)}, the indexes of the Module List are neither read nor updated, so
+     * this can be called from a background thread. The files are indexed once their module is added into the list.
+     *
+     * @param fileList
+     *  The new File List to be set
+     */
+    public void loadFileList(ArrayList<TaskFile> fileList) {
         this.fileList = fileList;
+        fileIndex = new HashMap<>();
+        for (TaskFile file : fileList) {
+            fileIndex.putIfAbsent(file.getFileName(), file);
+        }
     }
 
     /**
@@ -40,12 +78,11 @@ public class TaskFileManager {
      *  If the file is not found in the File List
      */
     public TaskFile getFile(String fileName) throws TaskFileNotFoundException {
-        for (TaskFile file : fileList) {
-            if (file.getFileName().equals(fileName)) {
-                return file;
-            }
+        TaskFile file = fileIndex.get(fileName);
+        if (file == null) {
+            throw new TaskFileNotFoundException();
         }
-        throw new TaskFileNotFoundException();
+        return file;
     }
 
     /**
@@ -57,12 +94,7 @@ public class TaskFileManager {
      *  <code>TRUE</code> if there exists a duplicate, and <code>FALSE</code> otherwise
      */
     public boolean contains(String fileName) {
-        for (TaskFile file : fileList) {
-            if (file.isSameFile(fileName)) {
-                return true;
-            }
-        }
-        return false;
+        return fileIndex.containsKey(fileName);
     }
 
     /**
@@ -78,6 +110,11 @@ public class TaskFileManager {
             throw new DuplicateTaskFileException();
         } else {
             fileList.add(toAdd);
+            fileIndex.put(toAdd.getFileName(), toAdd);
+            if (ModuleManager.isInModuleList(toAdd.getParent())) {
+                ModuleManager.getKeywordIndex().add(toAdd);
+                ChangeBus.publish(DirectoryChange.Type.ADDED, toAdd);
+            }
         }
     }
 
@@ -88,7 +125,13 @@ public class TaskFileManager {
      *  The task to be deleted
      */
     public void delete(TaskFile toDelete) {
-        fileList.remove(toDelete);
+        if (fileList.remove(toDelete)) {
+            fileIndex.remove(toDelete.getFileName(), toDelete);
+            ModuleManager.getKeywordIndex().remove(toDelete);
+            if (ModuleManager.isInModuleList(toDelete.getParent())) {
+                ChangeBus.publish(DirectoryChange.Type.DELETED, toDelete);
+            }
+        }
     }
 
     /**
@@ -105,7 +148,13 @@ public class TaskFileManager {
         if (!toEdit.isSameFile(newFileName) && contains(newFileName)) {
             throw new DuplicateTaskFileException();
         }
+        fileIndex.remove(toEdit.getFileName(), toEdit);
         toEdit.setFileName(newFileName);
+        fileIndex.put(newFileName, toEdit);
+        ModuleManager.getKeywordIndex().rename(toEdit);
+        if (ModuleManager.isInModuleList(toEdit.getParent())) {
+            ChangeBus.publish(DirectoryChange.Type.EDITED, toEdit);
+        }
     }
 
     /**
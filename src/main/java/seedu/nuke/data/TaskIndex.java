@@ -0,0 +1,253 @@
+package seedu.nuke.data;
+
+import seedu.nuke.directory.Category;
+import seedu.nuke.directory.Module;
+import seedu.nuke.directory.Task;
+import seedu.nuke.util.DateTime;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * The live index of every task in the Module List.
+ * <p></p>
+ * The index is kept up to date in place by the managers whenever tasks, categories or modules are added to or removed
+ * from the Module List, so that the tasks can be read without walking the whole directory.
+ * <p></p>
+ * The tasks with deadlines are also ordered by their deadlines, once among all the tasks and once among only the
+ * undone tasks, so that the tasks due within a period are found without going through the other tasks.
+ */
+class TaskIndex {
+    // Orders tasks with the same deadline in the same way as the Due Command lists them
+    private static final Comparator<Task> SAME_DEADLINE_ORDER =
+            Comparator.comparing(Task::getPriority, Comparator.reverseOrder())
+                    .thenComparing(task -> task.getParent().getParent().getModuleCode())
+                    .thenComparing(task -> task.getParent().getCategoryName())
+                    .thenComparing(Task::getDescription);
+
+    // Every task in the index, with the deadline it is ordered by
+    private LinkedHashMap<Task, IndexedDeadline> tasks = new LinkedHashMap<>();
+    private Collection<Task> tasksView = Collections.unmodifiableSet(tasks.keySet());
+    private TreeMap<LocalDateTime, ArrayList<Task>> allDeadlines = new TreeMap<>();
+    private TreeMap<LocalDateTime, ArrayList<Task>> undoneDeadlines = new TreeMap<>();
+
+    /**
+     * Returns a read-only view of every task in the index, which reflects later changes to the index.
+     *
+     * @return
+     *  The view of every task in the index
+     */
+    Collection<Task> getTasks() {
+        return tasksView;
+    }
+
+    boolean contains(Task task) {
+        return tasks.containsKey(task);
+    }
+
+    int size() {
+        return tasks.size();
+    }
+
+    void add(Task task) {
+        if (tasks.containsKey(task)) {
+            return;
+        }
+        IndexedDeadline indexedDeadline = new IndexedDeadline(task);
+        tasks.put(task, indexedDeadline);
+        addDeadline(task, indexedDeadline);
+    }
+
+    void remove(Task task) {
+        IndexedDeadline indexedDeadline = tasks.remove(task);
+        if (indexedDeadline != null) {
+            removeDeadline(task, indexedDeadline);
+        }
+    }
+
+    /**
+     * Moves the task to its current deadline and done status, if it is in the index.
+     *
+     * @param task
+     *  The task whose deadline or done status has changed
+     */
+    void update(Task task) {
+        IndexedDeadline indexedDeadline = tasks.get(task);
+        if (indexedDeadline == null) {
+            return;
+        }
+        IndexedDeadline newIndexedDeadline = new IndexedDeadline(task);
+        if (newIndexedDeadline.isSameAs(indexedDeadline)) {
+            return;
+        }
+        removeDeadline(task, indexedDeadline);
+        tasks.put(task, newIndexedDeadline);
+        addDeadline(task, newIndexedDeadline);
+    }
+
+    void addAll(Category category) {
+        for (Task task : category.getTasks().getTaskList()) {
+            add(task);
+        }
+    }
+
+    void removeAll(Category category) {
+        for (Task task : category.getTasks().getTaskList()) {
+            remove(task);
+        }
+    }
+
+    void addAll(Module module) {
+        for (Category category : module.getCategories().getCategoryList()) {
+            addAll(category);
+        }
+    }
+
+    void removeAll(Module module) {
+        for (Category category : module.getCategories().getCategoryList()) {
+            removeAll(category);
+        }
+    }
+
+    /**
+     * Replaces the tasks in the index with every task in the specified Module List.
+     *
+     * @param moduleList
+     *  The Module List to index
+     */
+    void rebuild(List<Module> moduleList) {
+        clear();
+        for (Module module : moduleList) {
+            addAll(module);
+        }
+    }
+
+    void clear() {
+        tasks.clear();
+        allDeadlines.clear();
+        undoneDeadlines.clear();
+    }
+
+    /**
+     * Returns the tasks with deadlines within the specified period, in the order of their deadlines.
+     *
+     * @param from
+     *  The start of the period, which is included, or <code>NULL</code> if the period has no start
+     * @param to
+     *  The end of the period, which is excluded, or <code>NULL</code> if the period has no end
+     * @param isAll
+     *  <code>TRUE</code> to include the done tasks, and <code>FALSE</code> otherwise
+     * @return
+     *  The tasks due within the period
+     */
+    ArrayList<Task> getTasksDueBetween(LocalDateTime from, LocalDateTime to, boolean isAll) {
+        ArrayList<Task> dueTasks = new ArrayList<>();
+        for (ArrayList<Task> sameDeadlineTasks : getDeadlinesBetween(from, to, isAll).values()) {
+            if (sameDeadlineTasks.size() == 1) {
+                dueTasks.add(sameDeadlineTasks.get(0));
+                continue;
+            }
+            ArrayList<Task> sortedTasks = new ArrayList<>(sameDeadlineTasks);
+            sortedTasks.sort(SAME_DEADLINE_ORDER);
+            dueTasks.addAll(sortedTasks);
+        }
+        return dueTasks;
+    }
+
+    /**
+     * Counts the tasks with deadlines within the specified period.
+     *
+     * @param from
+     *  The start of the period, which is included, or <code>NULL</code> if the period has no start
+     * @param to
+     *  The end of the period, which is excluded, or <code>NULL</code> if the period has no end
+     * @param isAll
+     *  <code>TRUE</code> to include the done tasks, and <code>FALSE</code> otherwise
+     * @return
+     *  The number of tasks due within the period
+     */
+    int countTasksDueBetween(LocalDateTime from, LocalDateTime to, boolean isAll) {
+        int taskCount = 0;
+        for (ArrayList<Task> sameDeadlineTasks : getDeadlinesBetween(from, to, isAll).values()) {
+            taskCount += sameDeadlineTasks.size();
+        }
+        return taskCount;
+    }
+
+    private NavigableMap<LocalDateTime, ArrayList<Task>> getDeadlinesBetween(LocalDateTime from, LocalDateTime to,
+            boolean isAll) {
+        NavigableMap<LocalDateTime, ArrayList<Task>> deadlines = isAll ? allDeadlines : undoneDeadlines;
+        if (from != null && to != null && !from.isBefore(to)) {
+            return Collections.emptyNavigableMap();
+        }
+        if (from != null) {
+            deadlines = deadlines.tailMap(from, true);
+        }
+        if (to != null) {
+            deadlines = deadlines.headMap(to, false);
+        }
+        return deadlines;
+    }
+
+    private void addDeadline(Task task, IndexedDeadline indexedDeadline) {
+        if (indexedDeadline.deadline == null) {
+            return;
+        }
+        allDeadlines.computeIfAbsent(indexedDeadline.deadline, deadline -> new ArrayList<>()).add(task);
+        if (!indexedDeadline.isDone) {
+            undoneDeadlines.computeIfAbsent(indexedDeadline.deadline, deadline -> new ArrayList<>()).add(task);
+        }
+    }
+
+    private void removeDeadline(Task task, IndexedDeadline indexedDeadline) {
+        if (indexedDeadline.deadline == null) {
+            return;
+        }
+        removeFrom(allDeadlines, indexedDeadline.deadline, task);
+        if (!indexedDeadline.isDone) {
+            removeFrom(undoneDeadlines, indexedDeadline.deadline, task);
+        }
+    }
+
+    private static void removeFrom(Map<LocalDateTime, ArrayList<Task>> deadlines, LocalDateTime deadline, Task task) {
+        ArrayList<Task> sameDeadlineTasks = deadlines.get(deadline);
+        if (sameDeadlineTasks == null) {
+            return;
+        }
+        sameDeadlineTasks.removeIf(sameDeadlineTask -> sameDeadlineTask == task);
+        if (sameDeadlineTasks.isEmpty()) {
+            deadlines.remove(deadline);
+        }
+    }
+
+    /**
+     * The deadline and done status a task is indexed by, kept so that the task can still be found in the index after
+     * they have changed.
+     */
+    private static class IndexedDeadline {
+        private LocalDateTime deadline;
+        private boolean isDone;
+
+        private IndexedDeadline(Task task) {
+            DateTime taskDeadline = task.getDeadline();
+            this.deadline = (taskDeadline != null && taskDeadline.isPresent())
+                    ? LocalDateTime.of(taskDeadline.getDate(), taskDeadline.getTime()).truncatedTo(ChronoUnit.MINUTES)
+                    : null;
+            this.isDone = task.isDone();
+        }
+
+        private boolean isSameAs(IndexedDeadline other) {
+            return isDone == other.isDone
+                    && (deadline == null ? other.deadline == null : deadline.equals(other.deadline));
+        }
+    }
+}
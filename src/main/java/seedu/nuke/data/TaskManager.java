@@ -8,18 +8,21 @@ import seedu.nuke.exception.DuplicateDataException;
 import seedu.nuke.util.DateTime;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 
 /**
  * every category manager has a task manager to manage tasks within module.
  */
 public class TaskManager {
     private ArrayList<Task> taskList;
+    // The tasks in the Task List by their descriptions
+    private HashMap<String, Task> taskIndex;
 
     /**
      * Initiates an empty Task List.
      */
     public TaskManager() {
-        taskList = new ArrayList<>();
+        loadTaskList(new ArrayList<>());
     }
 
     /**
@@ -39,7 +42,45 @@ public class TaskManager {
      *  The new Task List to be set
      */
     public void setTaskList(ArrayList<Task> taskList) {
+        TaskIndex allTasks = ModuleManager.getTaskIndex();
+        KeywordIndex keywordIndex = ModuleManager.getKeywordIndex();
+        Category reloadedCategory = null;
+        if (this.taskList != null) {
+            for (Task task : this.taskList) {
+                if (ModuleManager.isInModuleList(task)) {
+                    reloadedCategory = task.getParent();
+                }
+                allTasks.remove(task);
+                keywordIndex.remove(task);
+            }
+        }
+        loadTaskList(taskList);
+        for (Task task : taskList) {
+            if (ModuleManager.isInModuleList(task.getParent())) {
+                reloadedCategory = task.getParent();
+                allTasks.add(task);
+                keywordIndex.add(task);
+            }
+        }
+        if (reloadedCategory != null) {
+            ChangeBus.publish(DirectoryChange.Type.RELOADED, reloadedCategory);
+        }
+    }
+
+    /**
+     * Fills the Task List of a category that is not in the Module List yet, e.g. while it is being decoded.
+     * <br> Unlike {@link #setTaskList(ArrayList)}, the indexes of the Module List are neither read nor updated, so
+     * this can be called from a background thread. The tasks are indexed once their module is added into the list.
+     *
+     * @param taskList
+     *  The new Task List to be set
+     */
+    public void loadTaskList(ArrayList<Task> taskList) {
         this.taskList = taskList;
+        taskIndex = new HashMap<>();
+        for (Task task : taskList) {
+            taskIndex.putIfAbsent(task.getDescription(), task);
+        }
     }
 
     /**
@@ -53,12 +94,11 @@ public class TaskManager {
      *  If the task is not found in the Task List
      */
     public Task getTask(String description) throws TaskNotFoundException {
-        for (Task task : taskList) {
-            if (task.getDescription().equals(description)) {
-                return task;
-            }
+        Task task = taskIndex.get(description);
+        if (task == null) {
+            throw new TaskNotFoundException();
         }
-        throw new TaskNotFoundException();
+        return task;
     }
 
     /**
@@ -70,12 +110,7 @@ public class TaskManager {
      *  <code>TRUE</code> if there exists a duplicate, and <code>FALSE</code> otherwise
      */
     private boolean contains(String taskDescription) {
-        for (Task task : taskList) {
-            if (task.isSameTask(taskDescription)) {
-                return true;
-            }
-        }
-        return false;
+        return taskIndex.containsKey(taskDescription);
     }
 
     /**
@@ -91,6 +126,12 @@ public class TaskManager {
             throw new DuplicateTaskException();
         } else {
             taskList.add(toAdd);
+            taskIndex.put(toAdd.getDescription(), toAdd);
+            if (ModuleManager.isInModuleList(toAdd.getParent())) {
+                ModuleManager.getTaskIndex().add(toAdd);
+                ModuleManager.getKeywordIndex().add(toAdd);
+                ChangeBus.publish(DirectoryChange.Type.ADDED, toAdd);
+            }
         }
     }
 
@@ -102,7 +143,15 @@ public class TaskManager {
      *  The task to be deleted
      */
     public void delete(Task toDelete) {
-        taskList.remove(toDelete);
+        boolean wasInModuleList = ModuleManager.isInModuleList(toDelete);
+        if (taskList.remove(toDelete)) {
+            taskIndex.remove(toDelete.getDescription(), toDelete);
+            ModuleManager.getTaskIndex().remove(toDelete);
+            ModuleManager.getKeywordIndex().remove(toDelete);
+            if (wasInModuleList) {
+                ChangeBus.publish(DirectoryChange.Type.DELETED, toDelete);
+            }
+        }
     }
 
     /**
@@ -115,7 +164,7 @@ public class TaskManager {
      */
     public Task delete(String description) throws TaskNotFoundException {
         Task toDelete = getTask(description);
-        taskList.remove(toDelete);
+        delete(toDelete);
         return toDelete;
     }
 
@@ -138,9 +187,15 @@ public class TaskManager {
         if (!toEdit.isSameTask(newTaskDescription) && contains(newTaskDescription)) {
             throw new DuplicateTaskException();
         }
+        taskIndex.remove(toEdit.getDescription(), toEdit);
         toEdit.setDescription(newTaskDescription);
+        taskIndex.put(newTaskDescription, toEdit);
+        ModuleManager.getKeywordIndex().rename(toEdit);
         toEdit.setDeadline(newDeadline);
         toEdit.setPriority(newPriority);
+        if (ModuleManager.isInModuleList(toEdit)) {
+            ChangeBus.publish(DirectoryChange.Type.EDITED, toEdit);
+        }
     }
 
     /**
@@ -0,0 +1,215 @@
+package seedu.nuke.data.storage;
+
+import seedu.nuke.directory.Category;
+import seedu.nuke.directory.Module;
+import seedu.nuke.directory.Task;
+import seedu.nuke.directory.TaskFile;
+import seedu.nuke.exception.CorruptedFileException;
+import seedu.nuke.util.DateTime;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+
+import static seedu.nuke.data.storage.BinaryEncoder.DEADLINE_FLAG;
+import static seedu.nuke.data.storage.BinaryEncoder.DONE_FLAG;
+import static seedu.nuke.data.storage.BinaryEncoder.MAGIC;
+import static seedu.nuke.data.storage.BinaryEncoder.VERSION;
+
+/**
+ * <h3>Binary Decoder</h3>
+ * Decodes the <b>Module List</b> from the compact binary save format.
+ *
+ * @see BinaryEncoder
+ */
+public class BinaryDecoder {
+    private static final int MAX_STRING_LENGTH = 1 << 20;
+
+    private InputStream in;
+
+    /**
+     * Constructs the decoder with a buffered stream of the encoded list.
+     *
+     * @param in
+     *  The stream to read the encoded list from
+     */
+    public BinaryDecoder(InputStream in) {
+        this.in = in;
+    }
+
+    /**
+     * Checks if the specified bytes are the start of a file in the binary save format.
+     *
+     * @param header
+     *  The first bytes of the file
+     * @return
+     *  <code>TRUE</code> if the bytes start with the magic bytes of the format, and <code>FALSE</code> otherwise
+     */
+    public static boolean isBinaryFormat(byte[] header) {
+        if (header.length < MAGIC.length) {
+            return false;
+        }
+        for (int i = 0; i < MAGIC.length; ++i) {
+            if (header[i] != MAGIC[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Decodes the Module List from the stream. The stream is not closed after decoding.
+     * <br> The stream must start with the magic bytes and the version of the format, and must end right after the
+     * last module, so that a save of another version or a save that was cut short or appended to is never loaded in
+     * part.
+     *
+     * @return
+     *  The decoded Module List
+     * @throws CorruptedFileException
+     *  If the magic bytes or version do not match, a count or length is out of range, or the stream ends too early
+     *  or has bytes left after the last module
+     * @throws IOException
+     *  If there is an error reading from the stream
+     */
+    public ArrayList<Module> decode() throws CorruptedFileException, IOException {
+        for (byte magicByte : MAGIC) {
+            if (readByte() != magicByte) {
+                throw new CorruptedFileException();
+            }
+        }
+        if (readByte() != VERSION) {
+            throw new CorruptedFileException();
+        }
+
+        int moduleCount = readCount();
+        ArrayList<Module> decodedModuleList = new ArrayList<>();
+        for (int i = 0; i < moduleCount; ++i) {
+            decodedModuleList.add(decodeModule());
+        }
+        if (in.read() != -1) {
+            throw new CorruptedFileException();
+        }
+        return decodedModuleList;
+    }
+
+    private Module decodeModule() throws CorruptedFileException, IOException {
+        String moduleCode = readString();
+        String title = readString();
+        String description = readString();
+        Module decodedModule = new Module(moduleCode, title, description);
+
+        int categoryCount = readCount();
+        ArrayList<Category> decodedCategoryList = new ArrayList<>();
+        for (int i = 0; i < categoryCount; ++i) {
+            decodedCategoryList.add(decodeCategory(decodedModule));
+        }
+        decodedModule.getCategories().loadCategoryList(decodedCategoryList);
+        return decodedModule;
+    }
+
+    private Category decodeCategory(Module decodedModule) throws CorruptedFileException, IOException {
+        String categoryName = readString();
+        int categoryPriority = readVarInt();
+        Category decodedCategory = new Category(decodedModule, categoryName, categoryPriority);
+
+        int taskCount = readCount();
+        ArrayList<Task> decodedTaskList = new ArrayList<>();
+        for (int i = 0; i < taskCount; ++i) {
+            decodedTaskList.add(decodeTask(decodedCategory));
+        }
+        decodedCategory.getTasks().loadTaskList(decodedTaskList);
+        return decodedCategory;
+    }
+
+    private Task decodeTask(Category decodedCategory) throws CorruptedFileException, IOException {
+        String taskDescription = readString();
+        int flags = readByte();
+        DateTime deadline = new DateTime();
+        if ((flags & DEADLINE_FLAG) != 0) {
+            try {
+                LocalDateTime dateTime = LocalDateTime.ofEpochSecond(readVarLong() * 60, 0, ZoneOffset.UTC);
+                deadline = new DateTime(dateTime.toLocalDate(), dateTime.toLocalTime());
+            } catch (DateTimeException e) {
+                throw new CorruptedFileException();
+            }
+        }
+        int taskPriority = readVarInt();
+        // The fields are set without the setters, which would update the indexes of the Module List
+        ArrayList<String> decodedTagList = new ArrayList<>();
+        Task decodedTask = new Task(decodedCategory, taskDescription, deadline, taskPriority,
+                (flags & DONE_FLAG) != 0, decodedTagList);
+
+        int fileCount = readCount();
+        ArrayList<TaskFile> decodedFileList = new ArrayList<>();
+        for (int i = 0; i < fileCount; ++i) {
+            String fileName = readString();
+            String filePath = readString();
+            String originalFilePath = readString();
+            decodedFileList.add(new TaskFile(decodedTask, fileName, filePath, originalFilePath));
+        }
+        decodedTask.getFiles().loadFileList(decodedFileList);
+
+        int tagCount = readCount();
+        for (int i = 0; i < tagCount; ++i) {
+            decodedTagList.add(readString());
+        }
+        return decodedTask;
+    }
+
+    private String readString() throws CorruptedFileException, IOException {
+        int length = readCount();
+        if (length > MAX_STRING_LENGTH) {
+            throw new CorruptedFileException();
+        }
+        byte[] bytes = new byte[length];
+        int offset = 0;
+        while (offset < length) {
+            int readCount = in.read(bytes, offset, length - offset);
+            if (readCount < 0) {
+                throw new CorruptedFileException();
+            }
+            offset += readCount;
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private int readCount() throws CorruptedFileException, IOException {
+        int count = readVarInt();
+        if (count < 0) {
+            throw new CorruptedFileException();
+        }
+        return count;
+    }
+
+    private int readVarInt() throws CorruptedFileException, IOException {
+        long value = readVarLong();
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw new CorruptedFileException();
+        }
+        return (int) value;
+    }
+
+    private long readVarLong() throws CorruptedFileException, IOException {
+        long zigzag = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int currentByte = readByte();
+            zigzag |= (long) (currentByte & 0x7F) << shift;
+            if ((currentByte & 0x80) == 0) {
+                return (zigzag >>> 1) ^ -(zigzag & 1);
+            }
+        }
+        throw new CorruptedFileException();
+    }
+
+    private int readByte() throws CorruptedFileException, IOException {
+        int currentByte = in.read();
+        if (currentByte < 0) {
+            throw new CorruptedFileException();
+        }
+        return currentByte;
+    }
+}
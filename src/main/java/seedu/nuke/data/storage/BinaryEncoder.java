@@ -0,0 +1,145 @@
+package seedu.nuke.data.storage;
+
+import seedu.nuke.directory.Category;
+import seedu.nuke.directory.Module;
+import seedu.nuke.directory.Task;
+import seedu.nuke.directory.TaskFile;
+import seedu.nuke.util.DateTime;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+
+/**
+ * <h3>Binary Encoder</h3>
+ * Encodes the <b>Module List</b> into the compact binary save format.
+ * <p></p>
+ * The format starts with the {@link #MAGIC} bytes and the {@link #VERSION} byte, followed by the modules.
+ * Every list is written as its size followed by its items, every string as its length in bytes followed by its
+ * <i>UTF-8</i> bytes, and every number as a variable-length integer. A task writes its done status and whether it has
+ * a deadline as bit flags, and its deadline as the number of minutes since the epoch.
+ *
+ * @see BinaryDecoder
+ */
+public class BinaryEncoder {
+    public static final byte[] MAGIC = {'N', 'U', 'K', 'E'};
+    public static final int VERSION = 1;
+
+    static final int DONE_FLAG = 1;
+    static final int DEADLINE_FLAG = 1 << 1;
+
+    private ArrayList<Module> moduleList;
+    private OutputStream out;
+
+    public BinaryEncoder(ArrayList<Module> moduleList) {
+        this.moduleList = moduleList;
+    }
+
+    /**
+     * Encodes the Module List into the specified channel. The channel is not closed after encoding.
+     *
+     * @param channel
+     *  The channel to write the encoded Module List into
+     * @throws IOException
+     *  If there is an error writing into the channel
+     */
+    public void encodeTo(WritableByteChannel channel) throws IOException {
+        encodeTo(Channels.newOutputStream(channel));
+    }
+
+    /**
+     * Encodes the Module List into the specified stream. The stream is not closed after encoding.
+     *
+     * @param outputStream
+     *  The stream to write the encoded Module List into
+     * @throws IOException
+     *  If there is an error writing into the stream
+     */
+    public void encodeTo(OutputStream outputStream) throws IOException {
+        out = new BufferedOutputStream(outputStream);
+        out.write(MAGIC);
+        out.write(VERSION);
+        writeVarInt(moduleList.size());
+        for (Module module : moduleList) {
+            encodeModule(module);
+        }
+        out.flush();
+    }
+
+    private void encodeModule(Module module) throws IOException {
+        writeString(module.getModuleCode());
+        writeString(module.getTitle());
+        writeString(module.getDescription());
+        ArrayList<Category> categories = module.getCategories().getCategoryList();
+        writeVarInt(categories.size());
+        for (Category category : categories) {
+            encodeCategory(category);
+        }
+    }
+
+    private void encodeCategory(Category category) throws IOException {
+        writeString(category.getCategoryName());
+        writeVarInt(category.getCategoryPriority());
+        ArrayList<Task> tasks = category.getTasks().getTaskList();
+        writeVarInt(tasks.size());
+        for (Task task : tasks) {
+            encodeTask(task);
+        }
+    }
+
+    private void encodeTask(Task task) throws IOException {
+        writeString(task.getDescription());
+        DateTime deadline = task.getDeadline();
+        int flags = (task.isDone() ? DONE_FLAG : 0) | (deadline.isPresent() ? DEADLINE_FLAG : 0);
+        out.write(flags);
+        if (deadline.isPresent()) {
+            long epochMinutes = LocalDateTime.of(deadline.getDate(), deadline.getTime())
+                    .toEpochSecond(ZoneOffset.UTC) / 60;
+            writeVarLong(epochMinutes);
+        }
+        writeVarInt(task.getPriority());
+
+        ArrayList<TaskFile> files = task.getFiles().getFileList();
+        writeVarInt(files.size());
+        for (TaskFile file : files) {
+            writeString(file.getFileName());
+            writeString(file.getFilePath());
+            writeString(file.getOriginalFilePath());
+        }
+
+        ArrayList<String> tags = task.getTags();
+        writeVarInt(tags.size());
+        for (String tag : tags) {
+            writeString(tag);
+        }
+    }
+
+    private void writeString(String string) throws IOException {
+        byte[] bytes = String.valueOf(string).getBytes(StandardCharsets.UTF_8);
+        writeVarInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private void writeVarInt(int value) throws IOException {
+        writeVarLong(value);
+    }
+
+    /**
+     * Writes a number in 7-bit groups, with the highest bit of each byte set if more bytes follow.
+     * The number is zigzag encoded first, so that small negative numbers also take few bytes.
+     */
+    private void writeVarLong(long value) throws IOException {
+        long zigzag = (value << 1) ^ (value >> 63);
+        while ((zigzag & ~0x7FL) != 0) {
+            out.write((int) ((zigzag & 0x7F) | 0x80));
+            zigzag >>>= 7;
+        }
+        out.write((int) zigzag);
+    }
+}
@@ -11,7 +11,7 @@ import seedu.nuke.util.DateTimeFormat;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.regex.Pattern;
+import java.util.Arrays;
 
 public class Decoder {
     private static final String BEGIN_MODULE_INDICATOR = "--- MODULE ---";
@@ -27,29 +27,64 @@ public class Decoder {
     private static final String DELIMITER = " -|||- ";
     private static final String LINE_BREAK = System.lineSeparator();
 
+    private static final int INITIAL_BUFFER_SIZE = 8192;
+
     private BufferedReader reader;
+    // The lines are scanned in a reusable buffer, so that no string is made for a line unless it is needed
+    private char[] buffer;
+    private int position;
+    private int limit;
+    private boolean isEndOfFile;
+    private int lineStart;
+    private int lineEnd;
+    private int fieldStart;
 
     public Decoder(BufferedReader reader) {
         this.reader = reader;
+        this.buffer = new char[INITIAL_BUFFER_SIZE];
     }
 
     public ArrayList<Module> decode() throws CorruptedFileException, IOException {
         return decodeModuleList();
     }
 
-    private ArrayList<Module> decodeModuleList()
-            throws CorruptedFileException, IOException {
-        ArrayList<Module> decodedModuleList = new ArrayList<>();
-        if (!reader.readLine().equals(BEGIN_MODULE_INDICATOR)) {
+    /**
+     * Decodes a single module, together with its categories, tasks and files, from the next lines of the reader.
+     *
+     * @return
+     *  The decoded module
+     * @throws CorruptedFileException
+     *  If the module is incomplete or in an incorrect format
+     * @throws IOException
+     *  If there is an error reading the lines
+     */
+    public Module decodeNextModule() throws CorruptedFileException, IOException {
+        if (!nextLine()) {
             throw new CorruptedFileException();
         }
+        return decodeModule();
+    }
 
-        String currentLine;
-        while ((currentLine = reader.readLine()) != null) {
-            if (currentLine.equals(END_MODULE_INDICATOR)) {
-                break;
-            }
-            Module decodedModule = decodeModule(currentLine.split(Pattern.quote(DELIMITER)));
+    /**
+     * Reads the next line of the reader, e.g. a line between the modules decoded with {@link #decodeNextModule()}.
+     * <br> The decoder reads ahead of the lines it has decoded, so the lines after them must be read with this
+     * instead of with the reader.
+     *
+     * @return
+     *  The next line, or <code>NULL</code> if there are no more lines
+     * @throws IOException
+     *  If there is an error reading the line
+     */
+    public String readLine() throws IOException {
+        return nextLine() ? new String(buffer, lineStart, lineEnd - lineStart) : null;
+    }
+
+    private ArrayList<Module> decodeModuleList()
+            throws CorruptedFileException, IOException {
+        ArrayList<Module> decodedModuleList = new ArrayList<>();
+        expectLine(BEGIN_MODULE_INDICATOR);
+        while (nextLine() && !isLine(END_MODULE_INDICATOR)) {
+            Module decodedModule = decodeModule();
 
             decodedModuleList.add(decodedModule);
         }
@@ -59,20 +94,10 @@ public class Decoder {
     private ArrayList<Category> decodeCategoryList(Module decodedModule)
             throws CorruptedFileException, IOException {
         ArrayList<Category> decodedCategoryList = new ArrayList<>();
-        if (!reader.readLine().equals(BEGIN_CATEGORY_INDICATOR)) {
-            throw new CorruptedFileException();
-        }
-        String currentLine;
-        while ((currentLine = reader.readLine()) != null) {
-            if (currentLine.equals(END_CATEGORY_INDICATOR)) {
-                break;
-            }
-            try {
-                Category decodedCategory = decodeCategory(decodedModule, currentLine.split(Pattern.quote(DELIMITER)));
-                decodedCategoryList.add(decodedCategory);
-            } catch (NumberFormatException e) {
-                throw new CorruptedFileException();
-            }
+        expectLine(BEGIN_CATEGORY_INDICATOR);
+        while (nextLine() && !isLine(END_CATEGORY_INDICATOR)) {
+            Category decodedCategory = decodeCategory(decodedModule);
+            decodedCategoryList.add(decodedCategory);
         }
         return decodedCategoryList;
     }
@@ -80,18 +105,12 @@ public class Decoder {
     private ArrayList<Task> decodeTaskList(Category decodedCategory)
             throws CorruptedFileException, IOException {
         ArrayList<Task> decodedTaskList = new ArrayList<>();
-        if (!reader.readLine().equals(BEGIN_TASK_INDICATOR)) {
-            throw new CorruptedFileException();
-        }
-        String currentLine;
-        while ((currentLine = reader.readLine()) != null) {
-            if (currentLine.equals(END_TASK_INDICATOR)) {
-                break;
-            }
+        expectLine(BEGIN_TASK_INDICATOR);
+        while (nextLine() && !isLine(END_TASK_INDICATOR)) {
             try {
-                Task decodedTask = decodeTask(decodedCategory, currentLine.split(Pattern.quote(DELIMITER)));
+                Task decodedTask = decodeTask(decodedCategory);
                 decodedTaskList.add(decodedTask);
-            } catch (NumberFormatException | DateTimeFormat.InvalidDateTimeException e) {
+            } catch (DateTimeFormat.InvalidDateTimeException e) {
                 throw new CorruptedFileException();
             }
         }
@@ -100,84 +119,229 @@ public class Decoder {
 
     private ArrayList<TaskFile> decodeFileList(Task decodedTask) throws CorruptedFileException, IOException {
         ArrayList<TaskFile> decodedTaskFileList = new ArrayList<>();
-        if (!reader.readLine().equals(BEGIN_FILE_INDICATOR)) {
-            throw new CorruptedFileException();
-        }
-        String currentLine;
-        while ((currentLine = reader.readLine()) != null) {
-            if (currentLine.equals(END_FILE_INDICATOR)) {
-                break;
-            }
-            TaskFile decodedFile = decodeFile(decodedTask, currentLine.split(Pattern.quote(DELIMITER)));
+        expectLine(BEGIN_FILE_INDICATOR);
+        while (nextLine() && !isLine(END_FILE_INDICATOR)) {
+            TaskFile decodedFile = decodeFile(decodedTask);
 
             decodedTaskFileList.add(decodedFile);
         }
         return decodedTaskFileList;
     }
 
-    private ArrayList<String> decodeTagList(Task decodedTask) throws IOException, CorruptedFileException {
+    private ArrayList<String> decodeTagList() throws IOException, CorruptedFileException {
         ArrayList<String> decodedTagList = new ArrayList<>();
-        if (!reader.readLine().equals(BEGIN_TAG_INDICATOR)) {
+        expectLine(BEGIN_TAG_INDICATOR);
+        while (nextLine() && !isLine(END_TAG_INDICATOR)) {
+            String tag = new String(buffer, lineStart, lineEnd - lineStart);
+            decodedTagList.add(tag);
+        }
+        return decodedTagList;
+    }
+
+    /**
+     * Moves to the next line in the buffer, reading more of the reader into the buffer if the line is not complete.
+     * <br> Lines end with a line feed, a carriage return, or both, the same as for {@link BufferedReader#readLine()}.
+     * The fields of the line are then read one at a time with {@link #nextField()}, without splitting the line.
+     *
+     * @return
+     *  <code>TRUE</code> if there is a next line, and <code>FALSE</code> otherwise
+     * @throws IOException
+     *  If there is an error reading the reader
+     */
+    private boolean nextLine() throws IOException {
+        int scan = position;
+        while (true) {
+            while (scan < limit && buffer[scan] != '\n' && buffer[scan] != '\r') {
+                ++scan;
+            }
+            // A carriage return at the end of the buffer may still be followed by a line feed
+            if (scan < limit && (buffer[scan] == '\n' || scan + 1 < limit || isEndOfFile)) {
+                startLine(scan);
+                position = scan + 1;
+                if (buffer[scan] == '\r' && position < limit && buffer[position] == '\n') {
+                    ++position;
+                }
+                return true;
+            }
+            if (isEndOfFile) {
+                if (position == limit) {
+                    return false;
+                }
+                // The last line does not end with a line break
+                startLine(limit);
+                position = limit;
+                return true;
+            }
+            scan -= fillBuffer();
+        }
+    }
+
+    private void startLine(int end) {
+        lineStart = position;
+        lineEnd = end;
+        fieldStart = position;
+    }
+
+    /**
+     * Reads more of the reader into the buffer, after moving the unread characters to the start of the buffer, or
+     * growing the buffer if a single line fills all of it.
+     *
+     * @return
+     *  The number of places the unread characters were moved back by
+     */
+    private int fillBuffer() throws IOException {
+        int shift = position;
+        if (shift > 0) {
+            System.arraycopy(buffer, position, buffer, 0, limit - position);
+            limit -= position;
+            position = 0;
+        } else if (limit == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+        int readCount = reader.read(buffer, limit, buffer.length - limit);
+        if (readCount < 0) {
+            isEndOfFile = true;
+        } else {
+            limit += readCount;
+        }
+        return shift;
+    }
+
+    private boolean isLine(String line) {
+        if (lineEnd - lineStart != line.length()) {
+            return false;
+        }
+        for (int i = 0; i < line.length(); ++i) {
+            if (buffer[lineStart + i] != line.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void expectLine(String line) throws CorruptedFileException, IOException {
+        if (!nextLine() || !isLine(line)) {
+            throw new CorruptedFileException();
+        }
+    }
+
+    /**
+     * Reads the next field of the current line.
+     *
+     * @return
+     *  The next field
+     * @throws CorruptedFileException
+     *  If there are no more fields in the line
+     */
+    private String nextField() throws CorruptedFileException {
+        int start = fieldStart;
+        int end = skipField();
+        return new String(buffer, start, end - start);
+    }
+
+    /**
+     * Reads the next field of the current line as an integer, straight from the buffer.
+     *
+     * @return
+     *  The integer in the next field
+     * @throws CorruptedFileException
+     *  If there are no more fields in the line, or the field is not an integer
+     */
+    private int nextIntField() throws CorruptedFileException {
+        int start = fieldStart;
+        int end = skipField();
+        boolean isNegative = start < end && buffer[start] == '-';
+        int digitStart = isNegative ? start + 1 : start;
+        // Up to 9 digits, so that the integer cannot overflow
+        if (digitStart == end || end - digitStart > 9) {
             throw new CorruptedFileException();
         }
-        String currentLine;
-        while ((currentLine = reader.readLine()) != null) {
-            if (currentLine.equals(END_TAG_INDICATOR)) {
-                break;
+        int value = 0;
+        for (int i = digitStart; i < end; ++i) {
+            if (buffer[i] < '0' || buffer[i] > '9') {
+                throw new CorruptedFileException();
             }
-            String tag = currentLine;
-            decodedTagList.add(tag);
+            value = value * 10 + (buffer[i] - '0');
         }
-        return decodedTagList;
+        return isNegative ? -value : value;
     }
 
-    private Module decodeModule(String[] moduleInformation)
-            throws CorruptedFileException, IOException {
-        String moduleCode = moduleInformation[0];
-        String title = moduleInformation[1];
-        String description = moduleInformation[2];
+    /**
+     * Moves past the next field of the current line.
+     *
+     * @return
+     *  The index in the buffer at which the field ends
+     * @throws CorruptedFileException
+     *  If there are no more fields in the line
+     */
+    private int skipField() throws CorruptedFileException {
+        if (fieldStart < 0) {
+            throw new CorruptedFileException();
+        }
+        for (int i = fieldStart; i <= lineEnd - DELIMITER.length(); ++i) {
+            if (isDelimiterAt(i)) {
+                fieldStart = i + DELIMITER.length();
+                return i;
+            }
+        }
+        fieldStart = -1;
+        return lineEnd;
+    }
+
+    private boolean isDelimiterAt(int index) {
+        for (int i = 0; i < DELIMITER.length(); ++i) {
+            if (buffer[index + i] != DELIMITER.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Module decodeModule() throws CorruptedFileException, IOException {
+        String moduleCode = nextField();
+        String title = nextField();
+        String description = nextField();
         Module decodedModule = new Module(moduleCode, title, description);
-        decodedModule.getCategories().setCategoryList(decodeCategoryList(decodedModule));
+        decodedModule.getCategories().loadCategoryList(decodeCategoryList(decodedModule));
 
         return decodedModule;
     }
 
-    private Category decodeCategory(Module decodedModule, String[] categoryInformation)
-            throws CorruptedFileException, IOException {
-        String categoryName = categoryInformation[0];
-        int categoryPriority = Integer.parseInt(categoryInformation[1]);
+    private Category decodeCategory(Module decodedModule) throws CorruptedFileException, IOException {
+        String categoryName = nextField();
+        int categoryPriority = nextIntField();
         Category decodedCategory = new Category(decodedModule, categoryName, categoryPriority);
-        decodedCategory.getTasks().setTaskList(decodeTaskList(decodedCategory));
+        decodedCategory.getTasks().loadTaskList(decodeTaskList(decodedCategory));
 
         return decodedCategory;
     }
 
-    private Task decodeTask(Category decodedCategory, String[] taskInformation)
+    private Task decodeTask(Category decodedCategory)
             throws CorruptedFileException, DateTimeFormat.InvalidDateTimeException, IOException {
-        String taskDescription = taskInformation[0];
-        boolean doneStatus;
-        if (taskInformation[1].equals("Y")) {
-            doneStatus = true;
-        } else if (taskInformation[1].equals("N")) {
-            doneStatus = false;
-        } else {
+        String taskDescription = nextField();
+        int doneStart = fieldStart;
+        int doneEnd = skipField();
+        if (doneEnd - doneStart != 1 || (buffer[doneStart] != 'Y' && buffer[doneStart] != 'N')) {
             throw new CorruptedFileException();
         }
-        DateTime deadline = (taskInformation[2].isEmpty()) ? new DateTime() :
-                DateTimeFormat.stringToDateTime(taskInformation[2]);
-        int taskPriority = Integer.parseInt(taskInformation[3]);
-        Task decodedTask = new Task(decodedCategory, taskDescription, deadline, taskPriority);
-        decodedTask.setDone(doneStatus);
-        decodedTask.getFiles().setFileList(decodeFileList(decodedTask));
-        decodedTask.setTag(decodeTagList(decodedTask));
+        boolean doneStatus = buffer[doneStart] == 'Y';
+        String deadlineField = nextField();
+        DateTime deadline = (deadlineField.isEmpty()) ? new DateTime() :
+                DateTimeFormat.canonicalStringToDateTime(deadlineField);
+        int taskPriority = nextIntField();
+        // The fields are set without the setters, which would update the indexes of the Module List
+        ArrayList<String> tags = new ArrayList<>();
+        Task decodedTask = new Task(decodedCategory, taskDescription, deadline, taskPriority, doneStatus, tags);
+        decodedTask.getFiles().loadFileList(decodeFileList(decodedTask));
+        tags.addAll(decodeTagList());
 
         return decodedTask;
     }
 
-    private TaskFile decodeFile(Task decodedTask, String[] fileInformation) {
-        String fileName = fileInformation[0];
-        String filePath = fileInformation[1];
-        String originalFilePath = fileInformation[2];
+    private TaskFile decodeFile(Task decodedTask) throws CorruptedFileException {
+        String fileName = nextField();
+        String filePath = nextField();
+        String originalFilePath = nextField();
         return new TaskFile(decodedTask, fileName, filePath, originalFilePath);
     }
 }
@@ -5,6 +5,14 @@ import seedu.nuke.directory.Module;
 import seedu.nuke.directory.Task;
 import seedu.nuke.directory.TaskFile;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
 import java.util.ArrayList;
 
 public class Encoder {
@@ -34,69 +42,117 @@ public class Encoder {
      *  The encoded Module List
      */
     public String encode() {
-        StringBuilder encodedList = new StringBuilder(BEGIN_MODULE_INDICATOR);
-        for (Module module : moduleList) {
-            encodedList.append(getModuleInformation(module)).append(LINE_BREAK);
-            encodedList.append(encodeCategoryList(module.getCategories().getCategoryList()));
+        StringWriter writer = new StringWriter();
+        try {
+            encodeTo(writer);
+        } catch (IOException e) {
+            // A StringWriter does not throw any IOException
+            throw new UncheckedIOException(e);
         }
-        encodedList.append(END_MODULE_INDICATOR);
-        return encodedList.toString();
+        return writer.toString();
     }
 
-    private String encodeCategoryList(ArrayList<Category> categories) {
-        StringBuilder encodedList = new StringBuilder(BEGIN_CATEGORY_INDICATOR);
-        for (Category category : categories) {
-            encodedList.append(getCategoryInformation(category)).append(LINE_BREAK);
-            encodedList.append(encodeTaskList(category.getTasks().getTaskList()));
+    /**
+     * Encodes the Module List directly into the specified writer, without building the encoded list in memory.
+     *
+     * @param writer
+     *  The writer to write the encoded Module List into
+     * @throws IOException
+     *  If there is an error writing into the writer
+     */
+    public void encodeTo(Writer writer) throws IOException {
+        writer.write(BEGIN_MODULE_INDICATOR);
+        for (Module module : moduleList) {
+            encodeModuleTo(module, writer);
         }
-        encodedList.append(END_CATEGORY_INDICATOR);
-        return encodedList.toString();
+        writer.write(END_MODULE_INDICATOR);
+        writer.flush();
     }
 
-    private String encodeTaskList(ArrayList<Task> tasks) {
-        StringBuilder encodedList = new StringBuilder(BEGIN_TASK_INDICATOR);
-        for (Task task : tasks) {
-            encodedList.append(getTaskInformation(task)).append(LINE_BREAK);
-            encodedList.append(encodeFileList(task.getFiles().getFileList()));
-            encodedList.append(encodeTagList(task.getTags()));
-        }
-        encodedList.append(END_TASK_INDICATOR);
-        return encodedList.toString();
+    /**
+     * Encodes the Module List directly into the specified channel, without building the encoded list in memory.
+     * The channel is not closed after encoding.
+     *
+     * @param channel
+     *  The channel to write the encoded Module List into
+     * @throws IOException
+     *  If there is an error writing into the channel
+     */
+    public void encodeTo(WritableByteChannel channel) throws IOException {
+        encodeTo(new BufferedWriter(Channels.newWriter(channel, Charset.defaultCharset().newEncoder(), -1)));
     }
 
-    private String encodeFileList(ArrayList<TaskFile> files) {
-        StringBuilder encodedList = new StringBuilder(BEGIN_FILE_INDICATOR);
-        for (TaskFile file : files) {
-            encodedList.append(getFileInformation(file)).append(LINE_BREAK);
+    /**
+     * Encodes a single module, together with its categories, tasks and files.
+     *
+     * @param module
+     *  The module to encode
+     * @return
+     *  The encoded module
+     */
+    public String encodeModule(Module module) {
+        StringWriter writer = new StringWriter();
+        try {
+            encodeModuleTo(module, writer);
+        } catch (IOException e) {
+            // A StringWriter does not throw any IOException
+            throw new UncheckedIOException(e);
         }
-        encodedList.append(END_FILE_INDICATOR);
-        return encodedList.toString();
+        return writer.toString();
     }
 
-    private String encodeTagList(ArrayList<String> tags) {
-        StringBuilder encodedList = new StringBuilder(BEGIN_TAG_INDICATOR);
-        for (String tag : tags) {
-            encodedList.append(tag).append(LINE_BREAK);
+    /**
+     * Encodes a single module, together with its categories, tasks and files, directly into the specified writer.
+     *
+     * @param module
+     *  The module to encode
+     * @param writer
+     *  The writer to write the encoded module into
+     * @throws IOException
+     *  If there is an error writing into the writer
+     */
+    public void encodeModuleTo(Module module, Writer writer) throws IOException {
+        writeRecord(writer, module.getModuleCode(), module.getTitle(), module.getDescription());
+        writer.write(BEGIN_CATEGORY_INDICATOR);
+        for (Category category : module.getCategories().getCategoryList()) {
+            writeRecord(writer, category.getCategoryName(), String.valueOf(category.getCategoryPriority()));
+            encodeTaskList(category.getTasks().getTaskList(), writer);
         }
-        encodedList.append(END_TAG_INDICATOR);
-        return encodedList.toString();
+        writer.write(END_CATEGORY_INDICATOR);
     }
 
-    private String getModuleInformation(Module module) {
-        return String.join(DELIMITER, module.getModuleCode(), module.getTitle(), module.getDescription());
-    }
+    private void encodeTaskList(ArrayList<Task> tasks, Writer writer) throws IOException {
+        writer.write(BEGIN_TASK_INDICATOR);
+        for (Task task : tasks) {
+            String doneStatus = task.isDone() ? "Y" : "N";
+            String deadline = task.getDeadline().isPresent() ? task.getDeadline().toString() : "";
+            writeRecord(writer, task.getDescription(), doneStatus, deadline, String.valueOf(task.getPriority()));
 
-    private String getCategoryInformation(Category category) {
-        return String.join(DELIMITER, category.getCategoryName(), String.valueOf(category.getCategoryPriority()));
-    }
+            writer.write(BEGIN_FILE_INDICATOR);
+            for (TaskFile file : task.getFiles().getFileList()) {
+                writeRecord(writer, file.getFileName(), file.getFilePath(), file.getOriginalFilePath());
+            }
+            writer.write(END_FILE_INDICATOR);
 
-    private String getTaskInformation(Task task) {
-        String doneStatus = task.isDone() ? "Y" : "N";
-        String deadline = task.getDeadline().isPresent() ? task.getDeadline().toString() : "";
-        return String.join(DELIMITER, task.getDescription(), doneStatus, deadline, String.valueOf(task.getPriority()));
+            writer.write(BEGIN_TAG_INDICATOR);
+            for (String tag : task.getTags()) {
+                writeRecord(writer, tag);
+            }
+            writer.write(END_TAG_INDICATOR);
+        }
+        writer.write(END_TASK_INDICATOR);
     }
 
-    private String getFileInformation(TaskFile file) {
-        return String.join(DELIMITER, file.getFileName(), file.getFilePath(), file.getOriginalFilePath());
+    /**
+     * Writes the fields of a record as a single line, separated by the delimiter.
+     */
+    private void writeRecord(Writer writer, String... fields) throws IOException {
+        for (int i = 0; i < fields.length; ++i) {
+            if (i > 0) {
+                writer.write(DELIMITER);
+            }
+            writer.write(String.valueOf(fields[i]));
+        }
+        writer.write(LINE_BREAK);
     }
 }
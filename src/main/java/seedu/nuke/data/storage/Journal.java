@@ -0,0 +1,283 @@
+package seedu.nuke.data.storage;
+
+import seedu.nuke.data.EncodedModuleCache;
+import seedu.nuke.data.ModuleManager;
+import seedu.nuke.directory.Module;
+import seedu.nuke.exception.CorruptedFileException;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <h3>Journal</h3>
+ * An append-only <b>Journal</b> of the changes made to the <b>Module List</b> since the last full save.
+ * <br> Each record either holds the encoded state of a single module, or the module code of a module that was
+ * removed from the list. Replaying the records in order on top of the saved list restores the latest list.
+ * <p></p>
+ * When the journal grows too long, it is rotated aside so that its records can be folded into a fresh save file,
+ * while new records go into a new journal.
+ */
+public class Journal {
+    private static final String PUT_MODULE_INDICATOR = "--- PUT MODULE ---";
+    private static final String DELETE_MODULE_INDICATOR = "--- DELETE MODULE ---";
+    private static final String END_RECORD_INDICATOR = "--- END RECORD ---";
+    private static final String ROTATED_SUFFIX = ".old";
+    private static final String LINE_BREAK = System.lineSeparator();
+
+    private static final int COMPACTION_THRESHOLD = 100;
+
+    private File journalFile;
+    private File rotatedJournalFile;
+    private Map<Module, SavedModule> savedModules;
+    private long savedVersion;
+    private int recordCount;
+    private boolean hasPartialRecord;
+
+    /**
+     * Constructs the journal with the path of the journal file.
+     *
+     * @param journalFileName
+     *  The path of the journal file
+     */
+    public Journal(String journalFileName) {
+        this.journalFile = new File(journalFileName);
+        this.rotatedJournalFile = new File(journalFileName + ROTATED_SUFFIX);
+        this.savedModules = new IdentityHashMap<>();
+        this.savedVersion = -1;
+        this.recordCount = 0;
+        this.hasPartialRecord = false;
+    }
+
+    /**
+     * Replays the rotated journal, followed by the current journal, on top of the specified list.
+     * <br> A partially written record at the end of a journal is ignored, and {@link #hasPartialRecord()} is then
+     * <code>TRUE</code> until the journal is discarded.
+     *
+     * @param moduleList
+     *  The Module List loaded from the save file
+     * @throws IOException
+     *  If there is an error reading the journals
+     */
+    public void replay(ArrayList<Module> moduleList) throws IOException {
+        hasPartialRecord = false;
+        recordCount = replayFile(rotatedJournalFile, moduleList) + replayFile(journalFile, moduleList);
+    }
+
+    /**
+     * Replays only the rotated journal on top of the specified list.
+     *
+     * @param moduleList
+     *  The Module List loaded from the save file
+     * @throws IOException
+     *  If there is an error reading the journal
+     */
+    public void replayRotated(ArrayList<Module> moduleList) throws IOException {
+        replayFile(rotatedJournalFile, moduleList);
+    }
+
+    private int replayFile(File file, ArrayList<Module> moduleList) throws IOException {
+        if (!file.exists()) {
+            return 0;
+        }
+        int replayedCount = 0;
+        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
+            Decoder decoder = new Decoder(reader);
+            String currentLine;
+            while ((currentLine = decoder.readLine()) != null) {
+                if (currentLine.equals(PUT_MODULE_INDICATOR)) {
+                    Module module = decoder.decodeNextModule();
+                    if (!END_RECORD_INDICATOR.equals(decoder.readLine())) {
+                        break;
+                    }
+                    putModule(moduleList, module);
+                } else if (currentLine.equals(DELETE_MODULE_INDICATOR)) {
+                    String moduleCode = decoder.readLine();
+                    if (moduleCode == null || !END_RECORD_INDICATOR.equals(decoder.readLine())) {
+                        break;
+                    }
+                    moduleList.removeIf(module -> module.isSameModule(moduleCode));
+                } else {
+                    break;
+                }
+                ++replayedCount;
+            }
+            if (currentLine != null) {
+                hasPartialRecord = true;
+            }
+        } catch (CorruptedFileException | ArrayIndexOutOfBoundsException e) {
+            // The last record was only partially written; every complete record before it has been replayed
+            hasPartialRecord = true;
+        }
+        return replayedCount;
+    }
+
+    private void putModule(ArrayList<Module> moduleList, Module module) {
+        for (int i = 0; i < moduleList.size(); ++i) {
+            if (moduleList.get(i).isSameModule(module.getModuleCode())) {
+                moduleList.set(i, module);
+                return;
+            }
+        }
+        moduleList.add(module);
+    }
+
+    /**
+     * Starts tracking the modules in the specified list as the modules that are already saved.
+     *
+     * @param moduleList
+     *  The Module List that is fully saved
+     */
+    public void track(ArrayList<Module> moduleList) {
+        savedModules.clear();
+        for (Module module : moduleList) {
+            savedModules.put(module, new SavedModule(module.getModuleCode(), module.getVersion()));
+        }
+        savedVersion = ModuleManager.getVersion();
+    }
+
+    /**
+     * Appends the records needed to bring the saved list up to date with the specified list.
+     * <br> Modules that were changed since they were saved are rewritten, as are modules that have not been saved
+     * before. Modules that are no longer in the list, or were renamed, have their old module codes deleted.
+     *
+     * @param moduleList
+     *  The current Module List
+     * @throws IOException
+     *  If there is an error writing to the journal
+     */
+    public void append(ArrayList<Module> moduleList) throws IOException {
+        if (savedVersion == ModuleManager.getVersion()) {
+            return;
+        }
+        Set<Module> currentModules = Collections.newSetFromMap(new IdentityHashMap<>());
+        currentModules.addAll(moduleList);
+
+        // Delete modules that were removed or renamed
+        ArrayList<String> deletedModuleCodes = new ArrayList<>();
+        for (Map.Entry<Module, SavedModule> savedModule : savedModules.entrySet()) {
+            Module module = savedModule.getKey();
+            String savedModuleCode = savedModule.getValue().moduleCode;
+            if (!currentModules.contains(module) || !module.getModuleCode().equals(savedModuleCode)) {
+                deletedModuleCodes.add(savedModuleCode);
+            }
+        }
+
+        // Rewrite modules that were changed or newly added
+        ArrayList<Module> putModules = new ArrayList<>();
+        for (Module module : moduleList) {
+            SavedModule savedModule = savedModules.get(module);
+            if (savedModule == null || savedModule.version != module.getVersion()
+                    || !module.getModuleCode().equals(savedModule.moduleCode)) {
+                putModules.add(module);
+            }
+        }
+
+        if (!deletedModuleCodes.isEmpty() || !putModules.isEmpty()) {
+            journalFile.getAbsoluteFile().getParentFile().mkdirs();
+            try (BufferedWriter writer = new BufferedWriter(new FileWriter(journalFile, true))) {
+                for (String moduleCode : deletedModuleCodes) {
+                    writer.write(DELETE_MODULE_INDICATOR + LINE_BREAK);
+                    writer.write(moduleCode + LINE_BREAK);
+                    writer.write(END_RECORD_INDICATOR + LINE_BREAK);
+                }
+                for (Module module : putModules) {
+                    writer.write(PUT_MODULE_INDICATOR + LINE_BREAK);
+                    writer.write(EncodedModuleCache.getEncodedModule(module));
+                    writer.write(END_RECORD_INDICATOR + LINE_BREAK);
+                }
+            }
+            recordCount += deletedModuleCodes.size() + putModules.size();
+        }
+        track(moduleList);
+    }
+
+    /**
+     * Checks if a partially written record was found at the end of a journal during the last replay, e.g. if the
+     * program was killed while the record was being appended.
+     * <br> Records appended after it would never be replayed, so the journal must be folded and discarded first.
+     *
+     * @return
+     *  <code>TRUE</code> if a partially written record was found, and <code>FALSE</code> otherwise
+     */
+    public boolean hasPartialRecord() {
+        return hasPartialRecord;
+    }
+
+    /**
+     * Checks if the journal has grown long enough to be folded into the save file.
+     *
+     * @return
+     *  <code>TRUE</code> if the journal should be compacted, and <code>FALSE</code> otherwise
+     */
+    public boolean isCompactionDue() {
+        return recordCount >= COMPACTION_THRESHOLD;
+    }
+
+    /**
+     * Checks if there are any records in the journal that are not yet folded into the save file.
+     *
+     * @return
+     *  <code>TRUE</code> if there are records to fold, and <code>FALSE</code> otherwise
+     */
+    public boolean hasRecords() {
+        return journalFile.exists() || rotatedJournalFile.exists();
+    }
+
+    /**
+     * Moves the current journal aside to be folded into the save file. New records are appended into a new journal.
+     * <br> If an earlier rotated journal has not been folded yet, the current journal is kept as it is instead, so
+     * that no records are overwritten.
+     *
+     * @throws IOException
+     *  If the journal could not be rotated
+     */
+    public void rotate() throws IOException {
+        if (rotatedJournalFile.exists() || !journalFile.exists()) {
+            return;
+        }
+        if (!journalFile.renameTo(rotatedJournalFile)) {
+            throw new IOException("There was an error when rotating the journal...");
+        }
+        recordCount = 0;
+    }
+
+    /**
+     * Discards the rotated journal after its records have been folded into the save file.
+     */
+    public void discardRotated() {
+        rotatedJournalFile.delete();
+    }
+
+    /**
+     * Discards both the current and the rotated journal after the whole list has been written into the save file.
+     * <br> The rotated journal is deleted last, as it holds the older records.
+     */
+    public void discard() {
+        journalFile.delete();
+        rotatedJournalFile.delete();
+        recordCount = 0;
+        hasPartialRecord = false;
+    }
+
+    /**
+     * The module code and version of a module when it was last saved.
+     */
+    private static class SavedModule {
+        private String moduleCode;
+        private long version;
+
+        private SavedModule(String moduleCode, long version) {
+            this.moduleCode = moduleCode;
+            this.version = version;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package seedu.nuke.data.storage;
+
+/**
+ * <h3>Save Format</h3>
+ * The formats in which the <b>Module List</b> can be written into the save file.
+ * <br> Save files in either format can always be read, as the format is detected from the start of the file.
+ *
+ * @see Encoder
+ * @see BinaryEncoder
+ */
+public enum SaveFormat {
+    TEXT, BINARY
+}
@@ -1,32 +1,54 @@
 package seedu.nuke.data.storage;
 
-import com.alibaba.fastjson.JSON;
+import seedu.nuke.data.ChangeBus;
+import seedu.nuke.data.DirectoryChange;
 import seedu.nuke.data.ModuleManager;
 import seedu.nuke.directory.Module;
+import seedu.nuke.directory.Root;
 import seedu.nuke.directory.TaskFile;
 import seedu.nuke.exception.CorruptedFileException;
 
+import java.io.BufferedInputStream;
 import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileNotFoundException;
-import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.io.UnsupportedEncodingException;
+import java.io.InputStreamReader;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static seedu.nuke.data.storage.StoragePath.TASK_FILE_DIRECTORY_PATH;
 
 public class StorageManager {
+    private static final int SAVE_GENERATIONS = 3;
+    private static final String TEMP_SUFFIX = ".tmp";
+
     private static boolean isToSave = false;
 
+    static {
+        ChangeBus.subscribe(StorageManager::setIsSave);
+    }
+
     private String dataFileName;
+    private String legacyDataFileName;
+    private SaveFormat saveFormat = SaveFormat.TEXT;
+    private Journal journal;
+    private ExecutorService compactionExecutor;
+    private Future<?> pendingCompaction;
 
     /**
      * Checks whether to save the list.
@@ -39,10 +61,20 @@ public class StorageManager {
     }
 
     /**
-     * Indicates to the storage manager that a change is made to the list and needs to be saved.
+     * Indicates to the storage manager that the changes made to the list by a command need to be saved.
+     * <br> In journal mode, only the modules containing the changed directories are written into the journal.
+     * Reloading the whole list, e.g. when it is loaded or a screen shot is restored, does not need to be saved.
+     *
+     * @param changes
+     *  The changes made to the list
      */
-    public static void setIsSave() {
-        isToSave = true;
+    private static void setIsSave(List<DirectoryChange> changes) {
+        for (DirectoryChange change : changes) {
+            if (!(change.getDirectory() instanceof Root)) {
+                isToSave = true;
+                return;
+            }
+        }
     }
 
     /**
@@ -55,92 +87,291 @@ public class StorageManager {
     }
 
     /**
-     * load from json data file and return an ArrayList of Module objects.
+     * Constructs the storage manager in journal mode. Changes are appended into the journal file, and are
+     * folded into the data file in the background once the journal grows long enough.
      *
-     * @return an ArrayList of Module objects.
+     * @param dataFileName the name of the file in which the data is stored.
+     * @param journalFileName the name of the file in which the changes since the last full save are stored.
      */
-    public ArrayList<Module> load() {
-        String jsonStr;
-        try {
-            jsonStr = loadJsonStringFromFile(dataFileName);
-            return (ArrayList<Module>) JSON.parseArray(jsonStr, Module.class);
-        } catch (IOException e) {
-            System.out.println("Error when reading from " + dataFileName);
-            return new ArrayList<>();
-        }
+    public StorageManager(String dataFileName, String journalFileName) {
+        this(dataFileName, journalFileName, SaveFormat.TEXT);
     }
 
-    private static String loadJsonStringFromFile(String dataFileName) throws IOException {
-        String encoding = "utf8";
-        File file = new File(dataFileName);
-        Long fileLength = file.length();
-        byte[] fileContent = new byte[fileLength.intValue()];
-        FileInputStream in = new FileInputStream(file);
-        in.read(fileContent);
-        in.close();
-        try {
-            return new String(fileContent, encoding);
-        } catch (UnsupportedEncodingException e) {
-            System.err.println("The OS does not support " + encoding);
-            e.printStackTrace();
-            return null;
-        }
+    /**
+     * Constructs the storage manager in journal mode, writing the data file in the specified format.
+     *
+     * @param dataFileName the name of the file in which the data is stored.
+     * @param journalFileName the name of the file in which the changes since the last full save are stored.
+     * @param saveFormat the format in which the data file is written.
+     */
+    public StorageManager(String dataFileName, String journalFileName, SaveFormat saveFormat) {
+        this(dataFileName);
+        this.saveFormat = saveFormat;
+        this.journal = new Journal(journalFileName);
+        this.compactionExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "journal-compaction");
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
     /**
-     * Save the current ArrayList of Module objects into json file.
+     * Sets the data file of an earlier version to load from if the data file does not exist yet.
+     * The list is then written into the data file at the next full save.
+     *
+     * @param legacyDataFileName the name of the file in which the data was stored by an earlier version.
      */
-    public void save() {
-        String jsonStr = JSON.toJSONString(ModuleManager.getModuleList());
+    public void setLegacyDataFileName(String legacyDataFileName) {
+        this.legacyDataFileName = legacyDataFileName;
+    }
+
+    /**
+     * Saves the Module List into a file.
+     * <br> In journal mode, only the changed modules are appended into the journal instead.
+     */
+    public void saveList() throws IOException {
         try {
-            FileWriter fw = new FileWriter(dataFileName);
-            fw.write(jsonStr);
-            fw.flush();
-            fw.close();
+            if (journal == null) {
+                writeList(ModuleManager.getModuleList());
+            } else {
+                journal.append(ModuleManager.getModuleList());
+            }
         } catch (IOException e) {
-            System.out.println("something wrong when writing to " + dataFileName);
+            throw new IOException("There was an error when saving the list...");
+        }
+
+        isToSave = false;
+
+        if (journal != null && journal.isCompactionDue()) {
+            startCompaction();
         }
     }
 
     /**
-     * Saves the Module List into a file.
+     * Commits the whole Module List into the data file in one atomic step, e.g. after a batch of commands.
+     * <br> In journal mode, the list in memory already holds every record in the journal, so the journal is simply
+     * discarded once the list is moved into place, and the data file alone holds the committed list.
      */
-    public void saveList() throws IOException {
+    public void commitList() throws IOException {
+        ArrayList<Module> moduleList = ModuleManager.getModuleList();
+        if (journal != null) {
+            // The background compaction must not move an older list over the committed one
+            waitForCompaction();
+        }
         try {
-            File saveFile = new File(dataFileName);
-            saveFile.getParentFile().mkdirs();
-            FileWriter fileWriter = new FileWriter(saveFile);
-            fileWriter.write(new Encoder(ModuleManager.getModuleList()).encode());
-            fileWriter.flush();
-            fileWriter.close();
+            writeList(moduleList);
         } catch (IOException e) {
             throw new IOException("There was an error when saving the list...");
         }
 
+        if (journal != null) {
+            journal.discard();
+            journal.track(moduleList);
+        }
         isToSave = false;
     }
 
     /**
      * Loads the Module List from the saved file.
+     * <br> In journal mode, the changes in the journal are replayed on top of the saved list.
      */
     public void loadList() {
+        ArrayList<Module> moduleList;
         try {
-            FileReader fileReader = new FileReader(dataFileName);
-            BufferedReader bufferedReader = new BufferedReader(fileReader);
-            ArrayList<Module> moduleList = new Decoder(bufferedReader).decode();
-            ModuleManager.setModuleList(moduleList);
-            bufferedReader.close();
-            fileReader.close();
+            moduleList = readList();
+            if (journal != null) {
+                journal.replay(moduleList);
+            }
         } catch (IOException e) {
-            ModuleManager.setModuleList(new ArrayList<>());
+            moduleList = new ArrayList<>();
         } catch (CorruptedFileException | ArrayIndexOutOfBoundsException e) {
             System.out.println("File is corrupted!\n");
-            ModuleManager.setModuleList(new ArrayList<>());
+            moduleList = new ArrayList<>();
+        }
+        if (journal != null && journal.hasPartialRecord()) {
+            foldPartialJournal(moduleList);
+        }
+        ModuleManager.setModuleList(moduleList);
+        if (journal != null) {
+            journal.track(moduleList);
+        }
+    }
+
+    /**
+     * Writes the replayed list into the data file and discards the journal, so that new records are not appended
+     * after the partially written record at its end, where they would never be replayed.
+     */
+    private void foldPartialJournal(ArrayList<Module> moduleList) {
+        try {
+            writeList(moduleList);
+            journal.discard();
+        } catch (IOException e) {
+            System.out.println("There was an error when saving the list...");
+        }
+    }
+
+    /**
+     * Folds all remaining records in the journal into the data file, and stops the background compaction.
+     * This should be called before the program exits.
+     */
+    public void closeJournal() throws IOException {
+        if (journal == null) {
+            return;
+        }
+        waitForCompaction();
+        compactionExecutor.shutdown();
+        try {
+            foldAllRecords();
+        } catch (CorruptedFileException e) {
+            throw new IOException("There was an error when saving the list...");
+        }
+    }
+
+    private void foldAllRecords() throws IOException, CorruptedFileException {
+        // Fold the journal twice in case an earlier rotated journal was still left unfolded
+        for (int i = 0; i < 2 && journal.hasRecords(); ++i) {
+            journal.rotate();
+            foldJournal();
+        }
+    }
+
+    private void startCompaction() throws IOException {
+        waitForCompaction();
+        journal.rotate();
+        pendingCompaction = compactionExecutor.submit(() -> {
+            try {
+                foldJournal();
+            } catch (IOException | CorruptedFileException e) {
+                // The rotated journal is kept, and will be folded again at the next compaction
+                System.out.println("There was an error when compacting the journal...");
+            }
+        });
+    }
+
+    private void waitForCompaction() {
+        if (pendingCompaction == null) {
+            return;
+        }
+        try {
+            pendingCompaction.get();
+        } catch (InterruptedException | ExecutionException e) {
+            // The rotated journal is kept, and will be folded again at the next compaction
+        }
+        pendingCompaction = null;
+    }
+
+    /**
+     * Folds the rotated journal into the data file, in the background while the Module List is being changed.
+     * <br> The list is decoded into modules of its own, and the decoders fill them without the managers' setters, so
+     * no state of the Module List or its indexes is read or changed here. Only the files are shared, and
+     * {@link #waitForCompaction()} is called before they are touched by the program thread.
+     */
+    private void foldJournal() throws IOException, CorruptedFileException {
+        ArrayList<Module> moduleList = readList();
+        journal.replayRotated(moduleList);
+        writeList(moduleList);
+        journal.discardRotated();
+    }
+
+    /**
+     * Reads the newest save file generation that can be decoded. Older generations are only read if the newer
+     * ones are missing or corrupted, e.g. if the program was killed while a save was being written.
+     * <br> If there is no save file at all, the data file of an earlier version is read instead.
+     */
+    private ArrayList<Module> readList() throws IOException, CorruptedFileException {
+        ArrayList<Module> moduleList = readList(dataFileName);
+        if (moduleList == null && legacyDataFileName != null) {
+            moduleList = readList(legacyDataFileName);
+        }
+        return (moduleList == null) ? new ArrayList<>() : moduleList;
+    }
+
+    private ArrayList<Module> readList(String fileName) throws IOException, CorruptedFileException {
+        boolean isCorrupted = false;
+        for (int generation = 0; generation <= SAVE_GENERATIONS; ++generation) {
+            File saveFile = getSaveFile(fileName, generation);
+            if (!saveFile.exists()) {
+                continue;
+            }
+            try {
+                ArrayList<Module> moduleList = decodeFile(saveFile);
+                if (isCorrupted) {
+                    System.out.println("File is corrupted! Restored the list from an earlier save.\n");
+                }
+                return moduleList;
+            } catch (CorruptedFileException | ArrayIndexOutOfBoundsException e) {
+                isCorrupted = true;
+            }
+        }
+        if (isCorrupted) {
+            throw new CorruptedFileException();
+        }
+        return null;
+    }
+
+    /**
+     * Decodes the specified save file, in whichever format it was written.
+     */
+    private ArrayList<Module> decodeFile(File saveFile) throws IOException, CorruptedFileException {
+        try (BufferedInputStream in = new BufferedInputStream(new FileInputStream(saveFile))) {
+            byte[] header = new byte[BinaryEncoder.MAGIC.length];
+            in.mark(header.length);
+            int headerLength = in.read(header);
+            in.reset();
+            if (headerLength == header.length && BinaryDecoder.isBinaryFormat(header)) {
+                return new BinaryDecoder(in).decode();
+            }
+            BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(in, Charset.defaultCharset()));
+            return new Decoder(bufferedReader).decode();
+        }
+    }
+
+    /**
+     * Writes the list into a temporary file next to the save file, forces it onto the disk, then moves it over the
+     * save file in one step. The save file is therefore either the old or the new list, but never partially written.
+     * <br> The replaced save files are kept as older generations to fall back on.
+     */
+    private void writeList(ArrayList<Module> moduleList) throws IOException {
+        Path savePath = getSaveFile(dataFileName, 0).toPath().toAbsolutePath();
+        Files.createDirectories(savePath.getParent());
+        Path tempPath = savePath.resolveSibling(savePath.getFileName() + TEMP_SUFFIX);
+
+        try (FileChannel channel = FileChannel.open(tempPath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            if (saveFormat == SaveFormat.BINARY) {
+                new BinaryEncoder(moduleList).encodeTo(channel);
+            } else {
+                new Encoder(moduleList).encodeTo(channel);
+            }
+            channel.force(true);
+        }
+
+        rotateSaveFiles();
+        try {
+            Files.move(tempPath, savePath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempPath, savePath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private void rotateSaveFiles() throws IOException {
+        for (int generation = SAVE_GENERATIONS; generation > 0; --generation) {
+            Path olderPath = getSaveFile(dataFileName, generation).toPath();
+            Path newerPath = getSaveFile(dataFileName, generation - 1).toPath();
+            if (!Files.exists(newerPath)) {
+                continue;
+            }
+            if (generation == 1) {
+                // The current save file stays in place until the new one is moved over it
+                Files.copy(newerPath, olderPath, StandardCopyOption.REPLACE_EXISTING);
+            } else {
+                Files.move(newerPath, olderPath, StandardCopyOption.REPLACE_EXISTING);
+            }
         }
     }
 
-    public static String saveModuleToString(ArrayList<Module> moduleList) {
-        return JSON.toJSONString(moduleList);
+    private File getSaveFile(String fileName, int generation) {
+        return generation == 0 ? new File(fileName) : new File(fileName + "." + generation);
     }
 
     /**
@@ -5,4 +5,6 @@ public class StoragePath {
     public static final String TASK_FILE_DIRECTORY_PATH = FILE_BASE_PATH + "files";
     public static final String NUS_MODULE_LIST_PATH = FILE_BASE_PATH + "moduleList.json";
     public static final String SAVE_PATH = FILE_BASE_PATH + "save.txt";
+    public static final String BINARY_SAVE_PATH = FILE_BASE_PATH + "save.dat";
+    public static final String JOURNAL_PATH = FILE_BASE_PATH + "save.journal";
 }
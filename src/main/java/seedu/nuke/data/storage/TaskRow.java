@@ -0,0 +1,94 @@
+package seedu.nuke.data.storage;
+
+import seedu.nuke.directory.Task;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One task of the Module List flattened into a row, as it is imported from or exported into a CSV or JSON Lines file.
+ * <p></p>
+ * The fields are kept as the strings read from the file, so that they can be validated one row at a time. An
+ * optional field that is missing is an empty string.
+ */
+public class TaskRow {
+    private final String moduleCode;
+    private final String categoryName;
+    private final String taskDescription;
+    private final String deadline;
+    private final String priority;
+    private final List<String> tags;
+    private final String doneStatus;
+
+    /**
+     * Constructs a task row.
+     *
+     * @param moduleCode
+     *  The module code of the module of the task
+     * @param categoryName
+     *  The name of the category of the task
+     * @param taskDescription
+     *  The description of the task
+     * @param deadline
+     *  The deadline of the task, or an empty string if there is none
+     * @param priority
+     *  The priority of the task, or an empty string to use the priority of its category
+     * @param tags
+     *  The tags of the task
+     * @param doneStatus
+     *  <code>true</code> if the task is done, and <code>false</code> or an empty string otherwise
+     */
+    public TaskRow(String moduleCode, String categoryName, String taskDescription, String deadline, String priority,
+            List<String> tags, String doneStatus) {
+        this.moduleCode = moduleCode;
+        this.categoryName = categoryName;
+        this.taskDescription = taskDescription;
+        this.deadline = deadline;
+        this.priority = priority;
+        this.tags = tags;
+        this.doneStatus = doneStatus;
+    }
+
+    /**
+     * Flattens a task of the Module List into a row.
+     *
+     * @param task
+     *  The task to flatten
+     * @return
+     *  The row of the task
+     */
+    public static TaskRow fromTask(Task task) {
+        String deadline = task.getDeadline().isPresent() ? task.getDeadline().toString().trim() : "";
+        return new TaskRow(task.getParent().getParent().getModuleCode(), task.getParent().getCategoryName(),
+                task.getDescription(), deadline, String.valueOf(task.getPriority()), new ArrayList<>(task.getTags()),
+                String.valueOf(task.isDone()));
+    }
+
+    public String getModuleCode() {
+        return moduleCode;
+    }
+
+    public String getCategoryName() {
+        return categoryName;
+    }
+
+    public String getTaskDescription() {
+        return taskDescription;
+    }
+
+    public String getDeadline() {
+        return deadline;
+    }
+
+    public String getPriority() {
+        return priority;
+    }
+
+    public List<String> getTags() {
+        return tags;
+    }
+
+    public String getDoneStatus() {
+        return doneStatus;
+    }
+}
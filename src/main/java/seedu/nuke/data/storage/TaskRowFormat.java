@@ -0,0 +1,35 @@
+package seedu.nuke.data.storage;
+
+import java.util.Locale;
+
+/**
+ * <h3>Task Row Format</h3>
+ * The formats in which the tasks of the <b>Module List</b> can be imported and exported one row at a time.
+ * <br> The format of a file is chosen by the extension of its name.
+ *
+ * @see TaskRowReader
+ * @see TaskRowWriter
+ */
+public enum TaskRowFormat {
+    CSV, JSON_LINES;
+
+    /**
+     * Gets the format of a file from the extension of its name.
+     *
+     * @param fileName
+     *  The name of the file
+     * @return
+     *  The format of the file, or <code>null</code> if the extension is not one of <code>.csv</code>,
+     *  <code>.jsonl</code> or <code>.ndjson</code>
+     */
+    public static TaskRowFormat fromFileName(String fileName) {
+        String lowerCaseName = fileName.toLowerCase(Locale.ROOT);
+        if (lowerCaseName.endsWith(".csv")) {
+            return CSV;
+        } else if (lowerCaseName.endsWith(".jsonl") || lowerCaseName.endsWith(".ndjson")) {
+            return JSON_LINES;
+        } else {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,546 @@
+package seedu.nuke.data.storage;
+
+import seedu.nuke.exception.InvalidFormatException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Reads the task rows of a CSV or JSON Lines file one row at a time, so that a file of any size can be imported
+ * while only holding a single row in memory.
+ * <p></p>
+ * Every row is on a line of its own. A CSV file starts with a header naming its columns, which can be in any order:
+ * <code>module</code>, <code>category</code> and <code>task</code> are required, while <code>deadline</code>,
+ * <code>priority</code>, <code>tags</code> and <code>done</code> are optional. Fields can be quoted, and the tags of
+ * a task are separated by <code>;</code>, with a <code>;</code> or <code>\</code> in a tag written after a
+ * <code>\</code>. A JSON Lines file has a flat object on every line with the same names as
+ * its fields, where the tags are an array of strings.
+ * <p></p>
+ * A row that cannot be read is reported with its line number, and reading carries on from the next line.
+ *
+ * @see TaskRowWriter
+ */
+public class TaskRowReader implements Closeable {
+    public static final int MAX_LINE_LENGTH = 4096;
+    static final String MODULE_COLUMN = "module";
+    static final String CATEGORY_COLUMN = "category";
+    static final String TASK_COLUMN = "task";
+    static final String DEADLINE_COLUMN = "deadline";
+    static final String PRIORITY_COLUMN = "priority";
+    static final String TAGS_COLUMN = "tags";
+    static final String DONE_COLUMN = "done";
+    static final List<String> COLUMNS = Collections.unmodifiableList(Arrays.asList(MODULE_COLUMN, CATEGORY_COLUMN,
+            TASK_COLUMN, DEADLINE_COLUMN, PRIORITY_COLUMN, TAGS_COLUMN, DONE_COLUMN));
+    static final char TAG_SEPARATOR = ';';
+    static final char TAG_ESCAPE = '\\';
+
+    private static final List<String> REQUIRED_COLUMNS = Arrays.asList(MODULE_COLUMN, CATEGORY_COLUMN, TASK_COLUMN);
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Reader reader;
+    private final TaskRowFormat format;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private final StringBuilder line = new StringBuilder();
+    private int bufferPosition = 0;
+    private int bufferLimit = 0;
+    private int lineNumber = 0;
+    private boolean isLineTooLong;
+    /** The position of each column in a CSV row, or -1 if the column is not in the file */
+    private int[] columnPositions;
+    private int columnCount;
+
+    /**
+     * Constructs the reader of the task rows of a file, and reads the header of a CSV file.
+     *
+     * @param reader
+     *  The reader of the file
+     * @param format
+     *  The format of the file
+     * @throws IOException
+     *  If the file cannot be read, or the header of a CSV file is missing or invalid
+     */
+    public TaskRowReader(Reader reader, TaskRowFormat format) throws IOException {
+        this.reader = reader;
+        this.format = format;
+        if (format == TaskRowFormat.CSV) {
+            readHeader();
+        }
+    }
+
+    /**
+     * Gets the line number of the row read last, starting from 1.
+     *
+     * @return
+     *  The line number of the row read last
+     */
+    public int getLineNumber() {
+        return lineNumber;
+    }
+
+    /**
+     * Reads the next row of the file, skipping empty lines.
+     *
+     * @return
+     *  The next row, or <code>null</code> if the end of the file is reached
+     * @throws IOException
+     *  If the file cannot be read
+     * @throws InvalidRowException
+     *  If the next row cannot be read. The next call reads the row after it.
+     */
+    public TaskRow readRow() throws IOException, InvalidRowException {
+        do {
+            if (!readLine()) {
+                return null;
+            }
+        } while (isBlankLine());
+
+        if (isLineTooLong) {
+            throw new InvalidRowException(lineNumber,
+                    String.format("Sorry, the row is longer than %d characters.\n", MAX_LINE_LENGTH));
+        }
+        return (format == TaskRowFormat.CSV) ? parseCsvRow() : new JsonRowParser(line.toString()).parse();
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * Reads the next line into <code>line</code>, without its line break. Characters past the maximum line length
+     * are dropped, and <code>isLineTooLong</code> is set instead.
+     *
+     * @return
+     *  <code>TRUE</code> if a line is read, and <code>FALSE</code> if the end of the file is reached
+     */
+    private boolean readLine() throws IOException {
+        line.setLength(0);
+        isLineTooLong = false;
+        boolean hasCharacters = false;
+        while (true) {
+            if (bufferPosition == bufferLimit) {
+                bufferLimit = reader.read(buffer);
+                bufferPosition = 0;
+                if (bufferLimit <= 0) {
+                    bufferLimit = 0;
+                    if (!hasCharacters) {
+                        return false;
+                    }
+                    break;
+                }
+            }
+            hasCharacters = true;
+            int start = bufferPosition;
+            while (bufferPosition < bufferLimit && buffer[bufferPosition] != '\n') {
+                ++bufferPosition;
+            }
+            appendToLine(start, bufferPosition);
+            if (bufferPosition < bufferLimit) {
+                // Skip the line break
+                ++bufferPosition;
+                break;
+            }
+        }
+
+        ++lineNumber;
+        int length = line.length();
+        if (length > 0 && line.charAt(length - 1) == '\r') {
+            line.setLength(length - 1);
+        }
+        if (lineNumber == 1 && line.length() > 0 && line.charAt(0) == BYTE_ORDER_MARK) {
+            line.deleteCharAt(0);
+        }
+        if (line.length() > MAX_LINE_LENGTH) {
+            isLineTooLong = true;
+        }
+        return true;
+    }
+
+    private void appendToLine(int start, int end) {
+        int room = MAX_LINE_LENGTH + 1 - line.length();
+        if (end - start > room) {
+            isLineTooLong = true;
+            end = start + Math.max(room, 0);
+        }
+        line.append(buffer, start, end - start);
+    }
+
+    private boolean isBlankLine() {
+        for (int i = 0; i < line.length(); ++i) {
+            if (!Character.isWhitespace(line.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /* CSV */
+
+    private void readHeader() throws IOException {
+        do {
+            if (!readLine()) {
+                throw new IOException("The file is empty.");
+            }
+        } while (isBlankLine());
+
+        List<String> names;
+        try {
+            if (isLineTooLong) {
+                throw new InvalidRowException(lineNumber, "The header is too long.");
+            }
+            names = splitCsvFields();
+        } catch (InvalidRowException e) {
+            throw new IOException(e.getReason().trim(), e);
+        }
+
+        columnPositions = new int[COLUMNS.size()];
+        Arrays.fill(columnPositions, -1);
+        columnCount = names.size();
+        for (int i = 0; i < names.size(); ++i) {
+            String name = names.get(i).trim().toLowerCase(Locale.ROOT);
+            int column = COLUMNS.indexOf(name);
+            if (column < 0) {
+                throw new IOException(String.format("The column '%s' in the header is unknown.", name));
+            } else if (columnPositions[column] >= 0) {
+                throw new IOException(String.format("The column '%s' appears twice in the header.", name));
+            }
+            columnPositions[column] = i;
+        }
+        for (String required : REQUIRED_COLUMNS) {
+            if (columnPositions[COLUMNS.indexOf(required)] < 0) {
+                throw new IOException(String.format("The column '%s' is missing from the header.", required));
+            }
+        }
+    }
+
+    private TaskRow parseCsvRow() throws InvalidRowException {
+        List<String> fields = splitCsvFields();
+        if (fields.size() != columnCount) {
+            throw new InvalidRowException(lineNumber, String.format(
+                    "Sorry, the row has %d field(s) instead of %d.\n", fields.size(), columnCount));
+        }
+        return new TaskRow(getCsvField(fields, MODULE_COLUMN), getCsvField(fields, CATEGORY_COLUMN),
+                getCsvField(fields, TASK_COLUMN), getCsvField(fields, DEADLINE_COLUMN),
+                getCsvField(fields, PRIORITY_COLUMN), splitTags(getCsvField(fields, TAGS_COLUMN)),
+                getCsvField(fields, DONE_COLUMN));
+    }
+
+    private String getCsvField(List<String> fields, String column) {
+        int position = columnPositions[COLUMNS.indexOf(column)];
+        return (position < 0) ? "" : fields.get(position);
+    }
+
+    /**
+     * Splits the current line into its comma-separated fields. A quoted field can contain commas, and a quote is
+     * written twice inside it.
+     */
+    private List<String> splitCsvFields() throws InvalidRowException {
+        ArrayList<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        int length = line.length();
+        int i = 0;
+        while (true) {
+            field.setLength(0);
+            if (i < length && line.charAt(i) == '"') {
+                ++i;
+                while (true) {
+                    if (i >= length) {
+                        throw new InvalidRowException(lineNumber, "Sorry, a quoted field in the row is not closed.\n");
+                    }
+                    char c = line.charAt(i++);
+                    if (c != '"') {
+                        field.append(c);
+                    } else if (i < length && line.charAt(i) == '"') {
+                        field.append('"');
+                        ++i;
+                    } else {
+                        break;
+                    }
+                }
+                if (i < length && line.charAt(i) != ',') {
+                    throw new InvalidRowException(lineNumber,
+                            "Sorry, there are characters after a quoted field in the row.\n");
+                }
+            } else {
+                while (i < length && line.charAt(i) != ',') {
+                    field.append(line.charAt(i++));
+                }
+            }
+            fields.add(field.toString());
+            if (i >= length) {
+                return fields;
+            }
+            // Skip the comma
+            ++i;
+        }
+    }
+
+    /**
+     * Splits the tags at every <code>;</code> that is not escaped. A <code>\</code> is only taken as an escape
+     * before a <code>;</code> or <code>\</code>, so that any other <code>\</code> is kept as it is.
+     */
+    private static List<String> splitTags(String tags) {
+        ArrayList<String> tagNames = new ArrayList<>();
+        StringBuilder tag = new StringBuilder();
+        for (int i = 0; i <= tags.length(); ++i) {
+            char c = (i < tags.length()) ? tags.charAt(i) : TAG_SEPARATOR;
+            if (c == TAG_ESCAPE && i + 1 < tags.length()
+                    && (tags.charAt(i + 1) == TAG_SEPARATOR || tags.charAt(i + 1) == TAG_ESCAPE)) {
+                tag.append(tags.charAt(++i));
+            } else if (c != TAG_SEPARATOR) {
+                tag.append(c);
+            } else {
+                if (!tag.toString().isBlank()) {
+                    tagNames.add(tag.toString().trim());
+                }
+                tag.setLength(0);
+            }
+        }
+        return tagNames;
+    }
+
+    /* JSON Lines */
+
+    /**
+     * Parses a flat JSON object with string, number, boolean or <code>null</code> values, and an array of strings
+     * for the tags.
+     */
+    private class JsonRowParser {
+        private final String text;
+        private final String[] values = new String[COLUMNS.size()];
+        private List<String> tags = new ArrayList<>();
+        private int position = 0;
+
+        JsonRowParser(String text) {
+            this.text = text;
+        }
+
+        TaskRow parse() throws InvalidRowException {
+            skipWhitespace();
+            expect('{');
+            skipWhitespace();
+            if (peek() == '}') {
+                ++position;
+            } else {
+                parseMembers();
+            }
+            skipWhitespace();
+            if (position < text.length()) {
+                throw error("Sorry, there are characters after the object in the row.\n");
+            }
+            return new TaskRow(getValue(MODULE_COLUMN), getValue(CATEGORY_COLUMN), getValue(TASK_COLUMN),
+                    getValue(DEADLINE_COLUMN), getValue(PRIORITY_COLUMN), tags, getValue(DONE_COLUMN));
+        }
+
+        private void parseMembers() throws InvalidRowException {
+            boolean[] isSeen = new boolean[COLUMNS.size()];
+            while (true) {
+                skipWhitespace();
+                String name = parseString().toLowerCase(Locale.ROOT);
+                int column = COLUMNS.indexOf(name);
+                if (column < 0) {
+                    throw error(String.format("Sorry, the field '%s' in the row is unknown.\n", name));
+                } else if (isSeen[column]) {
+                    throw error(String.format("Sorry, the field '%s' appears twice in the row.\n", name));
+                }
+                isSeen[column] = true;
+
+                skipWhitespace();
+                expect(':');
+                skipWhitespace();
+                if (name.equals(TAGS_COLUMN)) {
+                    parseTags();
+                } else {
+                    values[column] = parseValue();
+                }
+
+                skipWhitespace();
+                char c = next();
+                if (c == '}') {
+                    return;
+                } else if (c != ',') {
+                    throw error("Sorry, a ',' or '}' is expected between the fields in the row.\n");
+                }
+            }
+        }
+
+        private void parseTags() throws InvalidRowException {
+            if (peek() == '"') {
+                tags = splitTags(parseString());
+                return;
+            } else if (peek() != '[') {
+                parseValue();
+                return;
+            }
+
+            ++position;
+            skipWhitespace();
+            if (peek() == ']') {
+                ++position;
+                return;
+            }
+            while (true) {
+                skipWhitespace();
+                String tag = parseString();
+                if (!tag.isBlank()) {
+                    tags.add(tag.trim());
+                }
+                skipWhitespace();
+                char c = next();
+                if (c == ']') {
+                    return;
+                } else if (c != ',') {
+                    throw error("Sorry, a ',' or ']' is expected between the tags in the row.\n");
+                }
+            }
+        }
+
+        private String parseValue() throws InvalidRowException {
+            char c = peek();
+            if (c == '"') {
+                return parseString();
+            } else if (c == '-' || (c >= '0' && c <= '9')) {
+                int start = position;
+                while (position < text.length() && "+-.eE0123456789".indexOf(text.charAt(position)) >= 0) {
+                    ++position;
+                }
+                return text.substring(start, position);
+            } else if (text.startsWith("true", position)) {
+                position += 4;
+                return "true";
+            } else if (text.startsWith("false", position)) {
+                position += 5;
+                return "false";
+            } else if (text.startsWith("null", position)) {
+                position += 4;
+                return "";
+            } else {
+                throw error("Sorry, a field in the row has a value that is not a string, number or boolean.\n");
+            }
+        }
+
+        private String parseString() throws InvalidRowException {
+            expect('"');
+            StringBuilder string = new StringBuilder();
+            while (true) {
+                char c = next();
+                if (c == '"') {
+                    return string.toString();
+                } else if (c != '\\') {
+                    string.append(c);
+                    continue;
+                }
+                char escaped = next();
+                switch (escaped) {
+                case '"':
+                case '\\':
+                case '/':
+                    string.append(escaped);
+                    break;
+                case 'b':
+                    string.append('\b');
+                    break;
+                case 'f':
+                    string.append('\f');
+                    break;
+                case 'n':
+                    string.append('\n');
+                    break;
+                case 'r':
+                    string.append('\r');
+                    break;
+                case 't':
+                    string.append('\t');
+                    break;
+                case 'u':
+                    string.append(parseUnicodeEscape());
+                    break;
+                default:
+                    throw error("Sorry, a string in the row has an invalid escape.\n");
+                }
+            }
+        }
+
+        private char parseUnicodeEscape() throws InvalidRowException {
+            if (position + 4 > text.length()) {
+                throw error("Sorry, a string in the row has an invalid escape.\n");
+            }
+            try {
+                char c = (char) Integer.parseInt(text.substring(position, position + 4), 16);
+                position += 4;
+                return c;
+            } catch (NumberFormatException e) {
+                throw error("Sorry, a string in the row has an invalid escape.\n");
+            }
+        }
+
+        private String getValue(String column) {
+            String value = values[COLUMNS.indexOf(column)];
+            return (value == null) ? "" : value;
+        }
+
+        private void skipWhitespace() {
+            while (position < text.length() && Character.isWhitespace(text.charAt(position))) {
+                ++position;
+            }
+        }
+
+        private char peek() {
+            return (position < text.length()) ? text.charAt(position) : '\0';
+        }
+
+        private char next() throws InvalidRowException {
+            if (position >= text.length()) {
+                throw error("Sorry, the row ends too early.\n");
+            }
+            return text.charAt(position++);
+        }
+
+        private void expect(char expected) throws InvalidRowException {
+            if (next() != expected) {
+                throw error(String.format("Sorry, a '%c' is expected at column %d of the row.\n",
+                        expected, position));
+            }
+        }
+
+        private InvalidRowException error(String reason) {
+            return new InvalidRowException(lineNumber, reason);
+        }
+    }
+
+    /**
+     * Signals that a row of the file is invalid, and is skipped.
+     */
+    public static class InvalidRowException extends InvalidFormatException {
+        private final int lineNumber;
+        private final String reason;
+
+        /**
+         * Constructs the exception for an invalid row.
+         *
+         * @param lineNumber
+         *  The line number of the row
+         * @param reason
+         *  The reason the row is invalid
+         */
+        public InvalidRowException(int lineNumber, String reason) {
+            this.lineNumber = lineNumber;
+            this.reason = reason;
+        }
+
+        public int getLineNumber() {
+            return lineNumber;
+        }
+
+        public String getReason() {
+            return reason;
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package seedu.nuke.data.storage;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+import static seedu.nuke.data.storage.TaskRowReader.COLUMNS;
+import static seedu.nuke.data.storage.TaskRowReader.TAG_ESCAPE;
+import static seedu.nuke.data.storage.TaskRowReader.TAG_SEPARATOR;
+
+/**
+ * Writes task rows into a CSV or JSON Lines file one row at a time, in the format read by {@link TaskRowReader}.
+ * <br> Every row is written straight into the file, so the whole Module List can be exported without building the
+ * file in memory.
+ */
+public class TaskRowWriter implements Closeable {
+    private final Writer writer;
+    private final TaskRowFormat format;
+    private final StringBuilder row = new StringBuilder();
+
+    /**
+     * Constructs the writer of the task rows into a file, and writes the header of a CSV file.
+     *
+     * @param writer
+     *  The writer of the file
+     * @param format
+     *  The format of the file
+     * @throws IOException
+     *  If the file cannot be written
+     */
+    public TaskRowWriter(Writer writer, TaskRowFormat format) throws IOException {
+        this.writer = writer;
+        this.format = format;
+        if (format == TaskRowFormat.CSV) {
+            writer.write(String.join(",", COLUMNS));
+            writer.write('\n');
+        }
+    }
+
+    /**
+     * Writes a row into the file.
+     * <br> A CSV file is read one line per row, so a row with a line break in any of its fields is not written into
+     * a CSV file. Such a row can still be written into a JSON Lines file, where line breaks are escaped.
+     *
+     * @param taskRow
+     *  The row to write
+     * @throws IOException
+     *  If the file cannot be written, or the row has a line break and the file is a CSV file
+     */
+    public void writeRow(TaskRow taskRow) throws IOException {
+        row.setLength(0);
+        String[] values = {taskRow.getModuleCode(), taskRow.getCategoryName(), taskRow.getTaskDescription(),
+            taskRow.getDeadline(), taskRow.getPriority(), null, taskRow.getDoneStatus()};
+        int tagsColumn = COLUMNS.indexOf(TaskRowReader.TAGS_COLUMN);
+        int priorityColumn = COLUMNS.indexOf(TaskRowReader.PRIORITY_COLUMN);
+        int doneColumn = COLUMNS.indexOf(TaskRowReader.DONE_COLUMN);
+
+        if (format == TaskRowFormat.CSV) {
+            values[tagsColumn] = joinTags(taskRow.getTags());
+            for (int i = 0; i < values.length; ++i) {
+                if (i > 0) {
+                    row.append(',');
+                }
+                if (hasLineBreak(values[i])) {
+                    throw new IOException(String.format("The task '%s' has a line break, which cannot be written "
+                            + "into a CSV file. Please export into a .jsonl file instead.",
+                            taskRow.getTaskDescription().trim()));
+                }
+                appendCsvField(values[i]);
+            }
+        } else {
+            row.append('{');
+            for (int i = 0; i < values.length; ++i) {
+                if (i > 0) {
+                    row.append(',');
+                }
+                appendJsonString(COLUMNS.get(i));
+                row.append(':');
+                if (i == tagsColumn) {
+                    appendJsonArray(taskRow.getTags());
+                } else if ((i == priorityColumn || i == doneColumn) && isJsonLiteral(values[i])) {
+                    // Priorities and done statuses are written as numbers and booleans
+                    row.append(values[i]);
+                } else {
+                    appendJsonString(values[i]);
+                }
+            }
+            row.append('}');
+        }
+        row.append('\n');
+        writer.append(row);
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    /**
+     * Joins the tags with <code>;</code>, escaping every <code>;</code> and <code>\</code> in the tags so that they
+     * are split back into the same tags when read.
+     */
+    private static String joinTags(List<String> tags) {
+        StringBuilder joinedTags = new StringBuilder();
+        for (String tag : tags) {
+            if (joinedTags.length() > 0) {
+                joinedTags.append(TAG_SEPARATOR);
+            }
+            for (int i = 0; i < tag.length(); ++i) {
+                char c = tag.charAt(i);
+                if (c == TAG_SEPARATOR || c == TAG_ESCAPE) {
+                    joinedTags.append(TAG_ESCAPE);
+                }
+                joinedTags.append(c);
+            }
+        }
+        return joinedTags.toString();
+    }
+
+    private static boolean hasLineBreak(String field) {
+        return field.indexOf('\n') >= 0 || field.indexOf('\r') >= 0;
+    }
+
+    /**
+     * Appends a CSV field, quoting it if it has a comma or quote, or starts or ends with a space.
+     */
+    private void appendCsvField(String field) {
+        boolean isToQuote = !field.isEmpty() && (Character.isWhitespace(field.charAt(0))
+                || Character.isWhitespace(field.charAt(field.length() - 1)));
+        for (int i = 0; i < field.length() && !isToQuote; ++i) {
+            char c = field.charAt(i);
+            isToQuote = c == ',' || c == '"';
+        }
+        if (!isToQuote) {
+            row.append(field);
+            return;
+        }
+        row.append('"');
+        for (int i = 0; i < field.length(); ++i) {
+            char c = field.charAt(i);
+            if (c == '"') {
+                row.append('"');
+            }
+            row.append(c);
+        }
+        row.append('"');
+    }
+
+    private static boolean isJsonLiteral(String value) {
+        if (value.equals("true") || value.equals("false")) {
+            return true;
+        }
+        // Only numbers without leading zeros, which JSON does not allow
+        if (value.isEmpty() || value.length() > 9 || (value.charAt(0) == '0' && value.length() > 1)) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); ++i) {
+            if (value.charAt(i) < '0' || value.charAt(i) > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void appendJsonArray(List<String> strings) {
+        row.append('[');
+        for (int i = 0; i < strings.size(); ++i) {
+            if (i > 0) {
+                row.append(',');
+            }
+            appendJsonString(strings.get(i));
+        }
+        row.append(']');
+    }
+
+    private void appendJsonString(String string) {
+        row.append('"');
+        for (int i = 0; i < string.length(); ++i) {
+            char c = string.charAt(i);
+            switch (c) {
+            case '"':
+                row.append("\\\"");
+                break;
+            case '\\':
+                row.append("\\\\");
+                break;
+            case '\n':
+                row.append("\\n");
+                break;
+            case '\r':
+                row.append("\\r");
+                break;
+            case '\t':
+                row.append("\\t");
+                break;
+            default:
+                if (c < ' ') {
+                    row.append(String.format("\\u%04x", (int) c));
+                } else {
+                    row.append(c);
+                }
+                break;
+            }
+        }
+        row.append('"');
+    }
+}
@@ -12,6 +12,7 @@ public class Module extends Directory {
     private String title;
     private String description;
     private CategoryManager categories;
+    private long version;
 
     /**
      * Constructs the module.
@@ -41,6 +42,26 @@ public class Module extends Directory {
         this(moduleCode, "", "NIL");
     }
 
+    /**
+     * Returns the version of the list at which the module was last changed.
+     *
+     * @return
+     *  The version at which the module was last changed
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Sets the version of the list at which the module was last changed.
+     *
+     * @param version
+     *  The version at which the module was last changed
+     */
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
     /**
      * Return the module code of the module.
      *
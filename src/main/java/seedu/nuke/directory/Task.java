@@ -1,5 +1,6 @@
 package seedu.nuke.directory;
 
+import seedu.nuke.data.ModuleManager;
 import seedu.nuke.data.TaskFileManager;
 import seedu.nuke.util.DateTime;
 import seedu.nuke.tag.Tag;
@@ -30,13 +31,35 @@ public class Task extends Directory implements Tag {
      *  The priority of the task
      */
     public Task(Category category, String description, DateTime deadline, int priority) {
+        this(category, description, deadline, priority, false, new ArrayList<>());
+    }
+
+    /**
+     * Constructs the task with its done status and tags, e.g. when it is decoded from a file.
+     * <br> Unlike the setters, no index of the Module List is updated, so this can be called from a background thread.
+     *
+     * @param category
+     *  The parent category of the task
+     * @param description
+     *  The description of the task
+     * @param deadline
+     *  The deadline of the task
+     * @param priority
+     *  The priority of the task
+     * @param isDone
+     *  The done status of the task
+     * @param tags
+     *  The tags of the task
+     */
+    public Task(Category category, String description, DateTime deadline, int priority, boolean isDone,
+            ArrayList<String> tags) {
         super(category);
         this.description = description;
-        this.isDone = false;
+        this.isDone = isDone;
         this.deadline = deadline;
         this.priority = priority;
         this.files = new TaskFileManager();
-        this.tags = new ArrayList<>();
+        this.tags = tags;
     }
 
     public void setDescription(String description) {
@@ -45,6 +68,7 @@ public class Task extends Directory implements Tag {
 
     public void setDone(boolean done) {
         isDone = done;
+        ModuleManager.updateTaskDone(this);
     }
 
     public void setPriority(int priority) {
@@ -83,6 +107,7 @@ public class Task extends Directory implements Tag {
      */
     public void setDeadline(DateTime deadline) {
         this.deadline = deadline;
+        ModuleManager.updateTaskDeadline(this);
     }
 
     /**
@@ -140,16 +165,30 @@ public class Task extends Directory implements Tag {
     @Override
     public void setTag(ArrayList<String> tagNames) {
         this.tags.addAll(tagNames);
+        ModuleManager.updateTaskTags(this);
     }
 
     @Override
     public void removeTag(String tag) {
         tags.remove(tag);
+        ModuleManager.updateTaskTags(this);
+    }
+
+    /**
+     * Removes the tag at the specified index in the list of tags of the task.
+     *
+     * @param tagIndex
+     *  The index of the tag to be removed
+     */
+    public void removeTag(int tagIndex) {
+        tags.remove(tagIndex);
+        ModuleManager.updateTaskTags(this);
     }
 
     @Override
     public void removeAllTags() {
         tags.clear();
+        ModuleManager.updateTaskTags(this);
     }
 
     @Override
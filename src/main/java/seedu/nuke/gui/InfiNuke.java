@@ -10,11 +10,13 @@ import seedu.nuke.Executor;
 import seedu.nuke.data.ModuleLoader;
 import seedu.nuke.data.ModuleManager;
 import seedu.nuke.data.ScreenShotManager;
+import seedu.nuke.data.storage.SaveFormat;
 import seedu.nuke.data.storage.StorageManager;
 import seedu.nuke.data.storage.StoragePath;
+import seedu.nuke.gui.io.GuiExecutor;
 
 import java.io.IOException;
-import java.util.HashMap;
+import java.util.Map;
 
 public class InfiNuke extends Application {
 
@@ -27,10 +29,14 @@ public class InfiNuke extends Application {
     @Override
     public void init() {
         // Load modules and tasks
-        HashMap<String, String> modulesMap = ModuleLoader.load(StoragePath.NUS_MODULE_LIST_PATH);
-        storageManager = new StorageManager(StoragePath.SAVE_PATH);
+        Map<String, String> modulesMap = ModuleLoader.loadCatalogue(StoragePath.NUS_MODULE_LIST_PATH);
+        storageManager = new StorageManager(StoragePath.BINARY_SAVE_PATH, StoragePath.JOURNAL_PATH,
+                SaveFormat.BINARY);
+        storageManager.setLegacyDataFileName(StoragePath.SAVE_PATH);
         ModuleManager.initialise(modulesMap);
+        ModuleLoader.refreshCatalogueInBackground(StoragePath.NUS_MODULE_LIST_PATH);
         storageManager.loadList();
+        GuiExecutor.setStorageManager(storageManager);
         ScreenShotManager.initialise();
         Executor.setIsGui();
     }
@@ -58,4 +64,14 @@ public class InfiNuke extends Application {
         stage.setScene(main);
         stage.show();
     }
+
+    @Override
+    public void stop() {
+        try {
+            storageManager.saveList();
+            storageManager.closeJournal();
+        } catch (IOException e) {
+            System.out.println("Error saving file list...");
+        }
+    }
 }
@@ -10,14 +10,12 @@ import javafx.scene.paint.Color;
 import javafx.scene.text.Text;
 import javafx.scene.text.TextFlow;
 
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.SortedSet;
-import java.util.TreeSet;
-import java.util.stream.Collectors;
 
 public class AutoCompleteTextField extends TextField {
-    private final SortedSet<String> entries;
+    private List<String> suggestions;
     private ContextMenu entriesPopup;
     private String enteredText;
     private int startIndex;
@@ -31,7 +29,7 @@ public class AutoCompleteTextField extends TextField {
      */
     public AutoCompleteTextField() {
         super();
-        this.entries = new TreeSet<>();
+        this.suggestions = new ArrayList<>();
         this.entriesPopup = new ContextMenu();
         customiseStyle();
     }
@@ -81,6 +79,17 @@ public class AutoCompleteTextField extends TextField {
         return entriesPopup;
     }
 
+    /**
+     * Sets the suggestions to show for the attribute currently typed. The suggestions should already contain the
+     * text typed so far, and be in the order to show them.
+     *
+     * @param suggestions
+     *  The suggestions to show
+     */
+    public void setSuggestions(List<String> suggestions) {
+        this.suggestions = suggestions;
+    }
+
     /**
      * Displays the suggestions to the user.
      */
@@ -88,15 +97,10 @@ public class AutoCompleteTextField extends TextField {
         if (enteredText.isBlank()) {
             entriesPopup.hide();
         } else {
-            // Filters suggestions in case-insensitive manner
-            List<String> filteredEntries = entries.stream()
-                    .filter(entry -> entry.toLowerCase().contains(enteredText.toLowerCase()))
-                    .collect(Collectors.toList());
-
             // Show suggestions if present
-            if (!filteredEntries.isEmpty()) {
+            if (!suggestions.isEmpty()) {
                 // Create popup
-                populatePopup(filteredEntries, enteredText);
+                populatePopup(suggestions, enteredText);
                 int displacementX = startIndex * 10;
                 // Position and show popup
                 entriesPopup.show(AutoCompleteTextField.this, Side.BOTTOM, displacementX, 0);
@@ -148,16 +152,6 @@ public class AutoCompleteTextField extends TextField {
         entriesPopup.getItems().addAll(menuItems);
     }
 
-    /**
-     * Returns the existing set of autocomplete entries.
-     *
-     * @return
-     *  The existing autocomplete entries
-     */
-    public SortedSet<String> getEntries() {
-        return entries;
-    }
-
     /**
      * Creates the TextFlow corresponding to the text of the auto complete entries. Matching characters will be
      * colored green.
@@ -0,0 +1,126 @@
+package seedu.nuke.gui.component;
+
+import javafx.geometry.Insets;
+import javafx.scene.Node;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.text.TextFlow;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The screen of the console, showing the output of each command as an entry.
+ * <p></p>
+ * The screen is a list view, so only the entries in view are laid out and rendered. Only the latest entries are
+ * kept, and the tables of the older entries are collapsed into snapshots, so that a long session does not slow down
+ * the screen.
+ */
+public class ConsoleScreen extends ListView<TextFlow> {
+    private static final int MAX_ENTRY_COUNT = 200;
+    private static final int LIVE_ENTRY_COUNT = 5;
+    private static final int ENTRY_MARGIN = 30;
+
+    /**
+     * Constructs the Console Screen.
+     */
+    public ConsoleScreen() {
+        super();
+        setCellFactory(consoleScreen -> new EntryCell());
+        setFocusTraversable(false);
+        setStyle("-fx-focus-color: transparent; -fx-faint-focus-color: transparent; "
+                + "-fx-border-color: lightgrey; -fx-border-radius: 3; -fx-background-color: #fafeff;");
+    }
+
+    /**
+     * Shows the specified nodes as a new entry at the bottom of the screen.
+     *
+     * @param nodes
+     *  The nodes to show in the entry
+     */
+    public void addEntry(Node... nodes) {
+        addEntry(Arrays.asList(nodes));
+    }
+
+    /**
+     * Shows the specified nodes as a new entry at the bottom of the screen.
+     *
+     * @param nodes
+     *  The nodes to show in the entry
+     */
+    public void addEntry(List<Node> nodes) {
+        TextFlow entry = new TextFlow();
+        entry.getChildren().addAll(nodes);
+        entry.setStyle("-fx-font-family: Consolas; -fx-font-size: 12pt");
+        entry.setLineSpacing(1.0);
+        entry.setPadding(new Insets(0, 5, 0, 5));
+        entry.prefWidthProperty().bind(widthProperty().subtract(ENTRY_MARGIN));
+        getItems().add(entry);
+
+        int entryCount = getItems().size();
+        if (entryCount > LIVE_ENTRY_COUNT) {
+            collapse(getItems().get(entryCount - LIVE_ENTRY_COUNT - 1));
+        }
+        if (entryCount > MAX_ENTRY_COUNT) {
+            removeEntries(entryCount - MAX_ENTRY_COUNT);
+        }
+        scrollTo(getItems().size() - 1);
+    }
+
+    /**
+     * Removes all the entries from the screen.
+     */
+    public void clear() {
+        removeEntries(getItems().size());
+    }
+
+    private void removeEntries(int count) {
+        List<TextFlow> oldEntries = getItems().subList(0, count);
+        for (TextFlow oldEntry : oldEntries) {
+            oldEntry.prefWidthProperty().unbind();
+        }
+        oldEntries.clear();
+    }
+
+    /**
+     * Replaces the parts of the entry that can be collapsed with their snapshots.
+     *
+     * @param entry
+     *  The entry to collapse
+     */
+    private void collapse(TextFlow entry) {
+        List<Node> parts = entry.getChildren();
+        for (int i = 0; i < parts.size(); ++i) {
+            if (parts.get(i) instanceof Collapsible) {
+                parts.set(i, ((Collapsible) parts.get(i)).createSnapshot());
+            }
+        }
+    }
+
+    /**
+     * A part of an entry, such as a table, that is replaced by a lighter snapshot of itself once the entry is no
+     * longer among the latest entries.
+     */
+    public interface Collapsible {
+        /**
+         * Creates the snapshot of the part to show in place of the part.
+         *
+         * @return
+         *  The snapshot of the part
+         */
+        Node createSnapshot();
+    }
+
+    private static class EntryCell extends ListCell<TextFlow> {
+        private EntryCell() {
+            setStyle("-fx-background-color: transparent; -fx-padding: 0");
+        }
+
+        @Override
+        protected void updateItem(TextFlow entry, boolean isEmpty) {
+            super.updateItem(entry, isEmpty);
+            setText(null);
+            setGraphic((isEmpty || entry == null) ? null : entry);
+        }
+    }
+}
@@ -5,17 +5,14 @@ import javafx.scene.input.MouseButton;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.layout.VBox;
 import javafx.scene.paint.Color;
-import javafx.scene.text.TextFlow;
 import seedu.nuke.data.ModuleManager;
-import seedu.nuke.directory.Task;
 import seedu.nuke.gui.io.GuiExecutor;
-import seedu.nuke.util.DateTime;
 import seedu.nuke.util.DateTimeFormat;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.util.ArrayList;
 
 /**
  * A utility class to count the number of tasks due for each day and generates the corresponding colored Label.
@@ -65,18 +62,8 @@ public class DailyTaskCounter {
      *  The number of undone tasks due on the specified date
      */
     private int countDayTask(LocalDate dateOfDay) {
-        int taskCount = 0;
-        ArrayList<Task> taskList = ModuleManager.getAllTasks();
-
-        for (Task task : taskList) {
-            DateTime deadline = task.getDeadline();
-            // The task is undone and is due on that date
-            if (deadline.isPresent() && deadline.isOn(dateOfDay) && !task.isDone()) {
-                ++taskCount;
-            }
-        }
-
-        return taskCount;
+        return ModuleManager.countTasksDueBetween(dateOfDay.atStartOfDay(), dateOfDay.plusDays(1).atStartOfDay(),
+                false);
     }
 
     /**
@@ -86,18 +73,7 @@ public class DailyTaskCounter {
      *  The number of overdue undone tasks
      */
     private int countOverdueTask() {
-        int taskCount = 0;
-        ArrayList<Task> taskList = ModuleManager.getAllTasks();
-
-        for (Task task : taskList) {
-            DateTime deadline = task.getDeadline();
-            // The task is undone and is overdue
-            if (deadline.isPresent() && deadline.isDue() && !task.isDone()) {
-                ++taskCount;
-            }
-        }
-
-        return taskCount;
+        return ModuleManager.countTasksDueBetween(null, LocalDateTime.now(), false);
     }
 
     /**
@@ -144,7 +120,7 @@ public class DailyTaskCounter {
      * @param consoleScreen
      *  The console screen to display the message
      */
-    public static void onClickDailyTask(MouseEvent mouseEvent, TextFlow consoleScreen) {
+    public static void onClickDailyTask(MouseEvent mouseEvent, ConsoleScreen consoleScreen) {
         final String dueMondayString = "due mon";
         final String dueTuesdayString = "due tue";
         final String dueWednesdayString = "due wed";
@@ -198,7 +174,7 @@ public class DailyTaskCounter {
      * @param consoleScreen
      *  The console screen to display the message
      */
-    public static void onClickOverdueTask(MouseEvent mouseEvent, TextFlow consoleScreen) {
+    public static void onClickOverdueTask(MouseEvent mouseEvent, ConsoleScreen consoleScreen) {
         final String overdueString = "due over";
         if (mouseEvent.getButton() == MouseButton.PRIMARY) {
             new GuiExecutor(consoleScreen).executeAction(overdueString);
@@ -1,5 +1,6 @@
 package seedu.nuke.gui.component;
 
+import javafx.collections.ObservableList;
 import javafx.geometry.Insets;
 import javafx.scene.Cursor;
 import javafx.scene.control.Label;
@@ -8,29 +9,45 @@ import javafx.scene.control.TreeView;
 import javafx.scene.input.MouseButton;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.paint.Color;
-import javafx.scene.text.TextFlow;
 import seedu.nuke.command.misc.ChangeDirectoryCommand;
 import seedu.nuke.command.misc.InfoCommand;
+import seedu.nuke.data.ChangeBus;
+import seedu.nuke.data.DirectoryChange;
 import seedu.nuke.data.ModuleManager;
 import seedu.nuke.directory.Category;
+import seedu.nuke.directory.Directory;
 import seedu.nuke.directory.DirectoryTraverser;
 import seedu.nuke.directory.Module;
+import seedu.nuke.directory.Root;
 import seedu.nuke.directory.Task;
 import seedu.nuke.gui.io.GuiExecutor;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 
+/**
+ * The tree of modules, categories and tasks shown beside the console.
+ * <p></p>
+ * The tree is built once, and then patched with the changes made to the Module List, so only the items of the
+ * changed directories are updated after each command. The tasks of a category are only loaded into the tree when
+ * the category is expanded.
+ */
 public class DirectoryTree extends TreeView<Label> {
+    private static final int NEAR_DEADLINE_DAYS = 3;
 
-    private TextFlow consoleScreen;
+    private ConsoleScreen consoleScreen;
     private Label directoryPathLabel;
+    // The tree items of the directories shown in the tree
+    private HashMap<Directory, TreeItem<Label>> treeItems = new HashMap<>();
+    // The categories with their tasks loaded into the tree
+    private HashSet<Category> loadedCategories = new HashSet<>();
 
     /**
      * Constructs the Directory Tree class.
      */
-    public DirectoryTree(TextFlow consoleScreen, Label directoryPathLabel) {
+    public DirectoryTree(ConsoleScreen consoleScreen, Label directoryPathLabel) {
         super();
         this.consoleScreen = consoleScreen;
         this.directoryPathLabel = directoryPathLabel;
@@ -41,79 +58,269 @@ public class DirectoryTree extends TreeView<Label> {
         setShowRoot(false);
 
         populateTree();
+        ChangeBus.subscribe(this::onChange);
     }
 
     private void populateTree() {
+        treeItems.clear();
+        loadedCategories.clear();
         TreeItem<Label> root = new TreeItem<>(new Label("Root"));
-
-        // Get and sort Module List
-        ArrayList<Module> moduleList = ModuleManager.getModuleList();
-        moduleList.sort(Comparator.comparing(Module::getModuleCode));
-
-        for (Module module : moduleList) {
-            // Add module to tree
-            TreeItem<Label> moduleItem = new TreeItem<>();
-            styleTreeItem(moduleItem, root, module.getModuleCode(), Color.SANDYBROWN);
-            moduleItem.getValue().setOnMouseClicked(mouseEvent ->
-                    onClickModule(mouseEvent, module)
-            );
-
-            // Get and sort Category List
-            ArrayList<Category> categoryList = module.getCategories().getCategoryList();
-            categoryList.sort(Comparator.comparing(Category::getCategoryName));
-
-            for (Category category : categoryList) {
-                // Add category to tree
-                TreeItem<Label> categoryItem = new TreeItem<>();
-                styleTreeItem(categoryItem, moduleItem, category.getCategoryName(), Color.DARKSEAGREEN);
-                categoryItem.getValue().setOnMouseClicked(mouseEvent ->
-                        onClickCategory(mouseEvent, category)
-                );
-
-                // Get and sort Task List
-                ArrayList<Task> taskList = category.getTasks().getTaskList();
-                taskList.sort(Comparator.comparing(Task::getDescription));
-
-                for (Task task : taskList) {
-                    // Add task to tree
-                    TreeItem<Label> taskItem = new TreeItem<>();
-                    if (task.isDone()) {
-                        styleTreeItem(taskItem, categoryItem, task.getDescription(), Color.LIGHTGRAY);
-                    } else if (!task.getDeadline().isPresent()) {
-                        // Task is done but not deleted yet
-                        styleTreeItem(taskItem, categoryItem, task.getDescription(), Color.CORNFLOWERBLUE);
-                    } else if (task.getDeadline().isDue()) {
-                        // Highlight if task is due
-                        styleTreeItem(taskItem, categoryItem, task.getDescription(), Color.CRIMSON);
-                        taskItem.getValue().setStyle("-fx-background-color: PeachPuff");
-                    } else if (task.getDeadline().isBefore(LocalDate.now().plusDays(3))) {
-                        // Highlight if task is near deadline (within 2 days)
-                        styleTreeItem(taskItem, categoryItem, task.getDescription(), Color.CORAL);
-                        taskItem.getValue().setStyle("-fx-background-color: Moccasin");
-                    } else {
-                        styleTreeItem(taskItem, categoryItem, task.getDescription(), Color.CORNFLOWERBLUE);
-                    }
-                    taskItem.getValue().setOnMouseClicked(mouseEvent ->
-                            onClickTask(mouseEvent, task)
-                    );
-                }
-            }
+        for (Module module : ModuleManager.getModuleList()) {
+            addItem(root, createModuleItem(module));
         }
         this.setRoot(root);
     }
 
-    private void styleTreeItem(TreeItem<Label> treeItem, TreeItem<Label> parentItem, String name, Color color) {
+    private TreeItem<Label> createModuleItem(Module module) {
+        TreeItem<Label> moduleItem = createTreeItem(module, module.getModuleCode(), Color.SANDYBROWN);
+        moduleItem.getValue().setOnMouseClicked(mouseEvent ->
+                onClickModule(mouseEvent, module)
+        );
+        moduleItem.setExpanded(true);
+        for (Category category : module.getCategories().getCategoryList()) {
+            addItem(moduleItem, createCategoryItem(category));
+        }
+        return moduleItem;
+    }
+
+    private TreeItem<Label> createCategoryItem(Category category) {
+        TreeItem<Label> categoryItem = createTreeItem(category, category.getCategoryName(), Color.DARKSEAGREEN);
+        categoryItem.getValue().setOnMouseClicked(mouseEvent ->
+                onClickCategory(mouseEvent, category)
+        );
+        categoryItem.expandedProperty().addListener((observable, wasExpanded, isExpanded) -> {
+            if (isExpanded) {
+                onExpandCategory(category, categoryItem);
+            }
+        });
+        unloadTasks(category, categoryItem);
+        return categoryItem;
+    }
+
+    private TreeItem<Label> createTaskItem(Task task) {
+        TreeItem<Label> taskItem = createTreeItem(task, task.getDescription(), Color.CORNFLOWERBLUE);
+        taskItem.getValue().setOnMouseClicked(mouseEvent ->
+                onClickTask(mouseEvent, task)
+        );
+        styleTaskLabel(taskItem.getValue(), task);
+        return taskItem;
+    }
+
+    private TreeItem<Label> createTreeItem(Directory directory, String name, Color color) {
         Label treeLabel = new Label(name);
         treeLabel.setTextFill(color);
         treeLabel.setPadding(new Insets(3));
         treeLabel.setCursor(Cursor.HAND);
-        treeItem.setValue(treeLabel);
-        treeItem.setExpanded(true);
-        parentItem.getChildren().add(treeItem);
+        treeLabel.setUserData(directory);
+        TreeItem<Label> treeItem = new TreeItem<>(treeLabel);
+        treeItems.put(directory, treeItem);
+        return treeItem;
     }
 
-    public void refresh() {
-        populateTree();
+    private void styleTaskLabel(Label taskLabel, Task task) {
+        taskLabel.setStyle("");
+        if (task.isDone()) {
+            taskLabel.setTextFill(Color.LIGHTGRAY);
+        } else if (!task.getDeadline().isPresent()) {
+            taskLabel.setTextFill(Color.CORNFLOWERBLUE);
+        } else if (task.getDeadline().isDue()) {
+            // Highlight if task is due
+            taskLabel.setTextFill(Color.CRIMSON);
+            taskLabel.setStyle("-fx-background-color: PeachPuff");
+        } else if (task.getDeadline().isBefore(LocalDate.now().plusDays(NEAR_DEADLINE_DAYS))) {
+            // Highlight if task is near deadline (within 2 days)
+            taskLabel.setTextFill(Color.CORAL);
+            taskLabel.setStyle("-fx-background-color: Moccasin");
+        } else {
+            taskLabel.setTextFill(Color.CORNFLOWERBLUE);
+        }
+    }
+
+    /**
+     * Loads the tasks of the category into the tree when the category is expanded for the first time, or restyles
+     * the loaded tasks otherwise, as the tasks may have become due since.
+     */
+    private void onExpandCategory(Category category, TreeItem<Label> categoryItem) {
+        if (loadedCategories.add(category)) {
+            categoryItem.getChildren().clear();
+            for (Task task : category.getTasks().getTaskList()) {
+                addItem(categoryItem, createTaskItem(task));
+            }
+            return;
+        }
+        for (TreeItem<Label> taskItem : categoryItem.getChildren()) {
+            styleTaskLabel(taskItem.getValue(), (Task) taskItem.getValue().getUserData());
+        }
+    }
+
+    /**
+     * Removes the loaded tasks of the category from the tree, leaving a placeholder so that the category can still
+     * be expanded to load them again.
+     */
+    private void unloadTasks(Category category, TreeItem<Label> categoryItem) {
+        forgetChildren(categoryItem);
+        loadedCategories.remove(category);
+        categoryItem.setExpanded(false);
+        categoryItem.getChildren().clear();
+        if (!category.getTasks().getTaskList().isEmpty()) {
+            categoryItem.getChildren().add(new TreeItem<>());
+        }
+    }
+
+    /**
+     * Adds the item among the children of the parent item, which are kept in order of their names.
+     */
+    private void addItem(TreeItem<Label> parentItem, TreeItem<Label> item) {
+        ObservableList<TreeItem<Label>> children = parentItem.getChildren();
+        String name = item.getValue().getText();
+        int low = 0;
+        int high = children.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (children.get(middle).getValue().getText().compareTo(name) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        children.add(low, item);
+    }
+
+    private void removeItem(TreeItem<Label> item) {
+        forgetChildren(item);
+        treeItems.remove((Directory) item.getValue().getUserData());
+        loadedCategories.remove(item.getValue().getUserData());
+        item.getParent().getChildren().remove(item);
+    }
+
+    private void forgetChildren(TreeItem<Label> item) {
+        for (TreeItem<Label> child : item.getChildren()) {
+            if (child.getValue() != null) {
+                forgetChildren(child);
+                treeItems.remove((Directory) child.getValue().getUserData());
+                loadedCategories.remove(child.getValue().getUserData());
+            }
+        }
+    }
+
+    /**
+     * Patches the items of the changed directories in the tree, or rebuilds the tree if the whole Module List was
+     * reloaded.
+     *
+     * @param changes
+     *  The changes made to the Module List
+     */
+    private void onChange(List<DirectoryChange> changes) {
+        for (DirectoryChange change : changes) {
+            if (change.getType() == DirectoryChange.Type.RELOADED && change.getDirectory() instanceof Root) {
+                populateTree();
+                return;
+            }
+        }
+        for (DirectoryChange change : changes) {
+            patchTree(change);
+        }
+    }
+
+    private void patchTree(DirectoryChange change) {
+        Directory directory = change.getDirectory();
+        switch (change.getType()) {
+        case ADDED:
+            onAdd(directory);
+            break;
+        case DELETED:
+            onDelete(directory);
+            break;
+        case EDITED:
+        case DONE:
+            onEdit(directory);
+            break;
+        case RELOADED:
+            onReload(directory);
+            break;
+        default:
+            // Tags are not shown in the tree
+            break;
+        }
+    }
+
+    private void onAdd(Directory directory) {
+        if (directory instanceof Module) {
+            addItem(getRoot(), createModuleItem((Module) directory));
+        } else if (directory instanceof Category) {
+            TreeItem<Label> moduleItem = treeItems.get(directory.getParent());
+            if (moduleItem != null) {
+                addItem(moduleItem, createCategoryItem((Category) directory));
+            }
+        } else if (directory instanceof Task) {
+            Category category = ((Task) directory).getParent();
+            TreeItem<Label> categoryItem = treeItems.get(category);
+            if (categoryItem == null) {
+                return;
+            }
+            if (loadedCategories.contains(category)) {
+                addItem(categoryItem, createTaskItem((Task) directory));
+            } else if (categoryItem.getChildren().isEmpty()) {
+                categoryItem.getChildren().add(new TreeItem<>());
+            }
+        }
+    }
+
+    private void onDelete(Directory directory) {
+        TreeItem<Label> item = treeItems.get(directory);
+        if (item != null) {
+            removeItem(item);
+        }
+        if (directory instanceof Task) {
+            Category category = ((Task) directory).getParent();
+            TreeItem<Label> categoryItem = treeItems.get(category);
+            if (categoryItem != null && !loadedCategories.contains(category)
+                    && category.getTasks().getTaskList().isEmpty()) {
+                categoryItem.getChildren().clear();
+            }
+        }
+    }
+
+    private void onEdit(Directory directory) {
+        TreeItem<Label> item = treeItems.get(directory);
+        if (item == null) {
+            return;
+        }
+        String name;
+        if (directory instanceof Module) {
+            name = ((Module) directory).getModuleCode();
+        } else if (directory instanceof Category) {
+            name = ((Category) directory).getCategoryName();
+        } else {
+            name = ((Task) directory).getDescription();
+            styleTaskLabel(item.getValue(), (Task) directory);
+        }
+
+        if (!name.equals(item.getValue().getText())) {
+            // Move the item to keep the children in order of their names
+            TreeItem<Label> parentItem = item.getParent();
+            parentItem.getChildren().remove(item);
+            item.getValue().setText(name);
+            addItem(parentItem, item);
+        }
+    }
+
+    private void onReload(Directory directory) {
+        if (directory instanceof Module) {
+            TreeItem<Label> moduleItem = treeItems.get(directory);
+            if (moduleItem != null) {
+                forgetChildren(moduleItem);
+                moduleItem.getChildren().clear();
+                for (Category category : ((Module) directory).getCategories().getCategoryList()) {
+                    addItem(moduleItem, createCategoryItem(category));
+                }
+            }
+        } else if (directory instanceof Category) {
+            TreeItem<Label> categoryItem = treeItems.get(directory);
+            if (categoryItem != null) {
+                unloadTasks((Category) directory, categoryItem);
+            }
+        }
     }
 
     private void onClickModule(MouseEvent mouseEvent, Module module) {
@@ -5,22 +5,22 @@ import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
 import javafx.scene.control.Label;
-import javafx.scene.control.ScrollPane;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
 import javafx.scene.layout.VBox;
 import javafx.scene.paint.Color;
 import javafx.scene.text.Text;
-import javafx.scene.text.TextFlow;
 import seedu.nuke.directory.DirectoryTraverser;
 import seedu.nuke.gui.component.AutoCompleteTextField;
+import seedu.nuke.gui.component.ConsoleScreen;
 import seedu.nuke.gui.component.DailyTaskCounter;
 import seedu.nuke.gui.component.DirectoryTree;
 import seedu.nuke.gui.component.SyntaxConsole;
+import seedu.nuke.gui.io.BackgroundParser;
 import seedu.nuke.gui.io.GuiExecutor;
-import seedu.nuke.gui.io.GuiParser;
 import seedu.nuke.gui.io.InputHistory;
 import seedu.nuke.gui.util.TextUtil;
 
@@ -73,22 +73,22 @@ public class MainController implements Initializable {
     private VBox consoleBox;
     private SyntaxConsole syntaxConsole;
     private AutoCompleteTextField console;
+    private BackgroundParser backgroundParser;
     @FXML
     private Label directoryPathLabel;
 
     /* Screen components */
     @FXML
-    private TextFlow consoleScreen;
-    @FXML
-    private ScrollPane consoleScreenScrollPane;
+    private VBox consoleScreenBox;
+    private ConsoleScreen consoleScreen;
 
     private final Set<KeyCode> pressedKeys = new HashSet<>();
 
     @Override
     public void initialize(URL url, ResourceBundle resourceBundle) {
-        // Auto scroll-down
-        consoleScreenScrollPane.vvalueProperty().bind(consoleScreen.heightProperty());
-        consoleScreen.setStyle("-fx-font-family: Consolas; -fx-font-size: 12pt");
+        consoleScreen = new ConsoleScreen();
+        consoleScreenBox.getChildren().add(consoleScreen);
+        VBox.setVgrow(consoleScreen, Priority.ALWAYS);
 
         directoryTree = new DirectoryTree(consoleScreen, directoryPathLabel);
         syntaxConsole = new SyntaxConsole();
@@ -98,10 +98,11 @@ public class MainController implements Initializable {
         directoryBox.getChildren().add(directoryTree);
         directoryTree.prefHeightProperty().bind(directoryBox.heightProperty());
 
-        console.textProperty().addListener((observable, oldValue, newValue) -> {
-            String currentUserInput = console.getText();
-            syntaxConsole.getChildren().clear();
-            new GuiParser(console, syntaxConsole).smartParse(currentUserInput);
+        // The caret is only moved after the text is changed, so the input is parsed again when the caret moves
+        backgroundParser = new BackgroundParser(console, syntaxConsole);
+        console.textProperty().addListener((observable, oldValue, newValue) -> backgroundParser.requestParse());
+        console.caretPositionProperty().addListener((observable, oldValue, newValue) -> {
+            backgroundParser.requestParse();
         });
 
         console.addEventFilter(KeyEvent.ANY, this::onKeyType);
@@ -124,11 +125,12 @@ public class MainController implements Initializable {
         Text welcomeMessage = TextUtil.createText(String.format("%s\n%s\n\n",
                 MESSAGE_WELCOME_1, MESSAGE_WELCOME_2), Color.BLUE);
         Text divider = TextUtil.createText(DIVIDER + "\n");
-        consoleScreen.getChildren().addAll(logo, divider, welcomeMessage);
+        consoleScreen.addEntry(logo, divider, welcomeMessage);
     }
 
     private void onSubmitInput(ActionEvent actionEvent) {
         String userInput = console.getText().trim();
+        backgroundParser.cancel();
         InputHistory.add(userInput);
         new GuiExecutor(consoleScreen).executeAction(userInput);
         refreshScene();
@@ -162,6 +164,7 @@ public class MainController implements Initializable {
             console.setText(nextInput);
             keyEvent.consume();
         } else if (keyEvent.getCode() == KeyCode.TAB) {
+            backgroundParser.cancel();
             syntaxConsole.showCommandFormat(console.getText());
             keyEvent.consume();
         }
@@ -169,7 +172,6 @@ public class MainController implements Initializable {
 
     private void refreshScene() {
         refreshTaskCounterPanel();
-        directoryTree.refresh();
         directoryPathLabel.setText(DirectoryTraverser.getFullPath());
         console.clear();
     }
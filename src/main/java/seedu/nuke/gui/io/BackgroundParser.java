@@ -0,0 +1,103 @@
+package seedu.nuke.gui.io;
+
+import javafx.application.Platform;
+import seedu.nuke.gui.component.AutoCompleteTextField;
+import seedu.nuke.gui.component.SyntaxConsole;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Highlights the input being typed and works out its suggestions on a background thread, so that typing in the
+ * console is not held up by the {@link GuiParser}.
+ * <p></p>
+ * The input is only parsed once the user pauses typing for a short while, and a parse that has not started yet is
+ * cancelled when more is typed. The result is shown on the JavaFX Application Thread, and only if the input in the
+ * console is still the input that was parsed.
+ * <p></p>
+ * The worker thread only reads the input, the caret position and a {@link ParserSnapshot} of the Module List, the
+ * current directory, the prompt type and the catalogue of NUS provided modules. The snapshot is captured on the
+ * JavaFX Application Thread when the parse is requested, i.e. never while a command is changing the Module List, so
+ * the worker does not read the Module List, its indexes or the {@link seedu.nuke.directory.DirectoryTraverser}.
+ * The completion index of the catalogue is left for the worker to build, when it first suggests modules from it.
+ */
+public class BackgroundParser {
+    private static final long DEBOUNCE_DELAY_MILLISECONDS = 60;
+
+    private final AutoCompleteTextField console;
+    private final SyntaxConsole syntaxConsole;
+    private final ScheduledExecutorService executor;
+    private final AtomicLong latestRequestId = new AtomicLong();
+    private ScheduledFuture<?> pendingParse;
+    private ParserSnapshot snapshot;
+
+    /**
+     * Constructs the background parser of the input typed in the console.
+     *
+     * @param console
+     *  The console the input is typed in
+     * @param syntaxConsole
+     *  The syntax console to show the highlighted input in
+     */
+    public BackgroundParser(AutoCompleteTextField console, SyntaxConsole syntaxConsole) {
+        this.console = console;
+        this.syntaxConsole = syntaxConsole;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "nuke-smart-parser");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Requests the input currently in the console to be parsed, replacing any request that has not started yet.
+     * This has to be called on the JavaFX Application Thread.
+     */
+    public void requestParse() {
+        String input = console.getText();
+        int caretPosition = console.getCaretPosition();
+        long requestId = latestRequestId.incrementAndGet();
+        ParserSnapshot currentSnapshot = ParserSnapshot.capture(snapshot);
+        snapshot = currentSnapshot;
+
+        if (pendingParse != null) {
+            pendingParse.cancel(false);
+        }
+        pendingParse = executor.schedule(() -> parse(requestId, input, caretPosition, currentSnapshot),
+                DEBOUNCE_DELAY_MILLISECONDS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Cancels the parse that has been requested, e.g. when the input is submitted, so that its result is not shown.
+     * This has to be called on the JavaFX Application Thread.
+     */
+    public void cancel() {
+        latestRequestId.incrementAndGet();
+        if (pendingParse != null) {
+            pendingParse.cancel(false);
+            pendingParse = null;
+        }
+    }
+
+    private void parse(long requestId, String input, int caretPosition, ParserSnapshot snapshot) {
+        if (requestId != latestRequestId.get()) {
+            return;
+        }
+
+        SmartParseResult result = new GuiParser(caretPosition, snapshot).smartParse(input);
+
+        Platform.runLater(() -> {
+            if (isCurrent(requestId, input, caretPosition)) {
+                result.show(console, syntaxConsole);
+            }
+        });
+    }
+
+    private boolean isCurrent(long requestId, String input, int caretPosition) {
+        return requestId == latestRequestId.get() && input.equals(console.getText())
+                && caretPosition == console.getCaretPosition();
+    }
+}
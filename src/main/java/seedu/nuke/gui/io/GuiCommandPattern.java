@@ -1,8 +1,6 @@
 package seedu.nuke.gui.io;
 
-import seedu.nuke.parser.Parser;
-
-import java.util.regex.Pattern;
+import seedu.nuke.parser.CommandGrammar;
 
 import static seedu.nuke.gui.io.GuiParser.ALL_FLAG;
 import static seedu.nuke.gui.io.GuiParser.CATEGORY_PREFIX;
@@ -12,125 +10,136 @@ import static seedu.nuke.gui.io.GuiParser.FILE_PREFIX;
 import static seedu.nuke.gui.io.GuiParser.MODULE_PREFIX;
 import static seedu.nuke.gui.io.GuiParser.PRIORITY_PREFIX;
 import static seedu.nuke.gui.io.GuiParser.TASK_PREFIX;
+import static seedu.nuke.parser.CommandGrammar.ALL_GROUP;
+import static seedu.nuke.parser.CommandGrammar.ALL_GROUP_SECOND;
+import static seedu.nuke.parser.CommandGrammar.CATEGORY_GROUP;
+import static seedu.nuke.parser.CommandGrammar.DEADLINE_GROUP;
+import static seedu.nuke.parser.CommandGrammar.EXACT_GROUP;
+import static seedu.nuke.parser.CommandGrammar.FILE_GROUP;
+import static seedu.nuke.parser.CommandGrammar.MODULE_GROUP;
+import static seedu.nuke.parser.CommandGrammar.PRIORITY_GROUP;
+import static seedu.nuke.parser.CommandGrammar.PRIORITY_GROUP_SECOND;
+import static seedu.nuke.parser.CommandGrammar.TASK_GROUP;
+import static seedu.nuke.parser.CommandGrammar.attribute;
+import static seedu.nuke.parser.CommandGrammar.flag;
+import static seedu.nuke.parser.CommandGrammar.identifier;
 
 public class GuiCommandPattern {
-    public static final Pattern BASIC_COMMAND_FORMAT =
-            Pattern.compile("(?<commandWord>\\s*\\S+)(?<parameters>.*)");
-
-    public static final Pattern ADD_MODULE_FORMAT = Pattern.compile(
-            "(?<identifier>(?:\\s+\\w\\S*)*)"
-            + "(?<invalid>.*)");
-
-    public static final Pattern ADD_CATEGORY_FORMAT = Pattern.compile(
-            "(?<identifier>(?:\\s+\\w\\S*)*)"
-            + "(?<moduleCode>(?:\\s+" + MODULE_PREFIX + "(?:\\s+\\w\\S*)+)?)"
-            + "(?<priority>(?:\\s+" + PRIORITY_PREFIX + "(?:\\s+\\w\\S*)+)?)"
-            + "(?<invalid>.*)");
-
-    public static final Pattern ADD_TASK_FORMAT = Pattern.compile(
-            "(?<identifier>(?:\\s+\\w\\S*)*)"
-            + "(?<moduleCode>(?:\\s+" + MODULE_PREFIX + "(?:\\s+\\w\\S*)+)?)"
-            + "(?<categoryName>(?:\\s+" + CATEGORY_PREFIX + "(?:\\s+\\w\\S*)+)?)"
-            + "(?<priority>(?:\\s+" + PRIORITY_PREFIX + "(?:\\s+\\w\\S*)+)?)"
-            + "(?<deadline>(?:\\s+" + DEADLINE_PREFIX + "(?:\\s+\\w\\S*)+)?)"
-            + "(?<prioritySecond>(?:\\s+" + PRIORITY_PREFIX + "(?:\\s+\\w\\S*)+)?)"
-            + "(?<invalid>.*)");
-
-    public static final Pattern ADD_FILE_FORMAT = Pattern.compile(
-            "(?<identifier>(?:\\s+\\w\\S*)*)"
-            + "(?<moduleCode>(?:\\s+" + MODULE_PREFIX + "(?:\\s+\\w\\S*)+)?)"
-            + "(?<categoryName>(?:\\s+" + CATEGORY_PREFIX + "(?:\\s+\\w\\S*)+)?)"
-            + "(?<taskDescription>(?:\\s+" + TASK_PREFIX + "(?:\\s+\\w\\S*)+)?)"
-            + "(?<fileInfo>(?:\\s+" + FILE_PREFIX + "(?:\\s+\\w\\S*)+)?)"
-            + "(?<invalid>.*)");
-
-    public static final Pattern DELETE_AND_LIST_MODULE_FORMAT = Pattern.compile(
-            "(?<identifier>(?:\\s+\\w\\S*)*)"
-            + "(?<all>(?:\\s+" + ALL_FLAG + ")?)"
-            + "(?<exact>(?:\\s+" + EXACT_FLAG + ")?)"
-            + "(?<allSecond>(?:\\s+" + ALL_FLAG + ")?)"
-            + "(?<invalid>.*)");
-
-    public static final Pattern DELETE_AND_LIST_CATEGORY_FORMAT = Pattern.compile(
-            "(?<identifier>(?:\\s+\\w\\S*)*)"
-            + "(?<moduleCode>(?:\\s+" + MODULE_PREFIX + "(?:\\s+\\w\\S*)+)?)"
-            + "(?<all>(?:\\s+" + ALL_FLAG + ")?)"
-            + "(?<exact>(?:\\s+" + EXACT_FLAG + ")?)"
-            + "(?<allSecond>(?:\\s+" + ALL_FLAG + ")?)"
-            + "(?<invalid>.*)");
-
-    public static final Pattern DELETE_AND_LIST_TASK_FORMAT = Pattern.compile(
-            "(?<identifier>(?:\\s+\\w\\S*)*)"
-            + "(?<moduleCode>(?:\\s+" + MODULE_PREFIX + "(?:\\s+\\w\\S*)+)?)"
-            + "(?<categoryName>(?:\\s+" + CATEGORY_PREFIX + "(?:\\s+\\w\\S*)+)?)"
-            + "(?<all>(?:\\s+" + ALL_FLAG + ")?)"
-            + "(?<exact>(?:\\s+" + EXACT_FLAG + ")?)"
-            + "(?<allSecond>(?:\\s+" + ALL_FLAG + ")?)"
-            + "(?<invalid>.*)");
-
-    public static final Pattern DELETE_AND_LIST_FILE_FORMAT = Pattern.compile(
-            "(?<identifier>(?:\\s+\\w\\S*)*)"
-            + "(?<moduleCode>(?:\\s+" + MODULE_PREFIX + "(?:\\s+\\w\\S*)+)?)"
-            + "(?<categoryName>(?:\\s+" + CATEGORY_PREFIX + "(?:\\s+\\w\\S*)+)?)"
-            + "(?<taskDescription>(?:\\s+" + TASK_PREFIX + "(?:\\s+\\w\\S*)+)?)"
-            + "(?<all>(?:\\s+" + ALL_FLAG + ")?)"
-            + "(?<exact>(?:\\s+" + EXACT_FLAG + ")?)"
-            + "(?<allSecond>(?:\\s+" + ALL_FLAG + ")?)"
-            + "(?<invalid>.*)");
-
-    public static final Pattern LIST_TASK_SORTED_FORMAT = Pattern.compile(
-            "(?<identifier>(?:\\s+\\w\\S*)*)"
-            + "(?<priority>(?:\\s+" + Parser.PRIORITY_PREFIX + ")?)"
-            + "(?<deadline>(?:\\s+" + Parser.DEADLINE_PREFIX + ")?)"
-            + "(?<prioritySecond>(?:\\s+" + Parser.PRIORITY_PREFIX + ")?)"
-            + "(?<invalid>.*)");
-
-    public static final Pattern DUE_FORMAT = Pattern.compile(
-            "(?<identifier>(?:\\s+\\w\\S*)*)"
-            + "(?<all>(?:\\s+" + Parser.ALL_FLAG + ")?)"
-            + "(?<invalid>.*)"
-    );
-
-    public static final Pattern EDIT_MODULE_FORMAT = Pattern.compile(
-            "(?<identifier>(?:\\s+\\w\\S*)*)"
-            + "(?<moduleCode>(?:\\s+" + MODULE_PREFIX + "(?:\\s+\\w\\S*)+)?)"
-            + "(?<invalid>.*)");
-
-    public static final Pattern EDIT_CATEGORY_FORMAT = Pattern.compile(
-            "(?<identifier>(?:\\s+\\w\\S*)*)"
-            + "(?<moduleCode>(?:\\s+" + MODULE_PREFIX + "(?:\\s+\\w\\S*)+)?)"
-            + "(?<categoryName>(?:\\s+" + CATEGORY_PREFIX + "(?:\\s+\\w\\S*)+)?)"
-            + "(?<priority>(?:\\s+" + PRIORITY_PREFIX + "(?:\\s+\\w\\S*)+)?)"
-            + "(?<invalid>.*)");
-
-    public static final Pattern EDIT_TASK_FORMAT = Pattern.compile(
-            "(?<identifier>(?:\\s+\\w\\S*)*)"
-            + "(?<moduleCode>(?:\\s+" + MODULE_PREFIX + "(?:\\s+\\w\\S*)+)?)"
-            + "(?<categoryName>(?:\\s+" + CATEGORY_PREFIX + "(?:\\s+\\w\\S*)+)?)"
-            + "(?<taskDescription>(?:\\s+" + TASK_PREFIX + "(?:\\s+\\w\\S*)+)?)"
-            + "(?<priority>(?:\\s+" + PRIORITY_PREFIX + "(?:\\s+\\w\\S*)+)?)"
-            + "(?<deadline>(?:\\s+" + DEADLINE_PREFIX + "(?:\\s+\\w\\S*)+)?)"
-            + "(?<prioritySecond>(?:\\s+" + PRIORITY_PREFIX + "(?:\\s+\\w\\S*)+)?)"
-            + "(?<invalid>.*)");
-
-    public static final Pattern EDIT_FILE_FORMAT = Pattern.compile(
-            "(?<identifier>(?:\\s+\\w\\S*)*)"
-            + "(?<moduleCode>(?:\\s+" + MODULE_PREFIX + "(?:\\s+\\w\\S*)+)?)"
-            + "(?<categoryName>(?:\\s+" + CATEGORY_PREFIX + "(?:\\s+\\w\\S*)+)?)"
-            + "(?<taskDescription>(?:\\s+" + TASK_PREFIX + "(?:\\s+\\w\\S*)+)?)"
-            + "(?<fileInfo>(?:\\s+" + FILE_PREFIX + "(?:\\s+\\w\\S*)+)?)"
-            + "(?<invalid>.*)");
-
-    public static final Pattern DONE_FORMAT = Pattern.compile(
-            "(?<identifier>(?:\\s+\\w\\S*)*)"
-            + "(?<moduleCode>(?:\\s+" + MODULE_PREFIX + "(?:\\s+\\w\\S*)+)?)"
-            + "(?<categoryName>(?:\\s+" + CATEGORY_PREFIX + "(?:\\s+\\w\\S*)+)?)"
-            + "(?<invalid>.*)");
-
-    public static final Pattern OPEN_FILE_FORMAT = Pattern.compile(
-            "(?<identifier>(?:\\s+\\w\\S*)*)"
-            + "(?<moduleCode>(?:\\s+" + MODULE_PREFIX + "(?:\\s+\\w\\S*)+)?)"
-            + "(?<categoryName>(?:\\s+" + CATEGORY_PREFIX + "(?:\\s+\\w\\S*)+)?)"
-            + "(?<taskDescription>(?:\\s+" + TASK_PREFIX + "(?:\\s+\\w\\S*)+)?)"
-            + "(?<invalid>.*)");
+    public static final CommandGrammar BASIC_COMMAND_FORMAT = CommandGrammar.COMMAND_FORMAT;
+
+    public static final CommandGrammar ADD_MODULE_FORMAT = new CommandGrammar(
+            identifier()
+    );
+
+    public static final CommandGrammar ADD_CATEGORY_FORMAT = new CommandGrammar(
+            identifier(),
+            attribute(MODULE_GROUP, MODULE_PREFIX),
+            attribute(PRIORITY_GROUP, PRIORITY_PREFIX)
+    );
+
+    public static final CommandGrammar ADD_TASK_FORMAT = new CommandGrammar(
+            identifier(),
+            attribute(MODULE_GROUP, MODULE_PREFIX),
+            attribute(CATEGORY_GROUP, CATEGORY_PREFIX),
+            attribute(PRIORITY_GROUP, PRIORITY_PREFIX),
+            attribute(DEADLINE_GROUP, DEADLINE_PREFIX),
+            attribute(PRIORITY_GROUP_SECOND, PRIORITY_PREFIX)
+    );
+
+    public static final CommandGrammar ADD_FILE_FORMAT = new CommandGrammar(
+            identifier(),
+            attribute(MODULE_GROUP, MODULE_PREFIX),
+            attribute(CATEGORY_GROUP, CATEGORY_PREFIX),
+            attribute(TASK_GROUP, TASK_PREFIX),
+            attribute(FILE_GROUP, FILE_PREFIX)
+    );
+
+    public static final CommandGrammar DELETE_AND_LIST_MODULE_FORMAT = new CommandGrammar(
+            identifier(),
+            flag(ALL_GROUP, ALL_FLAG),
+            flag(EXACT_GROUP, EXACT_FLAG),
+            flag(ALL_GROUP_SECOND, ALL_FLAG)
+    );
+
+    public static final CommandGrammar DELETE_AND_LIST_CATEGORY_FORMAT = new CommandGrammar(
+            identifier(),
+            attribute(MODULE_GROUP, MODULE_PREFIX),
+            flag(ALL_GROUP, ALL_FLAG),
+            flag(EXACT_GROUP, EXACT_FLAG),
+            flag(ALL_GROUP_SECOND, ALL_FLAG)
+    );
+
+    public static final CommandGrammar DELETE_AND_LIST_TASK_FORMAT = new CommandGrammar(
+            identifier(),
+            attribute(MODULE_GROUP, MODULE_PREFIX),
+            attribute(CATEGORY_GROUP, CATEGORY_PREFIX),
+            flag(ALL_GROUP, ALL_FLAG),
+            flag(EXACT_GROUP, EXACT_FLAG),
+            flag(ALL_GROUP_SECOND, ALL_FLAG)
+    );
+
+    public static final CommandGrammar DELETE_AND_LIST_FILE_FORMAT = new CommandGrammar(
+            identifier(),
+            attribute(MODULE_GROUP, MODULE_PREFIX),
+            attribute(CATEGORY_GROUP, CATEGORY_PREFIX),
+            attribute(TASK_GROUP, TASK_PREFIX),
+            flag(ALL_GROUP, ALL_FLAG),
+            flag(EXACT_GROUP, EXACT_FLAG),
+            flag(ALL_GROUP_SECOND, ALL_FLAG)
+    );
+
+    public static final CommandGrammar LIST_TASK_SORTED_FORMAT = new CommandGrammar(
+            identifier(),
+            flag(PRIORITY_GROUP, PRIORITY_PREFIX),
+            flag(DEADLINE_GROUP, DEADLINE_PREFIX),
+            flag(PRIORITY_GROUP_SECOND, PRIORITY_PREFIX)
+    );
+
+    public static final CommandGrammar DUE_FORMAT = new CommandGrammar(
+            identifier(),
+            flag(ALL_GROUP, ALL_FLAG)
+    );
+
+    public static final CommandGrammar EDIT_MODULE_FORMAT = new CommandGrammar(
+            identifier(),
+            attribute(MODULE_GROUP, MODULE_PREFIX)
+    );
+
+    public static final CommandGrammar EDIT_CATEGORY_FORMAT = new CommandGrammar(
+            identifier(),
+            attribute(MODULE_GROUP, MODULE_PREFIX),
+            attribute(CATEGORY_GROUP, CATEGORY_PREFIX),
+            attribute(PRIORITY_GROUP, PRIORITY_PREFIX)
+    );
+
+    public static final CommandGrammar EDIT_TASK_FORMAT = new CommandGrammar(
+            identifier(),
+            attribute(MODULE_GROUP, MODULE_PREFIX),
+            attribute(CATEGORY_GROUP, CATEGORY_PREFIX),
+            attribute(TASK_GROUP, TASK_PREFIX),
+            attribute(PRIORITY_GROUP, PRIORITY_PREFIX),
+            attribute(DEADLINE_GROUP, DEADLINE_PREFIX),
+            attribute(PRIORITY_GROUP_SECOND, PRIORITY_PREFIX)
+    );
+
+    public static final CommandGrammar EDIT_FILE_FORMAT = new CommandGrammar(
+            identifier(),
+            attribute(MODULE_GROUP, MODULE_PREFIX),
+            attribute(CATEGORY_GROUP, CATEGORY_PREFIX),
+            attribute(TASK_GROUP, TASK_PREFIX),
+            attribute(FILE_GROUP, FILE_PREFIX)
+    );
+
+    public static final CommandGrammar DONE_FORMAT = new CommandGrammar(
+            identifier(),
+            attribute(MODULE_GROUP, MODULE_PREFIX),
+            attribute(CATEGORY_GROUP, CATEGORY_PREFIX)
+    );
+
+    public static final CommandGrammar OPEN_FILE_FORMAT = new CommandGrammar(
+            identifier(),
+            attribute(MODULE_GROUP, MODULE_PREFIX),
+            attribute(CATEGORY_GROUP, CATEGORY_PREFIX),
+            attribute(TASK_GROUP, TASK_PREFIX)
+    );
 }
@@ -1,9 +1,8 @@
 package seedu.nuke.gui.io;
 
-import javafx.scene.control.TableView;
+import javafx.scene.Node;
 import javafx.scene.paint.Color;
 import javafx.scene.text.Text;
-import javafx.scene.text.TextFlow;
 import javafx.stage.FileChooser;
 import javafx.stage.Stage;
 import seedu.nuke.Executor;
@@ -18,31 +17,38 @@ import seedu.nuke.directory.DirectoryLevel;
 import seedu.nuke.directory.Module;
 import seedu.nuke.directory.Task;
 import seedu.nuke.directory.TaskFile;
+import seedu.nuke.gui.component.ConsoleScreen;
 import seedu.nuke.gui.util.tablecreator.CategoryTableCreator;
 import seedu.nuke.gui.util.tablecreator.FileTableCreator;
 import seedu.nuke.gui.util.tablecreator.ModuleTableCreator;
 import seedu.nuke.gui.util.TextUtil;
 import seedu.nuke.gui.util.tablecreator.TaskTableCreator;
-import seedu.nuke.gui.util.tablecreator.basicdirectory.BasicCategory;
-import seedu.nuke.gui.util.tablecreator.basicdirectory.BasicFile;
-import seedu.nuke.gui.util.tablecreator.basicdirectory.BasicModule;
-import seedu.nuke.gui.util.tablecreator.basicdirectory.BasicTask;
 import seedu.nuke.util.ListCreator;
 
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.stream.Collectors;
 
 import static seedu.nuke.util.Message.DIVIDER;
 
 public class GuiExecutor {
-    private static TextFlow consoleScreen;
+    private static ConsoleScreen consoleScreen;
+    private static StorageManager storageManager;
 
-    public GuiExecutor(TextFlow consoleScreen) {
+    public GuiExecutor(ConsoleScreen consoleScreen) {
         GuiExecutor.consoleScreen = consoleScreen;
     }
 
+    /**
+     * Sets the storage manager used to save the list after each command.
+     *
+     * @param storageManager
+     *  The storage manager of the application
+     */
+    public static void setStorageManager(StorageManager storageManager) {
+        GuiExecutor.storageManager = storageManager;
+    }
+
     /**
      * Executes the corresponding action based on the command given by the user in the console.
      *
@@ -56,7 +62,10 @@ public class GuiExecutor {
         // Save list
         if (StorageManager.isToSave()) {
             try {
-                new StorageManager(StoragePath.SAVE_PATH).saveList();
+                if (storageManager == null) {
+                    storageManager = new StorageManager(StoragePath.SAVE_PATH);
+                }
+                storageManager.saveList();
             } catch (IOException e) {
                 showMessage(e.getMessage());
             }
@@ -94,7 +103,7 @@ public class GuiExecutor {
     public void showMessage(String message) {
         if (!message.isEmpty()) {
             Text feedbackToUser = TextUtil.createText(String.format("%s", message), Color.NAVY);
-            consoleScreen.getChildren().addAll(feedbackToUser);
+            consoleScreen.addEntry(feedbackToUser);
         }
     }
 
@@ -109,43 +118,35 @@ public class GuiExecutor {
             return;
         }
 
+        // The feedback, list and divider of the result are shown together as one entry
+        ArrayList<Node> entry = new ArrayList<>();
         if (!result.getFeedbackToUser().isEmpty()) {
-            showMessage(result.getFeedbackToUser());
+            entry.add(TextUtil.createText(String.format("%s", result.getFeedbackToUser()), Color.NAVY));
         }
 
         DirectoryLevel dataType = result.getDirectoryLevel();
         switch (dataType) {
         case MODULE:
-            ArrayList<Module> moduleList = result.getShownList().stream()
-                    .map(Module.class::cast)
-                    .collect(Collectors.toCollection(ArrayList::new));
-            TableView<BasicModule> modules = new ModuleTableCreator(moduleList, consoleScreen).createModuleListTable();
-            consoleScreen.getChildren().add(modules);
+            Node modules = new ModuleTableCreator(result.getShownPages(Module.class), consoleScreen)
+                    .createModuleListTable();
+            entry.add(modules);
             break;
 
         case CATEGORY:
-            ArrayList<Category> categoryList = result.getShownList().stream()
-                    .map(Category.class::cast)
-                    .collect(Collectors.toCollection(ArrayList::new));
-            TableView<BasicCategory> categories =
-                    new CategoryTableCreator(categoryList, consoleScreen).createCategoryListTable();
-            consoleScreen.getChildren().add(categories);
+            Node categories = new CategoryTableCreator(result.getShownPages(Category.class), consoleScreen)
+                    .createCategoryListTable();
+            entry.add(categories);
             break;
 
         case TASK:
-            ArrayList<Task> taskList = result.getShownList().stream()
-                    .map(Task.class::cast)
-                    .collect(Collectors.toCollection(ArrayList::new));
-            TableView<BasicTask> tasks = new TaskTableCreator(taskList, consoleScreen).createTaskListTable();
-            consoleScreen.getChildren().add(tasks);
+            Node tasks = new TaskTableCreator(result.getShownPages(Task.class), consoleScreen).createTaskListTable();
+            entry.add(tasks);
             break;
 
         case FILE:
-            ArrayList<TaskFile> fileList = result.getShownList().stream()
-                    .map(TaskFile.class::cast)
-                    .collect(Collectors.toCollection(ArrayList::new));
-            TableView<BasicFile> files = new FileTableCreator(fileList, consoleScreen).createFileListTable();
-            consoleScreen.getChildren().add(files);
+            Node files = new FileTableCreator(result.getShownPages(TaskFile.class), consoleScreen)
+                    .createFileListTable();
+            entry.add(files);
             break;
 
         case NONE:
@@ -155,7 +156,7 @@ public class GuiExecutor {
             ArrayList<String> helpList = result.getHelpGuide();
             String helpGuide = ListCreator.createGeneralListTable(helpList);
             Text helpGuideText = TextUtil.createText(String.format("%s", helpGuide), Color.MIDNIGHTBLUE);
-            consoleScreen.getChildren().add(helpGuideText);
+            entry.add(helpGuideText);
             break;
 
         default:
@@ -163,7 +164,8 @@ public class GuiExecutor {
         }
 
         Text divider = TextUtil.createText(String.format("\n%s\n\n", DIVIDER), Color.DARKKHAKI);
-        consoleScreen.getChildren().add(divider);
+        entry.add(divider);
+        consoleScreen.addEntry(entry);
     }
 
     /**
@@ -190,6 +192,6 @@ public class GuiExecutor {
     }
 
     public static void clearScreen() {
-        consoleScreen.getChildren().clear();
+        consoleScreen.clear();
     }
 }
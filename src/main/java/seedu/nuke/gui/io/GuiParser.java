@@ -2,7 +2,6 @@ package seedu.nuke.gui.io;
 
 import javafx.scene.paint.Color;
 import javafx.util.Pair;
-import seedu.nuke.Executor;
 import seedu.nuke.command.filtercommand.listcommand.DueCommand;
 import seedu.nuke.command.filtercommand.listcommand.ListCategoryCommand;
 import seedu.nuke.command.filtercommand.listcommand.ListFileCommand;
@@ -27,34 +26,24 @@ import seedu.nuke.command.filtercommand.deletecommand.DeleteModuleCommand;
 import seedu.nuke.command.filtercommand.deletecommand.DeleteTaskCommand;
 import seedu.nuke.command.misc.ChangeDirectoryCommand;
 import seedu.nuke.command.misc.ClearCommand;
+import seedu.nuke.command.misc.ExportCommand;
+import seedu.nuke.command.misc.ImportCommand;
 import seedu.nuke.command.misc.InfoCommand;
 import seedu.nuke.command.misc.OpenFileCommand;
 import seedu.nuke.command.misc.RedoCommand;
 import seedu.nuke.command.misc.UndoCommand;
-import seedu.nuke.data.ModuleManager;
-import seedu.nuke.directory.Category;
+import seedu.nuke.data.CompletionIndex;
+import seedu.nuke.data.storage.TaskRowFormat;
 import seedu.nuke.directory.DirectoryLevel;
-import seedu.nuke.directory.DirectoryTraverser;
-import seedu.nuke.directory.Module;
-import seedu.nuke.directory.Task;
-import seedu.nuke.directory.TaskFile;
 import seedu.nuke.exception.IncorrectDirectoryLevelException;
 import seedu.nuke.exception.ParseFailureException;
-import seedu.nuke.gui.component.AutoCompleteTextField;
-import seedu.nuke.gui.component.SyntaxConsole;
+import seedu.nuke.parser.CommandGrammar;
 import seedu.nuke.util.DateTimeFormat;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
-
-import static seedu.nuke.directory.DirectoryTraverser.getBaseCategory;
-import static seedu.nuke.directory.DirectoryTraverser.getBaseModule;
-import static seedu.nuke.directory.DirectoryTraverser.getBaseTask;
-import static seedu.nuke.directory.DirectoryTraverser.getCurrentDirectory;
-import static seedu.nuke.directory.DirectoryTraverser.getCurrentDirectoryLevel;
+import java.util.List;
+
 import static seedu.nuke.gui.io.GuiCommandPattern.ADD_CATEGORY_FORMAT;
 import static seedu.nuke.gui.io.GuiCommandPattern.ADD_FILE_FORMAT;
 import static seedu.nuke.gui.io.GuiCommandPattern.ADD_MODULE_FORMAT;
@@ -72,10 +61,10 @@ import static seedu.nuke.gui.io.GuiCommandPattern.EDIT_MODULE_FORMAT;
 import static seedu.nuke.gui.io.GuiCommandPattern.EDIT_TASK_FORMAT;
 import static seedu.nuke.gui.io.GuiCommandPattern.LIST_TASK_SORTED_FORMAT;
 import static seedu.nuke.gui.io.GuiCommandPattern.OPEN_FILE_FORMAT;
-import static seedu.nuke.gui.util.TextUtil.createText;
 
 public class GuiParser {
     private static final String NONE = "";
+    private static final int MAX_SUGGESTIONS = 10;
 
     private static final String GENERIC_ADD_COMMAND = "mkdir";
     private static final String GENERIC_DELETE_COMMAND = "rm";
@@ -106,12 +95,21 @@ public class GuiParser {
     private static final String ALL_GROUP_SECOND = "allSecond";
     private static final String INVALID_GROUP = "invalid";
 
-    private AutoCompleteTextField console;
-    private SyntaxConsole syntaxConsole;
+    private final int caretPosition;
+    private final ParserSnapshot snapshot;
+    private final SmartParseResult result = new SmartParseResult();
 
-    public GuiParser(AutoCompleteTextField console, SyntaxConsole syntaxConsole) {
-        this.console = console;
-        this.syntaxConsole = syntaxConsole;
+    /**
+     * Constructs the parser for the input being typed in the console.
+     *
+     * @param caretPosition
+     *  The position of the caret in the console when the input was typed
+     * @param snapshot
+     *  The state of the Module List and the current directory when the input was typed
+     */
+    public GuiParser(int caretPosition, ParserSnapshot snapshot) {
+        this.caretPosition = caretPosition;
+        this.snapshot = snapshot;
     }
 
     private static final ArrayList<String> COMMAND_WORDS = new ArrayList<>(Arrays.asList(
@@ -125,20 +123,26 @@ public class GuiParser {
             EditFileCommand.COMMAND_WORD, MarkAsDoneCommand.COMMAND_WORD,
             ChangeDirectoryCommand.COMMAND_WORD, OpenFileCommand.COMMAND_WORD, InfoCommand.COMMAND_WORD,
             UndoCommand.COMMAND_WORD, RedoCommand.COMMAND_WORD, HelpCommand.COMMAND_WORD, ClearCommand.COMMAND_WORD,
-            ExitCommand.COMMAND_WORD,
+            ExitCommand.COMMAND_WORD, ImportCommand.COMMAND_WORD, ExportCommand.COMMAND_WORD,
             AddTagCommand.COMMAND_WORD, GENERIC_ADD_COMMAND, GENERIC_DELETE_COMMAND, GENERIC_LIST_COMMAND
     ));
 
     /**
      * Parses the input given by the user, checks the syntax and format, and highlights the input with various colors.
      *
+     * <p></p>
+     * The parser does not touch the console, and only reads the Module List through its {@link ParserSnapshot}, so it
+     * can be run away from the JavaFX Application Thread.
+     *
      * @param input
      *  The input being typed by the user
+     * @return
+     *  The highlighted input and the suggestions to show in the console
      */
-    public void smartParse(String input) {
-        console.getEntriesPopup().hide();
+    public SmartParseResult smartParse(String input) {
+        result.hideSuggestions();
         try {
-            switch (Executor.getPromptType()) {
+            switch (snapshot.getPromptType()) {
             case INDICES:
                 smartParseIndices(input);
                 break;
@@ -148,12 +152,13 @@ public class GuiParser {
                 break;
 
             default:
-                Matcher matcher = smartParseCommandWord(input);
-                smartParseParameters(matcher);
+                CommandGrammar.Match match = smartParseCommandWord(input);
+                smartParseParameters(match);
             }
         } catch (ParseFailureException e) {
             // Exit
         }
+        return result;
     }
 
     /**
@@ -162,31 +167,31 @@ public class GuiParser {
      * @param input
      *  The input being typed by the user
      */
-    private Matcher smartParseCommandWord(String input) throws ParseFailureException {
-        final Matcher matcher = matchPattern(input, BASIC_COMMAND_FORMAT);
+    private CommandGrammar.Match smartParseCommandWord(String input) throws ParseFailureException {
+        final CommandGrammar.Match match = matchPattern(input, BASIC_COMMAND_FORMAT);
 
-        String rawCommandWord = matcher.group(COMMAND_WORD_GROUP);
+        String rawCommandWord = match.group(COMMAND_WORD_GROUP);
         String commandWord = rawCommandWord.trim().toLowerCase();
-        String parameters = matcher.group(PARAMETERS_GROUP);
+        String parameters = match.group(PARAMETERS_GROUP);
 
-        int startIndexOfCommandWord = matcher.start(COMMAND_WORD_GROUP);
-        int endIndexOfCommandWord = matcher.end(COMMAND_WORD_GROUP);
+        int startIndexOfCommandWord = match.start(COMMAND_WORD_GROUP);
+        int endIndexOfCommandWord = match.end(COMMAND_WORD_GROUP);
 
         populateSuggestions(commandWord, COMMAND_WORDS, startIndexOfCommandWord, endIndexOfCommandWord, NONE);
 
         if (isNotTypingAttribute(startIndexOfCommandWord, endIndexOfCommandWord)) {
-            console.getEntriesPopup().hide();
+            result.hideSuggestions();
         }
 
         highlightInput(commandWord, rawCommandWord, parameters, endIndexOfCommandWord, COMMAND_WORDS, true);
 
-        return matcher;
+        return match;
     }
 
-    private void smartParseParameters(Matcher matcher) throws ParseFailureException {
-        String commandWord = matcher.group(COMMAND_WORD_GROUP).trim().toLowerCase();
-        String parameters = matcher.group(PARAMETERS_GROUP);
-        final int startIndexOfParameters = matcher.start(PARAMETERS_GROUP);
+    private void smartParseParameters(CommandGrammar.Match match) throws ParseFailureException {
+        String commandWord = match.group(COMMAND_WORD_GROUP).trim().toLowerCase();
+        String parameters = match.group(PARAMETERS_GROUP);
+        final int startIndexOfParameters = match.start(PARAMETERS_GROUP);
 
         switch (commandWord) {
 
@@ -262,6 +267,11 @@ public class GuiParser {
             smartParseOpenFileCommand(parameters, startIndexOfParameters);
             break;
 
+        case ImportCommand.COMMAND_WORD:
+        case ExportCommand.COMMAND_WORD:
+            smartParseFilePathCommand(parameters);
+            break;
+
         case InfoCommand.COMMAND_WORD:
         case UndoCommand.COMMAND_WORD:
         case RedoCommand.COMMAND_WORD:
@@ -281,11 +291,16 @@ public class GuiParser {
         addText(new Pair<>(parameters, Color.CRIMSON));
     }
 
+    private void smartParseFilePathCommand(String parameters) {
+        boolean isKnownFormat = TaskRowFormat.fromFileName(parameters.trim()) != null;
+        addText(new Pair<>(parameters, isKnownFormat ? Color.BLUE : Color.CRIMSON));
+    }
+
     private void smartParseChangeDirectoryCommand(String parameters, int startIndex) {
         int endIndex = startIndex + parameters.length();
         String nextDirectory = parameters.trim();
         // Change to upper case for module code parameter
-        if (DirectoryTraverser.getCurrentDirectoryLevel() == DirectoryLevel.ROOT) {
+        if (snapshot.getCurrentDirectoryLevel() == DirectoryLevel.ROOT) {
             nextDirectory = nextDirectory.toUpperCase();
         }
 
@@ -315,7 +330,7 @@ public class GuiParser {
 
         ArrayList<String> suggestedDirectories = new ArrayList<>();
         try {
-            switch (DirectoryTraverser.getCurrentDirectoryLevel()) {
+            switch (snapshot.getCurrentDirectoryLevel()) {
             case ROOT:
                 suggestedDirectories = generateSuggestedModules();
                 break;
@@ -345,198 +360,205 @@ public class GuiParser {
 
     private void smartParseAddModuleCommand(String parameters, int startIndex)
             throws ParseFailureException {
-        final Matcher matcher = matchPattern(parameters, ADD_MODULE_FORMAT);
+        final CommandGrammar.Match match = matchPattern(parameters, ADD_MODULE_FORMAT);
 
-        String moduleCode = matcher.group(IDENTIFIER_GROUP);
-        int startIndexOfModule = matcher.start(IDENTIFIER_GROUP) + startIndex;
-        int endIndexOfModule = matcher.end(IDENTIFIER_GROUP) + startIndex;
+        String moduleCode = match.group(IDENTIFIER_GROUP);
+        int startIndexOfModule = match.start(IDENTIFIER_GROUP) + startIndex;
+        int endIndexOfModule = match.end(IDENTIFIER_GROUP) + startIndex;
 
-        ArrayList<String> suggestedModules = generateSuggestedNewModules();
-        populateSuggestions(moduleCode.trim(), suggestedModules, startIndexOfModule, endIndexOfModule, NONE);
+        // Look up the whole catalogue in its completion index instead of going through every module code
+        List<String> suggestedModules = moduleCode.isBlank() ? new ArrayList<>()
+                : snapshot.suggestNewModules(moduleCode.trim(), MAX_SUGGESTIONS);
+        showSuggestions(moduleCode.trim(), suggestedModules, startIndexOfModule, endIndexOfModule, NONE);
 
-        if (console.getCaretPosition() > endIndexOfModule) {
-            console.getEntriesPopup().hide();
+        if (caretPosition > endIndexOfModule) {
+            result.hideSuggestions();
         }
 
         if (!moduleCode.isEmpty()) {
-            String parametersAfter = parameters.substring(matcher.end(IDENTIFIER_GROUP));
-            highlightInput(moduleCode.trim().toUpperCase(), moduleCode, parametersAfter, endIndexOfModule,
-                    suggestedModules, true);
+            String parametersAfter = parameters.substring(match.end(IDENTIFIER_GROUP));
+            String typedModuleCode = moduleCode.trim().toUpperCase();
+            // The typed module code may come after the suggestions shown, so look it up in the catalogue as well
+            ArrayList<String> matchedModules = new ArrayList<>(suggestedModules);
+            if (snapshot.isProvided(typedModuleCode) && !snapshot.contains(typedModuleCode)) {
+                matchedModules.add(typedModuleCode);
+            }
+            highlightInput(typedModuleCode, moduleCode, parametersAfter, endIndexOfModule, matchedModules, true);
         }
 
-        checkInvalid(matcher);
+        checkInvalid(match);
     }
 
     void smartParseAddCategoryCommand(String parameters, int startIndex) throws ParseFailureException {
-        final Matcher matcher = matchPattern(parameters, ADD_CATEGORY_FORMAT);
+        final CommandGrammar.Match match = matchPattern(parameters, ADD_CATEGORY_FORMAT);
 
-        String categoryName = matcher.group(IDENTIFIER_GROUP);
+        String categoryName = match.group(IDENTIFIER_GROUP);
         addText(new Pair<>(categoryName, Color.BLUE));
 
-        smartParseModule(matcher, parameters, startIndex, true);
-        smartParsePriority(matcher, parameters, PRIORITY_GROUP);
+        smartParseModule(match, parameters, startIndex, true);
+        smartParsePriority(match, parameters, PRIORITY_GROUP);
 
-        checkInvalid(matcher);
+        checkInvalid(match);
 
     }
 
     void smartParseAddTaskCommand(String parameters, int startIndex) throws ParseFailureException {
-        final Matcher matcher = matchPattern(parameters, ADD_TASK_FORMAT);
+        final CommandGrammar.Match match = matchPattern(parameters, ADD_TASK_FORMAT);
 
-        String taskDescription = matcher.group(IDENTIFIER_GROUP);
+        String taskDescription = match.group(IDENTIFIER_GROUP);
 
         addText(new Pair<>(taskDescription, Color.BLUE));
 
-        smartParseModule(matcher, parameters, startIndex, true);
-        smartParseCategory(matcher, parameters, startIndex, true);
+        smartParseModule(match, parameters, startIndex, true);
+        smartParseCategory(match, parameters, startIndex, true);
 
-        boolean hasPriority = smartParsePriority(matcher, parameters, PRIORITY_GROUP);
-        smartParseDeadline(matcher, parameters, startIndex);
+        boolean hasPriority = smartParsePriority(match, parameters, PRIORITY_GROUP);
+        smartParseDeadline(match, parameters, startIndex);
         if (hasPriority) {
-            highlightIncorrect(matcher, PRIORITY_GROUP_SECOND);
+            highlightIncorrect(match, PRIORITY_GROUP_SECOND);
         } else {
-            smartParsePriority(matcher, parameters, PRIORITY_GROUP_SECOND);
+            smartParsePriority(match, parameters, PRIORITY_GROUP_SECOND);
         }
 
-        checkInvalid(matcher);
+        checkInvalid(match);
     }
 
     void smartParseAddFileCommand(String parameters, int startIndex) throws ParseFailureException {
-        final Matcher matcher = matchPattern(parameters, ADD_FILE_FORMAT);
+        final CommandGrammar.Match match = matchPattern(parameters, ADD_FILE_FORMAT);
 
-        String fileName = matcher.group(IDENTIFIER_GROUP);
+        String fileName = match.group(IDENTIFIER_GROUP);
 
         addText(new Pair<>(fileName, Color.BLUE));
 
-        smartParseModule(matcher, parameters, startIndex, true);
-        smartParseCategory(matcher, parameters, startIndex, true);
-        smartParseTask(matcher, parameters, startIndex, true);
-        smartParseFile(matcher);
+        smartParseModule(match, parameters, startIndex, true);
+        smartParseCategory(match, parameters, startIndex, true);
+        smartParseTask(match, parameters, startIndex, true);
+        smartParseFile(match);
 
-        checkInvalid(matcher);
+        checkInvalid(match);
     }
 
 
     private void smartParseDeleteAndListModuleCommand(String parameters, int startIndex) throws ParseFailureException {
-        final Matcher matcher = matchPattern(parameters, DELETE_AND_LIST_MODULE_FORMAT);
+        final CommandGrammar.Match match = matchPattern(parameters, DELETE_AND_LIST_MODULE_FORMAT);
 
-        smartParseIdentityModule(matcher, parameters, startIndex, false);
+        smartParseIdentityModule(match, parameters, startIndex, false);
 
-        boolean hasAllFlag = smartParseFlag(matcher, ALL_GROUP, ALL_FLAG);
-        smartParseFlag(matcher, EXACT_GROUP, EXACT_FLAG);
+        boolean hasAllFlag = smartParseFlag(match, ALL_GROUP, ALL_FLAG);
+        smartParseFlag(match, EXACT_GROUP, EXACT_FLAG);
 
         if (hasAllFlag) {
-            highlightIncorrect(matcher, ALL_GROUP_SECOND);
+            highlightIncorrect(match, ALL_GROUP_SECOND);
         } else {
-            smartParseFlag(matcher, ALL_GROUP_SECOND, ALL_FLAG);
+            smartParseFlag(match, ALL_GROUP_SECOND, ALL_FLAG);
         }
 
-        checkInvalid(matcher);
+        checkInvalid(match);
     }
 
     private void smartParseDeleteAndListCategoryCommand(String parameters, int startIndex)
             throws ParseFailureException {
-        final Matcher matcher = matchPattern(parameters, DELETE_AND_LIST_CATEGORY_FORMAT);
+        final CommandGrammar.Match match = matchPattern(parameters, DELETE_AND_LIST_CATEGORY_FORMAT);
 
-        smartParseIdentityCategory(matcher, parameters, startIndex);
-        smartParseModule(matcher, parameters, startIndex, false);
+        smartParseIdentityCategory(match, parameters, startIndex);
+        smartParseModule(match, parameters, startIndex, false);
 
-        boolean hasAllFlag = smartParseFlag(matcher, ALL_GROUP, ALL_FLAG);
-        smartParseFlag(matcher, EXACT_GROUP, EXACT_FLAG);
+        boolean hasAllFlag = smartParseFlag(match, ALL_GROUP, ALL_FLAG);
+        smartParseFlag(match, EXACT_GROUP, EXACT_FLAG);
 
         if (hasAllFlag) {
-            highlightIncorrect(matcher, ALL_GROUP_SECOND);
+            highlightIncorrect(match, ALL_GROUP_SECOND);
         } else {
-            smartParseFlag(matcher, ALL_GROUP_SECOND, ALL_FLAG);
+            smartParseFlag(match, ALL_GROUP_SECOND, ALL_FLAG);
         }
 
-        checkInvalid(matcher);
+        checkInvalid(match);
     }
 
     private void smartParseDeleteAndListTaskCommand(String parameters, int startIndex) throws ParseFailureException {
-        final Matcher matcher = matchPattern(parameters, DELETE_AND_LIST_TASK_FORMAT);
+        final CommandGrammar.Match match = matchPattern(parameters, DELETE_AND_LIST_TASK_FORMAT);
 
-        smartParseIdentityTask(matcher, parameters, startIndex);
-        smartParseModule(matcher, parameters, startIndex, false);
-        smartParseCategory(matcher, parameters, startIndex, false);
+        smartParseIdentityTask(match, parameters, startIndex);
+        smartParseModule(match, parameters, startIndex, false);
+        smartParseCategory(match, parameters, startIndex, false);
 
-        boolean hasAllFlag = smartParseFlag(matcher, ALL_GROUP, ALL_FLAG);
-        smartParseFlag(matcher, EXACT_GROUP, EXACT_FLAG);
+        boolean hasAllFlag = smartParseFlag(match, ALL_GROUP, ALL_FLAG);
+        smartParseFlag(match, EXACT_GROUP, EXACT_FLAG);
 
         if (hasAllFlag) {
-            highlightIncorrect(matcher, ALL_GROUP_SECOND);
+            highlightIncorrect(match, ALL_GROUP_SECOND);
         } else {
-            smartParseFlag(matcher, ALL_GROUP_SECOND, ALL_FLAG);
+            smartParseFlag(match, ALL_GROUP_SECOND, ALL_FLAG);
         }
 
-        checkInvalid(matcher);
+        checkInvalid(match);
     }
 
     private void smartParseDeleteAndListFileCommand(String parameters, int startIndex) throws ParseFailureException {
-        final Matcher matcher = matchPattern(parameters, DELETE_AND_LIST_FILE_FORMAT);
+        final CommandGrammar.Match match = matchPattern(parameters, DELETE_AND_LIST_FILE_FORMAT);
 
-        smartParseIdentityFile(matcher, parameters, startIndex);
-        smartParseModule(matcher, parameters, startIndex, false);
-        smartParseCategory(matcher, parameters, startIndex, false);
-        smartParseTask(matcher, parameters, startIndex, false);
-        smartParseIdentityModule(matcher, parameters, startIndex, true);
+        smartParseIdentityFile(match, parameters, startIndex);
+        smartParseModule(match, parameters, startIndex, false);
+        smartParseCategory(match, parameters, startIndex, false);
+        smartParseTask(match, parameters, startIndex, false);
+        smartParseIdentityModule(match, parameters, startIndex, true);
 
-        boolean hasAllFlag = smartParseFlag(matcher, ALL_GROUP, ALL_FLAG);
-        smartParseFlag(matcher, EXACT_GROUP, EXACT_FLAG);
+        boolean hasAllFlag = smartParseFlag(match, ALL_GROUP, ALL_FLAG);
+        smartParseFlag(match, EXACT_GROUP, EXACT_FLAG);
 
         if (hasAllFlag) {
-            highlightIncorrect(matcher, ALL_GROUP_SECOND);
+            highlightIncorrect(match, ALL_GROUP_SECOND);
         } else {
-            smartParseFlag(matcher, ALL_GROUP_SECOND, ALL_FLAG);
+            smartParseFlag(match, ALL_GROUP_SECOND, ALL_FLAG);
         }
 
-        checkInvalid(matcher);
+        checkInvalid(match);
     }
 
     private void smartParseListTaskSortedCommand(String parameters, int startIndex) throws ParseFailureException {
-        final Matcher matcher = matchPattern(parameters, LIST_TASK_SORTED_FORMAT);
+        final CommandGrammar.Match match = matchPattern(parameters, LIST_TASK_SORTED_FORMAT);
 
-        smartParseIdentityModule(matcher, parameters, startIndex, true);
+        smartParseIdentityModule(match, parameters, startIndex, true);
 
         // Check if have only either deadline or priority
-        boolean hasPriority = smartParseFlag(matcher, PRIORITY_GROUP, PRIORITY_PREFIX);
+        boolean hasPriority = smartParseFlag(match, PRIORITY_GROUP, PRIORITY_PREFIX);
         if (hasPriority) {
-            highlightIncorrect(matcher, DEADLINE_GROUP);
-            highlightIncorrect(matcher, PRIORITY_GROUP_SECOND);
-            checkInvalid(matcher);
+            highlightIncorrect(match, DEADLINE_GROUP);
+            highlightIncorrect(match, PRIORITY_GROUP_SECOND);
+            checkInvalid(match);
             return;
         }
 
-        boolean hasDeadline = smartParseFlag(matcher, DEADLINE_GROUP, DEADLINE_PREFIX);
+        boolean hasDeadline = smartParseFlag(match, DEADLINE_GROUP, DEADLINE_PREFIX);
 
         if (hasDeadline) {
-            highlightIncorrect(matcher, PRIORITY_GROUP_SECOND);
+            highlightIncorrect(match, PRIORITY_GROUP_SECOND);
         } else {
-            smartParseFlag(matcher, PRIORITY_GROUP_SECOND, PRIORITY_PREFIX);
+            smartParseFlag(match, PRIORITY_GROUP_SECOND, PRIORITY_PREFIX);
         }
 
-        checkInvalid(matcher);
+        checkInvalid(match);
     }
 
     private void smartParseDueCommand(String parameters, int startIndex) throws ParseFailureException {
-        final Matcher matcher = matchPattern(parameters, DUE_FORMAT);
+        final CommandGrammar.Match match = matchPattern(parameters, DUE_FORMAT);
 
-        smartParseTimeSpecifier(matcher, parameters, startIndex);
-        smartParseFlag(matcher, ALL_GROUP, ALL_FLAG);
+        smartParseTimeSpecifier(match, parameters, startIndex);
+        smartParseFlag(match, ALL_GROUP, ALL_FLAG);
 
-        checkInvalid(matcher);
+        checkInvalid(match);
     }
 
-    private void smartParseTimeSpecifier(Matcher matcher, String parameters, int startIndex)
+    private void smartParseTimeSpecifier(CommandGrammar.Match match, String parameters, int startIndex)
             throws ParseFailureException {
-        String rawFilter = matcher.group(IDENTIFIER_GROUP);
+        String rawFilter = match.group(IDENTIFIER_GROUP);
         if (rawFilter.isBlank()) {
             return;
         }
         String filter = rawFilter.trim().toLowerCase();
 
         if (filter.equals("over")) {
-            syntaxConsole.getChildren().add(createText(rawFilter, Color.GREEN));
+            addText(new Pair<>(rawFilter, Color.GREEN));
             return;
         }
 
@@ -553,7 +575,7 @@ public class GuiParser {
         }
 
         int startIndexOfDate = rawFilter.indexOf(timeSpecifier) + timeSpecifier.length() + startIndex;
-        int endIndexOfDate = matcher.end(IDENTIFIER_GROUP) + startIndex;
+        int endIndexOfDate = match.end(IDENTIFIER_GROUP) + startIndex;
         String rawTimeSpecifier = rawFilter.substring(0, startIndexOfDate - startIndex);
         String rawDate = rawFilter.substring(startIndexOfDate - startIndex);
         String parametersAfterIncludeDate = parameters.substring(startIndexOfDate - startIndex);
@@ -564,7 +586,7 @@ public class GuiParser {
             populateSuggestions(date, suggestedTimeSpecifiers, startIndexOfDate, endIndexOfDate, NONE);
 
             if (isNotTypingAttribute(startIndexOfDate, endIndexOfDate)) {
-                console.getEntriesPopup().hide();
+                result.hideSuggestions();
             }
         }
 
@@ -605,79 +627,79 @@ public class GuiParser {
     }
 
     private void smartParseEditModuleCommand(String parameters, int startIndex) throws ParseFailureException {
-        final Matcher matcher = matchPattern(parameters, EDIT_MODULE_FORMAT);
+        final CommandGrammar.Match match = matchPattern(parameters, EDIT_MODULE_FORMAT);
 
-        smartParseIdentityModule(matcher, parameters, startIndex, true);
-        checkDuplicateModule(matcher, parameters);
+        smartParseIdentityModule(match, parameters, startIndex, true);
+        checkDuplicateModule(match, parameters);
 
-        checkInvalid(matcher);
+        checkInvalid(match);
     }
 
     private void smartParseEditCategoryCommand(String parameters, int startIndex) throws ParseFailureException {
-        final Matcher matcher = matchPattern(parameters, EDIT_CATEGORY_FORMAT);
+        final CommandGrammar.Match match = matchPattern(parameters, EDIT_CATEGORY_FORMAT);
 
-        smartParseIdentityCategory(matcher, parameters, startIndex);
-        smartParseModule(matcher, parameters, startIndex, true);
-        checkDuplicateCategory(matcher, parameters);
-        smartParsePriority(matcher, parameters, PRIORITY_GROUP);
+        smartParseIdentityCategory(match, parameters, startIndex);
+        smartParseModule(match, parameters, startIndex, true);
+        checkDuplicateCategory(match, parameters);
+        smartParsePriority(match, parameters, PRIORITY_GROUP);
 
-        checkInvalid(matcher);
+        checkInvalid(match);
     }
 
     private void smartParseEditTaskCommand(String parameters, int startIndex) throws ParseFailureException {
-        final Matcher matcher = matchPattern(parameters, EDIT_TASK_FORMAT);
+        final CommandGrammar.Match match = matchPattern(parameters, EDIT_TASK_FORMAT);
 
-        smartParseIdentityTask(matcher, parameters, startIndex);
-        smartParseModule(matcher, parameters, startIndex, true);
-        smartParseCategory(matcher, parameters, startIndex, true);
-        checkDuplicateTask(matcher, parameters);
+        smartParseIdentityTask(match, parameters, startIndex);
+        smartParseModule(match, parameters, startIndex, true);
+        smartParseCategory(match, parameters, startIndex, true);
+        checkDuplicateTask(match, parameters);
 
-        boolean hasPriority = smartParsePriority(matcher, parameters, PRIORITY_GROUP);
-        smartParseDeadline(matcher, parameters, startIndex);
+        boolean hasPriority = smartParsePriority(match, parameters, PRIORITY_GROUP);
+        smartParseDeadline(match, parameters, startIndex);
         if (hasPriority) {
-            highlightIncorrect(matcher, PRIORITY_GROUP_SECOND);
+            highlightIncorrect(match, PRIORITY_GROUP_SECOND);
         } else {
-            smartParsePriority(matcher, parameters, PRIORITY_GROUP_SECOND);
+            smartParsePriority(match, parameters, PRIORITY_GROUP_SECOND);
         }
 
-        checkInvalid(matcher);
+        checkInvalid(match);
     }
 
     private void smartParseEditFileCommand(String parameters, int startIndex) throws ParseFailureException {
-        final Matcher matcher = matchPattern(parameters, EDIT_FILE_FORMAT);
+        final CommandGrammar.Match match = matchPattern(parameters, EDIT_FILE_FORMAT);
 
-        smartParseIdentityFile(matcher, parameters, startIndex);
-        smartParseModule(matcher, parameters, startIndex, true);
-        smartParseCategory(matcher, parameters, startIndex, true);
-        smartParseTask(matcher, parameters, startIndex, true);
-        checkDuplicateFile(matcher, parameters);
+        smartParseIdentityFile(match, parameters, startIndex);
+        smartParseModule(match, parameters, startIndex, true);
+        smartParseCategory(match, parameters, startIndex, true);
+        smartParseTask(match, parameters, startIndex, true);
+        checkDuplicateFile(match, parameters);
 
-        checkInvalid(matcher);
+        checkInvalid(match);
     }
 
     private void smartParseMarkAsDoneCommand(String parameters, int startIndex) throws ParseFailureException {
-        final Matcher matcher = matchPattern(parameters, DONE_FORMAT);
+        final CommandGrammar.Match match = matchPattern(parameters, DONE_FORMAT);
 
-        smartParseIdentityTask(matcher, parameters, startIndex);
-        smartParseModule(matcher, parameters, startIndex, true);
-        smartParseCategory(matcher, parameters, startIndex, true);
+        smartParseIdentityTask(match, parameters, startIndex);
+        smartParseModule(match, parameters, startIndex, true);
+        smartParseCategory(match, parameters, startIndex, true);
 
-        checkInvalid(matcher);
+        checkInvalid(match);
     }
 
     private void smartParseOpenFileCommand(String parameters, int startIndex) throws ParseFailureException {
-        final Matcher matcher = matchPattern(parameters, OPEN_FILE_FORMAT);
+        final CommandGrammar.Match match = matchPattern(parameters, OPEN_FILE_FORMAT);
 
-        smartParseIdentityFile(matcher, parameters, startIndex);
-        smartParseModule(matcher, parameters, startIndex, true);
-        smartParseCategory(matcher, parameters, startIndex, true);
-        smartParseTask(matcher, parameters, startIndex, true);
+        smartParseIdentityFile(match, parameters, startIndex);
+        smartParseModule(match, parameters, startIndex, true);
+        smartParseCategory(match, parameters, startIndex, true);
+        smartParseTask(match, parameters, startIndex, true);
 
-        checkInvalid(matcher);
+        checkInvalid(match);
     }
 
-    private void checkDuplicateModule(Matcher matcher, String parameters) throws ParseFailureException {
-        String moduleGroup = matcher.group(MODULE_GROUP);
+    private void checkDuplicateModule(CommandGrammar.Match match, String parameters) throws ParseFailureException {
+        String moduleGroup = match.group(MODULE_GROUP);
         if (moduleGroup.isBlank()) {
             return;
         }
@@ -687,7 +709,7 @@ public class GuiParser {
         int endIndexOfPrefix = moduleGroup.indexOf(MODULE_PREFIX) + PREFIX_LENGTH;
         String prefix = moduleGroup.substring(0, endIndexOfPrefix);
         String rawModuleName = moduleGroup.substring(endIndexOfPrefix);
-        String parametersAfter =  parameters.substring(matcher.end(MODULE_GROUP));
+        String parametersAfter =  parameters.substring(match.end(MODULE_GROUP));
 
         // Highlight the prefix first
         addText(new Pair<>(prefix, Color.GREEN));
@@ -698,7 +720,7 @@ public class GuiParser {
             // Repeated module code
             addText(new Pair<>(rawModuleName, Color.CRIMSON), new Pair<>(parametersAfter, Color.DARKGRAY));
             throw new ParseFailureException();
-        } else if (!ModuleManager.getModulesMap().containsKey(moduleCode)) {
+        } else if (!snapshot.isProvided(moduleCode)) {
             // Module code is not an NUS module
             addText(new Pair<>(rawModuleName, Color.ORANGE));
         } else {
@@ -707,8 +729,8 @@ public class GuiParser {
         }
     }
 
-    private void checkDuplicateCategory(Matcher matcher, String parameters) throws ParseFailureException {
-        String categoryGroup = matcher.group(CATEGORY_GROUP);
+    private void checkDuplicateCategory(CommandGrammar.Match match, String parameters) throws ParseFailureException {
+        String categoryGroup = match.group(CATEGORY_GROUP);
         if (categoryGroup.isBlank()) {
             return;
         }
@@ -718,13 +740,13 @@ public class GuiParser {
         int endIndexOfPrefix = categoryGroup.indexOf(CATEGORY_PREFIX) + PREFIX_LENGTH;
         String prefix = categoryGroup.substring(0, endIndexOfPrefix);
         String rawCategoryName = categoryGroup.substring(endIndexOfPrefix);
-        String parametersAfter =  parameters.substring(matcher.end(CATEGORY_GROUP));
+        String parametersAfter =  parameters.substring(match.end(CATEGORY_GROUP));
 
         // Highlight the prefix first
         addText(new Pair<>(prefix, Color.GREEN));
 
         // Retrieves Category List and checks if new category name is repeated
-        String moduleCode = matcher.group(MODULE_GROUP).replace(MODULE_PREFIX, NONE).trim();
+        String moduleCode = match.group(MODULE_GROUP).replace(MODULE_PREFIX, NONE).trim();
         try {
             ArrayList<String> suggestedCategories = generateSuggestedCategories(moduleCode, true);
             if (suggestedCategories.contains(categoryName)) {
@@ -742,8 +764,8 @@ public class GuiParser {
         }
     }
 
-    private void checkDuplicateTask(Matcher matcher, String parameters) throws ParseFailureException {
-        String taskGroup = matcher.group(TASK_GROUP);
+    private void checkDuplicateTask(CommandGrammar.Match match, String parameters) throws ParseFailureException {
+        String taskGroup = match.group(TASK_GROUP);
         if (taskGroup.isBlank()) {
             return;
         }
@@ -753,14 +775,14 @@ public class GuiParser {
         int endIndexOfPrefix = taskGroup.indexOf(TASK_PREFIX) + PREFIX_LENGTH;
         String prefix = taskGroup.substring(0, endIndexOfPrefix);
         String rawTaskDescription = taskGroup.substring(endIndexOfPrefix);
-        String parametersAfter =  parameters.substring(matcher.end(TASK_GROUP));
+        String parametersAfter =  parameters.substring(match.end(TASK_GROUP));
 
         // Highlight the prefix first
         addText(new Pair<>(prefix, Color.GREEN));
 
         // Retrieves Task List and checks if new task description is repeated
-        String moduleCode = matcher.group(MODULE_GROUP).replace(MODULE_PREFIX, NONE).trim();
-        String categoryName = matcher.group(CATEGORY_GROUP).replace(CATEGORY_PREFIX, NONE).trim();
+        String moduleCode = match.group(MODULE_GROUP).replace(MODULE_PREFIX, NONE).trim();
+        String categoryName = match.group(CATEGORY_GROUP).replace(CATEGORY_PREFIX, NONE).trim();
         try {
             ArrayList<String> suggestedTasks = generateSuggestedTasks(moduleCode, categoryName, true);
             if (suggestedTasks.contains(taskDescription)) {
@@ -778,8 +800,8 @@ public class GuiParser {
         }
     }
 
-    private void checkDuplicateFile(Matcher matcher, String parameters) throws ParseFailureException {
-        String fileGroup = matcher.group(FILE_GROUP);
+    private void checkDuplicateFile(CommandGrammar.Match match, String parameters) throws ParseFailureException {
+        String fileGroup = match.group(FILE_GROUP);
         if (fileGroup.isBlank()) {
             return;
         }
@@ -789,15 +811,15 @@ public class GuiParser {
         int endIndexOfPrefix = fileGroup.indexOf(FILE_PREFIX) + PREFIX_LENGTH;
         String prefix = fileGroup.substring(0, endIndexOfPrefix);
         String rawFileName = fileGroup.substring(endIndexOfPrefix);
-        String parametersAfter =  parameters.substring(matcher.end(FILE_GROUP));
+        String parametersAfter =  parameters.substring(match.end(FILE_GROUP));
 
         // Highlight the prefix first
         addText(new Pair<>(prefix, Color.GREEN));
 
         // Retrieves File List and checks if new file name is repeated
-        String moduleCode = matcher.group(MODULE_GROUP).replace(MODULE_PREFIX, NONE).trim();
-        String categoryName = matcher.group(CATEGORY_GROUP).replace(CATEGORY_PREFIX, NONE).trim();
-        String taskDescription = matcher.group(TASK_GROUP).replace(TASK_PREFIX, NONE).trim();
+        String moduleCode = match.group(MODULE_GROUP).replace(MODULE_PREFIX, NONE).trim();
+        String categoryName = match.group(CATEGORY_GROUP).replace(CATEGORY_PREFIX, NONE).trim();
+        String taskDescription = match.group(TASK_GROUP).replace(TASK_PREFIX, NONE).trim();
         try {
             ArrayList<String> suggestedFiles = generateSuggestedFiles(moduleCode, categoryName,
                     taskDescription, false);
@@ -816,43 +838,43 @@ public class GuiParser {
         }
     }
 
-    private void smartParseIdentityModule(Matcher matcher, String parameters, int startIndex, boolean isExact)
-            throws ParseFailureException {
-        String rawModuleCode = matcher.group(IDENTIFIER_GROUP);
+    private void smartParseIdentityModule(CommandGrammar.Match match, String parameters, int startIndex,
+            boolean isExact) throws ParseFailureException {
+        String rawModuleCode = match.group(IDENTIFIER_GROUP);
         if (rawModuleCode.isBlank()) {
             return;
         }
 
-        int startIndexOfModule =  matcher.start(IDENTIFIER_GROUP) + startIndex;
-        int endIndexOfModule =  matcher.end(IDENTIFIER_GROUP) + startIndex;
+        int startIndexOfModule =  match.start(IDENTIFIER_GROUP) + startIndex;
+        int endIndexOfModule =  match.end(IDENTIFIER_GROUP) + startIndex;
 
         String moduleCode = rawModuleCode.trim().toUpperCase();
-        String parametersAfter =  parameters.substring(matcher.end(IDENTIFIER_GROUP));
+        String parametersAfter =  parameters.substring(match.end(IDENTIFIER_GROUP));
 
         ArrayList<String> suggestedModules = generateSuggestedModules();
         populateSuggestions(moduleCode, suggestedModules, startIndexOfModule, endIndexOfModule, NONE);
 
         if (isNotTypingAttribute(startIndexOfModule, endIndexOfModule)) {
-            console.getEntriesPopup().hide();
+            result.hideSuggestions();
         }
 
         highlightInput(moduleCode, rawModuleCode, parametersAfter, endIndexOfModule, suggestedModules, isExact);
     }
 
-    private void smartParseIdentityCategory(Matcher matcher, String parameters, int startIndex)
+    private void smartParseIdentityCategory(CommandGrammar.Match match, String parameters, int startIndex)
             throws ParseFailureException {
-        String rawCategoryName = matcher.group(IDENTIFIER_GROUP);
+        String rawCategoryName = match.group(IDENTIFIER_GROUP);
         if (rawCategoryName.isBlank()) {
             return;
         }
 
-        int startIndexOfCategory =  matcher.start(IDENTIFIER_GROUP) + startIndex;
-        int endIndexOfCategory =  matcher.end(IDENTIFIER_GROUP) + startIndex;
+        int startIndexOfCategory =  match.start(IDENTIFIER_GROUP) + startIndex;
+        int endIndexOfCategory =  match.end(IDENTIFIER_GROUP) + startIndex;
 
         String categoryName = rawCategoryName.trim();
-        String parametersAfter =  parameters.substring(matcher.end(IDENTIFIER_GROUP));
+        String parametersAfter =  parameters.substring(match.end(IDENTIFIER_GROUP));
 
-        String moduleCode = matcher.group(MODULE_GROUP).replace(MODULE_PREFIX, NONE).trim();
+        String moduleCode = match.group(MODULE_GROUP).replace(MODULE_PREFIX, NONE).trim();
         ArrayList<String> suggestedCategories;
         try {
             suggestedCategories = generateSuggestedCategories(moduleCode, false);
@@ -863,27 +885,27 @@ public class GuiParser {
         }
 
         if (isNotTypingAttribute(startIndexOfCategory, endIndexOfCategory)) {
-            console.getEntriesPopup().hide();
+            result.hideSuggestions();
         }
 
         highlightInput(categoryName, rawCategoryName, parametersAfter, endIndexOfCategory, suggestedCategories, false);
     }
 
-    private void smartParseIdentityTask(Matcher matcher, String parameters, int startIndex)
+    private void smartParseIdentityTask(CommandGrammar.Match match, String parameters, int startIndex)
             throws ParseFailureException {
-        String rawTaskDescription = matcher.group(IDENTIFIER_GROUP);
+        String rawTaskDescription = match.group(IDENTIFIER_GROUP);
         if (rawTaskDescription.isBlank()) {
             return;
         }
 
-        int startIndexOfTask =  matcher.start(IDENTIFIER_GROUP) + startIndex;
-        int endIndexOfTask =  matcher.end(IDENTIFIER_GROUP) + startIndex;
+        int startIndexOfTask =  match.start(IDENTIFIER_GROUP) + startIndex;
+        int endIndexOfTask =  match.end(IDENTIFIER_GROUP) + startIndex;
 
         String taskDescription = rawTaskDescription.trim();
-        String parametersAfter =  parameters.substring(matcher.end(IDENTIFIER_GROUP));
+        String parametersAfter =  parameters.substring(match.end(IDENTIFIER_GROUP));
 
-        String moduleCode = matcher.group(MODULE_GROUP).replace(MODULE_PREFIX, NONE).trim();
-        String categoryName = matcher.group(CATEGORY_GROUP).replace(CATEGORY_PREFIX, NONE).trim();
+        String moduleCode = match.group(MODULE_GROUP).replace(MODULE_PREFIX, NONE).trim();
+        String categoryName = match.group(CATEGORY_GROUP).replace(CATEGORY_PREFIX, NONE).trim();
 
         ArrayList<String> suggestedTasks;
         try {
@@ -895,28 +917,28 @@ public class GuiParser {
         }
 
         if (isNotTypingAttribute(startIndexOfTask, endIndexOfTask)) {
-            console.getEntriesPopup().hide();
+            result.hideSuggestions();
         }
 
         highlightInput(taskDescription, rawTaskDescription, parametersAfter, endIndexOfTask, suggestedTasks, false);
     }
 
-    private void smartParseIdentityFile(Matcher matcher, String parameters, int startIndex)
+    private void smartParseIdentityFile(CommandGrammar.Match match, String parameters, int startIndex)
             throws ParseFailureException {
-        String rawFileName = matcher.group(IDENTIFIER_GROUP);
+        String rawFileName = match.group(IDENTIFIER_GROUP);
         if (rawFileName.isBlank()) {
             return;
         }
 
-        int startIndexOfFile =  matcher.start(IDENTIFIER_GROUP) + startIndex;
-        int endIndexOfFile =  matcher.end(IDENTIFIER_GROUP) + startIndex;
+        int startIndexOfFile =  match.start(IDENTIFIER_GROUP) + startIndex;
+        int endIndexOfFile =  match.end(IDENTIFIER_GROUP) + startIndex;
 
         String fileName = rawFileName.trim();
-        String parametersAfter =  parameters.substring(matcher.end(IDENTIFIER_GROUP));
+        String parametersAfter =  parameters.substring(match.end(IDENTIFIER_GROUP));
 
-        String moduleCode = matcher.group(MODULE_GROUP).replace(MODULE_PREFIX, NONE).trim();
-        String categoryName = matcher.group(CATEGORY_GROUP).replace(CATEGORY_PREFIX, NONE).trim();
-        String taskDescription = matcher.group(TASK_GROUP).replace(TASK_PREFIX, NONE).trim();
+        String moduleCode = match.group(MODULE_GROUP).replace(MODULE_PREFIX, NONE).trim();
+        String categoryName = match.group(CATEGORY_GROUP).replace(CATEGORY_PREFIX, NONE).trim();
+        String taskDescription = match.group(TASK_GROUP).replace(TASK_PREFIX, NONE).trim();
 
         ArrayList<String> suggestedFiles;
         try {
@@ -928,21 +950,21 @@ public class GuiParser {
         }
 
         if (isNotTypingAttribute(startIndexOfFile, endIndexOfFile)) {
-            console.getEntriesPopup().hide();
+            result.hideSuggestions();
         }
 
         highlightInput(fileName, rawFileName, parametersAfter, endIndexOfFile, suggestedFiles, false);
     }
 
-    private void smartParseModule(Matcher matcher, String parameters, int startIndex, boolean isExact)
+    private void smartParseModule(CommandGrammar.Match match, String parameters, int startIndex, boolean isExact)
             throws ParseFailureException {
-        String moduleGroup = matcher.group(MODULE_GROUP);
+        String moduleGroup = match.group(MODULE_GROUP);
         if (moduleGroup.isBlank()) {
             return;
         }
 
-        int startIndexOfModule =  matcher.start(MODULE_GROUP) + startIndex;
-        int endIndexOfModule =  matcher.end(MODULE_GROUP) + startIndex;
+        int startIndexOfModule =  match.start(MODULE_GROUP) + startIndex;
+        int endIndexOfModule =  match.end(MODULE_GROUP) + startIndex;
 
         String moduleCode = moduleGroup.replace(MODULE_PREFIX, NONE).trim().toUpperCase();
 
@@ -955,23 +977,23 @@ public class GuiParser {
         populateSuggestions(moduleCode, suggestedModules, startIndexOfModule, endIndexOfModule, MODULE_PREFIX);
 
         if (isNotTypingAttribute(startIndexOfModule, endIndexOfModule)) {
-            console.getEntriesPopup().hide();
+            result.hideSuggestions();
         }
 
         String rawModuleCode = moduleGroup.substring(endIndexOfPrefix);
-        String parametersAfter =  parameters.substring(matcher.end(MODULE_GROUP));
+        String parametersAfter =  parameters.substring(match.end(MODULE_GROUP));
         highlightInput(moduleCode, rawModuleCode, parametersAfter, endIndexOfModule, suggestedModules, isExact);
     }
 
-    private void smartParseCategory(Matcher matcher, String parameters, int startIndex, boolean isExact)
+    private void smartParseCategory(CommandGrammar.Match match, String parameters, int startIndex, boolean isExact)
             throws ParseFailureException {
-        String categoryGroup = matcher.group(CATEGORY_GROUP);
+        String categoryGroup = match.group(CATEGORY_GROUP);
         if (categoryGroup.isBlank()) {
             return;
         }
 
-        int startIndexOfCategory =  matcher.start(CATEGORY_GROUP) + startIndex;
-        int endIndexOfCategory =  matcher.end(CATEGORY_GROUP) + startIndex;
+        int startIndexOfCategory =  match.start(CATEGORY_GROUP) + startIndex;
+        int endIndexOfCategory =  match.end(CATEGORY_GROUP) + startIndex;
 
         String categoryName = categoryGroup.replace(CATEGORY_PREFIX, NONE).trim();
 
@@ -981,7 +1003,7 @@ public class GuiParser {
 
         addText(new Pair<>(prefix, Color.GREEN));
 
-        String moduleCode = matcher.group(MODULE_GROUP).replace(MODULE_PREFIX, NONE).trim();
+        String moduleCode = match.group(MODULE_GROUP).replace(MODULE_PREFIX, NONE).trim();
         ArrayList<String> suggestedCategories;
         try {
             suggestedCategories = generateSuggestedCategories(moduleCode, isExact);
@@ -993,35 +1015,35 @@ public class GuiParser {
         }
 
         if (isNotTypingAttribute(startIndexOfCategory, endIndexOfCategory)) {
-            console.getEntriesPopup().hide();
+            result.hideSuggestions();
         }
 
-        String parametersAfter = parameters.substring(matcher.end(CATEGORY_GROUP));
+        String parametersAfter = parameters.substring(match.end(CATEGORY_GROUP));
         highlightInput(categoryName, rawCategoryName, parametersAfter, endIndexOfCategory,
                 suggestedCategories, isExact);
     }
 
-    private void smartParseTask(Matcher matcher, String parameters, int startIndex, boolean isExact)
+    private void smartParseTask(CommandGrammar.Match match, String parameters, int startIndex, boolean isExact)
             throws ParseFailureException {
-        String taskGroup = matcher.group(TASK_GROUP);
+        String taskGroup = match.group(TASK_GROUP);
         if (taskGroup.isBlank()) {
             return;
         }
 
-        int startIndexOfTask =  matcher.start(TASK_GROUP) + startIndex;
-        int endIndexOfTask =  matcher.end(TASK_GROUP) + startIndex;
+        int startIndexOfTask =  match.start(TASK_GROUP) + startIndex;
+        int endIndexOfTask =  match.end(TASK_GROUP) + startIndex;
 
         String taskDescription = taskGroup.replace(TASK_PREFIX, NONE).trim();
 
         int endIndexOfPrefix = taskGroup.indexOf(TASK_PREFIX) + PREFIX_LENGTH;
         String prefix = taskGroup.substring(0, endIndexOfPrefix);
         String rawTaskDescription = taskGroup.substring(endIndexOfPrefix);
-        String parametersAfter =  parameters.substring(matcher.end(TASK_GROUP));
+        String parametersAfter =  parameters.substring(match.end(TASK_GROUP));
 
         addText(new Pair<>(prefix, Color.GREEN));
 
-        String moduleCode = matcher.group(MODULE_GROUP).replace(MODULE_PREFIX, NONE).trim();
-        String categoryName = matcher.group(CATEGORY_GROUP).replace(CATEGORY_PREFIX, NONE).trim();
+        String moduleCode = match.group(MODULE_GROUP).replace(MODULE_PREFIX, NONE).trim();
+        String categoryName = match.group(CATEGORY_GROUP).replace(CATEGORY_PREFIX, NONE).trim();
         ArrayList<String> suggestedTasks;
         try {
             suggestedTasks = generateSuggestedTasks(moduleCode, categoryName, isExact);
@@ -1032,15 +1054,15 @@ public class GuiParser {
         }
 
         if (isNotTypingAttribute(startIndexOfTask, endIndexOfTask)) {
-            console.getEntriesPopup().hide();
+            result.hideSuggestions();
         }
 
         highlightInput(taskDescription, rawTaskDescription, parametersAfter, endIndexOfTask,
                 suggestedTasks, isExact);
     }
 
-    private void smartParseFile(Matcher matcher) {
-        String fileGroup = matcher.group(FILE_GROUP);
+    private void smartParseFile(CommandGrammar.Match match) {
+        String fileGroup = match.group(FILE_GROUP);
         if (fileGroup.isBlank()) {
             return;
         }
@@ -1054,20 +1076,21 @@ public class GuiParser {
         addText(new Pair<>(rawFileName, Color.BLUE));
     }
 
-    private void smartParseDeadline(Matcher matcher, String parameters, int startIndex) throws ParseFailureException {
-        String deadlineGroup = matcher.group(DEADLINE_GROUP);
+    private void smartParseDeadline(CommandGrammar.Match match, String parameters, int startIndex)
+            throws ParseFailureException {
+        String deadlineGroup = match.group(DEADLINE_GROUP);
         if (deadlineGroup.isBlank()) {
             return;
         }
 
-        int startIndexOfDeadline =  matcher.start(DEADLINE_GROUP) + startIndex;
-        int endIndexOfDeadline =  matcher.end(DEADLINE_GROUP) + startIndex;
+        int startIndexOfDeadline =  match.start(DEADLINE_GROUP) + startIndex;
+        int endIndexOfDeadline =  match.end(DEADLINE_GROUP) + startIndex;
 
         int endIndexOfPrefix = deadlineGroup.indexOf(DEADLINE_PREFIX) + PREFIX_LENGTH;
         String prefix = deadlineGroup.substring(0, endIndexOfPrefix);
         String rawDeadline = deadlineGroup.substring(endIndexOfPrefix);
         String deadline = rawDeadline.trim();
-        String parametersAfter =  parameters.substring(matcher.end(DEADLINE_GROUP));
+        String parametersAfter =  parameters.substring(match.end(DEADLINE_GROUP));
 
         addText(new Pair<>(prefix, Color.GREEN));
 
@@ -1083,9 +1106,9 @@ public class GuiParser {
         }
     }
 
-    private boolean smartParsePriority(Matcher matcher, String parameters, String groupName)
+    private boolean smartParsePriority(CommandGrammar.Match match, String parameters, String groupName)
             throws ParseFailureException {
-        String priorityGroup = matcher.group(groupName);
+        String priorityGroup = match.group(groupName);
         if (priorityGroup.isBlank()) {
             return false;
         }
@@ -1094,7 +1117,7 @@ public class GuiParser {
         String prefix = priorityGroup.substring(0, endIndexOfPrefix);
         String rawPriority = priorityGroup.substring(endIndexOfPrefix);
         String priority = rawPriority.trim();
-        String parametersAfter =  parameters.substring(matcher.end(groupName));
+        String parametersAfter =  parameters.substring(match.end(groupName));
 
         addText(new Pair<>(prefix, Color.GREEN));
 
@@ -1108,8 +1131,8 @@ public class GuiParser {
         return true;
     }
 
-    private boolean smartParseFlag(Matcher matcher, String flagName, String flagPrefix) {
-        String flagGroup = matcher.group(flagName);
+    private boolean smartParseFlag(CommandGrammar.Match match, String flagName, String flagPrefix) {
+        String flagGroup = match.group(flagName);
         if (flagGroup.isBlank()) {
             return false;
         }
@@ -1160,16 +1183,16 @@ public class GuiParser {
         }
     }
 
-    private Matcher matchPattern(String parameters, Pattern format)
+    private CommandGrammar.Match matchPattern(String parameters, CommandGrammar format)
             throws ParseFailureException {
-        final Matcher matcher = format.matcher(parameters);
+        final CommandGrammar.Match match = format.match(parameters);
 
-        if (!matcher.matches()) {
+        if (!match.matches()) {
             addText(new Pair<>(parameters, Color.CRIMSON));
             throw new ParseFailureException();
         }
 
-        return matcher;
+        return match;
     }
 
     private void highlightInput(String parameter, String rawParameter, String parametersAfter, int endIndex,
@@ -1188,7 +1211,7 @@ public class GuiParser {
         if (isMatchingWord(parameter, suggestions)) {
             // Completely matches a suggestion
             addText(new Pair<>(rawParameter, Color.GREEN));
-        } else if (console.getCaretPosition() > endIndex) {
+        } else if (caretPosition > endIndex) {
             // Partially matches a suggestion but not typing
             if (isExact) {
                 addText(new Pair<>(rawParameter, Color.CRIMSON), new Pair<>(parametersAfter, Color.DARKGRAY));
@@ -1206,13 +1229,13 @@ public class GuiParser {
         }
     }
 
-    private void highlightIncorrect(Matcher matcher, String groupName) {
-        String group = matcher.group(groupName);
+    private void highlightIncorrect(CommandGrammar.Match match, String groupName) {
+        String group = match.group(groupName);
         addText(new Pair<>(group, Color.CRIMSON));
     }
 
     /**
-     * Adds colored texts into the syntax console.
+     * Adds colored texts into the highlighted input.
      *
      * @param texts
      *  The colored texts to be added
@@ -1220,58 +1243,16 @@ public class GuiParser {
     @SafeVarargs
     private final void addText(Pair<String, Color>... texts) {
         for (Pair<String, Color> stringColorPair : texts) {
-            syntaxConsole.getChildren().add(createText(stringColorPair.getKey(), stringColorPair.getValue()));
+            result.addText(stringColorPair);
         }
     }
 
     private ArrayList<String> generateSuggestedDirectories() {
-        ArrayList<String> suggestions = new ArrayList<>();
-        switch (getCurrentDirectoryLevel()) {
-        case ROOT:
-            for (Module module : ModuleManager.getModuleList()) {
-                suggestions.add(module.getModuleCode());
-            }
-            break;
-
-        case MODULE:
-            for (Category category : ((Module) getCurrentDirectory()).getCategories().getCategoryList()) {
-                suggestions.add(category.getCategoryName());
-            }
-            break;
-
-        case CATEGORY:
-            for (Task task : ((Category) getCurrentDirectory()).getTasks().getTaskList()) {
-                suggestions.add(task.getDescription());
-            }
-            break;
-
-        case TASK:
-            for (TaskFile file : ((Task) getCurrentDirectory()).getFiles().getFileList()) {
-                suggestions.add(file.getFileName());
-            }
-            break;
-
-        default:
-            break;
-        }
-
-        return suggestions;
-    }
-
-    private ArrayList<String> generateSuggestedNewModules() {
-        ArrayList<String> moduleSuggestions = new ArrayList<>(ModuleManager.getModulesMap().keySet());
-        // Show only suggestions of modules that have not been added yet
-        ModuleManager.getModuleList().stream()
-                .map(Module::getModuleCode)     // Get module code for current modules
-                .forEach(moduleSuggestions::remove);   // Remove module code from set
-
-        return moduleSuggestions;
+        return snapshot.getNamesInCurrentDirectory();
     }
 
     private ArrayList<String> generateSuggestedModules() {
-        return ModuleManager.getModuleList().stream()
-                .map(Module::getModuleCode)     // Get all the module codes in the Module List
-                .collect(Collectors.toCollection(ArrayList::new)); // And convert into an Array List
+        return snapshot.getModuleCodes();
     }
 
     private ArrayList<String> generateSuggestedCategories(String moduleCode, boolean isExact)
@@ -1279,18 +1260,10 @@ public class GuiParser {
 
         // Fill in missing information for exact filtering
         if (moduleCode.isEmpty() && isExact) {
-            moduleCode = getBaseModule().getModuleCode();
+            moduleCode = snapshot.getBaseModuleCode();
         }
 
-        if (isExact) {
-            return ModuleManager.filterExact(moduleCode, NONE).stream()
-                    .map(Category::getCategoryName) // Get all the category names in the Category List of the module
-                    .collect(Collectors.toCollection(ArrayList::new)); // And convert into an Array List
-        } else {
-            return ModuleManager.filter(moduleCode, NONE).stream()
-                    .map(Category::getCategoryName) // Get all the category names in the Category List of the module
-                    .collect(Collectors.toCollection(ArrayList::new)); // And convert into an Array List
-        }
+        return snapshot.filterCategoryNames(moduleCode, isExact);
     }
 
     private ArrayList<String> generateSuggestedTasks(String moduleCode, String categoryName, boolean isExact)
@@ -1298,24 +1271,16 @@ public class GuiParser {
 
         // Fill in missing information for exact filtering
         if (moduleCode.isEmpty() && isExact) {
-            moduleCode = getBaseModule().getModuleCode();
+            moduleCode = snapshot.getBaseModuleCode();
         }
         if (categoryName.isEmpty() && isExact) {
-            if (!getBaseModule().isSameModule(moduleCode)) {
+            if (!snapshot.getBaseModuleCode().equalsIgnoreCase(moduleCode)) {
                 throw new IncorrectDirectoryLevelException();
             }
-            categoryName = getBaseCategory().getCategoryName();
+            categoryName = snapshot.getBaseCategoryName();
         }
 
-        if (isExact) {
-            return ModuleManager.filterExact(moduleCode, categoryName, NONE).stream()
-                    .map(Task::getDescription) // Get all task descriptions in the Task List of the module's category
-                    .collect(Collectors.toCollection(ArrayList::new)); // And convert into an Array List
-        } else {
-            return ModuleManager.filter(moduleCode, categoryName, NONE).stream()
-                    .map(Task::getDescription) // Get all task descriptions in the Task List of the module's category
-                    .collect(Collectors.toCollection(ArrayList::new)); // And convert into an Array List
-        }
+        return snapshot.filterTaskDescriptions(moduleCode, categoryName, isExact);
     }
 
     private ArrayList<String> generateSuggestedFiles(String moduleCode, String categoryName, String taskDescription,
@@ -1323,31 +1288,24 @@ public class GuiParser {
         // Fill in missing information for exact filtering
         if (isExact) {
             if (moduleCode.isEmpty()) {
-                moduleCode = getBaseModule().getModuleCode();
+                moduleCode = snapshot.getBaseModuleCode();
             }
             if (categoryName.isEmpty()) {
-                if (!getBaseModule().isSameModule(moduleCode)) {
+                if (!snapshot.getBaseModuleCode().equalsIgnoreCase(moduleCode)) {
                     throw new IncorrectDirectoryLevelException();
                 }
-                categoryName = getBaseCategory().getCategoryName();
+                categoryName = snapshot.getBaseCategoryName();
             }
             if (taskDescription.isEmpty()) {
-                if (!getBaseModule().isSameModule(moduleCode) || !getBaseCategory().isSameCategory(categoryName)) {
+                if (!snapshot.getBaseModuleCode().equalsIgnoreCase(moduleCode)
+                        || !snapshot.getBaseCategoryName().equals(categoryName)) {
                     throw new IncorrectDirectoryLevelException();
                 }
-                taskDescription = getBaseTask().getDescription();
+                taskDescription = snapshot.getBaseTaskDescription();
             }
         }
 
-        if (isExact) {
-            return ModuleManager.filterExact(moduleCode, categoryName, taskDescription, NONE).stream()
-                    .map(TaskFile::getFileName) // Get all file names in the File List of the category's tasks
-                    .collect(Collectors.toCollection(ArrayList::new)); // And convert into an Array List
-        } else {
-            return ModuleManager.filter(moduleCode, categoryName, taskDescription, NONE).stream()
-                    .map(TaskFile::getFileName) // Get all file names in the File List of the category's tasks
-                    .collect(Collectors.toCollection(ArrayList::new)); // And convert into an Array List
-        }
+        return snapshot.filterFileNames(moduleCode, categoryName, taskDescription, isExact);
     }
 
     private ArrayList<String> generateSuggestedTimeSpecifier() {
@@ -1356,19 +1314,23 @@ public class GuiParser {
 
     private void populateSuggestions(String keyword, ArrayList<String> suggestions,
                                      int startIndex, int endIndex, String prefix) {
-        console.getEntries().clear();
-        console.getEntries().addAll(suggestions);
-        console.setEnteredText(keyword, startIndex, endIndex, prefix);
-        console.displaySuggestions();
+        List<String> selectedSuggestions = keyword.isBlank() ? new ArrayList<>()
+                : CompletionIndex.selectFirst(suggestions, keyword, MAX_SUGGESTIONS);
+        showSuggestions(keyword, selectedSuggestions, startIndex, endIndex, prefix);
+    }
+
+    private void showSuggestions(String keyword, List<String> suggestions,
+                                 int startIndex, int endIndex, String prefix) {
+        result.showSuggestions(keyword, suggestions, startIndex, endIndex, prefix);
     }
 
     private boolean isNotTypingAttribute(int startIndex, int endIndex) {
-        return console.getCaretPosition() < startIndex || console.getCaretPosition() > endIndex;
+        return caretPosition < startIndex || caretPosition > endIndex;
     }
 
-    private void checkInvalid(Matcher matcher) {
-        String invalid = matcher.group(INVALID_GROUP);
-        syntaxConsole.getChildren().add(createText(invalid, Color.CRIMSON));
+    private void checkInvalid(CommandGrammar.Match match) {
+        String invalid = match.group(INVALID_GROUP);
+        addText(new Pair<>(invalid, Color.CRIMSON));
     }
 
     private boolean isPartOfWord(String givenWord, ArrayList<String> acceptedWords) {
@@ -1390,7 +1352,7 @@ public class GuiParser {
     }
 
     private void smartParseIndices(String input) throws ParseFailureException {
-        final int limit = Executor.getFilteredList().size();
+        final int limit = snapshot.getFilteredListSize();
         if (input.isBlank()) {
             return;
         }
@@ -0,0 +1,420 @@
+package seedu.nuke.gui.io;
+
+import seedu.nuke.Executor;
+import seedu.nuke.command.promptcommand.PromptType;
+import seedu.nuke.data.CompletionIndex;
+import seedu.nuke.data.ModuleManager;
+import seedu.nuke.directory.Category;
+import seedu.nuke.directory.Directory;
+import seedu.nuke.directory.DirectoryLevel;
+import seedu.nuke.directory.DirectoryTraverser;
+import seedu.nuke.directory.Module;
+import seedu.nuke.directory.Task;
+import seedu.nuke.directory.TaskFile;
+import seedu.nuke.exception.IncorrectDirectoryLevelException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The state that the {@link GuiParser} reads, captured on the JavaFX Application Thread so that the input can be
+ * parsed on a background thread while commands keep changing the Module List.
+ * <p></p>
+ * The snapshot holds the names of the modules, categories, tasks and files in the Module List, the current directory,
+ * the prompt type, the size of the filtered list and the catalogue of NUS provided modules. None of it is changed
+ * once the snapshot is captured. The names of a module are only captured again if the module has changed since the
+ * previous snapshot, and the previous snapshot is reused as a whole if nothing has changed.
+ * <p></p>
+ * Only the reference to the catalogue is captured. Its completion index is built on the thread that first suggests
+ * modules from it, i.e. the worker thread of the {@link BackgroundParser}, and is shared by every later snapshot of
+ * the same catalogue, so that the JavaFX Application Thread is not held up by it whenever the catalogue is loaded.
+ */
+public class ParserSnapshot {
+    private static final String NO_KEYWORD = "";
+
+    private final long version;
+    private final Directory currentDirectory;
+    private final DirectoryLevel directoryLevel;
+    private final PromptType promptType;
+    private final int filteredListSize;
+    private final Map<String, String> modulesMap;
+    private final CatalogueIndex catalogueIndex;
+
+    private final List<Names> modules;
+    private final Set<String> moduleCodes;
+    private final List<String> currentNames;
+    private final String baseModuleCode;
+    private final String baseCategoryName;
+    private final String baseTaskDescription;
+
+    /** Only read on the JavaFX Application Thread, to reuse the names of the unchanged modules */
+    private final IdentityHashMap<Module, Names> namesOfModules;
+
+    private ParserSnapshot(ParserSnapshot previous) {
+        version = ModuleManager.getVersion();
+        currentDirectory = DirectoryTraverser.getCurrentDirectory();
+        directoryLevel = DirectoryTraverser.getCurrentDirectoryLevel();
+        promptType = Executor.getPromptType();
+        filteredListSize = getFilteredListSizeNow();
+
+        Map<String, String> currentModulesMap = ModuleManager.getModulesMap();
+        modulesMap = currentModulesMap == null ? Collections.emptyMap() : currentModulesMap;
+        catalogueIndex = (previous != null && previous.modulesMap == modulesMap) ? previous.catalogueIndex
+                : new CatalogueIndex(modulesMap);
+
+        modules = new ArrayList<>();
+        moduleCodes = new HashSet<>();
+        namesOfModules = new IdentityHashMap<>();
+        for (Module module : ModuleManager.getModuleList()) {
+            Names names = (previous == null) ? null : previous.namesOfModules.get(module);
+            if (names == null || names.version != module.getVersion()) {
+                names = new Names(module);
+            }
+            modules.add(names);
+            moduleCodes.add(module.getModuleCode().toUpperCase());
+            namesOfModules.put(module, names);
+        }
+
+        currentNames = getNamesIn(currentDirectory);
+        baseModuleCode = getBaseName(DirectoryLevel.MODULE);
+        baseCategoryName = getBaseName(DirectoryLevel.CATEGORY);
+        baseTaskDescription = getBaseName(DirectoryLevel.TASK);
+    }
+
+    /**
+     * Captures the state that the {@link GuiParser} reads. This has to be called on the JavaFX Application Thread.
+     *
+     * @param previous
+     *  The snapshot captured before, or <code>null</code> if there is none
+     * @return
+     *  The captured snapshot, which is the previous snapshot if nothing has changed since it was captured
+     */
+    public static ParserSnapshot capture(ParserSnapshot previous) {
+        if (previous != null && previous.isCurrent()) {
+            return previous;
+        }
+        return new ParserSnapshot(previous);
+    }
+
+    private boolean isCurrent() {
+        return version == ModuleManager.getVersion()
+                && directoryLevel == DirectoryTraverser.getCurrentDirectoryLevel()
+                && (directoryLevel == DirectoryLevel.ROOT
+                        || currentDirectory == DirectoryTraverser.getCurrentDirectory())
+                && promptType == Executor.getPromptType()
+                && filteredListSize == getFilteredListSizeNow()
+                && modulesMap == ModuleManager.getModulesMap();
+    }
+
+    private static int getFilteredListSizeNow() {
+        return Executor.getFilteredList() == null ? 0 : Executor.getFilteredList().size();
+    }
+
+    private List<String> getNamesIn(Directory directory) {
+        ArrayList<String> names = new ArrayList<>();
+        switch (directoryLevel) {
+        case ROOT:
+            for (Names module : modules) {
+                names.add(module.name);
+            }
+            break;
+
+        case MODULE:
+            for (Category category : ((Module) directory).getCategories().getCategoryList()) {
+                names.add(category.getCategoryName());
+            }
+            break;
+
+        case CATEGORY:
+            for (Task task : ((Category) directory).getTasks().getTaskList()) {
+                names.add(task.getDescription());
+            }
+            break;
+
+        case TASK:
+            for (TaskFile file : ((Task) directory).getFiles().getFileList()) {
+                names.add(file.getFileName());
+            }
+            break;
+
+        default:
+            break;
+        }
+        return Collections.unmodifiableList(names);
+    }
+
+    private String getBaseName(DirectoryLevel baseLevel) {
+        try {
+            switch (baseLevel) {
+            case MODULE:
+                return DirectoryTraverser.getBaseModule().getModuleCode();
+            case CATEGORY:
+                return DirectoryTraverser.getBaseCategory().getCategoryName();
+            case TASK:
+                return DirectoryTraverser.getBaseTask().getDescription();
+            default:
+                return null;
+            }
+        } catch (IncorrectDirectoryLevelException e) {
+            return null;
+        }
+    }
+
+    public PromptType getPromptType() {
+        return promptType;
+    }
+
+    public int getFilteredListSize() {
+        return filteredListSize;
+    }
+
+    public DirectoryLevel getCurrentDirectoryLevel() {
+        return directoryLevel;
+    }
+
+    /**
+     * Returns the names of the directories in the current directory, e.g. the module codes at the root.
+     *
+     * @return
+     *  The names of the directories in the current directory, in order
+     */
+    public ArrayList<String> getNamesInCurrentDirectory() {
+        return new ArrayList<>(currentNames);
+    }
+
+    /**
+     * Returns the module codes of the modules in the Module List.
+     *
+     * @return
+     *  The module codes in the Module List, in order
+     */
+    public ArrayList<String> getModuleCodes() {
+        ArrayList<String> codes = new ArrayList<>();
+        for (Names module : modules) {
+            codes.add(module.name);
+        }
+        return codes;
+    }
+
+    /**
+     * Checks if a module with the specified module code is in the Module List, ignoring case.
+     *
+     * @param moduleCode
+     *  The module code to check
+     * @return
+     *  <code>TRUE</code> if the module is in the Module List, and <code>FALSE</code> otherwise
+     */
+    public boolean contains(String moduleCode) {
+        return moduleCodes.contains(moduleCode.toUpperCase());
+    }
+
+    /**
+     * Checks if the specified module code is an NUS provided module.
+     *
+     * @param moduleCode
+     *  The module code to check
+     * @return
+     *  <code>TRUE</code> if the module is provided, and <code>FALSE</code> otherwise
+     */
+    public boolean isProvided(String moduleCode) {
+        return modulesMap.containsKey(moduleCode);
+    }
+
+    /**
+     * Suggests the first module codes in order from the modules map that contain the specified keyword and are not
+     * in the Module List yet, i.e. the modules that can still be added.
+     *
+     * @param keyword
+     *  The keyword the module codes have to contain
+     * @param limit
+     *  The maximum number of module codes to suggest
+     * @return
+     *  The suggested module codes, in order
+     */
+    public List<String> suggestNewModules(String keyword, int limit) {
+        return catalogueIndex.get().findFirst(keyword, limit, moduleCode -> !contains(moduleCode));
+    }
+
+    /**
+     * Returns the module code of the module the current directory is in.
+     *
+     * @return
+     *  The module code of the base module
+     * @throws IncorrectDirectoryLevelException
+     *  If the current directory is not in a module
+     */
+    public String getBaseModuleCode() throws IncorrectDirectoryLevelException {
+        return requireBaseName(baseModuleCode);
+    }
+
+    /**
+     * Returns the name of the category the current directory is in.
+     *
+     * @return
+     *  The name of the base category
+     * @throws IncorrectDirectoryLevelException
+     *  If the current directory is not in a category
+     */
+    public String getBaseCategoryName() throws IncorrectDirectoryLevelException {
+        return requireBaseName(baseCategoryName);
+    }
+
+    /**
+     * Returns the description of the task the current directory is in.
+     *
+     * @return
+     *  The description of the base task
+     * @throws IncorrectDirectoryLevelException
+     *  If the current directory is not in a task
+     */
+    public String getBaseTaskDescription() throws IncorrectDirectoryLevelException {
+        return requireBaseName(baseTaskDescription);
+    }
+
+    private static String requireBaseName(String baseName) throws IncorrectDirectoryLevelException {
+        if (baseName == null) {
+            throw new IncorrectDirectoryLevelException();
+        }
+        return baseName;
+    }
+
+    /**
+     * Filters for the category names in the modules with module code that contains, or matches exactly, the
+     * specified keyword, like {@link ModuleManager#filter(String, String)} with no category keyword.
+     *
+     * @param moduleKeyword
+     *  The keyword to filter the modules
+     * @param isExact
+     *  Whether the module code has to match the keyword exactly, ignoring case
+     * @return
+     *  The names of the categories in the filtered modules, in the order of the Module List
+     */
+    public ArrayList<String> filterCategoryNames(String moduleKeyword, boolean isExact) {
+        return filterNames(isExact, moduleKeyword);
+    }
+
+    /**
+     * Filters for the task descriptions in the categories with names that contain, or match exactly, the specified
+     * keywords, like {@link ModuleManager#filter(String, String, String)} with no task keyword.
+     *
+     * @param moduleKeyword
+     *  The keyword to filter the modules
+     * @param categoryKeyword
+     *  The keyword to filter the categories
+     * @param isExact
+     *  Whether the names have to match the keywords exactly, ignoring case
+     * @return
+     *  The descriptions of the tasks in the filtered categories, in the order of the Module List
+     */
+    public ArrayList<String> filterTaskDescriptions(String moduleKeyword, String categoryKeyword, boolean isExact) {
+        return filterNames(isExact, moduleKeyword, categoryKeyword);
+    }
+
+    /**
+     * Filters for the file names in the tasks with names that contain, or match exactly, the specified keywords,
+     * like {@link ModuleManager#filter(String, String, String, String)} with no file keyword.
+     *
+     * @param moduleKeyword
+     *  The keyword to filter the modules
+     * @param categoryKeyword
+     *  The keyword to filter the categories
+     * @param taskKeyword
+     *  The keyword to filter the tasks
+     * @param isExact
+     *  Whether the names have to match the keywords exactly, ignoring case
+     * @return
+     *  The names of the files in the filtered tasks, in the order of the Module List
+     */
+    public ArrayList<String> filterFileNames(String moduleKeyword, String categoryKeyword, String taskKeyword,
+            boolean isExact) {
+        return filterNames(isExact, moduleKeyword, categoryKeyword, taskKeyword);
+    }
+
+    private ArrayList<String> filterNames(boolean isExact, String... keywords) {
+        String[] lowerCaseKeywords = new String[keywords.length];
+        for (int i = 0; i < keywords.length; ++i) {
+            lowerCaseKeywords[i] = keywords[i].toLowerCase();
+        }
+        ArrayList<String> names = new ArrayList<>();
+        collectNames(modules, lowerCaseKeywords, 0, isExact, names);
+        return names;
+    }
+
+    private static void collectNames(List<Names> directories, String[] keywords, int depth, boolean isExact,
+            ArrayList<String> names) {
+        for (Names directory : directories) {
+            if (depth == keywords.length) {
+                names.add(directory.name);
+            } else if (directory.matches(keywords[depth], isExact)) {
+                collectNames(directory.children, keywords, depth + 1, isExact, names);
+            }
+        }
+    }
+
+    /**
+     * The completion index of the module codes in a catalogue, which is only built when it is first needed.
+     */
+    private static class CatalogueIndex {
+        private final Map<String, String> modulesMap;
+        private CompletionIndex index;
+
+        private CatalogueIndex(Map<String, String> modulesMap) {
+            this.modulesMap = modulesMap;
+        }
+
+        private synchronized CompletionIndex get() {
+            if (index == null) {
+                index = new CompletionIndex(modulesMap.keySet());
+            }
+            return index;
+        }
+    }
+
+    /**
+     * The name of a directory and the names of the directories in it, which are never changed once captured.
+     */
+    private static class Names {
+        private final String name;
+        private final String lowerCaseName;
+        private final List<Names> children;
+        private final long version;
+
+        private Names(String name, List<Names> children) {
+            this.name = name;
+            this.lowerCaseName = name.toLowerCase();
+            this.children = Collections.unmodifiableList(children);
+            this.version = 0;
+        }
+
+        private Names(Module module) {
+            ArrayList<Names> categories = new ArrayList<>();
+            for (Category category : module.getCategories().getCategoryList()) {
+                ArrayList<Names> tasks = new ArrayList<>();
+                for (Task task : category.getTasks().getTaskList()) {
+                    ArrayList<Names> files = new ArrayList<>();
+                    for (TaskFile file : task.getFiles().getFileList()) {
+                        files.add(new Names(file.getFileName(), new ArrayList<>()));
+                    }
+                    tasks.add(new Names(task.getDescription(), files));
+                }
+                categories.add(new Names(category.getCategoryName(), tasks));
+            }
+            this.name = module.getModuleCode();
+            this.lowerCaseName = name.toLowerCase();
+            this.children = Collections.unmodifiableList(categories);
+            this.version = module.getVersion();
+        }
+
+        private boolean matches(String lowerCaseKeyword, boolean isExact) {
+            if (lowerCaseKeyword.equals(NO_KEYWORD)) {
+                return true;
+            }
+            return isExact ? lowerCaseName.equals(lowerCaseKeyword) : lowerCaseName.contains(lowerCaseKeyword);
+        }
+    }
+}
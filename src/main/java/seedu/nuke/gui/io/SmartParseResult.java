@@ -0,0 +1,93 @@
+package seedu.nuke.gui.io;
+
+import javafx.scene.paint.Color;
+import javafx.scene.text.Text;
+import javafx.util.Pair;
+import seedu.nuke.gui.component.AutoCompleteTextField;
+import seedu.nuke.gui.component.SyntaxConsole;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static seedu.nuke.gui.util.TextUtil.createText;
+
+/**
+ * The highlighted input and the suggestions worked out by the {@link GuiParser} for the input being typed.
+ * <p></p>
+ * The result is worked out away from the JavaFX Application Thread, so it only holds plain values, and is shown in
+ * the console on the JavaFX Application Thread afterwards.
+ */
+public class SmartParseResult {
+    private final ArrayList<Pair<String, Color>> texts = new ArrayList<>();
+    private boolean isSuggestionsShown = false;
+    private List<String> suggestions = new ArrayList<>();
+    private String keyword;
+    private int startIndex;
+    private int endIndex;
+    private String prefix;
+
+    /**
+     * Adds a colored text to the highlighted input.
+     *
+     * @param text
+     *  The text with its color
+     */
+    void addText(Pair<String, Color> text) {
+        texts.add(text);
+    }
+
+    /**
+     * Shows the suggestions for the attribute being typed. Only the suggestions set last are shown.
+     *
+     * @param keyword
+     *  The text of the attribute typed so far
+     * @param suggestions
+     *  The suggestions that contain the text typed so far, in order
+     * @param startIndex
+     *  The starting index of the attribute being typed
+     * @param endIndex
+     *  The ending index of the attribute being typed
+     * @param prefix
+     *  The prefix of the attribute being typed
+     */
+    void showSuggestions(String keyword, List<String> suggestions, int startIndex, int endIndex, String prefix) {
+        this.isSuggestionsShown = true;
+        this.keyword = keyword;
+        this.suggestions = suggestions;
+        this.startIndex = startIndex;
+        this.endIndex = endIndex;
+        this.prefix = prefix;
+    }
+
+    /**
+     * Hides the suggestions set so far, e.g. when the user is no longer typing the attribute.
+     */
+    void hideSuggestions() {
+        isSuggestionsShown = false;
+    }
+
+    /**
+     * Shows the highlighted input in the syntax console and the suggestions below the console. This has to be called
+     * on the JavaFX Application Thread.
+     *
+     * @param console
+     *  The console the input is typed in
+     * @param syntaxConsole
+     *  The syntax console to show the highlighted input in
+     */
+    public void show(AutoCompleteTextField console, SyntaxConsole syntaxConsole) {
+        ArrayList<Text> highlightedTexts = new ArrayList<>();
+        for (Pair<String, Color> text : texts) {
+            highlightedTexts.add(createText(text.getKey(), text.getValue()));
+        }
+        syntaxConsole.getChildren().setAll(highlightedTexts);
+
+        if (isSuggestionsShown) {
+            console.setSuggestions(suggestions);
+            console.setEnteredText(keyword, startIndex, endIndex, prefix);
+            console.displaySuggestions();
+        } else {
+            console.getEntriesPopup().hide();
+        }
+    }
+}
@@ -25,6 +25,8 @@ import seedu.nuke.command.filtercommand.listcommand.ListModuleCommand;
 import seedu.nuke.command.filtercommand.listcommand.ListTaskCommand;
 import seedu.nuke.command.misc.ChangeDirectoryCommand;
 import seedu.nuke.command.misc.ClearCommand;
+import seedu.nuke.command.misc.ExportCommand;
+import seedu.nuke.command.misc.ImportCommand;
 import seedu.nuke.command.misc.InfoCommand;
 import seedu.nuke.command.misc.OpenFileCommand;
 import seedu.nuke.command.misc.RedoCommand;
@@ -120,6 +122,10 @@ public class CommandFormatText {
             return getChangeDirectoryFormat();
         case OpenFileCommand.COMMAND_WORD:
             return getOpenFileFormat();
+        case ImportCommand.COMMAND_WORD:
+            return getFilePathFormat(ImportCommand.COMMAND_WORD);
+        case ExportCommand.COMMAND_WORD:
+            return getFilePathFormat(ExportCommand.COMMAND_WORD);
         case InfoCommand.COMMAND_WORD:
             return getInfoFormat();
         case UndoCommand.COMMAND_WORD:
@@ -411,6 +417,15 @@ public class CommandFormatText {
         return commandFormat;
     }
 
+    private static TextFlow getFilePathFormat(String commandWord) {
+        commandFormat.getChildren().addAll(
+                createText(commandWord, Color.GREEN),
+                createText(" <file path>", Color.BLUE),
+                createText(" ending with .csv or .jsonl", Color.DARKGRAY)
+        );
+        return commandFormat;
+    }
+
     private static TextFlow getInfoFormat() {
         commandFormat.getChildren().add(createText(InfoCommand.COMMAND_WORD, Color.GREEN));
         return commandFormat;
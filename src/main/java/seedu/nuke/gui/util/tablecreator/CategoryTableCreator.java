@@ -1,8 +1,7 @@
 package seedu.nuke.gui.util.tablecreator;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
 import javafx.scene.Cursor;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.control.TableColumn;
 import javafx.scene.control.TableRow;
@@ -10,16 +9,15 @@ import javafx.scene.control.TableView;
 import javafx.scene.control.cell.PropertyValueFactory;
 import javafx.scene.input.MouseButton;
 import javafx.scene.input.MouseEvent;
-import javafx.scene.text.TextFlow;
+import seedu.nuke.command.ResultPages;
 import seedu.nuke.command.misc.InfoCommand;
 import seedu.nuke.data.ModuleManager;
 import seedu.nuke.directory.Category;
 import seedu.nuke.exception.DataNotFoundException;
+import seedu.nuke.gui.component.ConsoleScreen;
 import seedu.nuke.gui.io.GuiExecutor;
 import seedu.nuke.gui.util.tablecreator.basicdirectory.BasicCategory;
 
-import java.util.ArrayList;
-
 public class CategoryTableCreator {
     private static final int TABLE_WIDTH = 880;
     private static final int ID_WIDTH = 50;
@@ -29,32 +27,33 @@ public class CategoryTableCreator {
     private static final int ROW_HEIGHT = 30;
     private static final int HEADER_HEIGHT = 35;
 
-    private ArrayList<Category> categoryList;
-    private TextFlow consoleScreen;
+    private ResultPages<Category> categoryPages;
+    private ConsoleScreen consoleScreen;
 
     /**
      * Constructs the Category Table Creator class to create a category table.
      *
-     * @param categoryList
-     *  The list of categories to show
+     * @param categoryPages
+     *  The pages of categories to show
      * @param consoleScreen
      *  The console screen to show the list
      */
-    public CategoryTableCreator(ArrayList<Category> categoryList, TextFlow consoleScreen) {
-        this.categoryList = categoryList;
+    public CategoryTableCreator(ResultPages<Category> categoryPages, ConsoleScreen consoleScreen) {
+        this.categoryPages = categoryPages;
         this.consoleScreen = consoleScreen;
     }
 
     /**
-     * Creates a Table View from the categories in the category list.
+     * Creates a Table View from the categories in the category list, starting with the first page of categories.
      *
      * @return
-     *  The Table View of the categories in the category list
+     *  The Table View of the categories in the category list, with the link to show the next page below it
      */
-    public TableView<BasicCategory> createCategoryListTable() {
+    public Node createCategoryListTable() {
         TableView<BasicCategory> categoryTable = new TableView<>();
         initialiseCategoryTable(categoryTable);
-        return categoryTable;
+        return new TablePager<>(categoryPages, categoryTable, this::createBasicCategory, ROW_HEIGHT, HEADER_HEIGHT)
+                .createPagedTable();
     }
 
     @SuppressWarnings("unchecked")
@@ -68,14 +67,9 @@ public class CategoryTableCreator {
             return row;
         });
 
-        // Set height
-        int height = categoryList.size() * ROW_HEIGHT + HEADER_HEIGHT;
-        categoryTable.setPrefHeight(height);
-
-        // Populate columns and data
+        // Populate columns, the data is loaded one page at a time
         categoryTable.getColumns()
                 .addAll(getIdColumn(), getModuleCodeColumn(), getCategoryNameColumn(), getPriorityColumn());
-        categoryTable.getItems().addAll(getBasicCategoryList());
 
         // Width properties
         categoryTable.setMinWidth(TABLE_WIDTH);
@@ -121,16 +115,9 @@ public class CategoryTableCreator {
         return priorityColumn;
     }
 
-    private ObservableList<BasicCategory> getBasicCategoryList() {
-        ArrayList<BasicCategory> basicCategoryList = new ArrayList<>();
-
-        int id = 1;
-        for (Category category : categoryList) {
-            basicCategoryList.add(new BasicCategory(id++, category.getParent().getModuleCode(),
-                    category.getCategoryName(), category.getCategoryPriority()));
-        }
-
-        return FXCollections.observableArrayList(basicCategoryList);
+    private BasicCategory createBasicCategory(Category category, int id) {
+        return new BasicCategory(id, category.getParent().getModuleCode(), category.getCategoryName(),
+                category.getCategoryPriority());
     }
 
     private void onRowClick(MouseEvent mouseEvent, TableRow<BasicCategory> row) {
@@ -1,8 +1,7 @@
 package seedu.nuke.gui.util.tablecreator;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
 import javafx.scene.Cursor;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.control.TableColumn;
 import javafx.scene.control.TableRow;
@@ -10,16 +9,15 @@ import javafx.scene.control.TableView;
 import javafx.scene.control.cell.PropertyValueFactory;
 import javafx.scene.input.MouseButton;
 import javafx.scene.input.MouseEvent;
-import javafx.scene.text.TextFlow;
+import seedu.nuke.command.ResultPages;
 import seedu.nuke.command.misc.InfoCommand;
 import seedu.nuke.data.ModuleManager;
 import seedu.nuke.directory.TaskFile;
 import seedu.nuke.exception.DataNotFoundException;
+import seedu.nuke.gui.component.ConsoleScreen;
 import seedu.nuke.gui.io.GuiExecutor;
 import seedu.nuke.gui.util.tablecreator.basicdirectory.BasicFile;
 
-import java.util.ArrayList;
-
 public class FileTableCreator {
     private static final int TABLE_WIDTH = 880;
     private static final int ID_WIDTH = 50;
@@ -30,32 +28,33 @@ public class FileTableCreator {
     private static final int ROW_HEIGHT = 30;
     private static final int HEADER_HEIGHT = 35;
 
-    private ArrayList<TaskFile> fileList;
-    private TextFlow consoleScreen;
+    private ResultPages<TaskFile> filePages;
+    private ConsoleScreen consoleScreen;
 
     /**
      * Constructs the TaskFile Table Creator class to create a file table.
      *
-     * @param fileList
-     *  The list of files to show
+     * @param filePages
+     *  The pages of files to show
      * @param consoleScreen
      *  The console screen to show the list
      */
-    public FileTableCreator(ArrayList<TaskFile> fileList, TextFlow consoleScreen) {
-        this.fileList = fileList;
+    public FileTableCreator(ResultPages<TaskFile> filePages, ConsoleScreen consoleScreen) {
+        this.filePages = filePages;
         this.consoleScreen = consoleScreen;
     }
 
     /**
-     * Creates a Table View from the files in the file list.
+     * Creates a Table View from the files in the file list, starting with the first page of files.
      *
      * @return
-     *  The Table View of the files in the file list
+     *  The Table View of the files in the file list, with the link to show the next page below it
      */
-    public TableView<BasicFile> createFileListTable() {
+    public Node createFileListTable() {
         TableView<BasicFile> fileTable = new TableView<>();
         initialiseTaskFileTable(fileTable);
-        return fileTable;
+        return new TablePager<>(filePages, fileTable, this::createBasicFile, ROW_HEIGHT, HEADER_HEIGHT)
+                .createPagedTable();
     }
 
     @SuppressWarnings("unchecked")
@@ -69,15 +68,10 @@ public class FileTableCreator {
             return row;
         });
 
-        // Set height
-        int height = fileList.size() * ROW_HEIGHT + HEADER_HEIGHT;
-        fileTable.setPrefHeight(height);
-
-        // Populate columns and data
+        // Populate columns, the data is loaded one page at a time
         fileTable.getColumns()
                 .addAll(getIdColumn(), getModuleCodeColumn(), getCategoryNameColumn(), getTaskDescriptionColumn(),
                         getFileNameColumn());
-        fileTable.getItems().addAll(getBasicFileList());
 
         // Width properties
         fileTable.setMinWidth(TABLE_WIDTH);
@@ -132,17 +126,10 @@ public class FileTableCreator {
         return deadlineColumn;
     }
 
-    private ObservableList<BasicFile> getBasicFileList() {
-        ArrayList<BasicFile> basicTaskFileList = new ArrayList<>();
-
-        int id = 1;
-        for (TaskFile file : fileList) {
-            basicTaskFileList.add(new BasicFile(id++, file.getParent().getParent().getParent().getModuleCode(),
-                    file.getParent().getParent().getCategoryName(), file.getParent().getDescription(),
-                    file.getFileName()));
-        }
-
-        return FXCollections.observableArrayList(basicTaskFileList);
+    private BasicFile createBasicFile(TaskFile file, int id) {
+        return new BasicFile(id, file.getParent().getParent().getParent().getModuleCode(),
+                file.getParent().getParent().getCategoryName(), file.getParent().getDescription(),
+                file.getFileName());
     }
 
     private void onRowClick(MouseEvent mouseEvent, TableRow<BasicFile> row) {
@@ -1,8 +1,7 @@
 package seedu.nuke.gui.util.tablecreator;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
 import javafx.scene.Cursor;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.control.TableColumn;
 import javafx.scene.control.TableRow;
@@ -10,15 +9,14 @@ import javafx.scene.control.TableView;
 import javafx.scene.control.cell.PropertyValueFactory;
 import javafx.scene.input.MouseButton;
 import javafx.scene.input.MouseEvent;
-import javafx.scene.text.TextFlow;
+import seedu.nuke.command.ResultPages;
 import seedu.nuke.command.misc.InfoCommand;
 import seedu.nuke.data.ModuleManager;
 import seedu.nuke.directory.Module;
+import seedu.nuke.gui.component.ConsoleScreen;
 import seedu.nuke.gui.io.GuiExecutor;
 import seedu.nuke.gui.util.tablecreator.basicdirectory.BasicModule;
 
-import java.util.ArrayList;
-
 public class ModuleTableCreator {
     private static final int TABLE_WIDTH = 880;
     private static final int ID_WIDTH = 50;
@@ -27,32 +25,33 @@ public class ModuleTableCreator {
     private static final int ROW_HEIGHT = 30;
     private static final int HEADER_HEIGHT = 35;
 
-    private ArrayList<Module> moduleList;
-    private TextFlow consoleScreen;
+    private ResultPages<Module> modulePages;
+    private ConsoleScreen consoleScreen;
 
     /**
      * Constructs the Module Table Creator class to create a module table.
      *
-     * @param moduleList
-     *  The list of modules to show
+     * @param modulePages
+     *  The pages of modules to show
      * @param consoleScreen
      *  The console screen to show the list
      */
-    public ModuleTableCreator(ArrayList<Module> moduleList, TextFlow consoleScreen) {
-        this.moduleList = moduleList;
+    public ModuleTableCreator(ResultPages<Module> modulePages, ConsoleScreen consoleScreen) {
+        this.modulePages = modulePages;
         this.consoleScreen = consoleScreen;
     }
 
     /**
-     * Creates a Table View from the modules in the module list.
+     * Creates a Table View from the modules in the module list, starting with the first page of modules.
      *
      * @return
-     *  The Table View of the modules in the module list
+     *  The Table View of the modules in the module list, with the link to show the next page below it
      */
-    public TableView<BasicModule> createModuleListTable() {
+    public Node createModuleListTable() {
         TableView<BasicModule> moduleTable = new TableView<>();
         initialiseModuleTable(moduleTable);
-        return moduleTable;
+        return new TablePager<>(modulePages, moduleTable, this::createBasicModule, ROW_HEIGHT, HEADER_HEIGHT)
+                .createPagedTable();
     }
 
     @SuppressWarnings("unchecked")
@@ -66,13 +65,8 @@ public class ModuleTableCreator {
             return row;
         });
 
-        // Set height
-        int height = moduleList.size() * ROW_HEIGHT + HEADER_HEIGHT;
-        moduleTable.setPrefHeight(height);
-
-        // Populate columns and data
+        // Populate columns, the data is loaded one page at a time
         moduleTable.getColumns().addAll(getIdColumn(), getModuleCodeColumn(), getTitleColumn());
-        moduleTable.getItems().addAll(getBasicModuleList());
 
         // Width properties
         moduleTable.setMinWidth(TABLE_WIDTH);
@@ -109,15 +103,8 @@ public class ModuleTableCreator {
         return titleColumn;
     }
 
-    private ObservableList<BasicModule> getBasicModuleList() {
-        ArrayList<BasicModule> basicModuleList = new ArrayList<>();
-
-        int id = 1;
-        for (Module module : moduleList) {
-            basicModuleList.add(new BasicModule(id++, module.getModuleCode(), module.getTitle()));
-        }
-
-        return FXCollections.observableArrayList(basicModuleList);
+    private BasicModule createBasicModule(Module module, int id) {
+        return new BasicModule(id, module.getModuleCode(), module.getTitle());
     }
 
     private void onRowClick(MouseEvent mouseEvent, TableRow<BasicModule> row) {
@@ -0,0 +1,157 @@
+package seedu.nuke.gui.util.tablecreator;
+
+import javafx.scene.Node;
+import javafx.scene.control.Hyperlink;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import javafx.scene.layout.VBox;
+import javafx.scene.paint.Color;
+import seedu.nuke.command.ResultPages;
+import seedu.nuke.directory.Directory;
+import seedu.nuke.gui.component.ConsoleScreen;
+import seedu.nuke.gui.util.TextUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * Loads the rows of a table from the pages of results on demand.
+ * <p></p>
+ * The table starts with the first page, and the link below the table loads the next page into the table until all
+ * the results are shown. Once the table is old, it is collapsed into a text snapshot of the rows loaded.
+ *
+ * @param <T>
+ *  The type of the results
+ * @param <R>
+ *  The type of the rows of the table
+ */
+class TablePager<T extends Directory, R> {
+    private static final String MORE_FORMAT = "Show %d more of %d remaining";
+    private static final String SNAPSHOT_TOTAL_FORMAT = "Showing %d of %d\n";
+    private static final String SNAPSHOT_SEPARATOR = " | ";
+    private static final int SNAPSHOT_CELL_WIDTH = 30;
+
+    private final ResultPages<T> pages;
+    private final TableView<R> table;
+    private final BiFunction<T, Integer, R> rowCreator;
+    private final int rowHeight;
+    private final int headerHeight;
+    private final Hyperlink moreLink = new Hyperlink();
+    private int nextPageIndex = 0;
+
+    /**
+     * Constructs the pager to load the pages of results into a table.
+     *
+     * @param pages
+     *  The pages of results to show in the table
+     * @param table
+     *  The table to load the rows into
+     * @param rowCreator
+     *  Creates the row of a result from the result and its id
+     * @param rowHeight
+     *  The height of a row of the table
+     * @param headerHeight
+     *  The height of the header of the table
+     */
+    TablePager(ResultPages<T> pages, TableView<R> table, BiFunction<T, Integer, R> rowCreator,
+               int rowHeight, int headerHeight) {
+        this.pages = pages;
+        this.table = table;
+        this.rowCreator = rowCreator;
+        this.rowHeight = rowHeight;
+        this.headerHeight = headerHeight;
+    }
+
+    /**
+     * Loads the first page into the table, and adds the link to load the next page below the table if there are
+     * more pages.
+     *
+     * @return
+     *  The table together with the link to load the next page
+     */
+    Node createPagedTable() {
+        VBox pagedTable = new PagedTable();
+        table.setPrefHeight(headerHeight);
+        if (pages.countPages() == 0) {
+            return pagedTable;
+        }
+
+        loadNextPage();
+        if (nextPageIndex < pages.countPages()) {
+            moreLink.setOnAction(event -> loadNextPage());
+            pagedTable.getChildren().add(moreLink);
+        }
+        return pagedTable;
+    }
+
+    private void loadNextPage() {
+        ArrayList<R> rows = new ArrayList<>();
+        int id = pages.getFirstIndex(nextPageIndex) + 1;
+        for (T result : pages.getPage(nextPageIndex++)) {
+            rows.add(rowCreator.apply(result, id++));
+        }
+        table.getItems().addAll(rows);
+        table.setPrefHeight(table.getItems().size() * rowHeight + headerHeight);
+
+        int remainingCount = pages.size() - table.getItems().size();
+        if (remainingCount == 0) {
+            moreLink.setVisible(false);
+            moreLink.setManaged(false);
+        } else {
+            moreLink.setText(String.format(MORE_FORMAT, Math.min(remainingCount, ResultPages.PAGE_SIZE),
+                    remainingCount));
+        }
+    }
+
+    /**
+     * Creates a text snapshot of the rows loaded into the table, with the columns padded to the same width.
+     *
+     * @return
+     *  The text snapshot of the table
+     */
+    private Node createSnapshot() {
+        List<TableColumn<R, ?>> columns = table.getColumns();
+        int rowCount = table.getItems().size();
+        String[][] cells = new String[rowCount + 1][columns.size()];
+        int[] widths = new int[columns.size()];
+        for (int column = 0; column < columns.size(); ++column) {
+            cells[0][column] = columns.get(column).getText();
+            for (int row = 0; row < rowCount; ++row) {
+                cells[row + 1][column] = String.valueOf(columns.get(column).getCellData(row));
+            }
+            for (String[] rowCells : cells) {
+                if (rowCells[column].length() > SNAPSHOT_CELL_WIDTH) {
+                    rowCells[column] = rowCells[column].substring(0, SNAPSHOT_CELL_WIDTH - 3) + "...";
+                }
+                widths[column] = Math.max(widths[column], rowCells[column].length());
+            }
+        }
+
+        StringBuilder snapshot = new StringBuilder();
+        for (int row = 0; row <= rowCount; ++row) {
+            for (int column = 0; column < columns.size(); ++column) {
+                String cell = cells[row][column];
+                snapshot.append(column == 0 ? "" : SNAPSHOT_SEPARATOR)
+                        .append(cell).append(" ".repeat(widths[column] - cell.length()));
+            }
+            snapshot.append("\n");
+        }
+        snapshot.append(String.format(SNAPSHOT_TOTAL_FORMAT, rowCount, pages.size()));
+        return TextUtil.createText(snapshot.toString(), Color.DIMGRAY);
+    }
+
+    /**
+     * The table with the link to load the next page, which is collapsed into a snapshot of the table when old.
+     */
+    private class PagedTable extends VBox implements ConsoleScreen.Collapsible {
+        private PagedTable() {
+            super(table);
+        }
+
+        @Override
+        public Node createSnapshot() {
+            return TablePager.this.createSnapshot();
+        }
+    }
+}
@@ -1,8 +1,7 @@
 package seedu.nuke.gui.util.tablecreator;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
 import javafx.scene.Cursor;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.control.TableCell;
 import javafx.scene.control.TableColumn;
@@ -11,16 +10,16 @@ import javafx.scene.control.TableView;
 import javafx.scene.control.cell.PropertyValueFactory;
 import javafx.scene.input.MouseButton;
 import javafx.scene.input.MouseEvent;
-import javafx.scene.text.TextFlow;
+import seedu.nuke.command.ResultPages;
 import seedu.nuke.command.misc.InfoCommand;
 import seedu.nuke.data.ModuleManager;
 import seedu.nuke.directory.Task;
 import seedu.nuke.exception.DataNotFoundException;
+import seedu.nuke.gui.component.ConsoleScreen;
 import seedu.nuke.gui.io.GuiExecutor;
 import seedu.nuke.gui.util.tablecreator.basicdirectory.BasicTask;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
 
 import static seedu.nuke.common.Constants.CHECK_ICON;
 import static seedu.nuke.common.Constants.CROSS_ICON;
@@ -37,32 +36,33 @@ public class TaskTableCreator {
     private static final int ROW_HEIGHT = 30;
     private static final int HEADER_HEIGHT = 35;
 
-    private ArrayList<Task> taskList;
-    private TextFlow consoleScreen;
+    private ResultPages<Task> taskPages;
+    private ConsoleScreen consoleScreen;
 
     /**
      * Constructs the Task Table Creator class to create a task table.
      *
-     * @param taskList
-     *  The list of tasks to show
+     * @param taskPages
+     *  The pages of tasks to show
      * @param consoleScreen
      *  The console screen to show the list
      */
-    public TaskTableCreator(ArrayList<Task> taskList, TextFlow consoleScreen) {
-        this.taskList = taskList;
+    public TaskTableCreator(ResultPages<Task> taskPages, ConsoleScreen consoleScreen) {
+        this.taskPages = taskPages;
         this.consoleScreen = consoleScreen;
     }
 
     /**
-     * Creates a Table View from the tasks in the task list.
+     * Creates a Table View from the tasks in the task list, starting with the first page of tasks.
      *
      * @return
-     *  The Table View of the tasks in the task list
+     *  The Table View of the tasks in the task list, with the link to show the next page below it
      */
-    public TableView<BasicTask> createTaskListTable() {
+    public Node createTaskListTable() {
         TableView<BasicTask> taskTable = new TableView<>();
         initialiseTaskTable(taskTable);
-        return taskTable;
+        return new TablePager<>(taskPages, taskTable, this::createBasicTask, ROW_HEIGHT, HEADER_HEIGHT)
+                .createPagedTable();
     }
 
     @SuppressWarnings("unchecked")
@@ -76,15 +76,10 @@ public class TaskTableCreator {
             return row;
         });
 
-        // Set height
-        int height = taskList.size() * ROW_HEIGHT + HEADER_HEIGHT;
-        taskTable.setPrefHeight(height);
-
-        // Populate columns and data
+        // Populate columns, the data is loaded one page at a time
         taskTable.getColumns()
                 .addAll(getIdColumn(), getModuleCodeColumn(), getCategoryNameColumn(), getDescriptionColumn(),
                         getDeadlineColumn(), getPriorityColumn(), getDoneStatusColumn());
-        taskTable.getItems().addAll(getBasicTaskList());
 
         // Width properties
         taskTable.setMinWidth(TABLE_WIDTH);
@@ -190,19 +185,11 @@ public class TaskTableCreator {
         return doneStatusColumn;
     }
 
-    private ObservableList<BasicTask> getBasicTaskList() {
-        ArrayList<BasicTask> basicTaskList = new ArrayList<>();
-
-        int id = 1;
-        for (Task task : taskList) {
-            String deadline = task.getDeadline().isPresent() ? task.getDeadline().toShow() : "-NIL-";
-            String doneStatus = task.isDone() ? CHECK_ICON : CROSS_ICON;
-            basicTaskList.add(new BasicTask(id++, task.getParent().getParent().getModuleCode(),
-                    task.getParent().getCategoryName(), task.getDescription(), deadline,
-                    task.getPriority(), doneStatus));
-        }
-
-        return FXCollections.observableArrayList(basicTaskList);
+    private BasicTask createBasicTask(Task task, int id) {
+        String deadline = task.getDeadline().isPresent() ? task.getDeadline().toShow() : "-NIL-";
+        String doneStatus = task.isDone() ? CHECK_ICON : CROSS_ICON;
+        return new BasicTask(id, task.getParent().getParent().getModuleCode(), task.getParent().getCategoryName(),
+                task.getDescription(), deadline, task.getPriority(), doneStatus);
     }
 
     private void onRowClick(MouseEvent mouseEvent, TableRow<BasicTask> row) {
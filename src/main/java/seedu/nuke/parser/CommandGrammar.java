@@ -0,0 +1,505 @@
+package seedu.nuke.parser;
+
+import java.util.HashMap;
+
+/**
+ * The grammar of the parameters of a command, e.g. <code>&lt;task&gt; -m &lt;module&gt; -c &lt;category&gt; -a</code>,
+ * which splits the parameters into their attributes the same way the command regexes used to.
+ * <p></p>
+ * The grammar is a table of slots that are filled in order, e.g. the identifier, then the attribute of each prefix,
+ * then the flags. The parameters are split into whitespace separated tokens in a single pass, and each token is
+ * only offered to the slots from the current slot onwards, so matching takes time linear in the length of the
+ * parameters. Unlike the regexes, it neither backtracks on parameters that cannot be matched nor runs out of stack
+ * on very long parameters.
+ * <p></p>
+ * Whatever is left after the last slot is kept in the <i>invalid</i> group, so that it can be shown to the user.
+ */
+public class CommandGrammar {
+    public static final String COMMAND_WORD_GROUP = "commandWord";
+    public static final String PARAMETERS_GROUP = "parameters";
+    public static final String IDENTIFIER_GROUP = "identifier";
+    public static final String MODULE_GROUP = "moduleCode";
+    public static final String CATEGORY_GROUP = "categoryName";
+    public static final String TASK_GROUP = "taskDescription";
+    public static final String FILE_GROUP = "fileInfo";
+    public static final String DEADLINE_GROUP = "deadline";
+    public static final String PRIORITY_GROUP = "priority";
+    public static final String PRIORITY_GROUP_SECOND = "prioritySecond";
+    public static final String EXACT_GROUP = "exact";
+    public static final String ALL_GROUP = "all";
+    public static final String ALL_GROUP_SECOND = "allSecond";
+    public static final String INVALID_GROUP = "invalid";
+
+    /** Splits the input into the command word and its parameters */
+    public static final CommandGrammar COMMAND_FORMAT = new CommandGrammar(PARAMETERS_GROUP,
+            new Slot(SlotType.COMMAND_WORD, COMMAND_WORD_GROUP, null));
+
+    // The kinds of characters, looked up by character for the characters of the ASCII table
+    private static final byte OTHER = 0;
+    private static final byte WHITESPACE = 1;
+    private static final byte WORD = 2;
+    private static final byte TAG_OPERATOR = 3;
+    private static final byte[] CHARACTER_KINDS = new byte[128];
+    // The letters of the prefixes, e.g. 'm' for "-m", and the index of their count
+    private static final String PREFIX_LETTERS = "mctfpdae";
+    private static final int[] PREFIX_INDICES = new int[128];
+
+    static {
+        for (char character : " \t\n\u000B\f\r".toCharArray()) {
+            CHARACTER_KINDS[character] = WHITESPACE;
+        }
+        for (char character = 0; character < 128; ++character) {
+            if (Character.isLetterOrDigit(character) || character == '_') {
+                CHARACTER_KINDS[character] = WORD;
+            }
+        }
+        for (char character : "!&|".toCharArray()) {
+            CHARACTER_KINDS[character] = TAG_OPERATOR;
+        }
+        for (int i = 0; i < PREFIX_INDICES.length; ++i) {
+            PREFIX_INDICES[i] = PREFIX_LETTERS.indexOf(i);
+        }
+    }
+
+    private final Slot[] slots;
+    private final HashMap<String, Integer> groupIndices = new HashMap<>();
+
+    /**
+     * Constructs the grammar of the parameters of a command with the specified slots, in order.
+     *
+     * @param slots
+     *  The slots of the grammar, in the order they have to appear in
+     */
+    public CommandGrammar(Slot... slots) {
+        this(INVALID_GROUP, slots);
+    }
+
+    private CommandGrammar(String restGroup, Slot... slots) {
+        this.slots = slots;
+        for (int i = 0; i < slots.length; ++i) {
+            groupIndices.put(slots[i].group, i);
+        }
+        groupIndices.put(restGroup, slots.length);
+    }
+
+    /**
+     * Returns the slot of the identifier of the command, i.e. the words before any prefix.
+     *
+     * @return
+     *  The slot of zero or more words
+     */
+    public static Slot identifier() {
+        return new Slot(SlotType.WORDS, IDENTIFIER_GROUP, null);
+    }
+
+    /**
+     * Returns the slot of an identifier that has to be given, i.e. at least one word before any prefix.
+     *
+     * @return
+     *  The slot of one or more words
+     */
+    public static Slot requiredIdentifier() {
+        return new Slot(SlotType.REQUIRED_WORDS, IDENTIFIER_GROUP, null);
+    }
+
+    /**
+     * Returns the slot of an identifier that combines tags with the operators of a tag query, e.g.
+     * <code>urgent&amp;!exam</code>.
+     *
+     * @return
+     *  The slot of zero or more words, which may also start with a tag operator
+     */
+    public static Slot tagIdentifier() {
+        return new Slot(SlotType.TAG_WORDS, IDENTIFIER_GROUP, null);
+    }
+
+    /**
+     * Returns the slot of an attribute of one or more words after a prefix, e.g. <code>-m CS2113T</code>.
+     *
+     * @param group
+     *  The name of the group of the attribute
+     * @param prefix
+     *  The prefix of the attribute
+     * @return
+     *  The slot of the attribute
+     */
+    public static Slot attribute(String group, String prefix) {
+        return new Slot(SlotType.ATTRIBUTE, group, prefix);
+    }
+
+    /**
+     * Returns the slot of an attribute of exactly one token after a prefix, e.g. <code>-p 5</code>.
+     *
+     * @param group
+     *  The name of the group of the attribute
+     * @param prefix
+     *  The prefix of the attribute
+     * @return
+     *  The slot of the attribute
+     */
+    public static Slot value(String group, String prefix) {
+        return new Slot(SlotType.VALUE, group, prefix);
+    }
+
+    /**
+     * Returns the slot of a flag, e.g. <code>-a</code>.
+     *
+     * @param group
+     *  The name of the group of the flag
+     * @param flag
+     *  The flag
+     * @return
+     *  The slot of the flag
+     */
+    public static Slot flag(String group, String flag) {
+        return new Slot(SlotType.FLAG, group, flag);
+    }
+
+    /**
+     * Matches the parameters against the grammar.
+     *
+     * @param parameters
+     *  The parameters given by the user
+     * @return
+     *  The match of the parameters, with the group of every slot
+     */
+    public Match match(String parameters) {
+        return new Match(this, parameters);
+    }
+
+    /**
+     * Checks if the parameters contain a prefix, i.e. a dash after whitespace, in a single pass. This gives the same
+     * answer as matching the parameters against <code>.*?\s+-.*</code>, which cannot cross a line break except in
+     * the whitespace just before the dash.
+     *
+     * @param parameters
+     *  The parameters given by the user
+     * @return
+     *  <code>TRUE</code> if a prefix is found, and <code>FALSE</code> otherwise
+     */
+    public static boolean containsPrefix(String parameters) {
+        boolean isInWhitespace = false;
+        boolean isLineBreakInWhitespace = false;
+        boolean isLineBreakBeforeWhitespace = false;
+        boolean isPrefixFound = false;
+        for (int i = 0; i < parameters.length(); ++i) {
+            char character = parameters.charAt(i);
+            if (isLineTerminator(character)) {
+                // Nothing after the dash can be a line break
+                isPrefixFound = false;
+            }
+            if (isWhitespace(character)) {
+                isInWhitespace = true;
+                isLineBreakInWhitespace |= isLineTerminator(character);
+                continue;
+            }
+            if (character == '-' && isInWhitespace && !isLineBreakBeforeWhitespace) {
+                isPrefixFound = true;
+            }
+            isLineBreakBeforeWhitespace |= isLineBreakInWhitespace || isLineTerminator(character);
+            isInWhitespace = false;
+            isLineBreakInWhitespace = false;
+        }
+        return isPrefixFound;
+    }
+
+    private int getGroupIndex(String group) {
+        Integer index = groupIndices.get(group);
+        if (index == null) {
+            throw new IllegalArgumentException("No group with name <" + group + ">");
+        }
+        return index;
+    }
+
+    private static boolean isWhitespace(char character) {
+        return character < 128 && CHARACTER_KINDS[character] == WHITESPACE;
+    }
+
+    private static boolean isLineTerminator(char character) {
+        return character == '\n' || character == '\r' || character == '\u0085'
+                || character == '\u2028' || character == '\u2029';
+    }
+
+    /**
+     * The kinds of slots, each matching what its part of the command regexes used to.
+     */
+    private enum SlotType {
+        /** <code>\s*\S+</code> */
+        COMMAND_WORD,
+        /** <code>(?:\s+\w\S*)*</code> */
+        WORDS,
+        /** <code>(?:\s+\w\S*)+</code> */
+        REQUIRED_WORDS,
+        /** <code>(?:\s+[\w!&amp;|]\S*)*</code> */
+        TAG_WORDS,
+        /** <code>(?:\s+prefix(?:\s+\w\S*)+)?</code> */
+        ATTRIBUTE,
+        /** <code>(?:\s+prefix\s+\S+)?</code> */
+        VALUE,
+        /** <code>(?:\s+flag)?</code> */
+        FLAG
+    }
+
+    /**
+     * A slot of the grammar, which is matched by a group of the parameters.
+     */
+    public static class Slot {
+        private final SlotType type;
+        private final String group;
+        private final String prefix;
+
+        private Slot(SlotType type, String group, String prefix) {
+            this.type = type;
+            this.group = group;
+            this.prefix = prefix;
+        }
+    }
+
+    /**
+     * The result of matching parameters against a grammar, which gives the group of each slot like a regex matcher.
+     */
+    public static class Match {
+        private final CommandGrammar grammar;
+        private final String parameters;
+        private final int[] starts;
+        private final int[] ends;
+        private final int[] prefixCounts = new int[PREFIX_LETTERS.length()];
+        private boolean isMatching = true;
+
+        // The whitespace before the next token starts at the position, and the token starts and ends after it
+        private int position = 0;
+        private int tokenStart = -1;
+        private int tokenEnd = 0;
+        // The tokens before this index have been counted
+        private int countedEnd = 0;
+
+        private Match(CommandGrammar grammar, String parameters) {
+            this.grammar = grammar;
+            this.parameters = parameters;
+            this.starts = new int[grammar.slots.length + 1];
+            this.ends = new int[grammar.slots.length + 1];
+
+            for (int i = 0; i < grammar.slots.length && isMatching; ++i) {
+                starts[i] = position;
+                matchSlot(grammar.slots[i]);
+                ends[i] = position;
+            }
+            starts[grammar.slots.length] = position;
+            ends[grammar.slots.length] = parameters.length();
+
+            // Count the prefixes in the rest, which has to be on a single line
+            for (int i = position; i < parameters.length() && isMatching; ++i) {
+                isMatching = !isLineTerminator(parameters.charAt(i));
+            }
+            while (tokenEnd < parameters.length()) {
+                scanToken(tokenEnd);
+            }
+        }
+
+        /**
+         * Checks if the parameters match the grammar.
+         *
+         * @return
+         *  <code>TRUE</code> if the parameters match the grammar, and <code>FALSE</code> otherwise
+         */
+        public boolean matches() {
+            return isMatching;
+        }
+
+        /**
+         * Returns the text matched by the group.
+         *
+         * @param group
+         *  The name of the group
+         * @return
+         *  The text matched by the group, including the whitespace and the prefix before it
+         */
+        public String group(String group) {
+            int index = getMatchedGroupIndex(group);
+            return parameters.substring(starts[index], ends[index]);
+        }
+
+        /**
+         * Returns the index of the parameters at which the group starts.
+         *
+         * @param group
+         *  The name of the group
+         * @return
+         *  The starting index of the group
+         */
+        public int start(String group) {
+            return starts[getMatchedGroupIndex(group)];
+        }
+
+        /**
+         * Returns the index of the parameters after the group ends.
+         *
+         * @param group
+         *  The name of the group
+         * @return
+         *  The ending index of the group
+         */
+        public int end(String group) {
+            return ends[getMatchedGroupIndex(group)];
+        }
+
+        /**
+         * Counts the occurrences of the prefix in the parameters, which are between spaces or at the end.
+         *
+         * @param prefix
+         *  The prefix to count, e.g. <code>-m</code>
+         * @return
+         *  The number of occurrences of the prefix
+         */
+        public int countPrefix(String prefix) {
+            int index = PREFIX_INDICES[prefix.charAt(1)];
+            return (index < 0) ? 0 : prefixCounts[index];
+        }
+
+        private int getMatchedGroupIndex(String group) {
+            if (!isMatching) {
+                throw new IllegalStateException("No match found");
+            }
+            return grammar.getGroupIndex(group);
+        }
+
+        private void matchSlot(Slot slot) {
+            scanToken(position);
+            boolean hasWhitespace = tokenStart > position;
+            boolean hasToken = tokenStart < tokenEnd;
+
+            switch (slot.type) {
+            case COMMAND_WORD:
+                if (hasToken) {
+                    position = tokenEnd;
+                } else {
+                    isMatching = false;
+                }
+                break;
+            case WORDS:
+                matchWords(false);
+                break;
+            case REQUIRED_WORDS:
+                isMatching = matchWords(false) > 0;
+                break;
+            case TAG_WORDS:
+                matchWords(true);
+                break;
+            case ATTRIBUTE:
+                int prefixEnd = tokenEnd;
+                if (hasWhitespace && isToken(slot.prefix) && isFollowedByToken(true)) {
+                    position = prefixEnd;
+                    matchWords(false);
+                }
+                break;
+            case VALUE:
+                if (hasWhitespace && isToken(slot.prefix) && isFollowedByToken(false)) {
+                    position = tokenEnd;
+                }
+                break;
+            case FLAG:
+                if (hasWhitespace && parameters.startsWith(slot.prefix, tokenStart)) {
+                    // The flag may be the start of a longer token, whose rest is then invalid
+                    position = tokenStart + slot.prefix.length();
+                }
+                break;
+            default:
+                throw new AssertionError(slot.type);
+            }
+        }
+
+        /**
+         * Matches the words from the position onwards.
+         *
+         * @param isTagOperatorAllowed
+         *  <code>TRUE</code> if the words may also start with a tag operator, and <code>FALSE</code> otherwise
+         * @return
+         *  The number of words matched
+         */
+        private int matchWords(boolean isTagOperatorAllowed) {
+            int wordCount = 0;
+            scanToken(position);
+            while (tokenStart > position && tokenStart < tokenEnd && isWordStart(tokenStart, isTagOperatorAllowed)) {
+                position = tokenEnd;
+                ++wordCount;
+                scanToken(position);
+            }
+            return wordCount;
+        }
+
+        /**
+         * Checks if the current token is followed by whitespace and another token. If it is, the other token becomes
+         * the current token, and otherwise the current token is kept.
+         *
+         * @param isWordRequired
+         *  <code>TRUE</code> if the other token has to start like a word, and <code>FALSE</code> otherwise
+         * @return
+         *  <code>TRUE</code> if the current token is followed by another token, and <code>FALSE</code> otherwise
+         */
+        private boolean isFollowedByToken(boolean isWordRequired) {
+            int currentStart = tokenStart;
+            int currentEnd = tokenEnd;
+            scanToken(currentEnd);
+            boolean isToken = tokenStart > currentEnd && tokenStart < tokenEnd;
+            if (isToken && (!isWordRequired || isWordStart(tokenStart, false))) {
+                return true;
+            }
+            tokenStart = currentStart;
+            tokenEnd = currentEnd;
+            return false;
+        }
+
+        /**
+         * Finds the token after the whitespace from the specified index. The tokens are asked for in order, so each
+         * token is only scanned and counted once.
+         */
+        private void scanToken(int from) {
+            if (from <= tokenStart) {
+                // The current token is still the next token
+                return;
+            }
+            if (from < tokenEnd) {
+                // The rest of the current token, e.g. after a flag
+                tokenStart = from;
+                return;
+            }
+            int index = from;
+            while (index < parameters.length() && isWhitespace(parameters.charAt(index))) {
+                ++index;
+            }
+            int start = index;
+            while (index < parameters.length() && !isWhitespace(parameters.charAt(index))) {
+                ++index;
+            }
+            tokenStart = start;
+            tokenEnd = index;
+            if (start >= countedEnd && start < index) {
+                countToken(start, index);
+                countedEnd = index;
+            }
+        }
+
+        private void countToken(int start, int end) {
+            boolean isPrefix = end - start == 2 && parameters.charAt(start) == '-'
+                    && parameters.charAt(start + 1) < 128 && PREFIX_INDICES[parameters.charAt(start + 1)] >= 0;
+            boolean isBetweenSpaces = start > 0 && parameters.charAt(start - 1) == ' '
+                    && (end == parameters.length() || parameters.charAt(end) == ' ');
+            if (isPrefix && isBetweenSpaces) {
+                ++prefixCounts[PREFIX_INDICES[parameters.charAt(start + 1)]];
+            }
+        }
+
+        private boolean isToken(String token) {
+            return tokenEnd - tokenStart == token.length() && parameters.startsWith(token, tokenStart);
+        }
+
+        private boolean isWordStart(int index, boolean isTagOperatorAllowed) {
+            char character = parameters.charAt(index);
+            if (character >= 128) {
+                return false;
+            }
+            return CHARACTER_KINDS[character] == WORD
+                    || (isTagOperatorAllowed && CHARACTER_KINDS[character] == TAG_OPERATOR);
+        }
+    }
+}
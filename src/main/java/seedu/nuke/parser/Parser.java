@@ -30,6 +30,8 @@ import seedu.nuke.command.filtercommand.listcommand.ListTaskCommand;
 import seedu.nuke.command.filtercommand.listcommand.ListTaskSortedCommand;
 import seedu.nuke.command.misc.ChangeDirectoryCommand;
 import seedu.nuke.command.misc.ClearCommand;
+import seedu.nuke.command.misc.ExportCommand;
+import seedu.nuke.command.misc.ImportCommand;
 import seedu.nuke.command.misc.InfoCommand;
 import seedu.nuke.command.misc.OpenFileCommand;
 import seedu.nuke.command.misc.RedoCommand;
@@ -37,6 +39,7 @@ import seedu.nuke.command.misc.UndoCommand;
 import seedu.nuke.command.promptcommand.ConfirmationStatus;
 import seedu.nuke.command.promptcommand.DeleteConfirmationPrompt;
 import seedu.nuke.command.promptcommand.ListNumberPrompt;
+import seedu.nuke.data.storage.TaskRowFormat;
 import seedu.nuke.directory.DirectoryTraverser;
 import seedu.nuke.exception.InvalidFormatException;
 import seedu.nuke.util.DateTime;
@@ -45,7 +48,6 @@ import seedu.nuke.util.DateTimeFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
@@ -66,6 +68,7 @@ import static seedu.nuke.util.Message.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.nuke.util.Message.MESSAGE_INVALID_DELETE_INDICES;
 import static seedu.nuke.util.Message.MESSAGE_MISSING_CATEGORY_NAME;
 import static seedu.nuke.util.Message.MESSAGE_MISSING_DIRECTORY_TO_DELETE;
+import static seedu.nuke.util.Message.MESSAGE_MISSING_FILE_PATH;
 import static seedu.nuke.util.Message.MESSAGE_MISSING_MODULE_CODE;
 import static seedu.nuke.util.Message.MESSAGE_MISSING_TAG_NAME;
 import static seedu.nuke.util.Message.MESSAGE_MISSING_TASK_DESCRIPTION;
@@ -76,14 +79,10 @@ import static seedu.nuke.util.Message.MESSAGE_NO_EDIT_MODULE;
 import static seedu.nuke.util.Message.MESSAGE_NO_EDIT_TASK;
 import static seedu.nuke.util.Message.MESSAGE_NO_PREFIX_ALLOWED;
 import static seedu.nuke.util.Message.MESSAGE_UNKNOWN_COMMAND_WORD;
+import static seedu.nuke.util.Message.MESSAGE_UNKNOWN_TASK_ROW_FORMAT;
 
 
 public class Parser {
-    /**
-     * Used for initial separation of command word and args.
-     */
-    private static final Pattern BASIC_COMMAND_FORMAT =
-            Pattern.compile("(?<commandWord>\\S+)(?<parameters>.*)");
     private static final String WHITESPACES = "\\s+";
     private static final String NONE = "";
 
@@ -132,12 +131,12 @@ public class Parser {
             return new IncorrectCommand(MESSAGE_EMPTY_INPUT);
         }
 
-        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(input.trim());
-        if (!matcher.matches()) {
+        final CommandGrammar.Match match = CommandGrammar.COMMAND_FORMAT.match(input.trim());
+        if (!match.matches()) {
             return new IncorrectCommand(MESSAGE_INVALID_COMMAND_FORMAT + HelpCommand.MESSAGE_USAGE);
         }
-        String commandWord = matcher.group(COMMAND_WORD_GROUP).toLowerCase().trim();
-        String parameters = matcher.group(PARAMETERS_GROUP);
+        String commandWord = match.group(COMMAND_WORD_GROUP).toLowerCase().trim();
+        String parameters = match.group(PARAMETERS_GROUP);
 
         try {
             switch (commandWord) {
@@ -203,6 +202,12 @@ public class Parser {
             case OpenFileCommand.COMMAND_WORD:
                 return prepareOpenFileCommand(parameters);
 
+            case ImportCommand.COMMAND_WORD:
+                return prepareImportCommand(parameters);
+
+            case ExportCommand.COMMAND_WORD:
+                return prepareExportCommand(parameters);
+
             case InfoCommand.COMMAND_WORD:
                 return prepareCommandWithoutParameters(new InfoCommand(), parameters);
 
@@ -362,16 +367,16 @@ public class Parser {
      */
     private Command prepareAddModuleCommand(String parameters)
             throws InvalidParameterException, DuplicatePrefixException {
-        Matcher matcher = AddModuleCommand.REGEX_FORMAT.matcher(parameters);
-        validateParameters(parameters, matcher);
+        CommandGrammar.Match match = AddModuleCommand.GRAMMAR.match(parameters);
+        validateParameters(match);
 
-        String invalid = matcher.group(INVALID_GROUP).trim();
+        String invalid = match.group(INVALID_GROUP).trim();
         if (!invalid.isEmpty()) {
             return new IncorrectCommand(String.format("%s%s\n\n%s%s\n",
                     MESSAGE_INVALID_COMMAND_FORMAT, invalid, MESSAGE_CHECK_COMMAND_FORMAT, AddModuleCommand.FORMAT));
         }
 
-        String moduleCode = matcher.group(IDENTIFIER_GROUP).trim();
+        String moduleCode = match.group(IDENTIFIER_GROUP).trim();
         if (moduleCode.isEmpty()) {
             return new IncorrectCommand(MESSAGE_MISSING_MODULE_CODE);
         }
@@ -389,22 +394,22 @@ public class Parser {
      */
     private Command prepareAddCategoryCommand(String parameters)
             throws InvalidParameterException, DuplicatePrefixException {
-        Matcher matcher = AddCategoryCommand.REGEX_FORMAT.matcher(parameters);
-        validateParameters(parameters, matcher, MODULE_PREFIX, PRIORITY_PREFIX);
+        CommandGrammar.Match match = AddCategoryCommand.GRAMMAR.match(parameters);
+        validateParameters(match, MODULE_PREFIX, PRIORITY_PREFIX);
 
-        String invalid = matcher.group(INVALID_GROUP).trim();
+        String invalid = match.group(INVALID_GROUP).trim();
         if (!invalid.isEmpty()) {
             return new IncorrectCommand(String.format("%s%s\n\n%s%s\n",
                     MESSAGE_INVALID_COMMAND_FORMAT, invalid, MESSAGE_CHECK_COMMAND_FORMAT, AddCategoryCommand.FORMAT));
         }
 
-        String categoryName = matcher.group(IDENTIFIER_GROUP).trim();
+        String categoryName = match.group(IDENTIFIER_GROUP).trim();
         if (categoryName.isEmpty()) {
             return new IncorrectCommand(MESSAGE_MISSING_CATEGORY_NAME);
         }
 
-        String moduleCode = matcher.group(MODULE_GROUP).replace(MODULE_PREFIX, NONE).trim();
-        String priority = matcher.group(PRIORITY_GROUP).replace(PRIORITY_PREFIX, NONE).trim();
+        String moduleCode = match.group(MODULE_GROUP).replace(MODULE_PREFIX, NONE).trim();
+        String priority = match.group(PRIORITY_GROUP).replace(PRIORITY_PREFIX, NONE).trim();
 
         if (priority.isEmpty()) {
             return new AddCategoryCommand(moduleCode, categoryName);
@@ -427,25 +432,25 @@ public class Parser {
      */
     private Command prepareAddTaskCommand(String parameters)
             throws InvalidParameterException, DuplicatePrefixException {
-        Matcher matcher = AddTaskCommand.REGEX_FORMAT.matcher(parameters);
-        validateParameters(parameters, matcher, MODULE_PREFIX, CATEGORY_PREFIX,
+        CommandGrammar.Match match = AddTaskCommand.GRAMMAR.match(parameters);
+        validateParameters(match, MODULE_PREFIX, CATEGORY_PREFIX,
                 DEADLINE_PREFIX, PRIORITY_PREFIX);
 
-        String invalid = matcher.group(INVALID_GROUP).trim();
+        String invalid = match.group(INVALID_GROUP).trim();
         if (!invalid.isEmpty()) {
             return new IncorrectCommand(String.format("%s%s\n\n%s%s\n",
                     MESSAGE_INVALID_COMMAND_FORMAT, invalid, MESSAGE_CHECK_COMMAND_FORMAT, AddTaskCommand.FORMAT));
         }
 
-        String taskDescription = matcher.group(IDENTIFIER_GROUP).trim();
+        String taskDescription = match.group(IDENTIFIER_GROUP).trim();
         if (taskDescription.isEmpty()) {
             return new IncorrectCommand(MESSAGE_MISSING_TASK_DESCRIPTION);
         }
 
-        String moduleCode = matcher.group(MODULE_GROUP).replace(MODULE_PREFIX, NONE).trim();
-        String categoryName = matcher.group(CATEGORY_GROUP).replace(CATEGORY_PREFIX, NONE).trim();
-        String deadline = matcher.group(DEADLINE_GROUP).replace(DEADLINE_PREFIX, NONE).trim();
-        String priority = getOptionalAttribute(matcher, PRIORITY_GROUP, PRIORITY_GROUP_SECOND)
+        String moduleCode = match.group(MODULE_GROUP).replace(MODULE_PREFIX, NONE).trim();
+        String categoryName = match.group(CATEGORY_GROUP).replace(CATEGORY_PREFIX, NONE).trim();
+        String deadline = match.group(DEADLINE_GROUP).replace(DEADLINE_PREFIX, NONE).trim();
+        String priority = getOptionalAttribute(match, PRIORITY_GROUP, PRIORITY_GROUP_SECOND)
                 .replace(PRIORITY_PREFIX, NONE).trim();
 
         DateTime deadlineToSet;
@@ -477,20 +482,20 @@ public class Parser {
      */
     private Command prepareAddFileCommand(String parameters)
             throws InvalidParameterException, DuplicatePrefixException {
-        Matcher matcher = AddFileCommand.REGEX_FORMAT.matcher(parameters);
-        validateParameters(parameters, matcher, MODULE_PREFIX, CATEGORY_PREFIX, TASK_PREFIX, FILE_PREFIX);
+        CommandGrammar.Match match = AddFileCommand.GRAMMAR.match(parameters);
+        validateParameters(match, MODULE_PREFIX, CATEGORY_PREFIX, TASK_PREFIX, FILE_PREFIX);
 
-        String invalid = matcher.group(INVALID_GROUP).trim();
+        String invalid = match.group(INVALID_GROUP).trim();
         if (!invalid.isEmpty()) {
             return new IncorrectCommand(String.format("%s%s\n\n%s%s\n",
                     MESSAGE_INVALID_COMMAND_FORMAT, invalid, MESSAGE_CHECK_COMMAND_FORMAT, AddFileCommand.FORMAT));
         }
 
-        String fileName = matcher.group(IDENTIFIER_GROUP).trim();
-        String moduleCode = matcher.group(MODULE_GROUP).replace(MODULE_PREFIX, NONE).trim();
-        String categoryName = matcher.group(CATEGORY_GROUP).replace(CATEGORY_PREFIX, NONE).trim();
-        String taskDescription = matcher.group(TASK_GROUP).replace(TASK_PREFIX, NONE).trim();
-        String filePath = matcher.group(FILE_GROUP).replace(FILE_PREFIX, NONE).trim();
+        String fileName = match.group(IDENTIFIER_GROUP).trim();
+        String moduleCode = match.group(MODULE_GROUP).replace(MODULE_PREFIX, NONE).trim();
+        String categoryName = match.group(CATEGORY_GROUP).replace(CATEGORY_PREFIX, NONE).trim();
+        String taskDescription = match.group(TASK_GROUP).replace(TASK_PREFIX, NONE).trim();
+        String filePath = match.group(FILE_GROUP).replace(FILE_PREFIX, NONE).trim();
 
 
         return new AddFileCommand(moduleCode, categoryName, taskDescription, fileName, filePath);
@@ -498,23 +503,23 @@ public class Parser {
 
     private Command prepareAddTagCommand(String parameters)
             throws InvalidParameterException, DuplicatePrefixException {
-        Matcher matcher = AddTagCommand.REGEX_FORMATS.matcher(parameters);
-        validateParameters(parameters, matcher, MODULE_PREFIX, CATEGORY_PREFIX, TASK_PREFIX);
+        CommandGrammar.Match match = AddTagCommand.GRAMMAR.match(parameters);
+        validateParameters(match, MODULE_PREFIX, CATEGORY_PREFIX, TASK_PREFIX);
 
-        String invalid = matcher.group(INVALID_GROUP).trim();
+        String invalid = match.group(INVALID_GROUP).trim();
         if (!invalid.isEmpty()) {
             return new IncorrectCommand(String.format("%s%s\n\n%s%s\n",
                     MESSAGE_INVALID_COMMAND_FORMAT, invalid, MESSAGE_CHECK_COMMAND_FORMAT, AddTagCommand.FORMAT));
         }
 
-        String tagName = matcher.group(IDENTIFIER_GROUP).trim();
+        String tagName = match.group(IDENTIFIER_GROUP).trim();
         if (tagName.isEmpty()) {
             return new IncorrectCommand(MESSAGE_MISSING_TAG_NAME);
         }
 
-        String moduleCode = matcher.group(MODULE_GROUP).replace(MODULE_PREFIX, NONE).trim();
-        String categoryName = matcher.group(CATEGORY_GROUP).replace(CATEGORY_PREFIX, NONE).trim();
-        String taskDescription = matcher.group(TASK_GROUP).replace(TASK_PREFIX, NONE).trim();
+        String moduleCode = match.group(MODULE_GROUP).replace(MODULE_PREFIX, NONE).trim();
+        String categoryName = match.group(CATEGORY_GROUP).replace(CATEGORY_PREFIX, NONE).trim();
+        String taskDescription = match.group(TASK_GROUP).replace(TASK_PREFIX, NONE).trim();
 
 
         return new AddTagCommand(new ArrayList<>(Arrays.asList(tagName)), moduleCode, categoryName, taskDescription);
@@ -532,14 +537,14 @@ public class Parser {
      */
     private Command prepareDeleteAndListModuleCommand(String parameters, boolean isDelete)
             throws InvalidParameterException, DuplicatePrefixException {
-        Matcher matcher = FilterCommand.MODULE_REGEX_FORMAT.matcher(parameters);
-        validateParameters(parameters, matcher, EXACT_FLAG, ALL_FLAG);
+        CommandGrammar.Match match = FilterCommand.MODULE_GRAMMAR.match(parameters);
+        validateParameters(match, EXACT_FLAG, ALL_FLAG);
 
-        String moduleKeyword = matcher.group(IDENTIFIER_GROUP).trim();
-        String exactFlag = matcher.group(EXACT_GROUP).trim();
+        String moduleKeyword = match.group(IDENTIFIER_GROUP).trim();
+        String exactFlag = match.group(EXACT_GROUP).trim();
         boolean isExact = !exactFlag.isEmpty();
 
-        String invalid = matcher.group(INVALID_GROUP).trim();
+        String invalid = match.group(INVALID_GROUP).trim();
         if (!invalid.isEmpty()) {
             return isDelete
                     ? new IncorrectCommand(String.format("%s%s\n\n%s%s\n", MESSAGE_INVALID_COMMAND_FORMAT, invalid,
@@ -565,17 +570,17 @@ public class Parser {
      */
     private Command prepareDeleteAndListCategoryCommand(String parameters, boolean isDelete)
             throws InvalidParameterException, DuplicatePrefixException {
-        Matcher matcher = FilterCommand.CATEGORY_REGEX_FORMAT.matcher(parameters);
-        validateParameters(parameters, matcher, MODULE_PREFIX, EXACT_FLAG, ALL_FLAG);
+        CommandGrammar.Match match = FilterCommand.CATEGORY_GRAMMAR.match(parameters);
+        validateParameters(match, MODULE_PREFIX, EXACT_FLAG, ALL_FLAG);
 
-        String categoryKeyword = matcher.group(IDENTIFIER_GROUP).trim();
-        String moduleKeyword = matcher.group(MODULE_GROUP).replace(MODULE_PREFIX, NONE).trim();
-        String exactFlag = matcher.group(EXACT_GROUP).trim();
-        String allFlag = getOptionalAttribute(matcher, ALL_GROUP, ALL_GROUP_SECOND);
+        String categoryKeyword = match.group(IDENTIFIER_GROUP).trim();
+        String moduleKeyword = match.group(MODULE_GROUP).replace(MODULE_PREFIX, NONE).trim();
+        String exactFlag = match.group(EXACT_GROUP).trim();
+        String allFlag = getOptionalAttribute(match, ALL_GROUP, ALL_GROUP_SECOND);
         boolean isAll = !allFlag.isEmpty();
         boolean isExact = !exactFlag.isEmpty();
 
-        String invalid = matcher.group(INVALID_GROUP).trim();
+        String invalid = match.group(INVALID_GROUP).trim();
         if (!invalid.isEmpty()) {
             return isDelete
                     ? new IncorrectCommand(String.format("%s%s\n\n%s%s\n", MESSAGE_INVALID_COMMAND_FORMAT, invalid,
@@ -601,18 +606,18 @@ public class Parser {
      */
     private Command prepareDeleteAndListTaskCommand(String parameters, boolean isDelete)
             throws InvalidParameterException, DuplicatePrefixException {
-        Matcher matcher = FilterCommand.TASK_REGEX_FORMAT.matcher(parameters);
-        validateParameters(parameters, matcher, MODULE_PREFIX, CATEGORY_PREFIX, EXACT_FLAG, ALL_FLAG);
-
-        String taskKeyword = matcher.group(IDENTIFIER_GROUP).trim();
-        String moduleKeyword = matcher.group(MODULE_GROUP).replace(MODULE_PREFIX, NONE).trim();
-        String categoryKeyword = matcher.group(CATEGORY_GROUP).replace(CATEGORY_PREFIX, NONE).trim();
-        String exactFlag = matcher.group(EXACT_GROUP).trim();
-        String allFlag = getOptionalAttribute(matcher, ALL_GROUP, ALL_GROUP_SECOND);
+        CommandGrammar.Match match = FilterCommand.TASK_GRAMMAR.match(parameters);
+        validateParameters(match, MODULE_PREFIX, CATEGORY_PREFIX, EXACT_FLAG, ALL_FLAG);
+
+        String taskKeyword = match.group(IDENTIFIER_GROUP).trim();
+        String moduleKeyword = match.group(MODULE_GROUP).replace(MODULE_PREFIX, NONE).trim();
+        String categoryKeyword = match.group(CATEGORY_GROUP).replace(CATEGORY_PREFIX, NONE).trim();
+        String exactFlag = match.group(EXACT_GROUP).trim();
+        String allFlag = getOptionalAttribute(match, ALL_GROUP, ALL_GROUP_SECOND);
         boolean isAll = !allFlag.isEmpty();
         boolean isExact = !exactFlag.isEmpty();
 
-        String invalid = matcher.group(INVALID_GROUP).trim();
+        String invalid = match.group(INVALID_GROUP).trim();
         if (!invalid.isEmpty()) {
             return isDelete
                     ? new IncorrectCommand(String.format("%s%s\n\n%s%s\n", MESSAGE_INVALID_COMMAND_FORMAT, invalid,
@@ -638,19 +643,19 @@ public class Parser {
      */
     private Command prepareDeleteAndListFileCommand(String parameters, boolean isDelete)
             throws InvalidParameterException, DuplicatePrefixException {
-        Matcher matcher = FilterCommand.FILE_REGEX_FORMAT.matcher(parameters);
-        validateParameters(parameters, matcher, MODULE_PREFIX, CATEGORY_PREFIX, TASK_PREFIX, EXACT_FLAG, ALL_FLAG);
-
-        String fileKeyword = matcher.group(IDENTIFIER_GROUP).trim();
-        String moduleKeyword = matcher.group(MODULE_GROUP).replace(MODULE_PREFIX, NONE).trim();
-        String categoryKeyword = matcher.group(CATEGORY_GROUP).replace(CATEGORY_PREFIX, NONE).trim();
-        String taskKeyword = matcher.group(TASK_GROUP).replace(TASK_PREFIX, NONE).trim();
-        String exactFlag = matcher.group(EXACT_GROUP).trim();
-        String allFlag = getOptionalAttribute(matcher, ALL_GROUP, ALL_GROUP_SECOND);
+        CommandGrammar.Match match = FilterCommand.FILE_GRAMMAR.match(parameters);
+        validateParameters(match, MODULE_PREFIX, CATEGORY_PREFIX, TASK_PREFIX, EXACT_FLAG, ALL_FLAG);
+
+        String fileKeyword = match.group(IDENTIFIER_GROUP).trim();
+        String moduleKeyword = match.group(MODULE_GROUP).replace(MODULE_PREFIX, NONE).trim();
+        String categoryKeyword = match.group(CATEGORY_GROUP).replace(CATEGORY_PREFIX, NONE).trim();
+        String taskKeyword = match.group(TASK_GROUP).replace(TASK_PREFIX, NONE).trim();
+        String exactFlag = match.group(EXACT_GROUP).trim();
+        String allFlag = getOptionalAttribute(match, ALL_GROUP, ALL_GROUP_SECOND);
         boolean isAll = !allFlag.isEmpty();
         boolean isExact = !exactFlag.isEmpty();
 
-        String invalid = matcher.group(INVALID_GROUP).trim();
+        String invalid = match.group(INVALID_GROUP).trim();
         if (!invalid.isEmpty()) {
             return isDelete
                     ? new IncorrectCommand(String.format("%s%s\n\n%s%s\n", MESSAGE_INVALID_COMMAND_FORMAT, invalid,
@@ -668,19 +673,19 @@ public class Parser {
 
     private Command prepareDeleteAndListTagCommand(String parameters, boolean isDelete)
             throws DuplicatePrefixException, InvalidParameterException {
-        Matcher matcher = FilterCommand.TAG_REGEX_FORMAT.matcher(parameters);
-        validateParameters(parameters, matcher, MODULE_PREFIX, CATEGORY_PREFIX, TASK_PREFIX, EXACT_FLAG, ALL_FLAG);
-
-        String tagKeyword = matcher.group(IDENTIFIER_GROUP).trim();
-        String moduleKeyword = matcher.group(MODULE_GROUP).replace(MODULE_PREFIX, NONE).trim();
-        String categoryKeyword = matcher.group(CATEGORY_GROUP).replace(CATEGORY_PREFIX, NONE).trim();
-        String taskKeyword = matcher.group(TASK_GROUP).replace(TASK_PREFIX, NONE).trim();
-        String exactFlag = matcher.group(EXACT_GROUP).trim();
-        String allFlag = getOptionalAttribute(matcher, ALL_GROUP, ALL_GROUP_SECOND);
+        CommandGrammar.Match match = FilterCommand.TAG_GRAMMAR.match(parameters);
+        validateParameters(match, MODULE_PREFIX, CATEGORY_PREFIX, TASK_PREFIX, EXACT_FLAG, ALL_FLAG);
+
+        String tagKeyword = match.group(IDENTIFIER_GROUP).trim();
+        String moduleKeyword = match.group(MODULE_GROUP).replace(MODULE_PREFIX, NONE).trim();
+        String categoryKeyword = match.group(CATEGORY_GROUP).replace(CATEGORY_PREFIX, NONE).trim();
+        String taskKeyword = match.group(TASK_GROUP).replace(TASK_PREFIX, NONE).trim();
+        String exactFlag = match.group(EXACT_GROUP).trim();
+        String allFlag = getOptionalAttribute(match, ALL_GROUP, ALL_GROUP_SECOND);
         boolean isAll = !allFlag.isEmpty();
         boolean isExact = !exactFlag.isEmpty();
 
-        String invalid = matcher.group(INVALID_GROUP).trim();
+        String invalid = match.group(INVALID_GROUP).trim();
         if (!invalid.isEmpty()) {
             return isDelete
                     ? new IncorrectCommand(String.format("%s%s\n\n%s%s\n", MESSAGE_INVALID_COMMAND_FORMAT, invalid,
@@ -706,15 +711,15 @@ public class Parser {
      */
     private Command prepareListTaskSortedCommand(String parameters)
             throws InvalidParameterException, DuplicatePrefixException {
-        Matcher matcher = ListTaskSortedCommand.TASK_SORTED_REGEX_FORMAT.matcher(parameters);
-        validateParameters(parameters, matcher, MODULE_PREFIX, CATEGORY_PREFIX, DEADLINE_PREFIX, PRIORITY_PREFIX);
+        CommandGrammar.Match match = ListTaskSortedCommand.TASK_SORTED_GRAMMAR.match(parameters);
+        validateParameters(match, MODULE_PREFIX, CATEGORY_PREFIX, DEADLINE_PREFIX, PRIORITY_PREFIX);
 
-        String moduleCode = matcher.group(MODULE_GROUP).replace(MODULE_PREFIX, NONE).trim();
-        String category = matcher.group(CATEGORY_GROUP).replace(CATEGORY_PREFIX, NONE).trim();
-        String deadlineFlag = matcher.group(DEADLINE_GROUP).trim();
-        String priorityFlag = getOptionalAttribute(matcher, PRIORITY_GROUP, PRIORITY_GROUP_SECOND);
+        String moduleCode = match.group(MODULE_GROUP).replace(MODULE_PREFIX, NONE).trim();
+        String category = match.group(CATEGORY_GROUP).replace(CATEGORY_PREFIX, NONE).trim();
+        String deadlineFlag = match.group(DEADLINE_GROUP).trim();
+        String priorityFlag = getOptionalAttribute(match, PRIORITY_GROUP, PRIORITY_GROUP_SECOND);
 
-        String invalid = matcher.group(INVALID_GROUP).trim();
+        String invalid = match.group(INVALID_GROUP).trim();
         if (!invalid.isEmpty()) {
             return new IncorrectCommand(String.format("%s%s\n\n%s%s\n", MESSAGE_INVALID_COMMAND_FORMAT,
                     invalid, MESSAGE_CHECK_COMMAND_FORMAT, ListTaskSortedCommand.FORMAT));
@@ -743,14 +748,14 @@ public class Parser {
         if (parameters.isBlank()) {
             return new IncorrectCommand(MESSAGE_MISSING_PARAMETERS);
         }
-        Matcher matcher = DueCommand.REGEX_FORMAT.matcher(parameters);
-        validateParameters(parameters, matcher, ALL_FLAG);
+        CommandGrammar.Match match = DueCommand.GRAMMAR.match(parameters);
+        validateParameters(match, ALL_FLAG);
 
-        String dateFilter = matcher.group(IDENTIFIER_GROUP).trim().toLowerCase();
-        String allFlag = matcher.group(ALL_GROUP).trim();
+        String dateFilter = match.group(IDENTIFIER_GROUP).trim().toLowerCase();
+        String allFlag = match.group(ALL_GROUP).trim();
         boolean isAll = !allFlag.isEmpty();
 
-        String invalid = matcher.group(INVALID_GROUP).trim();
+        String invalid = match.group(INVALID_GROUP).trim();
         if (!invalid.isEmpty()) {
             return new IncorrectCommand(String.format("%s%s\n\n%s%s\n",
                     MESSAGE_INVALID_COMMAND_FORMAT, invalid, MESSAGE_CHECK_COMMAND_FORMAT, DueCommand.FORMAT));
@@ -789,13 +794,13 @@ public class Parser {
      */
     private Command prepareEditModuleCommand(String parameters)
             throws InvalidParameterException, DuplicatePrefixException {
-        Matcher matcher = EditModuleCommand.REGEX_FORMAT.matcher(parameters);
-        validateParameters(parameters, matcher, MODULE_PREFIX);
+        CommandGrammar.Match match = EditModuleCommand.GRAMMAR.match(parameters);
+        validateParameters(match, MODULE_PREFIX);
 
-        String oldModuleCode = matcher.group(IDENTIFIER_GROUP).trim();
-        String newModuleCode = matcher.group(MODULE_GROUP).replace(MODULE_PREFIX, NONE).trim();
+        String oldModuleCode = match.group(IDENTIFIER_GROUP).trim();
+        String newModuleCode = match.group(MODULE_GROUP).replace(MODULE_PREFIX, NONE).trim();
 
-        String invalid = matcher.group(INVALID_GROUP).trim();
+        String invalid = match.group(INVALID_GROUP).trim();
         if (!invalid.isEmpty()) {
             return new IncorrectCommand(String.format("%s%s\n\n%s%s\n",
                     MESSAGE_INVALID_COMMAND_FORMAT, invalid, MESSAGE_CHECK_COMMAND_FORMAT, EditModuleCommand.FORMAT));
@@ -818,15 +823,15 @@ public class Parser {
      */
     private Command prepareEditCategoryCommand(String parameters)
             throws InvalidParameterException, DuplicatePrefixException {
-        Matcher matcher = EditCategoryCommand.REGEX_FORMAT.matcher(parameters);
-        validateParameters(parameters, matcher, MODULE_PREFIX, CATEGORY_PREFIX, PRIORITY_PREFIX);
+        CommandGrammar.Match match = EditCategoryCommand.GRAMMAR.match(parameters);
+        validateParameters(match, MODULE_PREFIX, CATEGORY_PREFIX, PRIORITY_PREFIX);
 
-        String oldCategoryName = matcher.group(IDENTIFIER_GROUP).trim();
-        String moduleCode = matcher.group(MODULE_GROUP).replace(MODULE_PREFIX, NONE).trim();
-        String newCategoryName = matcher.group(CATEGORY_GROUP).replace(CATEGORY_PREFIX, NONE).trim();
-        String newPriority = matcher.group(PRIORITY_GROUP).replace(PRIORITY_PREFIX, NONE).trim();
+        String oldCategoryName = match.group(IDENTIFIER_GROUP).trim();
+        String moduleCode = match.group(MODULE_GROUP).replace(MODULE_PREFIX, NONE).trim();
+        String newCategoryName = match.group(CATEGORY_GROUP).replace(CATEGORY_PREFIX, NONE).trim();
+        String newPriority = match.group(PRIORITY_GROUP).replace(PRIORITY_PREFIX, NONE).trim();
 
-        String invalid = matcher.group(INVALID_GROUP).trim();
+        String invalid = match.group(INVALID_GROUP).trim();
         if (!invalid.isEmpty()) {
             return new IncorrectCommand(String.format("%s%s\n\n%s%s\n",
                     MESSAGE_INVALID_COMMAND_FORMAT, invalid, MESSAGE_CHECK_COMMAND_FORMAT, EditCategoryCommand.FORMAT));
@@ -857,19 +862,19 @@ public class Parser {
      */
     private Command prepareEditTaskCommand(String parameters)
             throws InvalidParameterException, DuplicatePrefixException {
-        Matcher matcher = EditTaskCommand.REGEX_FORMAT.matcher(parameters);
-        validateParameters(parameters, matcher, MODULE_PREFIX, CATEGORY_PREFIX, TASK_PREFIX,
+        CommandGrammar.Match match = EditTaskCommand.GRAMMAR.match(parameters);
+        validateParameters(match, MODULE_PREFIX, CATEGORY_PREFIX, TASK_PREFIX,
                 DEADLINE_PREFIX, PRIORITY_PREFIX);
 
-        String oldTaskDescription = matcher.group(IDENTIFIER_GROUP).trim();
-        String moduleCode = matcher.group(MODULE_GROUP).replace(MODULE_PREFIX, NONE).trim();
-        String categoryName = matcher.group(CATEGORY_GROUP).replace(CATEGORY_PREFIX, NONE).trim();
-        String newTaskDescription = matcher.group(TASK_GROUP).replace(TASK_PREFIX, NONE).trim();
-        String newDeadline = matcher.group(DEADLINE_GROUP).replace(DEADLINE_PREFIX, NONE).trim();
-        String newPriority = getOptionalAttribute(matcher, PRIORITY_GROUP, PRIORITY_GROUP_SECOND)
+        String oldTaskDescription = match.group(IDENTIFIER_GROUP).trim();
+        String moduleCode = match.group(MODULE_GROUP).replace(MODULE_PREFIX, NONE).trim();
+        String categoryName = match.group(CATEGORY_GROUP).replace(CATEGORY_PREFIX, NONE).trim();
+        String newTaskDescription = match.group(TASK_GROUP).replace(TASK_PREFIX, NONE).trim();
+        String newDeadline = match.group(DEADLINE_GROUP).replace(DEADLINE_PREFIX, NONE).trim();
+        String newPriority = getOptionalAttribute(match, PRIORITY_GROUP, PRIORITY_GROUP_SECOND)
                 .replace(PRIORITY_PREFIX, NONE).trim();
 
-        String invalid = matcher.group(INVALID_GROUP).trim();
+        String invalid = match.group(INVALID_GROUP).trim();
         if (!invalid.isEmpty()) {
             return new IncorrectCommand(String.format("%s%s\n\n%s%s\n",
                     MESSAGE_INVALID_COMMAND_FORMAT, invalid, MESSAGE_CHECK_COMMAND_FORMAT, EditTaskCommand.FORMAT));
@@ -909,17 +914,17 @@ public class Parser {
      */
     private Command prepareEditFileCommand(String parameters)
             throws InvalidParameterException, DuplicatePrefixException {
-        Matcher matcher = EditFileCommand.REGEX_FORMAT.matcher(parameters);
-        validateParameters(parameters, matcher, MODULE_PREFIX, CATEGORY_PREFIX, TASK_PREFIX, FILE_PREFIX);
+        CommandGrammar.Match match = EditFileCommand.GRAMMAR.match(parameters);
+        validateParameters(match, MODULE_PREFIX, CATEGORY_PREFIX, TASK_PREFIX, FILE_PREFIX);
 
-        String oldFileName = matcher.group(IDENTIFIER_GROUP).trim();
+        String oldFileName = match.group(IDENTIFIER_GROUP).trim();
 
-        String moduleCode = matcher.group(MODULE_GROUP).replace(MODULE_PREFIX, NONE).trim();
-        String categoryName = matcher.group(CATEGORY_GROUP).replace(CATEGORY_PREFIX, NONE).trim();
-        String taskDescription = matcher.group(TASK_GROUP).replace(TASK_PREFIX, NONE).trim();
-        String newFileName = matcher.group(FILE_GROUP).replace(FILE_PREFIX, NONE).trim();
+        String moduleCode = match.group(MODULE_GROUP).replace(MODULE_PREFIX, NONE).trim();
+        String categoryName = match.group(CATEGORY_GROUP).replace(CATEGORY_PREFIX, NONE).trim();
+        String taskDescription = match.group(TASK_GROUP).replace(TASK_PREFIX, NONE).trim();
+        String newFileName = match.group(FILE_GROUP).replace(FILE_PREFIX, NONE).trim();
 
-        String invalid = matcher.group(INVALID_GROUP).trim();
+        String invalid = match.group(INVALID_GROUP).trim();
         if (!invalid.isEmpty()) {
             return new IncorrectCommand(String.format("%s%s\n\n%s%s\n",
                     MESSAGE_INVALID_COMMAND_FORMAT, invalid, MESSAGE_CHECK_COMMAND_FORMAT, EditFileCommand.FORMAT));
@@ -934,14 +939,14 @@ public class Parser {
 
     private Command prepareMarkAsDoneCommand(String parameters)
             throws InvalidParameterException, DuplicatePrefixException {
-        Matcher matcher = MarkAsDoneCommand.REGEX_FORMAT.matcher(parameters);
-        validateParameters(parameters, matcher, MODULE_PREFIX, CATEGORY_PREFIX);
+        CommandGrammar.Match match = MarkAsDoneCommand.GRAMMAR.match(parameters);
+        validateParameters(match, MODULE_PREFIX, CATEGORY_PREFIX);
 
-        String taskDescription = matcher.group(IDENTIFIER_GROUP).trim();
-        String moduleCode = matcher.group(MODULE_GROUP).replace(MODULE_PREFIX, NONE).trim();
-        String categoryName = matcher.group(CATEGORY_GROUP).replace(CATEGORY_PREFIX, NONE).trim();
+        String taskDescription = match.group(IDENTIFIER_GROUP).trim();
+        String moduleCode = match.group(MODULE_GROUP).replace(MODULE_PREFIX, NONE).trim();
+        String categoryName = match.group(CATEGORY_GROUP).replace(CATEGORY_PREFIX, NONE).trim();
 
-        String invalid = matcher.group(INVALID_GROUP).trim();
+        String invalid = match.group(INVALID_GROUP).trim();
         if (!invalid.isEmpty()) {
             return new IncorrectCommand(String.format("%s%s\n\n%s%s\n",
                     MESSAGE_INVALID_COMMAND_FORMAT, invalid, MESSAGE_CHECK_COMMAND_FORMAT, MarkAsDoneCommand.FORMAT));
@@ -980,15 +985,15 @@ public class Parser {
      */
     private Command prepareOpenFileCommand(String parameters)
             throws InvalidParameterException, DuplicatePrefixException {
-        Matcher matcher = OpenFileCommand.REGEX_FORMAT.matcher(parameters);
-        validateParameters(parameters, matcher, MODULE_PREFIX, CATEGORY_PREFIX, TASK_PREFIX);
+        CommandGrammar.Match match = OpenFileCommand.GRAMMAR.match(parameters);
+        validateParameters(match, MODULE_PREFIX, CATEGORY_PREFIX, TASK_PREFIX);
 
-        String fileName = matcher.group(IDENTIFIER_GROUP).trim();
-        String moduleCode = matcher.group(MODULE_GROUP).replace(MODULE_PREFIX, NONE).trim();
-        String categoryName = matcher.group(CATEGORY_GROUP).replace(CATEGORY_PREFIX, NONE).trim();
-        String taskDescription = matcher.group(TASK_GROUP).replace(TASK_PREFIX, NONE).trim();
+        String fileName = match.group(IDENTIFIER_GROUP).trim();
+        String moduleCode = match.group(MODULE_GROUP).replace(MODULE_PREFIX, NONE).trim();
+        String categoryName = match.group(CATEGORY_GROUP).replace(CATEGORY_PREFIX, NONE).trim();
+        String taskDescription = match.group(TASK_GROUP).replace(TASK_PREFIX, NONE).trim();
 
-        String invalid = matcher.group(INVALID_GROUP).trim();
+        String invalid = match.group(INVALID_GROUP).trim();
         if (!invalid.isEmpty()) {
             return new IncorrectCommand(String.format("%s%s\n\n%s%s\n",
                     MESSAGE_INVALID_COMMAND_FORMAT, invalid, MESSAGE_CHECK_COMMAND_FORMAT, OpenFileCommand.FORMAT));
@@ -997,6 +1002,46 @@ public class Parser {
         return new OpenFileCommand(moduleCode, categoryName, taskDescription, fileName);
     }
 
+    /**
+     * Prepares the command to import the tasks in a file.
+     *
+     * @param parameters
+     *  The parameters given by the user
+     * @return
+     *  The command to import the tasks in a file
+     */
+    private Command prepareImportCommand(String parameters) {
+        if (parameters.isBlank()) {
+            return new IncorrectCommand(MESSAGE_MISSING_FILE_PATH);
+        }
+        String filePath = parameters.trim();
+        TaskRowFormat format = TaskRowFormat.fromFileName(filePath);
+        if (format == null) {
+            return new IncorrectCommand(MESSAGE_UNKNOWN_TASK_ROW_FORMAT);
+        }
+        return new ImportCommand(filePath, format);
+    }
+
+    /**
+     * Prepares the command to export all tasks into a file.
+     *
+     * @param parameters
+     *  The parameters given by the user
+     * @return
+     *  The command to export all tasks into a file
+     */
+    private Command prepareExportCommand(String parameters) {
+        if (parameters.isBlank()) {
+            return new IncorrectCommand(MESSAGE_MISSING_FILE_PATH);
+        }
+        String filePath = parameters.trim();
+        TaskRowFormat format = TaskRowFormat.fromFileName(filePath);
+        if (format == null) {
+            return new IncorrectCommand(MESSAGE_UNKNOWN_TASK_ROW_FORMAT);
+        }
+        return new ExportCommand(filePath, format);
+    }
+
     /**
      * Prepares the command to clear the GUI Console Screen.
      *
@@ -1050,10 +1095,8 @@ public class Parser {
     /**
      * Validate the parameters given by the user for the respective command.
      *
-     * @param parameters
-     *  The parameters given by the user
-     * @param matcher
-     *  The matcher to match for attributes and check for validity
+     * @param match
+     *  The match of the parameters against the grammar of the command
      * @param parameterPrefixes
      *  The prefixes used for the respective command
      * @throws InvalidParameterException
@@ -1061,11 +1104,11 @@ public class Parser {
      * @throws DuplicatePrefixException
      *  If a duplicate prefix is found in the parameters
      */
-    private void validateParameters(String parameters, Matcher matcher, String... parameterPrefixes)
+    private void validateParameters(CommandGrammar.Match match, String... parameterPrefixes)
             throws InvalidParameterException, DuplicatePrefixException {
         ArrayList<String> duplicatedPrefixes = new ArrayList<>();
         for (String prefix : parameterPrefixes) {
-            if (countPrefixOccurrences(parameters, prefix) > 1) {
+            if (match.countPrefix(prefix) > 1) {
                 duplicatedPrefixes.add(prefix);
             }
         }
@@ -1075,43 +1118,11 @@ public class Parser {
             throw new DuplicatePrefixException(allDuplicatedPrefixes);
         }
 
-        if (!matcher.matches()) {
+        if (!match.matches()) {
             throw new InvalidParameterException();
         }
     }
 
-    /**
-     * A simple method to count the number of prefix occurrences within a string.
-     *
-     * @param fullString
-     *  The main string to count the number of substring
-     * @param prefix
-     *  The prefix to find in the main string
-     */
-    private int countPrefixOccurrences(String fullString, String prefix) {
-        // Smaller than prefix length
-        if (fullString.length() < prefix.length() + 1) {
-            return 0;
-        }
-
-        int count = 0;
-        int index = 0;
-        // Count number of prefixes in the centre of string
-        String prefixWithSpaces = String.format(" %s ", prefix);
-        while ((index = fullString.indexOf(prefixWithSpaces, index)) >= 0) {
-            ++count;
-            ++index;
-        }
-        // Check if there is a prefix at the back of the string
-        String prefixWithFrontSpace = String.format(" %s", prefix);
-        int indexOfLastPrefix = fullString.length() - prefixWithFrontSpace.length();
-        if (fullString.substring(indexOfLastPrefix).equals(prefixWithFrontSpace)) {
-            ++count;
-        }
-
-        return count;
-    }
-
     /**
      * Checks if the parameters contains any prefixes.
      *
@@ -1121,15 +1132,14 @@ public class Parser {
      *  <code>TRUE</code> if a prefix is found, and <code>FALSE</code> otherwise
      */
     private boolean containsPrefix(String parameters) {
-        Pattern prefixRegex = Pattern.compile(".*?\\s+-.*");
-        return prefixRegex.matcher(parameters).matches();
+        return CommandGrammar.containsPrefix(parameters);
     }
 
     /**
      * Returns the correctly parsed optional attribute from a pair of duplicate attribute groups.
      *
-     * @param matcher
-     *  The matcher to find the optional attribute
+     * @param match
+     *  The match to find the optional attribute
      * @param firstGroup
      *  The name of the first group
      * @param secondGroup
@@ -1137,10 +1147,10 @@ public class Parser {
      * @return
      *  The correct optional attribute
      */
-    private String getOptionalAttribute(Matcher matcher, String firstGroup, String secondGroup) {
+    private String getOptionalAttribute(CommandGrammar.Match match, String firstGroup, String secondGroup) {
 
-        String first = matcher.group(firstGroup).trim();
-        String second = matcher.group(secondGroup).trim();
+        String first = match.group(firstGroup).trim();
+        String second = match.group(secondGroup).trim();
 
         return !first.isEmpty() ? first : second;
     }
@@ -0,0 +1,140 @@
+package seedu.nuke.tag;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A combination of tag keywords to filter tasks by.
+ * <p></p>
+ * The keywords are combined with <code>&amp;</code> (and), <code>|</code> (or) and a leading <code>!</code> (not),
+ * each separated from the keywords by spaces, e.g. <code>urgent &amp; !reading | exam</code>. <code>&amp;</code> is
+ * applied before <code>|</code>. A tag keyword without any of these is a query for the single keyword.
+ */
+public class TagQuery {
+    public static final String AND = "&";
+    public static final String OR = "|";
+    public static final String NOT = "!";
+
+    private final ArrayList<Clause> clauses;
+
+    private TagQuery(ArrayList<Clause> clauses) {
+        this.clauses = clauses;
+    }
+
+    /**
+     * Parses the specified tag keyword into a tag query.
+     *
+     * @param tagKeyword
+     *  The tag keyword given by the user
+     * @return
+     *  The tag query of the keyword
+     */
+    public static TagQuery parse(String tagKeyword) {
+        ArrayList<Clause> clauses = new ArrayList<>();
+        Clause clause = new Clause();
+        StringBuilder term = new StringBuilder();
+        boolean isExcluded = false;
+        for (String word : tagKeyword.trim().split("\\s+")) {
+            if (word.equals(AND) || word.equals(OR)) {
+                clause.addTerm(term.toString(), isExcluded);
+                term.setLength(0);
+                isExcluded = false;
+                if (word.equals(OR)) {
+                    clauses.add(clause);
+                    clause = new Clause();
+                }
+                continue;
+            }
+            if (term.length() == 0 && word.startsWith(NOT)) {
+                isExcluded = true;
+                word = word.substring(NOT.length());
+            }
+            if (!word.isEmpty()) {
+                term.append(term.length() == 0 ? "" : " ").append(word);
+            }
+        }
+        clause.addTerm(term.toString(), isExcluded);
+        clauses.add(clause);
+        return new TagQuery(clauses);
+    }
+
+    /**
+     * Returns the clauses of the query, of which a task has to satisfy at least one.
+     *
+     * @return
+     *  The clauses of the query
+     */
+    public List<Clause> getClauses() {
+        return Collections.unmodifiableList(clauses);
+    }
+
+    /**
+     * Checks if the specified tag of a task found by the query is to be shown. These are the tags that match a
+     * keyword to include, or every tag if the query has a clause without any keyword to include.
+     *
+     * @param tag
+     *  The tag to check
+     * @param isExact
+     *  <code>TRUE</code> if the tag has to match the keywords exactly, and <code>FALSE</code> otherwise
+     * @return
+     *  <code>TRUE</code> if the tag is to be shown, and <code>FALSE</code> otherwise
+     */
+    public boolean isShown(String tag, boolean isExact) {
+        for (Clause clause : clauses) {
+            if (clause.includedTags.isEmpty()) {
+                return true;
+            }
+            for (String includedTag : clause.includedTags) {
+                if (isMatch(tag, includedTag, isExact)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if the tag contains, or matches exactly, the specified keyword in a case-insensitive manner.
+     *
+     * @param tag
+     *  The tag to check
+     * @param keyword
+     *  The keyword to match
+     * @param isExact
+     *  <code>TRUE</code> if the tag has to match the keyword exactly, and <code>FALSE</code> otherwise
+     * @return
+     *  <code>TRUE</code> if the tag matches the keyword, and <code>FALSE</code> otherwise
+     */
+    public static boolean isMatch(String tag, String keyword, boolean isExact) {
+        return isExact ? tag.toLowerCase().equals(keyword.toLowerCase())
+                : tag.toLowerCase().contains(keyword.toLowerCase());
+    }
+
+    /**
+     * The tag keywords a task has to match all of, and the tag keywords it must not match any of.
+     */
+    public static class Clause {
+        private final ArrayList<String> includedTags = new ArrayList<>();
+        private final ArrayList<String> excludedTags = new ArrayList<>();
+
+        private void addTerm(String term, boolean isExcluded) {
+            if (term.isEmpty()) {
+                return;
+            }
+            if (isExcluded) {
+                excludedTags.add(term);
+            } else {
+                includedTags.add(term);
+            }
+        }
+
+        public List<String> getIncludedTags() {
+            return Collections.unmodifiableList(includedTags);
+        }
+
+        public List<String> getExcludedTags() {
+            return Collections.unmodifiableList(excludedTags);
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package seedu.nuke.ui;
 
 import seedu.nuke.command.CommandResult;
+import seedu.nuke.command.ResultPages;
 import seedu.nuke.directory.Category;
+import seedu.nuke.directory.Directory;
 import seedu.nuke.directory.DirectoryLevel;
 import seedu.nuke.directory.DirectoryTraverser;
 import seedu.nuke.directory.Module;
@@ -12,8 +14,9 @@ import seedu.nuke.util.ListCreator;
 
 import java.io.PrintStream;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Scanner;
-import java.util.stream.Collectors;
+import java.util.function.BiFunction;
 
 public class Ui {
     private static final String LS = System.lineSeparator();
@@ -69,42 +72,31 @@ public class Ui {
             return;
         }
 
-        String listTableToShow;
         switch (result.getDirectoryLevel()) {
 
         case MODULE:
-            ArrayList<Module> moduleList = result.getShownList().stream()
-                    .map(Module.class::cast)
-                    .collect(Collectors.toCollection(ArrayList::new));
-            listTableToShow = ListCreator.createModuleListTable(moduleList);
+            showListTable(result.getShownPages(Module.class), ListCreator.createModuleListTableHeader(),
+                    ListCreator::createModuleListRows, "modules");
             break;
 
         case CATEGORY:
-            ArrayList<Category> categoryList = result.getShownList().stream()
-                    .map(Category.class::cast)
-                    .collect(Collectors.toCollection(ArrayList::new));
-            listTableToShow = ListCreator.createCategoryListTable(categoryList);
+            showListTable(result.getShownPages(Category.class), ListCreator.createCategoryListTableHeader(),
+                    ListCreator::createCategoryListRows, "categories");
             break;
 
         case TASK:
-            ArrayList<Task> taskList = result.getShownList().stream()
-                    .map(Task.class::cast)
-                    .collect(Collectors.toCollection(ArrayList::new));
-            listTableToShow = ListCreator.createTaskListTable(taskList);
+            showListTable(result.getShownPages(Task.class), ListCreator.createTaskListTableHeader(),
+                    ListCreator::createTaskListRows, "tasks");
             break;
 
         case FILE:
-            ArrayList<TaskFile> fileList = result.getShownList().stream()
-                    .map(TaskFile.class::cast)
-                    .collect(Collectors.toCollection(ArrayList::new));
-            listTableToShow = ListCreator.createFileListTable(fileList);
+            showListTable(result.getShownPages(TaskFile.class), ListCreator.createFileListTableHeader(),
+                    ListCreator::createFileListRows, "files");
             break;
 
         case TAG:
-            ArrayList<TaskTag> tagList = result.getShownList().stream()
-                    .map(TaskTag.class::cast)
-                    .collect(Collectors.toCollection(ArrayList::new));
-            listTableToShow = ListCreator.createTagListTable(tagList);
+            showListTable(result.getShownPages(TaskTag.class), ListCreator.createTagListTableHeader(),
+                    ListCreator::createTagListRows, "tags");
             break;
 
         case NONE:
@@ -112,14 +104,39 @@ public class Ui {
                 return;
             }
             ArrayList<String> helpList = result.getHelpGuide();
-            listTableToShow = ListCreator.createGeneralListTable(helpList);
+            showMessage(ListCreator.createGeneralListTable(helpList));
             break;
 
         default:
             return;
         }
+    }
 
-        showMessage(listTableToShow);
+    /**
+     * Shows a list table to the user one page at a time, so that the rows of the whole table are not held at once.
+     * <br> Every page is shown, so the results are put in order once for all the pages, instead of selecting the
+     * first page with a heap before sorting all of them anyway.
+     *
+     * @param pages
+     *  The pages of results to show in the table
+     * @param header
+     *  The header of the table
+     * @param rowCreator
+     *  Creates the rows of a page from the results of the page and the number of the first row
+     * @param itemName
+     *  The name of the results in plural
+     */
+    private <T extends Directory> void showListTable(ResultPages<T> pages, String header,
+            BiFunction<List<T>, Integer, String> rowCreator, String itemName) {
+        out.print(header.replace("\n", LS));
+        List<T> results = pages.getAll();
+        for (int pageIndex = 0; pageIndex < pages.countPages(); ++pageIndex) {
+            int fromIndex = pages.getFirstIndex(pageIndex);
+            int toIndex = Math.min(fromIndex + ResultPages.PAGE_SIZE, results.size());
+            String rows = rowCreator.apply(results.subList(fromIndex, toIndex), fromIndex + 1);
+            out.print(rows.replace("\n", LS));
+        }
+        showMessage(ListCreator.createListTableFooter(itemName, pages.size()));
     }
 
     /**
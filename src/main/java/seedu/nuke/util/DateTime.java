@@ -17,22 +17,33 @@ public class DateTime {
     private static final String DATE_SORT_FORMAT = "yyyyMMdd"; // Date format for sorting
     private static final String TIME_SORT_FORMAT = "HHmm"; // Time format for sorting
 
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern(DATE_FORMAT);
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern(TIME_FORMAT);
+    private static final DateTimeFormatter DATE_SORT_FORMATTER = DateTimeFormatter.ofPattern(DATE_SORT_FORMAT);
+    private static final DateTimeFormatter TIME_SORT_FORMATTER = DateTimeFormatter.ofPattern(TIME_SORT_FORMAT);
+
+    // Sort keys of a date span one more than the minutes in a day, so that a date without a time comes last
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final long SORT_KEYS_PER_DATE = MINUTES_PER_DAY + 1;
+    // Sort keys without a date come after every date, up to Long.MAX_VALUE for a missing deadline
+    private static final long NO_DATE_SORT_KEY = Long.MAX_VALUE - MINUTES_PER_DAY;
+
     private LocalDate date;
     private LocalTime time;
+    private long sortKey;
 
     public DateTime(LocalDate date, LocalTime time) {
         this.date = date;
         this.time = time;
+        this.sortKey = computeSortKey();
     }
 
     public DateTime(LocalTime time) {
-        this.date = LocalDate.now();
-        this.time = time;
+        this(LocalDate.now(), time);
     }
 
     public DateTime(LocalDate date) {
-        this.date = date;
-        this.time = LocalTime.of(23, 59);
+        this(date, LocalTime.of(23, 59));
     }
 
     public DateTime() {
@@ -73,7 +84,7 @@ public class DateTime {
      * @return The <code>date</code> in a string format
      */
     public String getDateString() {
-        return date.format(DateTimeFormatter.ofPattern(DATE_FORMAT));
+        return date.format(DATE_FORMATTER);
     }
 
     /**
@@ -82,7 +93,7 @@ public class DateTime {
      * @return The <code>time</code> in a string format
      */
     public String getTimeString() {
-        return time.format(DateTimeFormatter.ofPattern(TIME_FORMAT));
+        return time.format(TIME_FORMATTER);
     }
 
     /**
@@ -92,7 +103,7 @@ public class DateTime {
      * @return The <code>date</code> in a string format
      */
     private String getDateInSortFormat() {
-        return hasDate() ? date.format(DateTimeFormatter.ofPattern(DATE_SORT_FORMAT)) : "_";
+        return hasDate() ? date.format(DATE_SORT_FORMATTER) : "_";
     }
 
     /**
@@ -102,13 +113,30 @@ public class DateTime {
      * @return The <code>date</code> in a string format
      */
     private String getTimeInSortFormat() {
-        return hasTime() ? time.format(DateTimeFormatter.ofPattern(TIME_SORT_FORMAT)) : "_";
+        return hasTime() ? time.format(TIME_SORT_FORMATTER) : "_";
     }
 
     public String getDateTimeInSortFormat() {
         return getDateInSortFormat() + getTimeInSortFormat();
     }
 
+    /**
+     * Returns the sort key of the <b>Date Time</b>, which is ordered in the same way as
+     * {@link #getDateTimeInSortFormat()}: by <code>date</code>, then by <code>time</code>, with a missing
+     * <code>date</code> or <code>time</code> coming last.
+     * The key is computed once, as the <b>Date Time</b> never changes.
+     *
+     * @return The sort key of the <b>Date Time</b>
+     */
+    public long getSortKey() {
+        return sortKey;
+    }
+
+    private long computeSortKey() {
+        long minuteKey = hasTime() ? time.getHour() * 60 + time.getMinute() : MINUTES_PER_DAY;
+        return hasDate() ? date.toEpochDay() * SORT_KEYS_PER_DATE + minuteKey : NO_DATE_SORT_KEY + minuteKey;
+    }
+
     /**
      * Checks if the <code>date</code> attribute is the same as the specified <code>date</code>.
      * @param date The <i>date</i> in question
@@ -2,6 +2,7 @@ package seedu.nuke.util;
 
 import seedu.nuke.exception.InvalidFormatException;
 
+import java.time.DateTimeException;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalTime;
@@ -36,6 +37,33 @@ public class DateTimeFormat {
 
     private static final int CURRENT_YEAR = LocalDate.now().getYear();
 
+    /* The formatters of the formats above, in the same order. Formatters are immutable and thread-safe. */
+    private static final DateTimeFormatter[] ALL_DATE_FORMATTERS = new DateTimeFormatter[ALL_DATE_FORMATS.length];
+    private static final DateTimeFormatter[] ALL_TIME_FORMATTERS = new DateTimeFormatter[ALL_TIME_FORMATS.length];
+
+    static {
+        for (int i = 0; i < ALL_DATE_FORMATS.length; ++i) {
+            ALL_DATE_FORMATTERS[i] = new DateTimeFormatterBuilder()
+                    .appendPattern(ALL_DATE_FORMATS[i])
+                    .parseDefaulting(ChronoField.YEAR_OF_ERA, CURRENT_YEAR)
+                    .toFormatter();
+        }
+        for (int i = 0; i < ALL_TIME_FORMATS.length; ++i) {
+            ALL_TIME_FORMATTERS[i] = DateTimeFormatter.ofPattern(ALL_TIME_FORMATS[i]);
+        }
+    }
+
+    /* Positions of the date formats in ALL_DATE_FORMATS, by the shape of the date they accept */
+    private static final int FIRST_SLASH_FULL_YEAR_FORMAT = 1;
+    private static final int FIRST_SLASH_SHORT_YEAR_FORMAT = 5;
+    private static final int FIRST_DASH_FULL_YEAR_FORMAT = 9;
+    private static final int FIRST_DASH_SHORT_YEAR_FORMAT = 13;
+    private static final int NO_SEPARATOR_FULL_YEAR_FORMAT = 17;
+    private static final int NO_SEPARATOR_SHORT_YEAR_FORMAT = 18;
+
+    /* The format a deadline is saved in, i.e. DateTime#toString(), e.g. "08/08/2020 04:38PM" */
+    private static final int CANONICAL_LENGTH = 18;
+
     /**
      * Converts the specified <code>datetime</code> string into a <code>DateTime</code> object.
      * <p></p>
@@ -148,22 +176,84 @@ public class DateTimeFormat {
             return getNextDateOfDay(DayOfWeek.SUNDAY);
 
         default:
-            for (String formatPattern : ALL_DATE_FORMATS) {
-                try {
-                    DateTimeFormatter format = new DateTimeFormatterBuilder()
-                            .appendPattern(formatPattern)
-                            .parseDefaulting(ChronoField.YEAR_OF_ERA, CURRENT_YEAR)
-                            .toFormatter();
-                    return LocalDate.parse(date, format);
-                } catch (DateTimeParseException e) {
-                    // Ignore invalid formats
-                }
+            DateTimeFormatter format = getDateFormatter(date);
+            if (format == null) {
+                throw new InvalidDateException();
+            }
+            try {
+                return LocalDate.parse(date, format);
+            } catch (DateTimeParseException e) {
+                throw new InvalidDateException();
             }
-            // Throws exception if fails to parse all date formats
-            throw new InvalidDateException();
         }
     }
 
+    /**
+     * Picks the date format that accepts the shape of the specified <code>date</code> string, judging from its
+     * separators and the lengths of its day, month and year.
+     * <br> Every date format in {@link #ALL_DATE_FORMATS} that could parse the string gives the same date, so only the
+     * picked format needs to be tried.
+     *
+     * @param date
+     *  The date string
+     * @return
+     *  The date format for the string, or <code>NULL</code> if no date format accepts its shape
+     */
+    private static DateTimeFormatter getDateFormatter(String date) {
+        char separator;
+        if (date.indexOf('/') >= 0) {
+            separator = '/';
+        } else if (date.indexOf('-') >= 0) {
+            separator = '-';
+        } else {
+            if (!isDigits(date, 0, date.length())) {
+                return null;
+            } else if (date.length() >= 8) {
+                return ALL_DATE_FORMATTERS[NO_SEPARATOR_FULL_YEAR_FORMAT];
+            } else if (date.length() == 6) {
+                return ALL_DATE_FORMATTERS[NO_SEPARATOR_SHORT_YEAR_FORMAT];
+            } else {
+                return null;
+            }
+        }
+
+        int monthStart = date.indexOf(separator) + 1;
+        int monthEnd = date.indexOf(separator, monthStart);
+        int yearStart = (monthEnd < 0) ? date.length() : monthEnd + 1;
+        if (monthEnd < 0) {
+            monthEnd = date.length();
+        }
+        int dayLength = monthStart - 1;
+        int monthLength = monthEnd - monthStart;
+        int yearLength = date.length() - yearStart;
+        if (dayLength == 0 || monthLength == 0 || !isDigits(date, 0, monthStart - 1)
+                || !isDigits(date, monthStart, monthEnd) || !isDigits(date, yearStart, date.length())) {
+            return null;
+        }
+
+        int firstFormat;
+        if (yearLength == 0 || yearLength >= 4) {
+            firstFormat = (separator == '/') ? FIRST_SLASH_FULL_YEAR_FORMAT : FIRST_DASH_FULL_YEAR_FORMAT;
+        } else if (yearLength == 2) {
+            firstFormat = (separator == '/') ? FIRST_SLASH_SHORT_YEAR_FORMAT : FIRST_DASH_SHORT_YEAR_FORMAT;
+        } else {
+            return null;
+        }
+        // The formats are ordered as "dd" "MM", "d" "MM", "dd" "M", then "d" "M"
+        int dayOffset = (dayLength == 2) ? 0 : 1;
+        int monthOffset = (monthLength == 2) ? 0 : 2;
+        return ALL_DATE_FORMATTERS[firstFormat + dayOffset + monthOffset];
+    }
+
+    private static boolean isDigits(String string, int start, int end) {
+        for (int i = start; i < end; ++i) {
+            char character = string.charAt(i);
+            if (character < '0' || character > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
 
 
     /**
@@ -182,9 +272,11 @@ public class DateTimeFormat {
             return null;
         }
 
-        for (String format : ALL_TIME_FORMATS) {
+        String upperCaseTime = time.toUpperCase();
+        int[] formats = getTimeFormats(upperCaseTime);
+        for (int format : formats) {
             try {
-                return LocalTime.parse(time.toUpperCase(), DateTimeFormatter.ofPattern(format));
+                return LocalTime.parse(upperCaseTime, ALL_TIME_FORMATTERS[format]);
             } catch (DateTimeParseException e) {
                 // Ignore invalid formats
             }
@@ -193,6 +285,97 @@ public class DateTimeFormat {
         throw new InvalidTimeException();
     }
 
+    /**
+     * Picks the time formats that accept the shape of the specified <code>time</code> string, judging from its
+     * separator, its length and whether it ends with <i>AM</i> or <i>PM</i>.
+     * <br> The formats are returned in the same order as in {@link #ALL_TIME_FORMATS}, and no other time format
+     * could parse the string.
+     *
+     * @param time
+     *  The time string in upper case
+     * @return
+     *  The positions of the time formats for the string in {@link #ALL_TIME_FORMATS}, which is empty if no time
+     *  format accepts its shape
+     */
+    private static int[] getTimeFormats(String time) {
+        boolean hasMarker = time.endsWith("AM") || time.endsWith("PM");
+        int end = hasMarker ? time.length() - 2 : time.length();
+        int separatorIndex = Math.max(time.lastIndexOf(':'), time.lastIndexOf('.'));
+        if (separatorIndex < 0) {
+            if (end == 0 || !isDigits(time, 0, end)) {
+                return new int[0];
+            } else if (hasMarker) {
+                // "hmma", "Hmma" or "ha", "Ha"
+                return (end > 2) ? new int[] {6, 7} : new int[] {9, 10};
+            } else {
+                // "Hmm" or "H"
+                return (end > 2) ? new int[] {8} : new int[] {11};
+            }
+        }
+        if (!isDigits(time, 0, separatorIndex) || !isDigits(time, separatorIndex + 1, end)) {
+            return new int[0];
+        }
+        if (time.charAt(separatorIndex) == ':') {
+            // "h:mma", "H:mma" or "H:mm"
+            return hasMarker ? new int[] {1, 2} : new int[] {0};
+        } else {
+            // "h.mma", "H.mma" or "H.mm"
+            return hasMarker ? new int[] {3, 4} : new int[] {5};
+        }
+    }
+
+    /**
+     * Converts a <code>datetime</code> string in the format a deadline is saved in, i.e.
+     * <code>dd/MM/yyyy hh:mma</code>, into a <code>DateTime</code> object, without going through the accepted
+     * <i>date</i> and <i>time</i> formats.
+     * <br> Strings in any other format are converted in the same way as {@link #stringToDateTime(String)}.
+     *
+     * @param datetime
+     *  The string to be converted into its corresponding <code>DateTime</code> object
+     * @return
+     *  The <code>DateTime</code> object converted from the string
+     * @throws InvalidDateTimeException
+     *  If the string is not a valid <i>datetime</i>
+     */
+    public static DateTime canonicalStringToDateTime(String datetime) throws InvalidDateTimeException {
+        if (datetime.length() != CANONICAL_LENGTH || datetime.charAt(2) != '/' || datetime.charAt(5) != '/'
+                || datetime.charAt(10) != ' ' || datetime.charAt(13) != ':') {
+            return stringToDateTime(datetime);
+        }
+        int day = parseDigits(datetime, 0, 2);
+        int month = parseDigits(datetime, 3, 5);
+        int year = parseDigits(datetime, 6, 10);
+        int hour = parseDigits(datetime, 11, 13);
+        int minute = parseDigits(datetime, 14, 16);
+        char marker = Character.toUpperCase(datetime.charAt(16));
+        boolean isValidMarker = (marker == 'A' || marker == 'P')
+                && Character.toUpperCase(datetime.charAt(17)) == 'M';
+        if (day < 0 || month < 0 || year < 0 || hour < 1 || hour > 12 || minute < 0 || minute > 59
+                || !isValidMarker) {
+            return stringToDateTime(datetime);
+        }
+        try {
+            int hourOfDay = (hour % 12) + ((marker == 'P') ? 12 : 0);
+            return new DateTime(LocalDate.of(year, month, day), LocalTime.of(hourOfDay, minute));
+        } catch (DateTimeException e) {
+            return stringToDateTime(datetime);
+        }
+    }
+
+    /**
+     * Parses the digits between the specified positions of the string, or returns -1 if there is a non-digit.
+     */
+    private static int parseDigits(String string, int start, int end) {
+        if (!isDigits(string, start, end)) {
+            return -1;
+        }
+        int value = 0;
+        for (int i = start; i < end; ++i) {
+            value = value * 10 + (string.charAt(i) - '0');
+        }
+        return value;
+    }
+
     /**
      * Gets the closest date of a day of the week after the current date.
      *
@@ -55,6 +55,13 @@ public class ExceptionMessage {
     public static final String MESSAGE_FILE_SYSTEM_EXCEPTION = "Oh no! There was an error in retrieving your file. "
             + "Please check that your file is not currently running.\n";
     public static final String MESSAGE_INVALID_FILE_PATH = "Sorry, the file path entered is invalid.\n";
+    public static final String MESSAGE_IMPORT_IO_EXCEPTION =
+            "Oh no! There was an error in reading the file to import.\n";
+    public static final String MESSAGE_EXPORT_IO_EXCEPTION =
+            "Oh no! There was an error in writing the file to export.\n";
+    public static final String MESSAGE_INVALID_DONE_STATUS = "Sorry, the done status should be either true or false.\n";
+    public static final String MESSAGE_LINE_BREAK_IN_ROW =
+            "Sorry, the names and tags in the row cannot have line breaks.\n";
     public static final String MESSAGE_ADD_FILE_NOT_FOUND =
             "Sorry, the file does not exists. Please check the file path again.\n";
     public static final String MESSAGE_FILE_SECURITY_EXCEPTION =
@@ -7,6 +7,7 @@ import seedu.nuke.directory.TaskFile;
 import seedu.nuke.directory.TaskTag;
 
 import java.util.ArrayList;
+import java.util.List;
 
 /**
  * A utility class to create a sorted list table from an Array List.
@@ -43,27 +44,36 @@ public class ListCreator {
      *  The sorted module list table
      */
     public static String createModuleListTable(ArrayList<Module> moduleList) {
-        StringBuilder moduleListTable = new StringBuilder();
+        return createModuleListTableHeader() + createModuleListRows(moduleList, 1)
+                + createListTableFooter("modules", moduleList.size());
+    }
 
-        moduleListTable.append(createModuleListTableHeader());
+    /**
+     * Creates the rows of the module list table for a page of modules.
+     *
+     * @param moduleList
+     *  The page of modules to be converted into rows
+     * @param firstId
+     *  The number of the first row
+     * @return
+     *  The rows of the module list table
+     */
+    public static String createModuleListRows(List<Module> moduleList, int firstId) {
+        StringBuilder rows = new StringBuilder();
 
-        int id = 1;
+        int id = firstId;
         for (Module module : moduleList) {
             String moduleCode = module.getModuleCode();
             String moduleTitle = (module.getTitle() != null) ? module.getTitle() : "-NIL-";
 
-            moduleListTable.append(String.format("%s%s%s%s%s\n",
+            rows.append(String.format("%s%s%s%s%s\n",
                     centraliseText(fitText(Integer.toString(id++), 4), 4), SEPARATOR,
                     centraliseText(fitText(moduleCode, 16), 16), SEPARATOR,
                     centraliseText(fitText(moduleTitle, 78), 78)
             ));
         }
 
-        moduleListTable.append(LIST_DIVIDER);
-        moduleListTable.append(String.format("Total modules: %d\n", moduleList.size()));
-        moduleListTable.append(LIST_DIVIDER);
-
-        return moduleListTable.toString();
+        return rows.toString();
     }
 
     /**
@@ -72,7 +82,7 @@ public class ListCreator {
      * @return
      *  The header of the module list table
      */
-    private static String createModuleListTableHeader() {
+    public static String createModuleListTableHeader() {
         StringBuilder header = new StringBuilder();
 
         header.append(LIST_DIVIDER);
@@ -95,17 +105,30 @@ public class ListCreator {
      *  The sorted category list table
      */
     public static String createCategoryListTable(ArrayList<Category> categoryList) {
-        StringBuilder categoryListTable = new StringBuilder();
+        return createCategoryListTableHeader() + createCategoryListRows(categoryList, 1)
+                + createListTableFooter("categories", categoryList.size());
+    }
 
-        categoryListTable.append(createCategoryListTableHeader());
+    /**
+     * Creates the rows of the category list table for a page of categories.
+     *
+     * @param categoryList
+     *  The page of categories to be converted into rows
+     * @param firstId
+     *  The number of the first row
+     * @return
+     *  The rows of the category list table
+     */
+    public static String createCategoryListRows(List<Category> categoryList, int firstId) {
+        StringBuilder rows = new StringBuilder();
 
-        int id = 1;
+        int id = firstId;
         for (Category category : categoryList) {
             String moduleCode = category.getParent().getModuleCode();
             String categoryName = category.getCategoryName();
             String priority = String.valueOf(category.getCategoryPriority());
 
-            categoryListTable.append(String.format("%s%s%s%s%s%s%s\n",
+            rows.append(String.format("%s%s%s%s%s%s%s\n",
                     centraliseText(fitText(Integer.toString(id++), 4), 4), SEPARATOR,
                     centraliseText(fitText(moduleCode, 16), 16), SEPARATOR,
                     centraliseText(fitText(categoryName, 72), 72), SEPARATOR,
@@ -113,11 +136,7 @@ public class ListCreator {
             ));
         }
 
-        categoryListTable.append(LIST_DIVIDER);
-        categoryListTable.append(String.format("Total categories: %d\n", categoryList.size()));
-        categoryListTable.append(LIST_DIVIDER);
-
-        return categoryListTable.toString();
+        return rows.toString();
     }
 
     /**
@@ -126,7 +145,7 @@ public class ListCreator {
      * @return
      *  The header of the category list table
      */
-    private static String createCategoryListTableHeader() {
+    public static String createCategoryListTableHeader() {
         StringBuilder header = new StringBuilder();
 
         header.append(LIST_DIVIDER);
@@ -150,11 +169,24 @@ public class ListCreator {
      *  The sorted task list table
      */
     public static String createTaskListTable(ArrayList<Task> taskList) {
-        StringBuilder taskListTable = new StringBuilder();
+        return createTaskListTableHeader() + createTaskListRows(taskList, 1)
+                + createListTableFooter("tasks", taskList.size());
+    }
 
-        taskListTable.append(createTaskListTableHeader());
+    /**
+     * Creates the rows of the task list table for a page of tasks.
+     *
+     * @param taskList
+     *  The page of tasks to be converted into rows
+     * @param firstId
+     *  The number of the first row
+     * @return
+     *  The rows of the task list table
+     */
+    public static String createTaskListRows(List<Task> taskList, int firstId) {
+        StringBuilder rows = new StringBuilder();
 
-        int id = 1;
+        int id = firstId;
         for (Task task : taskList) {
             String moduleCode = task.getParent().getParent().getModuleCode();
             String categoryName = task.getParent().getCategoryName();
@@ -163,7 +195,7 @@ public class ListCreator {
             String priority = String.valueOf(task.getPriority());
             String statusIcon = task.getStatusIcon();
 
-            taskListTable.append(String.format("%s%s%s%s%s%s%s%s%s%s%s%s%s\n",
+            rows.append(String.format("%s%s%s%s%s%s%s%s%s%s%s%s%s\n",
                     centraliseText(fitText(Integer.toString(id++), 4), 4), SEPARATOR,
                     centraliseText(fitText(moduleCode, 10), 10), SEPARATOR,
                     centraliseText(fitText(categoryName, 16), 16), SEPARATOR,
@@ -174,11 +206,7 @@ public class ListCreator {
             ));
         }
 
-        taskListTable.append(LIST_DIVIDER);
-        taskListTable.append(String.format("Total tasks: %d\n", taskList.size()));
-        taskListTable.append(LIST_DIVIDER);
-
-        return taskListTable.toString();
+        return rows.toString();
     }
 
     /**
@@ -187,7 +215,7 @@ public class ListCreator {
      * @return
      *  The header of the task list table
      */
-    private static String createTaskListTableHeader() {
+    public static String createTaskListTableHeader() {
         StringBuilder header = new StringBuilder();
 
         header.append(LIST_DIVIDER);
@@ -211,18 +239,31 @@ public class ListCreator {
      * @return a sorted list of table of tags
      */
     public static String createTagListTable(ArrayList<TaskTag> tags) {
-        StringBuilder tagListTable = new StringBuilder();
+        return createTagListTableHeader() + createTagListRows(tags, 1)
+                + createListTableFooter("tags", tags.size());
+    }
 
-        tagListTable.append(createTagListTableHeader());
+    /**
+     * Creates the rows of the tag list table for a page of tags.
+     *
+     * @param tags
+     *  The page of tags to be converted into rows
+     * @param firstId
+     *  The number of the first row
+     * @return
+     *  The rows of the tag list table
+     */
+    public static String createTagListRows(List<TaskTag> tags, int firstId) {
+        StringBuilder rows = new StringBuilder();
 
-        int id = 1;
-        for (TaskTag tag: tags) {
+        int id = firstId;
+        for (TaskTag tag : tags) {
             String moduleCode = tag.getParent().getParent().getParent().getModuleCode();
             String categoryName = tag.getParent().getParent().getCategoryName();
             String taskDescription = tag.getParent().getDescription();
             String tagInfo = tag.getTagInfo();
 
-            tagListTable.append(String.format("%s%s%s%s%s%s%s%s%s\n",
+            rows.append(String.format("%s%s%s%s%s%s%s%s%s\n",
                     centraliseText(fitText(Integer.toString(id++), 4), 4), SEPARATOR,
                     centraliseText(fitText(moduleCode, 10), 10), SEPARATOR,
                     centraliseText(fitText(categoryName, 16), 16), SEPARATOR,
@@ -231,14 +272,16 @@ public class ListCreator {
             ));
         }
 
-        tagListTable.append(LIST_DIVIDER);
-        tagListTable.append(String.format("Total tags: %d\n", tags.size()));
-        tagListTable.append(LIST_DIVIDER);
-
-        return tagListTable.toString();
+        return rows.toString();
     }
 
-    private static String createTagListTableHeader() {
+    /**
+     * Creates the header of the tag list table.
+     *
+     * @return
+     *  The header of the tag list table
+     */
+    public static String createTagListTableHeader() {
         StringBuilder header = new StringBuilder();
 
         header.append(LIST_DIVIDER);
@@ -264,18 +307,31 @@ public class ListCreator {
      *  The sorted file list table
      */
     public static String createFileListTable(ArrayList<TaskFile> fileList) {
-        StringBuilder fileListTable = new StringBuilder();
+        return createFileListTableHeader() + createFileListRows(fileList, 1)
+                + createListTableFooter("files", fileList.size());
+    }
 
-        fileListTable.append(createFileListTableHeader());
+    /**
+     * Creates the rows of the file list table for a page of files.
+     *
+     * @param fileList
+     *  The page of files to be converted into rows
+     * @param firstId
+     *  The number of the first row
+     * @return
+     *  The rows of the file list table
+     */
+    public static String createFileListRows(List<TaskFile> fileList, int firstId) {
+        StringBuilder rows = new StringBuilder();
 
-        int id = 1;
+        int id = firstId;
         for (TaskFile file : fileList) {
             String moduleCode = file.getParent().getParent().getParent().getModuleCode();
             String categoryName = file.getParent().getParent().getCategoryName();
             String taskDescription = file.getParent().getDescription();
             String fileName = file.getFileName();
 
-            fileListTable.append(String.format("%s%s%s%s%s%s%s%s%s\n",
+            rows.append(String.format("%s%s%s%s%s%s%s%s%s\n",
                     centraliseText(fitText(Integer.toString(id++), 4), 4), SEPARATOR,
                     centraliseText(fitText(moduleCode, 15), 15), SEPARATOR,
                     centraliseText(fitText(categoryName, 20), 20), SEPARATOR,
@@ -284,20 +340,16 @@ public class ListCreator {
             ));
         }
 
-        fileListTable.append(LIST_DIVIDER);
-        fileListTable.append(String.format("Total files: %d\n", fileList.size()));
-        fileListTable.append(LIST_DIVIDER);
-
-        return fileListTable.toString();
+        return rows.toString();
     }
 
     /**
-     * Creates the header of the task list table.
+     * Creates the header of the file list table.
      *
      * @return
-     *  The header of the task list table
+     *  The header of the file list table
      */
-    private static String createFileListTableHeader() {
+    public static String createFileListTableHeader() {
         StringBuilder header = new StringBuilder();
 
         header.append(LIST_DIVIDER);
@@ -313,6 +365,20 @@ public class ListCreator {
         return header.toString();
     }
 
+    /**
+     * Creates the footer of a list table with the total number of items in the list.
+     *
+     * @param itemName
+     *  The name of the items in the list, in plural
+     * @param total
+     *  The total number of items in the list
+     * @return
+     *  The footer of the list table
+     */
+    public static String createListTableFooter(String itemName, int total) {
+        return LIST_DIVIDER + String.format("Total %s: %d\n", itemName, total) + LIST_DIVIDER;
+    }
+
     /**
      * Adds the specified number of spaces.
      *
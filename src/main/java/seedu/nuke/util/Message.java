@@ -58,6 +58,8 @@ public class Message {
     public static final String MESSAGE_MISSING_TASK_DESCRIPTION = "Please enter a task description.\n";
     public static final String MESSAGE_MISSING_FILE_NAME = "Please enter a file name.\n";
     public static final String MESSAGE_MISSING_FILE_PATH = "Please enter a file path.\n";
+    public static final String MESSAGE_UNKNOWN_TASK_ROW_FORMAT =
+            "Sorry, only files ending with .csv, .jsonl or .ndjson can be imported or exported.\n";
     public static final String MESSAGE_MISSING_TAG_NAME = "Please enter a tag name.\n";
 
 
@@ -98,6 +100,40 @@ public class Message {
         return String.format("SUCCESS!! Task %s is created.\n", taskDescription);
     }
 
+    /**
+     * Returns the message of a file that is imported to the end.
+     *
+     * @param importedCount
+     *  The number of tasks that are imported
+     * @param skippedCount
+     *  The number of rows that are skipped
+     * @return
+     *  The message of the import
+     */
+    public static String messageImportSuccess(int importedCount, int skippedCount) {
+        return String.format("SUCCESS!! %d task(s) are imported, and %d row(s) are skipped.\n",
+                importedCount, skippedCount);
+    }
+
+    /**
+     * Returns the message of a file that could not be read to the end, after some of its rows were read.
+     *
+     * @param importedCount
+     *  The number of tasks that are imported before the error
+     * @param skippedCount
+     *  The number of rows that are skipped before the error
+     * @return
+     *  The message of the partial import
+     */
+    public static String messageImportPartial(int importedCount, int skippedCount) {
+        return String.format("Only part of the file is imported: %d task(s) are imported, and %d row(s) are skipped "
+                + "before the error. The rest of the file is not imported.\n", importedCount, skippedCount);
+    }
+
+    public static String messageExportSuccess(int exportedCount, String filePath) {
+        return String.format("SUCCESS!! %d task(s) are exported into %s.\n", exportedCount, filePath);
+    }
+
     public static String messageAddFileSuccess(String fileName) {
         return String.format("SUCCESS!! File %s is added.\n", fileName);
     }
@@ -0,0 +1,83 @@
+package seedu.nuke;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.nuke.data.ModuleManager;
+import seedu.nuke.data.storage.SaveFormat;
+import seedu.nuke.data.storage.StorageManager;
+import seedu.nuke.directory.DirectoryTraverser;
+import seedu.nuke.directory.Module;
+import seedu.nuke.ui.Ui;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BatchRunnerTest {
+    @TempDir
+    Path tempDirectory;
+
+    @BeforeEach
+    void setUp() {
+        HashMap<String, String> modulesMap = new HashMap<>();
+        modulesMap.put("CS2113T", "Software Engineering & Object-Oriented Programming");
+        modulesMap.put("CS3235", "Computer Security");
+        modulesMap.put("CS2101", "Effective Communication for Computing Professionals");
+        ModuleManager.initialise(modulesMap);
+        DirectoryTraverser.setCurrentLevelToRoot();
+    }
+
+    private StorageManager createStorageManager() {
+        return new StorageManager(tempDirectory.resolve("save.txt").toString(),
+                tempDirectory.resolve("save.journal").toString(), SaveFormat.TEXT);
+    }
+
+    @Test
+    void run_commandFile_commitsEveryFewCommandsAndAtTheEnd() throws Exception {
+        StorageManager storageManager = createStorageManager();
+        storageManager.loadList();
+        String commands = "# Semester 1\n"
+                + "addm cs2113t\n"
+                + "\n"
+                + "addm cs3235\n"
+                + "addc Revision -m cs2113t\n";
+
+        int commandCount = new BatchRunner(storageManager, new Ui(), 2)
+                .run(new BufferedReader(new StringReader(commands)));
+
+        assertEquals(3, commandCount);
+        assertFalse(StorageManager.isToSave());
+        // Committed once after the first two commands, then once more at the end
+        assertTrue(Files.exists(tempDirectory.resolve("save.txt")));
+        assertTrue(Files.exists(tempDirectory.resolve("save.txt.1")));
+        assertFalse(Files.exists(tempDirectory.resolve("save.txt.2")));
+        assertFalse(Files.exists(tempDirectory.resolve("save.journal")));
+
+        createStorageManager().loadList();
+        assertEquals(2, ModuleManager.getModuleList().size());
+        assertEquals("Revision", ModuleManager.getCategory("CS2113T", "Revision").getCategoryName());
+    }
+
+    @Test
+    void run_journalWithRecords_foldedIntoCommittedList() throws Exception {
+        StorageManager storageManager = createStorageManager();
+        storageManager.loadList();
+        ModuleManager.add(new Module("CS2101"));
+        storageManager.saveList();
+        assertTrue(Files.exists(tempDirectory.resolve("save.journal")));
+
+        new BatchRunner(storageManager, new Ui(), 0).run(new BufferedReader(new StringReader("addm cs3235\n")));
+
+        assertFalse(Files.exists(tempDirectory.resolve("save.journal")));
+        createStorageManager().loadList();
+        assertTrue(ModuleManager.contains("CS2101"));
+        assertTrue(ModuleManager.contains("CS3235"));
+    }
+}
@@ -0,0 +1,122 @@
+package seedu.nuke.bench;
+
+import seedu.nuke.directory.Category;
+import seedu.nuke.directory.Module;
+import seedu.nuke.directory.Task;
+import seedu.nuke.directory.TaskFile;
+import seedu.nuke.util.DateTime;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Random;
+
+/**
+ * Generates the same <b>Module List</b> for the same sizes every time, for the benchmarks to work on.
+ * <br> The lists are built without going through the <b>Module Manager</b>, so none of its indexes is touched.
+ */
+class BenchmarkData {
+    private static final String[] CATEGORY_NAMES = {"Lecture", "Tutorial", "Assignment", "Lab", "Project",
+        "Quiz", "Reading", "Exam", "Revision", "Consultation"};
+    private static final LocalDate FIRST_DATE = LocalDate.of(2020, 1, 1);
+
+    /**
+     * Creates a Module List with the specified numbers of modules, categories in each module and tasks in each
+     * category. Each task has a file and a tag, and most of the tasks have a deadline.
+     *
+     * @param moduleCount
+     *  The number of modules
+     * @param categoryCount
+     *  The number of categories in each module, at most the number of category names
+     * @param taskCount
+     *  The number of tasks in each category
+     * @return
+     *  The created Module List
+     */
+    static ArrayList<Module> createModuleList(int moduleCount, int categoryCount, int taskCount) {
+        Random random = new Random(2113);
+        ArrayList<Module> moduleList = new ArrayList<>();
+        for (int i = 0; i < moduleCount; ++i) {
+            Module module = new Module(getModuleCode(i), "Module " + i, "NIL");
+            ArrayList<Category> categories = new ArrayList<>();
+            for (int j = 0; j < Math.min(categoryCount, CATEGORY_NAMES.length); ++j) {
+                Category category = new Category(module, CATEGORY_NAMES[j], j);
+                category.getTasks().loadTaskList(createTasks(category, taskCount, random));
+                categories.add(category);
+            }
+            module.getCategories().loadCategoryList(categories);
+            moduleList.add(module);
+        }
+        return moduleList;
+    }
+
+    /**
+     * Creates the specified number of tasks in the specified category, in the same way as the tasks of a created
+     * Module List. The tasks are not added to the category.
+     *
+     * @param category
+     *  The parent category of the tasks
+     * @param taskCount
+     *  The number of tasks
+     * @param random
+     *  The source of the deadlines, priorities, done statuses and tags of the tasks
+     * @return
+     *  The created tasks
+     */
+    static ArrayList<Task> createTasks(Category category, int taskCount, Random random) {
+        ArrayList<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < taskCount; ++i) {
+            tasks.add(createTask(category, i, random));
+        }
+        return tasks;
+    }
+
+    /**
+     * Returns the module code of the module at the specified index of a created Module List.
+     *
+     * @param moduleIndex
+     *  The index of the module
+     * @return
+     *  The module code of the module
+     */
+    static String getModuleCode(int moduleIndex) {
+        return String.format("CS%05d", moduleIndex);
+    }
+
+    /**
+     * Returns the description of the task at the specified index of a category in a created Module List.
+     *
+     * @param taskIndex
+     *  The index of the task
+     * @return
+     *  The description of the task
+     */
+    static String getTaskDescription(int taskIndex) {
+        return "Task " + taskIndex;
+    }
+
+    static String getCategoryName(int categoryIndex) {
+        return CATEGORY_NAMES[categoryIndex];
+    }
+
+    private static Task createTask(Category category, int taskIndex, Random random) {
+        DateTime deadline;
+        if (random.nextInt(10) == 0) {
+            deadline = new DateTime();
+        } else {
+            LocalDate date = FIRST_DATE.plusDays(random.nextInt(1000));
+            LocalTime time = (random.nextInt(4) == 0) ? null : LocalTime.of(random.nextInt(24), random.nextInt(60));
+            deadline = new DateTime(date, time);
+        }
+        ArrayList<String> tags = new ArrayList<>();
+        tags.add("tag" + random.nextInt(50));
+        Task task = new Task(category, getTaskDescription(taskIndex), deadline, random.nextInt(10),
+                random.nextBoolean(), tags);
+
+        ArrayList<TaskFile> files = new ArrayList<>();
+        String fileName = "notes" + taskIndex + ".pdf";
+        files.add(new TaskFile(task, fileName, "data/files/" + fileName, "C:/Users/nuke/" + fileName));
+        task.getFiles().loadFileList(files);
+        return task;
+    }
+}
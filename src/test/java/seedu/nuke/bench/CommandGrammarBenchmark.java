@@ -0,0 +1,95 @@
+package seedu.nuke.bench;
+
+import seedu.nuke.parser.CommandGrammar;
+
+import java.util.regex.Pattern;
+
+import static seedu.nuke.parser.CommandGrammar.ALL_GROUP;
+import static seedu.nuke.parser.CommandGrammar.ALL_GROUP_SECOND;
+import static seedu.nuke.parser.CommandGrammar.CATEGORY_GROUP;
+import static seedu.nuke.parser.CommandGrammar.EXACT_GROUP;
+import static seedu.nuke.parser.CommandGrammar.MODULE_GROUP;
+import static seedu.nuke.parser.CommandGrammar.attribute;
+import static seedu.nuke.parser.CommandGrammar.flag;
+import static seedu.nuke.parser.CommandGrammar.identifier;
+import static seedu.nuke.parser.Parser.ALL_FLAG;
+import static seedu.nuke.parser.Parser.CATEGORY_PREFIX;
+import static seedu.nuke.parser.Parser.EXACT_FLAG;
+import static seedu.nuke.parser.Parser.MODULE_PREFIX;
+
+/**
+ * Measures the time taken per character to match adversarial parameters, which cannot be matched, with the
+ * {@link CommandGrammar} as the parameters grow, and with the regex it replaced while the regex can still cope.
+ * <p></p>
+ * This is not a test, so it is not run by <code>gradle test</code>. Run its <code>main</code> method from the test
+ * classpath. The time per character of the grammar should stay about the same as the parameters grow.
+ */
+public class CommandGrammarBenchmark {
+    private static final String[] UNITS = {" ab", " a-b", " -m ab", " ab\t\t\t\t", " -m", " -ab"};
+    private static final int[] GRAMMAR_REPEATS = {20000, 80000, 320000};
+    private static final int[] REGEX_REPEATS = {50, 100, 200};
+    private static final int ROUNDS = 20;
+
+    private static final CommandGrammar TASK_GRAMMAR = new CommandGrammar(identifier(),
+            attribute(MODULE_GROUP, MODULE_PREFIX), attribute(CATEGORY_GROUP, CATEGORY_PREFIX),
+            flag(ALL_GROUP, ALL_FLAG), flag(EXACT_GROUP, EXACT_FLAG), flag(ALL_GROUP_SECOND, ALL_FLAG));
+    private static final Pattern TASK_REGEX = Pattern.compile(
+            "(?<identifier>(?:\\s+\\w\\S*)*)"
+            + "(?<moduleCode>(?:\\s+-m(?:\\s+\\w\\S*)+)?)"
+            + "(?<categoryName>(?:\\s+-c(?:\\s+\\w\\S*)+)?)"
+            + "(?<all>(?:\\s+-a)?)"
+            + "(?<exact>(?:\\s+-e)?)"
+            + "(?<allSecond>(?:\\s+-a)?)"
+            + "(?<invalid>.*)");
+
+    /**
+     * Runs the benchmark and prints the time per character of the grammar and of the regex for each length of the
+     * parameters.
+     *
+     * @param args
+     *  Not used, as the lengths of the parameters are fixed
+     */
+    public static void main(String[] args) {
+        for (String unit : UNITS) {
+            StringBuilder line = new StringBuilder(String.format("\"%s\"", unit.replace("\t", "\\t")));
+            for (int repeats : GRAMMAR_REPEATS) {
+                String parameters = createParameters(unit, repeats);
+                double time = timePerCharacter(parameters, () -> TASK_GRAMMAR.match(parameters).matches());
+                line.append(String.format(" | grammar x %d: %.1f ns", repeats, time));
+            }
+            for (int repeats : REGEX_REPEATS) {
+                String parameters = createParameters(unit, repeats);
+                double time = timePerCharacter(parameters, () -> TASK_REGEX.matcher(parameters).matches());
+                line.append(String.format(" | regex x %d: %.1f ns", repeats, time));
+            }
+            System.out.println(line.append(" per character"));
+        }
+    }
+
+    private static String createParameters(String unit, int repeats) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < repeats; ++i) {
+            builder.append(unit);
+        }
+        // The line break at the end cannot be matched, which made the regexes try every other split
+        return builder.append("\n").toString();
+    }
+
+    private static double timePerCharacter(String parameters, Matching matching) {
+        // Warm up before timing
+        for (int i = 0; i < 5; ++i) {
+            matching.matches();
+        }
+        long startTime = System.nanoTime();
+        for (int i = 0; i < ROUNDS; ++i) {
+            if (matching.matches()) {
+                throw new AssertionError("Adversarial parameters should not be matched");
+            }
+        }
+        return (double) (System.nanoTime() - startTime) / ROUNDS / parameters.length();
+    }
+
+    private interface Matching {
+        boolean matches();
+    }
+}
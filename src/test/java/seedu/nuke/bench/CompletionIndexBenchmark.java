@@ -0,0 +1,104 @@
+package seedu.nuke.bench;
+
+import seedu.nuke.data.CompletionIndex;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+
+/**
+ * Measures how long the {@link CompletionIndex} takes to answer each keystroke while module codes are typed into
+ * a catalogue of the size of the NUS catalogue, against going through the whole catalogue for every keystroke.
+ * <p></p>
+ * This is not a test, so it is not run by <code>gradle test</code>. Run its <code>main</code> method from the test
+ * classpath, optionally with the number of module codes in the catalogue as the argument.
+ */
+public class CompletionIndexBenchmark {
+    private static final int LIMIT = 10;
+    private static final int DEFAULT_CATALOGUE_SIZE = 12000;
+    private static final int TYPED_CODE_COUNT = 500;
+    private static final String[] FACULTIES = {"CS", "CG", "MA", "ST", "EE", "IS", "GER", "GEQ", "LAJ", "ACC"};
+
+    /**
+     * Runs the benchmark and prints the time taken to build the index, and the average and worst times per keystroke
+     * with the index and with the scan.
+     *
+     * @param args
+     *  The number of module codes in the catalogue, or none for 12k module codes
+     */
+    public static void main(String[] args) {
+        int catalogueSize = (args.length > 0) ? Integer.parseInt(args[0]) : DEFAULT_CATALOGUE_SIZE;
+        ArrayList<String> moduleCodes = createModuleCodes(catalogueSize);
+        Predicate<String> isShown = moduleCode -> true;
+        List<String> typedCodes = moduleCodes.subList(0, Math.min(TYPED_CODE_COUNT, moduleCodes.size()));
+
+        long startTime = System.nanoTime();
+        CompletionIndex index = new CompletionIndex(moduleCodes);
+        System.out.printf("Built the index of %d module codes in %.1f ms%n",
+                index.size(), (System.nanoTime() - startTime) / 1e6);
+
+        // Warm up before timing
+        typeCodes(typedCodes, keyword -> index.findFirst(keyword, LIMIT, isShown));
+        typeCodes(typedCodes, keyword -> findFirstByScanning(moduleCodes, keyword, isShown));
+
+        report("Index", typedCodes, keyword -> index.findFirst(keyword, LIMIT, isShown));
+        report("Scanning", typedCodes, keyword -> findFirstByScanning(moduleCodes, keyword, isShown));
+    }
+
+    private static void report(String name, List<String> typedCodes, Keystroke keystroke) {
+        long[] times = typeCodes(typedCodes, keystroke);
+        long totalTime = 0;
+        long worstTime = 0;
+        for (long time : times) {
+            totalTime += time;
+            worstTime = Math.max(worstTime, time);
+        }
+        System.out.printf("%s: %d keystrokes, %.1f us on average, %.1f us at worst%n",
+                name, times.length, totalTime / 1000.0 / times.length, worstTime / 1000.0);
+    }
+
+    private static long[] typeCodes(List<String> typedCodes, Keystroke keystroke) {
+        int keystrokeCount = 0;
+        for (String typedCode : typedCodes) {
+            keystrokeCount += typedCode.length();
+        }
+        long[] times = new long[keystrokeCount];
+        int count = 0;
+        for (String typedCode : typedCodes) {
+            for (int length = 1; length <= typedCode.length(); ++length) {
+                long startTime = System.nanoTime();
+                keystroke.type(typedCode.substring(0, length));
+                times[count++] = System.nanoTime() - startTime;
+            }
+        }
+        return times;
+    }
+
+    private static ArrayList<String> createModuleCodes(int count) {
+        Random random = new Random(2113);
+        TreeSet<String> moduleCodes = new TreeSet<>();
+        while (moduleCodes.size() < count) {
+            String suffix = (random.nextInt(3) == 0) ? String.valueOf((char) ('A' + random.nextInt(26))) : "";
+            moduleCodes.add(FACULTIES[random.nextInt(FACULTIES.length)] + (1000 + random.nextInt(9000)) + suffix);
+        }
+        return new ArrayList<>(moduleCodes);
+    }
+
+    private static List<String> findFirstByScanning(List<String> sortedNames, String keyword,
+            Predicate<String> isShown) {
+        String lowerKeyword = keyword.toLowerCase();
+        ArrayList<String> foundNames = new ArrayList<>();
+        for (String name : sortedNames) {
+            if (foundNames.size() < LIMIT && name.toLowerCase().contains(lowerKeyword) && isShown.test(name)) {
+                foundNames.add(name);
+            }
+        }
+        return foundNames;
+    }
+
+    private interface Keystroke {
+        List<String> type(String keyword);
+    }
+}
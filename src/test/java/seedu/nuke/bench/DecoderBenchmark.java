@@ -0,0 +1,115 @@
+package seedu.nuke.bench;
+
+import seedu.nuke.data.storage.Decoder;
+import seedu.nuke.data.storage.Encoder;
+import seedu.nuke.directory.Category;
+import seedu.nuke.directory.Module;
+import seedu.nuke.exception.CorruptedFileException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+
+/**
+ * Measures how long the text save file decoder takes to decode generated save files of 10k, 100k and 1M tasks,
+ * against the {@link LegacyDecoder} that split every line with a regex.
+ * <p></p>
+ * This is not a test, so it is not run by <code>gradle test</code>. Run its <code>main</code> method from the test
+ * classpath, optionally with the numbers of tasks as the arguments. The 1M-task file needs a heap of about 2 GB,
+ * e.g. <code>-Xmx2g</code>.
+ */
+public class DecoderBenchmark {
+    private static final int[] DEFAULT_TASK_COUNTS = {10_000, 100_000, 1_000_000};
+    private static final int MODULE_COUNT = 100;
+    private static final int CATEGORY_COUNT = 4;
+
+    /**
+     * Runs the benchmark and prints the decoding times of both decoders for each number of tasks.
+     *
+     * @param args
+     *  The numbers of tasks in the save files to decode, or none for 10k, 100k and 1M tasks
+     * @throws IOException
+     *  If there is an error writing or reading a generated save file
+     * @throws CorruptedFileException
+     *  If a generated save file cannot be decoded
+     */
+    public static void main(String[] args) throws IOException, CorruptedFileException {
+        int[] taskCounts = DEFAULT_TASK_COUNTS;
+        if (args.length > 0) {
+            taskCounts = new int[args.length];
+            for (int i = 0; i < args.length; ++i) {
+                taskCounts[i] = Integer.parseInt(args[i]);
+            }
+        }
+
+        for (int taskCount : taskCounts) {
+            Path saveFile = createSaveFile(taskCount);
+            try {
+                int decodedTaskCount = countTasks(decodeWithDecoder(saveFile));
+                if (decodedTaskCount != countTasks(decodeWithLegacyDecoder(saveFile))) {
+                    throw new AssertionError("The decoders should decode the same number of tasks");
+                }
+                int rounds = Math.max(1, Math.min(5, 1_000_000 / taskCount));
+                System.out.printf("%d tasks, %.1f MB: legacy %.1f ms, current %.1f ms%n",
+                        decodedTaskCount, Files.size(saveFile) / 1e6,
+                        time(saveFile, rounds, true), time(saveFile, rounds, false));
+            } finally {
+                Files.delete(saveFile);
+            }
+        }
+    }
+
+    private static Path createSaveFile(int taskCount) throws IOException {
+        int tasksPerCategory = Math.max(1, taskCount / (MODULE_COUNT * CATEGORY_COUNT));
+        ArrayList<Module> moduleList = BenchmarkData.createModuleList(MODULE_COUNT, CATEGORY_COUNT, tasksPerCategory);
+        Path saveFile = Files.createTempFile("nuke-decoder-benchmark", ".txt");
+        try (Writer writer = Files.newBufferedWriter(saveFile, Charset.defaultCharset())) {
+            new Encoder(moduleList).encodeTo(writer);
+        }
+        return saveFile;
+    }
+
+    /**
+     * Returns the average time taken to decode the save file, after decoding it once to warm up.
+     */
+    private static double time(Path saveFile, int rounds, boolean isLegacy)
+            throws IOException, CorruptedFileException {
+        decode(saveFile, isLegacy);
+        long startTime = System.nanoTime();
+        for (int i = 0; i < rounds; ++i) {
+            decode(saveFile, isLegacy);
+        }
+        return (System.nanoTime() - startTime) / 1e6 / rounds;
+    }
+
+    private static ArrayList<Module> decode(Path saveFile, boolean isLegacy)
+            throws IOException, CorruptedFileException {
+        return isLegacy ? decodeWithLegacyDecoder(saveFile) : decodeWithDecoder(saveFile);
+    }
+
+    private static ArrayList<Module> decodeWithLegacyDecoder(Path saveFile) throws IOException, CorruptedFileException {
+        try (BufferedReader reader = Files.newBufferedReader(saveFile, Charset.defaultCharset())) {
+            return new LegacyDecoder(reader).decode();
+        }
+    }
+
+    private static ArrayList<Module> decodeWithDecoder(Path saveFile) throws IOException, CorruptedFileException {
+        try (BufferedReader reader = Files.newBufferedReader(saveFile, Charset.defaultCharset())) {
+            return new Decoder(reader).decode();
+        }
+    }
+
+    private static int countTasks(ArrayList<Module> moduleList) {
+        int taskCount = 0;
+        for (Module module : moduleList) {
+            for (Category category : module.getCategories().getCategoryList()) {
+                taskCount += category.getTasks().getTaskList().size();
+            }
+        }
+        return taskCount;
+    }
+}
@@ -0,0 +1,162 @@
+package seedu.nuke.bench;
+
+import seedu.nuke.directory.Category;
+import seedu.nuke.directory.Module;
+import seedu.nuke.directory.Task;
+import seedu.nuke.directory.TaskFile;
+import seedu.nuke.exception.CorruptedFileException;
+import seedu.nuke.util.DateTime;
+import seedu.nuke.util.DateTimeFormat;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.regex.Pattern;
+
+/**
+ * A reference copy of the text save file decoder before it scanned the lines in a reusable buffer, which splits every
+ * line with a quoted regex instead, for {@link DecoderBenchmark} to compare against.
+ * <br> The decoded objects are built in the same way as the current decoder builds them, so that only the reading of
+ * the lines and the fields is compared.
+ */
+class LegacyDecoder {
+    private static final String BEGIN_MODULE_INDICATOR = "--- MODULE ---";
+    private static final String END_MODULE_INDICATOR = "--- END MODULE ---";
+    private static final String BEGIN_CATEGORY_INDICATOR = "--- CATEGORY ---";
+    private static final String END_CATEGORY_INDICATOR = "--- END CATEGORY ---";
+    private static final String BEGIN_TASK_INDICATOR = "--- TASK ---";
+    private static final String END_TASK_INDICATOR = "--- END TASK ---";
+    private static final String BEGIN_FILE_INDICATOR = "--- FILE ---";
+    private static final String END_FILE_INDICATOR = "--- END FILE ---";
+    private static final String BEGIN_TAG_INDICATOR = "--- TAG ---";
+    private static final String END_TAG_INDICATOR = "--- END TAG ---";
+    private static final String DELIMITER = " -|||- ";
+
+    private BufferedReader reader;
+
+    LegacyDecoder(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    ArrayList<Module> decode() throws CorruptedFileException, IOException {
+        ArrayList<Module> decodedModuleList = new ArrayList<>();
+        if (!BEGIN_MODULE_INDICATOR.equals(reader.readLine())) {
+            throw new CorruptedFileException();
+        }
+
+        String currentLine;
+        while ((currentLine = reader.readLine()) != null) {
+            if (currentLine.equals(END_MODULE_INDICATOR)) {
+                break;
+            }
+            decodedModuleList.add(decodeModule(currentLine.split(Pattern.quote(DELIMITER))));
+        }
+        return decodedModuleList;
+    }
+
+    private ArrayList<Category> decodeCategoryList(Module decodedModule) throws CorruptedFileException, IOException {
+        ArrayList<Category> decodedCategoryList = new ArrayList<>();
+        if (!BEGIN_CATEGORY_INDICATOR.equals(reader.readLine())) {
+            throw new CorruptedFileException();
+        }
+        String currentLine;
+        while ((currentLine = reader.readLine()) != null) {
+            if (currentLine.equals(END_CATEGORY_INDICATOR)) {
+                break;
+            }
+            try {
+                decodedCategoryList.add(decodeCategory(decodedModule, currentLine.split(Pattern.quote(DELIMITER))));
+            } catch (NumberFormatException e) {
+                throw new CorruptedFileException();
+            }
+        }
+        return decodedCategoryList;
+    }
+
+    private ArrayList<Task> decodeTaskList(Category decodedCategory) throws CorruptedFileException, IOException {
+        ArrayList<Task> decodedTaskList = new ArrayList<>();
+        if (!BEGIN_TASK_INDICATOR.equals(reader.readLine())) {
+            throw new CorruptedFileException();
+        }
+        String currentLine;
+        while ((currentLine = reader.readLine()) != null) {
+            if (currentLine.equals(END_TASK_INDICATOR)) {
+                break;
+            }
+            try {
+                decodedTaskList.add(decodeTask(decodedCategory, currentLine.split(Pattern.quote(DELIMITER))));
+            } catch (NumberFormatException | DateTimeFormat.InvalidDateTimeException e) {
+                throw new CorruptedFileException();
+            }
+        }
+        return decodedTaskList;
+    }
+
+    private ArrayList<TaskFile> decodeFileList(Task decodedTask) throws CorruptedFileException, IOException {
+        ArrayList<TaskFile> decodedTaskFileList = new ArrayList<>();
+        if (!BEGIN_FILE_INDICATOR.equals(reader.readLine())) {
+            throw new CorruptedFileException();
+        }
+        String currentLine;
+        while ((currentLine = reader.readLine()) != null) {
+            if (currentLine.equals(END_FILE_INDICATOR)) {
+                break;
+            }
+            decodedTaskFileList.add(decodeFile(decodedTask, currentLine.split(Pattern.quote(DELIMITER))));
+        }
+        return decodedTaskFileList;
+    }
+
+    private void decodeTagList(ArrayList<String> decodedTagList) throws IOException, CorruptedFileException {
+        if (!BEGIN_TAG_INDICATOR.equals(reader.readLine())) {
+            throw new CorruptedFileException();
+        }
+        String currentLine;
+        while ((currentLine = reader.readLine()) != null) {
+            if (currentLine.equals(END_TAG_INDICATOR)) {
+                break;
+            }
+            decodedTagList.add(currentLine);
+        }
+    }
+
+    private Module decodeModule(String[] moduleInformation) throws CorruptedFileException, IOException {
+        Module decodedModule = new Module(moduleInformation[0], moduleInformation[1], moduleInformation[2]);
+        decodedModule.getCategories().loadCategoryList(decodeCategoryList(decodedModule));
+        return decodedModule;
+    }
+
+    private Category decodeCategory(Module decodedModule, String[] categoryInformation)
+            throws CorruptedFileException, IOException {
+        String categoryName = categoryInformation[0];
+        int categoryPriority = Integer.parseInt(categoryInformation[1]);
+        Category decodedCategory = new Category(decodedModule, categoryName, categoryPriority);
+        decodedCategory.getTasks().loadTaskList(decodeTaskList(decodedCategory));
+        return decodedCategory;
+    }
+
+    private Task decodeTask(Category decodedCategory, String[] taskInformation)
+            throws CorruptedFileException, DateTimeFormat.InvalidDateTimeException, IOException {
+        String taskDescription = taskInformation[0];
+        boolean doneStatus;
+        if (taskInformation[1].equals("Y")) {
+            doneStatus = true;
+        } else if (taskInformation[1].equals("N")) {
+            doneStatus = false;
+        } else {
+            throw new CorruptedFileException();
+        }
+        DateTime deadline = (taskInformation[2].isEmpty()) ? new DateTime() :
+                DateTimeFormat.stringToDateTime(taskInformation[2]);
+        int taskPriority = Integer.parseInt(taskInformation[3]);
+        ArrayList<String> tags = new ArrayList<>();
+        Task decodedTask = new Task(decodedCategory, taskDescription, deadline, taskPriority, doneStatus, tags);
+        decodedTask.getFiles().loadFileList(decodeFileList(decodedTask));
+        decodeTagList(tags);
+        return decodedTask;
+    }
+
+    private TaskFile decodeFile(Task decodedTask, String[] fileInformation) {
+        return new TaskFile(decodedTask, fileInformation[0], fileInformation[1], fileInformation[2]);
+    }
+}
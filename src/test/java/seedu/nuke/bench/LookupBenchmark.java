@@ -0,0 +1,104 @@
+package seedu.nuke.bench;
+
+import seedu.nuke.data.ModuleManager;
+import seedu.nuke.directory.Category;
+import seedu.nuke.directory.Module;
+import seedu.nuke.directory.Task;
+import seedu.nuke.exception.DataNotFoundException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Random;
+
+/**
+ * Measures how long it takes to resolve the paths of tasks through the indexes of the <b>Module Manager</b> and its
+ * managers, against going through the lists at every level as the lookups did before the indexes.
+ * <br> The Module List has 1k modules of 10 categories each, and the first category of every module, in which the
+ * tasks are looked up, has 1k tasks.
+ * <p></p>
+ * This is not a test, so it is not run by <code>gradle test</code>. Run its <code>main</code> method from the test
+ * classpath, optionally with the numbers of modules, tasks per looked-up category and lookups as the arguments.
+ */
+public class LookupBenchmark {
+    private static final int CATEGORY_COUNT = 10;
+
+    /**
+     * Runs the benchmark and prints the total times of the indexed and the scanning lookups.
+     *
+     * @param args
+     *  The number of modules, the number of tasks in each looked-up category and the number of lookups, in that
+     *  order, each of which defaults to 1k, 1k and 100k if left out
+     * @throws DataNotFoundException
+     *  If a task that was generated is not found through the indexes
+     */
+    public static void main(String[] args) throws DataNotFoundException {
+        int moduleCount = (args.length > 0) ? Integer.parseInt(args[0]) : 1000;
+        int taskCount = (args.length > 1) ? Integer.parseInt(args[1]) : 1000;
+        int lookupCount = (args.length > 2) ? Integer.parseInt(args[2]) : 100_000;
+
+        ArrayList<Module> moduleList = BenchmarkData.createModuleList(moduleCount, CATEGORY_COUNT, 0);
+        Random random = new Random(2113);
+        for (Module module : moduleList) {
+            Category category = module.getCategories().getCategoryList().get(0);
+            category.getTasks().loadTaskList(BenchmarkData.createTasks(category, taskCount, random));
+        }
+        ModuleManager.initialise(new HashMap<>());
+        ModuleManager.setModuleList(moduleList);
+
+        String categoryName = BenchmarkData.getCategoryName(0);
+        String[] moduleCodes = new String[lookupCount];
+        String[] taskDescriptions = new String[lookupCount];
+        for (int i = 0; i < lookupCount; ++i) {
+            // Module codes are typed in any case
+            moduleCodes[i] = BenchmarkData.getModuleCode(random.nextInt(moduleCount)).toLowerCase();
+            taskDescriptions[i] = BenchmarkData.getTaskDescription(random.nextInt(taskCount));
+        }
+
+        // Warm up before timing, and check that both lookups find the same tasks
+        for (int i = 0; i < Math.min(lookupCount, 100_000); ++i) {
+            Task task = ModuleManager.getTask(moduleCodes[i], categoryName, taskDescriptions[i]);
+            if (task != findTaskByScanning(moduleList, moduleCodes[i], categoryName, taskDescriptions[i])) {
+                throw new AssertionError("Both lookups should find the same task");
+            }
+        }
+
+        long startTime = System.nanoTime();
+        for (int i = 0; i < lookupCount; ++i) {
+            ModuleManager.getTask(moduleCodes[i], categoryName, taskDescriptions[i]);
+        }
+        double indexTime = (System.nanoTime() - startTime) / 1e9;
+
+        startTime = System.nanoTime();
+        for (int i = 0; i < lookupCount; ++i) {
+            findTaskByScanning(moduleList, moduleCodes[i], categoryName, taskDescriptions[i]);
+        }
+        double scanTime = (System.nanoTime() - startTime) / 1e9;
+
+        System.out.printf("%d lookups over %d modules x %d categories (%d tasks in each looked-up category): "
+                + "indexed %.2f s, scanning %.2f s%n",
+                lookupCount, moduleCount, CATEGORY_COUNT, taskCount, indexTime, scanTime);
+    }
+
+    /**
+     * Finds the task in the same way as the lookups did before the indexes, going through the list at every level.
+     */
+    private static Task findTaskByScanning(ArrayList<Module> moduleList, String moduleCode, String categoryName,
+            String taskDescription) {
+        for (Module module : moduleList) {
+            if (!module.isSameModule(moduleCode)) {
+                continue;
+            }
+            for (Category category : module.getCategories().getCategoryList()) {
+                if (!category.isSameCategory(categoryName)) {
+                    continue;
+                }
+                for (Task task : category.getTasks().getTaskList()) {
+                    if (task.isSameTask(taskDescription)) {
+                        return task;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+}
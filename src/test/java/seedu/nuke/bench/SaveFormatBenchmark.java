@@ -0,0 +1,119 @@
+package seedu.nuke.bench;
+
+import seedu.nuke.data.storage.BinaryDecoder;
+import seedu.nuke.data.storage.BinaryEncoder;
+import seedu.nuke.data.storage.Decoder;
+import seedu.nuke.data.storage.Encoder;
+import seedu.nuke.data.storage.SaveFormat;
+import seedu.nuke.directory.Module;
+import seedu.nuke.exception.CorruptedFileException;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+
+/**
+ * Measures the size of the save file, and how many tasks are saved and loaded per second, in the text and the
+ * binary save formats, for generated Module Lists of 10k and 100k tasks.
+ * <p></p>
+ * This is not a test, so it is not run by <code>gradle test</code>. Run its <code>main</code> method from the test
+ * classpath, optionally with the numbers of tasks as the arguments. Only the encoding and decoding are timed, without
+ * the forcing of the file to the disk that the Storage Manager does when saving.
+ */
+public class SaveFormatBenchmark {
+    private static final int[] DEFAULT_TASK_COUNTS = {10_000, 100_000};
+    private static final int MODULE_COUNT = 100;
+    private static final int CATEGORY_COUNT = 4;
+    private static final int ROUNDS = 5;
+
+    /**
+     * Runs the benchmark and prints the file sizes and the save and load throughputs of both formats for each
+     * number of tasks.
+     *
+     * @param args
+     *  The numbers of tasks in the Module Lists to save and load, or none for 10k and 100k tasks
+     * @throws IOException
+     *  If there is an error writing or reading a save file
+     * @throws CorruptedFileException
+     *  If a save file cannot be decoded
+     */
+    public static void main(String[] args) throws IOException, CorruptedFileException {
+        int[] taskCounts = DEFAULT_TASK_COUNTS;
+        if (args.length > 0) {
+            taskCounts = new int[args.length];
+            for (int i = 0; i < args.length; ++i) {
+                taskCounts[i] = Integer.parseInt(args[i]);
+            }
+        }
+
+        for (int taskCount : taskCounts) {
+            int tasksPerCategory = Math.max(1, taskCount / (MODULE_COUNT * CATEGORY_COUNT));
+            ArrayList<Module> moduleList = BenchmarkData.createModuleList(MODULE_COUNT, CATEGORY_COUNT,
+                    tasksPerCategory);
+            int actualTaskCount = MODULE_COUNT * CATEGORY_COUNT * tasksPerCategory;
+            for (SaveFormat saveFormat : SaveFormat.values()) {
+                report(saveFormat, moduleList, actualTaskCount);
+            }
+        }
+    }
+
+    private static void report(SaveFormat saveFormat, ArrayList<Module> moduleList, int taskCount)
+            throws IOException, CorruptedFileException {
+        Path saveFile = Files.createTempFile("nuke-save-format-benchmark", ".save");
+        try {
+            // Warm up before timing
+            save(saveFormat, moduleList, saveFile);
+            load(saveFormat, saveFile);
+
+            long startTime = System.nanoTime();
+            for (int i = 0; i < ROUNDS; ++i) {
+                save(saveFormat, moduleList, saveFile);
+            }
+            double saveTime = (System.nanoTime() - startTime) / 1e9 / ROUNDS;
+
+            startTime = System.nanoTime();
+            for (int i = 0; i < ROUNDS; ++i) {
+                load(saveFormat, saveFile);
+            }
+            double loadTime = (System.nanoTime() - startTime) / 1e9 / ROUNDS;
+
+            System.out.printf("%s, %d tasks: %.2f MB, saved at %.0f tasks/s, loaded at %.0f tasks/s%n",
+                    saveFormat, taskCount, Files.size(saveFile) / 1e6, taskCount / saveTime, taskCount / loadTime);
+        } finally {
+            Files.delete(saveFile);
+        }
+    }
+
+    private static void save(SaveFormat saveFormat, ArrayList<Module> moduleList, Path saveFile)
+            throws IOException {
+        if (saveFormat == SaveFormat.BINARY) {
+            try (OutputStream out = Files.newOutputStream(saveFile)) {
+                new BinaryEncoder(moduleList).encodeTo(out);
+            }
+        } else {
+            try (Writer writer = Files.newBufferedWriter(saveFile, Charset.defaultCharset())) {
+                new Encoder(moduleList).encodeTo(writer);
+            }
+        }
+    }
+
+    private static ArrayList<Module> load(SaveFormat saveFormat, Path saveFile)
+            throws IOException, CorruptedFileException {
+        if (saveFormat == SaveFormat.BINARY) {
+            try (InputStream in = new BufferedInputStream(Files.newInputStream(saveFile))) {
+                return new BinaryDecoder(in).decode();
+            }
+        } else {
+            try (BufferedReader reader = Files.newBufferedReader(saveFile, Charset.defaultCharset())) {
+                return new Decoder(reader).decode();
+            }
+        }
+    }
+}
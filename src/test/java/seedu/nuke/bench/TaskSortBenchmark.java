@@ -0,0 +1,69 @@
+package seedu.nuke.bench;
+
+import seedu.nuke.data.ModuleManager;
+import seedu.nuke.directory.Module;
+import seedu.nuke.directory.Task;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+
+/**
+ * Measures how long {@link ModuleManager#sortAllTasks()} takes to sort 100k tasks by their cached deadline sort keys,
+ * against sorting the same tasks by the deadlines formatted as strings on every comparison, as it did before.
+ * <p></p>
+ * This is not a test, so it is not run by <code>gradle test</code>. Run its <code>main</code> method from the test
+ * classpath, optionally with the number of tasks as the argument.
+ */
+public class TaskSortBenchmark {
+    private static final int MODULE_COUNT = 100;
+    private static final int CATEGORY_COUNT = 4;
+    private static final int ROUNDS = 5;
+
+    // The order the tasks were sorted in before the sort keys
+    private static final Comparator<Task> SORT_FORMAT_ORDER = (t1, t2) -> {
+        String t1Deadline = t1.getDeadline().isPresent() ? t1.getDeadline().getDateTimeInSortFormat() : "";
+        String t2Deadline = t2.getDeadline().isPresent() ? t2.getDeadline().getDateTimeInSortFormat() : "";
+        return t1Deadline.compareToIgnoreCase(t2Deadline);
+    };
+
+    /**
+     * Runs the benchmark and prints the average sorting times with the sort keys and with the sort format strings.
+     *
+     * @param args
+     *  The number of tasks to sort, or none for 100k tasks
+     */
+    public static void main(String[] args) {
+        int taskCount = (args.length > 0) ? Integer.parseInt(args[0]) : 100_000;
+        int tasksPerCategory = Math.max(1, taskCount / (MODULE_COUNT * CATEGORY_COUNT));
+        ArrayList<Module> moduleList = BenchmarkData.createModuleList(MODULE_COUNT, CATEGORY_COUNT, tasksPerCategory);
+        ModuleManager.initialise(new HashMap<>());
+        ModuleManager.setModuleList(moduleList);
+        ArrayList<Task> allTasks = new ArrayList<>(ModuleManager.getAllTasks());
+
+        // Warm up before timing, and check that both orders are the same
+        ArrayList<Task> sortedTasks = ModuleManager.sortAllTasks();
+        ArrayList<Task> tasksInSortFormatOrder = new ArrayList<>(allTasks);
+        tasksInSortFormatOrder.sort(SORT_FORMAT_ORDER);
+        for (int i = 0; i < sortedTasks.size(); ++i) {
+            if (SORT_FORMAT_ORDER.compare(sortedTasks.get(i), tasksInSortFormatOrder.get(i)) != 0) {
+                throw new AssertionError("Both orders should sort the deadlines in the same way");
+            }
+        }
+
+        long startTime = System.nanoTime();
+        for (int i = 0; i < ROUNDS; ++i) {
+            ModuleManager.sortAllTasks();
+        }
+        double sortKeyTime = (System.nanoTime() - startTime) / 1e6 / ROUNDS;
+
+        startTime = System.nanoTime();
+        for (int i = 0; i < ROUNDS; ++i) {
+            new ArrayList<>(allTasks).sort(SORT_FORMAT_ORDER);
+        }
+        double sortFormatTime = (System.nanoTime() - startTime) / 1e6 / ROUNDS;
+
+        System.out.printf("Sorting %d tasks: sort keys %.1f ms, sort format strings %.1f ms%n",
+                allTasks.size(), sortKeyTime, sortFormatTime);
+    }
+}
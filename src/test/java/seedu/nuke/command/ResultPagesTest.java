@@ -0,0 +1,63 @@
+package seedu.nuke.command;
+
+import org.junit.jupiter.api.Test;
+import seedu.nuke.directory.Module;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ResultPagesTest {
+    private static final Comparator<Module> BY_TITLE = Comparator.comparing(Module::getTitle);
+
+    private ArrayList<Module> createModules(int count) {
+        ArrayList<Module> modules = new ArrayList<>();
+        for (int i = 0; i < count; ++i) {
+            // Titles repeat so that the order of equal modules is checked too
+            modules.add(new Module(String.format("CS%04d", i), String.format("Title %d", (i * 37) % 11), ""));
+        }
+        return modules;
+    }
+
+    @Test
+    public void getPage_firstPage_sameAsSortedList() {
+        ArrayList<Module> modules = createModules(3 * ResultPages.PAGE_SIZE + 7);
+        ResultPages<Module> pages = new ResultPages<>(modules, BY_TITLE);
+        ArrayList<Module> sortedModules = new ArrayList<>(modules);
+        sortedModules.sort(BY_TITLE);
+
+        assertEquals(4, pages.countPages());
+        assertEquals(sortedModules.subList(0, ResultPages.PAGE_SIZE), pages.getPage(0));
+    }
+
+    @Test
+    public void getPage_allPages_sameAsSortedList() {
+        ArrayList<Module> modules = createModules(3 * ResultPages.PAGE_SIZE + 7);
+        ResultPages<Module> pages = new ResultPages<>(modules, BY_TITLE);
+        ArrayList<Module> sortedModules = new ArrayList<>(modules);
+        sortedModules.sort(BY_TITLE);
+
+        ArrayList<Module> shownModules = new ArrayList<>();
+        for (int pageIndex = 0; pageIndex < pages.countPages(); ++pageIndex) {
+            assertEquals(shownModules.size(), pages.getFirstIndex(pageIndex));
+            shownModules.addAll(pages.getPage(pageIndex));
+        }
+        assertEquals(sortedModules, shownModules);
+        assertEquals(sortedModules, pages.getAll());
+        assertEquals(7, pages.getPage(3).size());
+    }
+
+    @Test
+    public void getPage_resultsInOrder_notReordered() {
+        ArrayList<Module> modules = createModules(ResultPages.PAGE_SIZE + 1);
+        ResultPages<Module> pages = new ResultPages<>(modules);
+        modules.clear();
+
+        List<Module> firstPage = pages.getPage(0);
+        assertEquals(ResultPages.PAGE_SIZE + 1, pages.size());
+        assertEquals("CS0000", firstPage.get(0).getModuleCode());
+        assertEquals("CS0050", pages.getPage(1).get(0).getModuleCode());
+    }
+}
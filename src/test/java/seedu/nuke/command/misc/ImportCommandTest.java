@@ -0,0 +1,179 @@
+package seedu.nuke.command.misc;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.nuke.Executor;
+import seedu.nuke.data.ModuleManager;
+import seedu.nuke.data.storage.TaskRow;
+import seedu.nuke.data.storage.TaskRowFormat;
+import seedu.nuke.data.storage.TaskRowWriter;
+import seedu.nuke.directory.DirectoryTraverser;
+import seedu.nuke.directory.Task;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ImportCommandTest {
+    @TempDir
+    Path tempDirectory;
+
+    @BeforeEach
+    void setUp() {
+        HashMap<String, String> modulesMap = new HashMap<>();
+        modulesMap.put("CS2113T", "Software Engineering & Object-Oriented Programming");
+        modulesMap.put("CS3235", "Computer Security");
+        ModuleManager.initialise(modulesMap);
+        DirectoryTraverser.setCurrentLevelToRoot();
+    }
+
+    private Path writeFile(String fileName, String content) throws Exception {
+        Path file = tempDirectory.resolve(fileName);
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    @Test
+    void execute_csvFile_addsValidRowsAndReportsInvalidOnes() throws Exception {
+        Path file = writeFile("tasks.csv", "Task,Module,Category,Deadline,Priority,Tags,Done\n"
+                + "Weekly Quiz,cs2113t,Lecture,06/06/2020 11:59PM,5,urgent;graded,true\n"
+                + "\"Read notes, chapter 1\",CS2113T,Revision,,,,\n"
+                + "Buffer overflow lab,CS3235,Lab,,25,,\n"
+                + "Essay,CS9999,Essay,,,,\n"
+                + "Weekly Quiz,CS2113T,Lecture,,,,\n"
+                + "\"Unclosed quote,CS2113T,Lecture,,,,\n"
+                + "Too few fields,CS2113T\n"
+                + "Buffer overflow lab,CS3235,Lab,,,,maybe\n");
+
+        String result = new ImportCommand(file.toString(), TaskRowFormat.CSV).execute().getFeedbackToUser();
+
+        assertTrue(result.contains("2 task(s) are imported, and 6 row(s) are skipped"));
+        assertTrue(result.contains("Line 4: Alert! Priority should be a number between 0 and 20."));
+        assertTrue(result.contains("Line 5: Sorry, the module is not provided by NUS currently."));
+        assertTrue(result.contains("Line 6: Sorry, the task already exists."));
+        assertTrue(result.contains("Line 7: Sorry, a quoted field in the row is not closed."));
+        assertTrue(result.contains("Line 8: Sorry, the row has 2 field(s) instead of 7."));
+        assertTrue(result.contains("Line 9: Sorry, the done status should be either true or false."));
+
+        Task quiz = ModuleManager.getTask("CS2113T", "Lecture", "Weekly Quiz");
+        assertTrue(quiz.isDone());
+        assertEquals(5, quiz.getPriority());
+        assertTrue(quiz.getDeadline().isPresent());
+        assertEquals(Arrays.asList("urgent", "graded"), quiz.getTags());
+        // The missing category is added, and the task takes its priority
+        Task notes = ModuleManager.getTask("CS2113T", "Revision", "Read notes, chapter 1");
+        assertEquals(0, notes.getPriority());
+        assertFalse(notes.getDeadline().isPresent());
+        // A row is checked as a whole, so no module or category is added for an invalid row
+        assertFalse(ModuleManager.contains("CS3235"));
+    }
+
+    @Test
+    void execute_exportedJsonLines_importedIntoEmptyList() throws Exception {
+        writeFile("tasks.csv", "module,category,task,priority,tags\n"
+                + "CS2113T,Lecture,\"Say \"\"hi\"\"\",3,\"a, b;c\"\n"
+                + "CS3235,Lab,Lab 1,,\n");
+        Executor.executeCommand("import " + tempDirectory.resolve("tasks.csv"));
+        assertEquals(2, ModuleManager.countAllTasks());
+
+        String result = Executor.executeCommand("export " + tempDirectory.resolve("tasks.jsonl"))
+                .getFeedbackToUser();
+        assertTrue(result.contains("2 task(s) are exported"));
+
+        ModuleManager.initialise(ModuleManager.getModulesMap());
+        result = Executor.executeCommand("import " + tempDirectory.resolve("tasks.jsonl")).getFeedbackToUser();
+        assertTrue(result.contains("2 task(s) are imported, and 0 row(s) are skipped"));
+        Task task = ModuleManager.getTask("CS2113T", "Lecture", "Say \"hi\"");
+        assertEquals(3, task.getPriority());
+        assertEquals(Arrays.asList("a, b", "c"), task.getTags());
+        assertTrue(ModuleManager.contains("CS3235"));
+    }
+
+    @Test
+    void execute_exportedCsv_sameTagsAndLineBreaksRejected() throws Exception {
+        writeFile("tasks.jsonl",
+                "{\"module\": \"CS2113T\", \"category\": \"Lecture\", \"task\": \"T1\", "
+                + "\"tags\": [\"a;b\", \"c\\\\d\", \"e\\\\;\", \"f\"]}\n"
+                + "{\"module\": \"CS2113T\", \"category\": \"Lecture\", \"task\": \"Line\\nbreak\"}\n"
+                + "{\"module\": \"CS2113T\", \"category\": \"Lecture\", \"task\": \"T2\", \"tags\": [\"g\\r\\nh\"]}\n");
+        String result = Executor.executeCommand("import " + tempDirectory.resolve("tasks.jsonl"))
+                .getFeedbackToUser();
+        assertTrue(result.contains("1 task(s) are imported, and 2 row(s) are skipped"));
+        assertTrue(result.contains("Line 2: Sorry, the names and tags in the row cannot have line breaks."));
+        assertTrue(result.contains("Line 3: Sorry, the names and tags in the row cannot have line breaks."));
+
+        Executor.executeCommand("export " + tempDirectory.resolve("tasks.csv"));
+        ModuleManager.initialise(ModuleManager.getModulesMap());
+        result = Executor.executeCommand("import " + tempDirectory.resolve("tasks.csv")).getFeedbackToUser();
+        assertTrue(result.contains("1 task(s) are imported, and 0 row(s) are skipped"));
+        assertEquals(Arrays.asList("a;b", "c\\d", "e\\;", "f"),
+                ModuleManager.getTask("CS2113T", "Lecture", "T1").getTags());
+
+        // A row that could not be read back from a CSV file is not written into it
+        TaskRowWriter writer = new TaskRowWriter(new StringWriter(), TaskRowFormat.CSV);
+        TaskRow rowWithLineBreak = new TaskRow("CS2113T", "Lecture", "Line\nbreak", "", "", new ArrayList<>(), "");
+        assertThrows(IOException.class, () -> writer.writeRow(rowWithLineBreak));
+    }
+
+    @Test
+    void execute_jsonLinesFile_reportsMalformedRows() throws Exception {
+        Path file = writeFile("tasks.jsonl",
+                "{\"module\": \"CS2113T\", \"category\": \"Tutorial\", \"task\": \"T1\", \"priority\": 2, "
+                + "\"tags\": [\"week\\u0031\"], \"done\": false}\n"
+                + "{\"module\": \"CS2113T\", \"category\": \"Tutorial\", \"task\": \"T2\", \"colour\": \"red\"}\n"
+                + "{\"module\": \"CS2113T\", \"category\": \"Tutorial\"\n"
+                + "{\"module\": \"CS2113T\", \"category\": \"Tutorial\", \"task\": \"T3\", \"deadline\": \"soon\"}\n");
+
+        String result = new ImportCommand(file.toString(), TaskRowFormat.JSON_LINES).execute().getFeedbackToUser();
+
+        assertTrue(result.contains("1 task(s) are imported, and 3 row(s) are skipped"));
+        assertTrue(result.contains("Line 2: Sorry, the field 'colour' in the row is unknown."));
+        assertTrue(result.contains("Line 3: Sorry, the row ends too early."));
+        assertTrue(result.contains("Line 4: Sorry, the deadline you entered is not in a recognised datetime format."));
+        assertEquals(Arrays.asList("week1"), ModuleManager.getTask("CS2113T", "Tutorial", "T1").getTags());
+    }
+
+    @Test
+    void execute_unreadableByteInFile_partialImportReported() throws Exception {
+        StringBuilder rows = new StringBuilder("module,category,task\n");
+        for (int i = 0; i < 1000; ++i) {
+            rows.append("CS2113T,Lecture,Task ").append(i).append('\n');
+        }
+        byte[] validRows = rows.toString().getBytes(StandardCharsets.UTF_8);
+        byte[] bytes = Arrays.copyOf(validRows, validRows.length + 1);
+        // Not a valid byte in UTF-8, so the file cannot be read past it
+        bytes[validRows.length] = (byte) 0xFF;
+        Path file = tempDirectory.resolve("tasks.csv");
+        Files.write(file, bytes);
+
+        String result = new ImportCommand(file.toString(), TaskRowFormat.CSV).execute().getFeedbackToUser();
+
+        assertTrue(result.startsWith("Oh no! There was an error in reading the file to import."));
+        assertFalse(result.contains("SUCCESS!!"));
+        int importedCount = ModuleManager.countAllTasks();
+        assertTrue(importedCount > 0);
+        assertTrue(result.contains(String.format("%d task(s) are imported, and 0 row(s) are skipped before the error",
+                importedCount)));
+    }
+
+    @Test
+    void execute_csvFileWithoutRequiredColumn_notImported() throws Exception {
+        Path file = writeFile("tasks.csv", "module,task\nCS2113T,Weekly Quiz\n");
+
+        String result = new ImportCommand(file.toString(), TaskRowFormat.CSV).execute().getFeedbackToUser();
+
+        assertTrue(result.contains("The column 'category' is missing from the header."));
+        assertEquals(0, ModuleManager.countAllTasks());
+    }
+}
@@ -0,0 +1,93 @@
+package seedu.nuke.data;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CatalogueRefresherTest {
+    private static final String MODULE_LIST = "[{\"moduleCode\":\"CS2113T\",\"title\":\"Software Engineering\"}]";
+    private static final String ENTITY_TAG = "\"v1\"";
+
+    @TempDir
+    Path tempDirectory;
+
+    private HttpServer server;
+    private AtomicInteger downloadCount;
+    private String moduleListUrl;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        downloadCount = new AtomicInteger();
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/moduleList.json", exchange -> {
+            if (ENTITY_TAG.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                exchange.sendResponseHeaders(304, -1);
+                exchange.close();
+                return;
+            }
+            downloadCount.incrementAndGet();
+            byte[] body = MODULE_LIST.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("ETag", ENTITY_TAG);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        moduleListUrl = "http://127.0.0.1:" + server.getAddress().getPort() + "/moduleList.json";
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void refresh_missingList_downloadsOnce() throws IOException {
+        Path moduleListPath = tempDirectory.resolve("moduleList.json");
+        CatalogueRefresher refresher = new CatalogueRefresher(moduleListUrl, moduleListPath);
+
+        assertTrue(refresher.refresh());
+        assertEquals(MODULE_LIST, new String(Files.readAllBytes(moduleListPath), StandardCharsets.UTF_8));
+        assertEquals(1, downloadCount.get());
+
+        ModuleCatalogue catalogue = ModuleCatalogue.open(moduleListPath);
+        assertEquals("Software Engineering", catalogue.get("CS2113T"));
+    }
+
+    @Test
+    void refresh_unchangedList_notDownloadedAgain() throws IOException {
+        Path moduleListPath = tempDirectory.resolve("moduleList.json");
+        CatalogueRefresher refresher = new CatalogueRefresher(moduleListUrl, moduleListPath);
+
+        assertTrue(refresher.refresh());
+        assertFalse(refresher.refresh());
+        assertEquals(1, downloadCount.get());
+    }
+
+    @Test
+    void refreshInBackground_missingList_runsActionAfterDownload() throws Exception {
+        Path moduleListPath = tempDirectory.resolve("moduleList.json");
+        CatalogueRefresher refresher = new CatalogueRefresher(moduleListUrl, moduleListPath);
+        AtomicInteger actionCount = new AtomicInteger();
+
+        assertTrue(refresher.refreshInBackground(actionCount::incrementAndGet).get(10, TimeUnit.SECONDS));
+        assertEquals(1, actionCount.get());
+        assertTrue(Files.exists(moduleListPath));
+    }
+}
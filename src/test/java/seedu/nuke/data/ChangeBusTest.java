@@ -0,0 +1,102 @@
+package seedu.nuke.data;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.nuke.directory.Category;
+import seedu.nuke.directory.Module;
+import seedu.nuke.directory.Task;
+import seedu.nuke.util.DateTime;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class ChangeBusTest {
+    private ArrayList<List<String>> batches;
+    private DirectoryChange.Listener listener;
+
+    @BeforeEach
+    void setUp() {
+        HashMap<String, String> modulesMap = new HashMap<>();
+        modulesMap.put("CS2113T", "Software Engineering & Object-Oriented Programming");
+        ModuleManager.initialise(modulesMap);
+        batches = new ArrayList<>();
+        listener = changes -> {
+            ArrayList<String> batch = new ArrayList<>();
+            for (DirectoryChange change : changes) {
+                batch.add(change.toString());
+            }
+            batches.add(batch);
+        };
+        ChangeBus.subscribe(listener);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ChangeBus.unsubscribe(listener);
+    }
+
+    @Test
+    void publish_outsideBatch_sentOneByOne() throws Exception {
+        Module module = new Module("CS2113T");
+        Category lecture = module.getCategories().getCategory("Lecture");
+        // Changes made before the module is in the Module List are not sent
+        lecture.getTasks().add(new Task(lecture, "Read notes", new DateTime(), 1));
+
+        ModuleManager.add(module);
+        Task quiz = new Task(lecture, "Weekly Quiz", new DateTime(), 1);
+        lecture.getTasks().add(quiz);
+        quiz.setDone(true);
+        quiz.setTag(new ArrayList<>(Arrays.asList("urgent")));
+        module.getCategories().delete(lecture);
+        quiz.setDone(false);
+        ModuleManager.setModuleList(new ArrayList<>());
+
+        assertEquals(Arrays.asList(Collections.singletonList("ADDED Module"),
+                Collections.singletonList("ADDED Task"), Collections.singletonList("DONE Task"),
+                Collections.singletonList("TAGGED Task"), Collections.singletonList("DELETED Category"),
+                Collections.singletonList("RELOADED Root")), batches);
+    }
+
+    @Test
+    void endBatch_changesInBatch_sentTogetherWithoutRepeats() throws Exception {
+        Module module = new Module("CS2113T");
+        ModuleManager.add(module);
+        Category lecture = ModuleManager.getCategory("CS2113T", "Lecture");
+        Task quiz = new Task(lecture, "Weekly Quiz", new DateTime(), 1);
+        batches.clear();
+
+        ChangeBus.beginBatch();
+        ChangeBus.beginBatch();
+        lecture.getTasks().add(quiz);
+        ChangeBus.endBatch();
+        // Editing a task also changes its deadline, which is only sent once
+        lecture.getTasks().edit(quiz, "Weekly Test", new DateTime(), 2);
+        assertEquals(0, batches.size());
+        ChangeBus.endBatch();
+
+        assertEquals(Collections.singletonList(Arrays.asList("ADDED Task", "EDITED Task")), batches);
+    }
+
+    @Test
+    void endBatch_changedModules_movedToNewVersion() throws Exception {
+        Module module = new Module("CS2113T");
+        ModuleManager.add(module);
+        long version = module.getVersion();
+
+        ChangeBus.beginBatch();
+        ModuleManager.getCategory("CS2113T", "Lecture").getTasks()
+                .add(new Task(ModuleManager.getCategory("CS2113T", "Lecture"), "Read notes", new DateTime(), 1));
+        assertEquals(version, module.getVersion());
+        ChangeBus.endBatch();
+
+        assertNotEquals(version, module.getVersion());
+        assertEquals(ModuleManager.getVersion(), module.getVersion());
+    }
+}
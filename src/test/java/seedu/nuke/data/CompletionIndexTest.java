@@ -0,0 +1,83 @@
+package seedu.nuke.data;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CompletionIndexTest {
+    private static final int LIMIT = 10;
+    private static final String[] FACULTIES = {"CS", "CG", "MA", "ST", "EE", "IS", "GER", "GEQ", "LAJ", "ACC"};
+
+    private ArrayList<String> createModuleCodes(int count) {
+        Random random = new Random(2113);
+        TreeSet<String> moduleCodes = new TreeSet<>();
+        while (moduleCodes.size() < count) {
+            String suffix = (random.nextInt(3) == 0) ? String.valueOf((char) ('A' + random.nextInt(26))) : "";
+            moduleCodes.add(FACULTIES[random.nextInt(FACULTIES.length)] + (1000 + random.nextInt(9000)) + suffix);
+        }
+        return new ArrayList<>(moduleCodes);
+    }
+
+    private List<String> findFirstByScanning(List<String> names, String keyword, Predicate<String> isShown) {
+        ArrayList<String> foundNames = new ArrayList<>();
+        for (String name : new TreeSet<>(names)) {
+            if (foundNames.size() < LIMIT && name.toLowerCase().contains(keyword.toLowerCase())
+                    && isShown.test(name)) {
+                foundNames.add(name);
+            }
+        }
+        return foundNames;
+    }
+
+    @Test
+    void findFirst_commonAndRareKeywords_sameAsScanning() {
+        ArrayList<String> moduleCodes = createModuleCodes(10000);
+        CompletionIndex index = new CompletionIndex(moduleCodes);
+        Predicate<String> isShown = moduleCode -> !moduleCode.endsWith("5");
+
+        assertEquals(10000, index.size());
+        for (String keyword : Arrays.asList("", "c", "cs", "CS2", "cs21", "2113", "113", "s1", "a", "ger1",
+                "9999", "x", "cs2113tt", "acc9")) {
+            assertEquals(findFirstByScanning(moduleCodes, keyword, isShown),
+                    index.findFirst(keyword, LIMIT, isShown), keyword);
+        }
+    }
+
+    @Test
+    void selectFirst_repeatedNames_selectedOnceInOrder() {
+        List<String> names = Arrays.asList("Tutorial", "Lecture", "Lab", "Lecture", "Assignment", "lab notes");
+
+        assertEquals(Arrays.asList("Lab", "Lecture", "Tutorial", "lab notes"),
+                CompletionIndex.selectFirst(names, "l", LIMIT));
+        assertEquals(Arrays.asList("Lab", "Lecture"), CompletionIndex.selectFirst(names, "L", 2));
+        assertEquals(Arrays.asList("Lab", "lab notes"), CompletionIndex.selectFirst(names, "LAB", LIMIT));
+    }
+
+    /**
+     * Types every character of module codes spread over a catalogue of the size of the NUS catalogue, as the user
+     * would, and checks each keystroke against going through the whole catalogue. The time taken per keystroke is
+     * measured by {@link seedu.nuke.bench.CompletionIndexBenchmark} instead.
+     */
+    @Test
+    void findFirst_typingModuleCodes_sameAsScanning() {
+        ArrayList<String> moduleCodes = createModuleCodes(12000);
+        CompletionIndex index = new CompletionIndex(moduleCodes);
+        Predicate<String> isShown = moduleCode -> !moduleCode.startsWith("CS1");
+
+        for (int i = 0; i < moduleCodes.size(); i += 97) {
+            String typedCode = moduleCodes.get(i);
+            for (int length = 1; length <= typedCode.length(); ++length) {
+                String keyword = typedCode.substring(0, length);
+                List<String> suggestions = index.findFirst(keyword, LIMIT, isShown);
+                assertEquals(findFirstByScanning(moduleCodes, keyword, isShown), suggestions, keyword);
+            }
+        }
+    }
+}
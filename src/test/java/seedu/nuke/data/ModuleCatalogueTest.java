@@ -0,0 +1,106 @@
+package seedu.nuke.data;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.nuke.directory.Module;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ModuleCatalogueTest {
+    @TempDir
+    Path tempDirectory;
+
+    private ModuleCatalogue open(String moduleList) throws IOException {
+        Path moduleListPath = tempDirectory.resolve("moduleList.json");
+        Files.write(moduleListPath, moduleList.getBytes(StandardCharsets.UTF_8));
+        return ModuleCatalogue.open(moduleListPath);
+    }
+
+    @Test
+    void open_escapedStrings_decoded() throws IOException {
+        ModuleCatalogue catalogue = open("[\n"
+                + "  {\"moduleCode\": \"CS2113T\", \"title\": \"Software Engineering \\u0026 OOP\"},\n"
+                + "  {\"moduleCode\": \"FR1101\", \"title\": \"French 1 \\u00e9t\\u00e9 \\ud83d\\ude00\"},\n"
+                + "  {\"moduleCode\": \"GE1101\", \"title\": \"Caf\u00e9 \u2603 \\\"Culture\\\" \\\\ \\/ \\n\\t\"},\n"
+                + "  {\"moduleCode\": \"EL\\u0031101\", \"title\": \"The Nature of Language\"}\n"
+                + "]");
+
+        assertEquals("Software Engineering & OOP", catalogue.get("CS2113T"));
+        assertEquals("French 1 \u00e9t\u00e9 \ud83d\ude00", catalogue.get("FR1101"));
+        assertEquals("Caf\u00e9 \u2603 \"Culture\" \\ / \n\t", catalogue.get("GE1101"));
+        assertEquals("The Nature of Language", catalogue.get("EL1101"));
+    }
+
+    @Test
+    void open_nestedObjects_onlyModulesIndexed() throws Exception {
+        ModuleCatalogue catalogue = open("[{\"title\":\"Computer Security\",\"semesterData\":[{\"moduleCode\":"
+                + "\"XX0001\",\"title\":\"Nested\"}],\"moduleCode\":\"CS3235\",\"workload\":[2,1,0,3,4]},"
+                + "{\"moduleCode\":\"CS2101\",\"description\":\"title\",\"prerequisite\":\"{\\\"moduleCode\\\": "
+                + "\\\"XX0002\\\"} [\",\"title\":\"Effective Communication\"},"
+                + "{\"moduleCode\":\"CS1010\"},{\"moduleCode\":\"CS1231\",\"title\":null},"
+                + "{\"moduleCodes\":\"XX0003\",\"titles\":\"Not a module\"}]");
+
+        // Keys in nested objects and strings that look like JSON are not taken as modules
+        assertEquals(new ArrayList<>(Arrays.asList("CS1010", "CS1231", "CS2101", "CS3235")),
+                new ArrayList<>(catalogue.keySet()));
+        assertEquals("Computer Security", catalogue.get("CS3235"));
+        assertEquals("Effective Communication", catalogue.get("CS2101"));
+        assertFalse(catalogue.containsKey("XX0001"));
+        assertFalse(catalogue.containsKey("XX0002"));
+        // Modules without a title are kept, like in the module list loaded with fastjson
+        assertTrue(catalogue.containsKey("CS1010"));
+        assertNull(catalogue.get("CS1010"));
+        assertNull(catalogue.get("CS1231"));
+        ModuleManager.initialise(catalogue);
+        ModuleManager.add(new Module("CS1010"));
+        assertTrue(ModuleManager.contains("CS1010"));
+    }
+
+    @Test
+    void get_malformedTitle_onlyThatTitleEmpty() throws IOException {
+        ModuleCatalogue catalogue = open("[{\"moduleCode\":\"CS3230\",\"title\":\"Algorithms \\uZZZZ\"},"
+                + "{\"moduleCode\":\"CS2040\",\"title\":\"Data Structures\"}]");
+
+        // Titles are only decoded when looked up, so a bad title does not stop the catalogue from opening
+        assertTrue(catalogue.containsKey("CS3230"));
+        assertEquals("", catalogue.get("CS3230"));
+        assertEquals("Data Structures", catalogue.get("CS2040"));
+    }
+
+    @Test
+    void entrySet_unsortedList_sortedByModuleCode() throws IOException {
+        ModuleCatalogue catalogue = open("[{\"moduleCode\":\"MA1521\",\"title\":\"Calculus\"},"
+                + "{\"moduleCode\":\"CS2113T\",\"title\":\"Software Engineering\"},"
+                + "{\"moduleCode\":\"CS1231\",\"title\":\"Discrete Structures\"}]");
+
+        HashMap<String, String> expectedModules = new HashMap<>();
+        expectedModules.put("CS1231", "Discrete Structures");
+        expectedModules.put("CS2113T", "Software Engineering");
+        expectedModules.put("MA1521", "Calculus");
+        assertEquals(expectedModules, catalogue);
+        assertEquals(3, catalogue.size());
+
+        ArrayList<String> moduleCodes = new ArrayList<>();
+        for (Map.Entry<String, String> entry : catalogue.entrySet()) {
+            moduleCodes.add(entry.getKey());
+        }
+        assertEquals(new ArrayList<>(Arrays.asList("CS1231", "CS2113T", "MA1521")), moduleCodes);
+
+        // Module codes are matched exactly
+        assertNull(catalogue.get("cs2113t"));
+        assertNull(catalogue.get(2113));
+        assertTrue(ModuleCatalogue.empty().isEmpty());
+    }
+}
@@ -0,0 +1,184 @@
+package seedu.nuke.data;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.nuke.directory.Category;
+import seedu.nuke.directory.Module;
+import seedu.nuke.directory.Task;
+import seedu.nuke.tag.TagQuery;
+import seedu.nuke.util.DateTime;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ModuleManagerTest {
+
+    @BeforeEach
+    void setUp() {
+        HashMap<String, String> modulesMap = new HashMap<>();
+        modulesMap.put("CS2113T", "Software Engineering & Object-Oriented Programming");
+        modulesMap.put("CS3235", "Computer Security");
+        ModuleManager.initialise(modulesMap);
+    }
+
+    @Test
+    void getModule_anyCase_foundModule() throws Exception {
+        Module module = new Module("CS2113T");
+        ModuleManager.add(module);
+
+        assertSame(module, ModuleManager.getModule("cs2113t"));
+        assertTrue(ModuleManager.contains("Cs2113T"));
+        assertThrows(ModuleManager.DuplicateModuleException.class, () -> ModuleManager.add(new Module("cs2113t")));
+    }
+
+    @Test
+    void getModule_afterEditAndDelete_followsModuleCode() throws Exception {
+        Module module = new Module("CS2113T");
+        ModuleManager.add(module);
+
+        ModuleManager.edit(module, "CS3235");
+        assertFalse(ModuleManager.contains("CS2113T"));
+        assertSame(module, ModuleManager.getModule("CS3235"));
+
+        ModuleManager.delete(module);
+        assertThrows(ModuleManager.ModuleNotFoundException.class, () -> ModuleManager.getModule("CS3235"));
+    }
+
+    @Test
+    void edit_moduleNotInModuleList_notIndexed() throws Exception {
+        Module module = new Module("CS2113T");
+        ModuleManager.add(module);
+        ModuleManager.delete(module);
+
+        ModuleManager.edit(module, "CS3235");
+        assertEquals("CS3235", module.getModuleCode());
+        assertFalse(ModuleManager.contains("CS3235"));
+        assertNull(ModuleManager.getModuleWithCode("CS3235"));
+        assertTrue(ModuleManager.filter("CS3235").isEmpty());
+    }
+
+    @Test
+    void getModule_afterSetModuleList_foundModule() throws Exception {
+        ArrayList<Module> moduleList = new ArrayList<>();
+        Module module = new Module("CS3235");
+        moduleList.add(module);
+        ModuleManager.setModuleList(moduleList);
+
+        assertSame(module, ModuleManager.getModule("cs3235"));
+        assertSame(module, ModuleManager.getCategory("CS3235", "Lecture").getParent());
+    }
+
+    @Test
+    void getAllTasks_afterChanges_followsModuleList() throws Exception {
+        Module module = new Module("CS2113T");
+        ModuleManager.add(module);
+        Category lecture = ModuleManager.getCategory("CS2113T", "Lecture");
+        Task task = new Task(lecture, "Read notes", new DateTime(), 1);
+        lecture.getTasks().add(task);
+
+        assertEquals(1, ModuleManager.countAllTasks());
+        assertTrue(ModuleManager.getAllTasks().contains(task));
+        assertThrows(UnsupportedOperationException.class, () -> ModuleManager.getAllTasks().clear());
+
+        module.getCategories().delete(lecture);
+        assertEquals(0, ModuleManager.countAllTasks());
+
+        module.getCategories().add(lecture);
+        assertEquals(1, ModuleManager.countAllTasks());
+
+        ModuleManager.delete(module);
+        assertFalse(ModuleManager.getAllTasks().contains(task));
+    }
+
+    @Test
+    void getTasksDueBetween_doneAndEditedTasks_orderedByDeadline() throws Exception {
+        Module module = new Module("CS2113T");
+        ModuleManager.add(module);
+        Category lecture = ModuleManager.getCategory("CS2113T", "Lecture");
+        LocalDate date = LocalDate.of(2020, 4, 1);
+        Task later = new Task(lecture, "Later", new DateTime(date, LocalTime.of(18, 0)), 1);
+        Task earlier = new Task(lecture, "Earlier", new DateTime(date, LocalTime.of(9, 0)), 1);
+        Task nextDay = new Task(lecture, "Next day", new DateTime(date.plusDays(1)), 1);
+        lecture.getTasks().add(later);
+        lecture.getTasks().add(earlier);
+        lecture.getTasks().add(nextDay);
+
+        assertEquals(Arrays.asList(earlier, later),
+                ModuleManager.getTasksDueBetween(date.atStartOfDay(), date.plusDays(1).atStartOfDay(), false));
+
+        earlier.setDone(true);
+        assertEquals(Arrays.asList(later),
+                ModuleManager.getTasksDueBetween(date.atStartOfDay(), date.plusDays(1).atStartOfDay(), false));
+        assertEquals(Arrays.asList(earlier, later),
+                ModuleManager.getTasksDueBetween(date.atStartOfDay(), date.plusDays(1).atStartOfDay(), true));
+
+        lecture.getTasks().edit(later, "Later", new DateTime(date.plusDays(2)), 1);
+        assertEquals(Arrays.asList(nextDay, later),
+                ModuleManager.getTasksDueBetween(date.plusDays(1).atStartOfDay(), null, false));
+        assertEquals(1, ModuleManager.countTasksDueBetween(null, date.plusDays(1).atStartOfDay(), true));
+    }
+
+    @Test
+    void filter_afterRenameAndDelete_followsTaskDescriptions() throws Exception {
+        Module module = new Module("CS2113T");
+        ModuleManager.add(module);
+        Category lecture = ModuleManager.getCategory("CS2113T", "Lecture");
+        Category tutorial = ModuleManager.getCategory("CS2113T", "Tutorial");
+        Task quiz = new Task(tutorial, "Weekly Quiz", new DateTime(), 1);
+        Task notes = new Task(lecture, "Read notes", new DateTime(), 1);
+        tutorial.getTasks().add(quiz);
+        lecture.getTasks().add(notes);
+
+        assertEquals(Arrays.asList(notes, quiz), ModuleManager.filter("cs", "", "e"));
+        assertEquals(Arrays.asList(quiz), ModuleManager.filter("", "TUT", "KLY QU"));
+        assertEquals(Arrays.asList(quiz), ModuleManager.filterExact("cs2113t", "", "weekly quiz"));
+
+        tutorial.getTasks().edit(quiz, "Weekly Test", new DateTime(), 1);
+        assertTrue(ModuleManager.filter("", "", "quiz").isEmpty());
+        assertEquals(Arrays.asList(quiz), ModuleManager.filter("", "", "test"));
+
+        module.getCategories().delete(tutorial);
+        assertTrue(ModuleManager.filter("", "", "test").isEmpty());
+        assertTrue(ModuleManager.filter("", "tutorial").isEmpty());
+        assertEquals(Arrays.asList(lecture), ModuleManager.filterExact("", "lecture"));
+    }
+
+    @Test
+    void getTasksTagged_tagQuery_followsTagChanges() throws Exception {
+        Module module = new Module("CS2113T");
+        ModuleManager.add(module);
+        Category lecture = ModuleManager.getCategory("CS2113T", "Lecture");
+        Task quiz = new Task(lecture, "Weekly Quiz", new DateTime(), 1);
+        Task notes = new Task(lecture, "Read notes", new DateTime(), 1);
+        quiz.setTag(new ArrayList<>(Arrays.asList("urgent", "Reading")));
+        lecture.getTasks().add(quiz);
+        lecture.getTasks().add(notes);
+        notes.setTag(new ArrayList<>(Arrays.asList("Urgent")));
+
+        assertEquals(new HashSet<>(Arrays.asList(quiz, notes)),
+                ModuleManager.getTasksTagged(TagQuery.parse("urgent"), true));
+        assertEquals(new HashSet<>(Arrays.asList(notes)),
+                ModuleManager.getTasksTagged(TagQuery.parse("urgent & !read"), false));
+        assertEquals(new HashSet<>(Arrays.asList(quiz)),
+                ModuleManager.getTasksTagged(TagQuery.parse("exam | READING"), true));
+
+        quiz.removeTag("Reading");
+        assertEquals(new HashSet<>(Arrays.asList(quiz, notes)),
+                ModuleManager.getTasksTagged(TagQuery.parse("urgent & !read"), false));
+
+        lecture.getTasks().delete(notes);
+        assertEquals(new HashSet<>(Arrays.asList(quiz)),
+                ModuleManager.getTasksTagged(TagQuery.parse("urgent"), false));
+    }
+}
@@ -0,0 +1,117 @@
+package seedu.nuke.data;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.nuke.directory.Category;
+import seedu.nuke.directory.Module;
+import seedu.nuke.directory.Root;
+import seedu.nuke.directory.Task;
+import seedu.nuke.util.DateTime;
+
+import java.util.ArrayList;
+import java.util.EmptyStackException;
+import java.util.HashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ScreenShotManagerTest {
+    private ArrayList<DirectoryChange> changes;
+    private DirectoryChange.Listener listener;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        HashMap<String, String> modulesMap = new HashMap<>();
+        modulesMap.put("CS2113T", "Software Engineering & Object-Oriented Programming");
+        modulesMap.put("CS3235", "Computer Security");
+        modulesMap.put("CS2101", "Effective Communication for Computing Professionals");
+        modulesMap.put("CS3230", "Design and Analysis of Algorithms");
+        ModuleManager.initialise(modulesMap);
+        ModuleManager.add(new Module("CS2113T"));
+        ModuleManager.add(new Module("CS3235"));
+        ModuleManager.add(new Module("CS2101"));
+        ScreenShotManager.setMemoryBudget(16 * 1024 * 1024);
+        ScreenShotManager.initialise();
+
+        changes = new ArrayList<>();
+        listener = changes::addAll;
+        ChangeBus.subscribe(listener);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ChangeBus.unsubscribe(listener);
+    }
+
+    private void addTask(String moduleCode, String taskDescription) throws Exception {
+        Category lecture = ModuleManager.getCategory(moduleCode, "Lecture");
+        lecture.getTasks().add(new Task(lecture, taskDescription, new DateTime(), 1));
+        ScreenShotManager.saveScreenShot();
+    }
+
+    private ArrayList<String> getModuleCodes() {
+        ArrayList<String> moduleCodes = new ArrayList<>();
+        for (Module module : ModuleManager.getModuleList()) {
+            moduleCodes.add(module.getModuleCode());
+        }
+        return moduleCodes;
+    }
+
+    @Test
+    void undoRedo_changedModules_restoredInPlace() throws Exception {
+        addTask("CS3235", "Buffer overflow lab");
+        ModuleManager.delete(ModuleManager.getModule("CS2113T"));
+        ScreenShotManager.saveScreenShot();
+
+        ScreenShotManager.undo();
+        assertEquals("[CS2113T, CS3235, CS2101]", getModuleCodes().toString());
+        assertEquals(1, ModuleManager.countAllTasks());
+
+        ScreenShotManager.undo();
+        assertEquals("[CS2113T, CS3235, CS2101]", getModuleCodes().toString());
+        assertEquals(0, ModuleManager.countAllTasks());
+        assertThrows(EmptyStackException.class, ScreenShotManager::undo);
+
+        ScreenShotManager.redo();
+        Task task = ModuleManager.getTask("CS3235", "Lecture", "Buffer overflow lab");
+        assertTrue(ModuleManager.getAllTasks().contains(task));
+        ScreenShotManager.redo();
+        assertEquals("[CS3235, CS2101]", getModuleCodes().toString());
+        assertThrows(EmptyStackException.class, ScreenShotManager::redo);
+
+        // Only the changed modules are patched, instead of the whole list being reloaded
+        for (DirectoryChange change : changes) {
+            assertFalse(change.getDirectory() instanceof Root);
+        }
+    }
+
+    @Test
+    void undo_renamedModule_restoredAtSamePosition() throws Exception {
+        ModuleManager.edit(ModuleManager.getModule("CS3235"), "CS3230");
+        ScreenShotManager.saveScreenShot();
+        assertEquals("[CS2113T, CS3230, CS2101]", getModuleCodes().toString());
+
+        ScreenShotManager.undo();
+        assertEquals("[CS2113T, CS3235, CS2101]", getModuleCodes().toString());
+        assertFalse(ModuleManager.contains("CS3230"));
+        ScreenShotManager.redo();
+        assertEquals("[CS2113T, CS3230, CS2101]", getModuleCodes().toString());
+    }
+
+    @Test
+    void setMemoryBudget_exceeded_oldestScreenShotsDiscarded() throws Exception {
+        addTask("CS2113T", "Weekly Quiz");
+        addTask("CS3235", "Buffer overflow lab");
+        addTask("CS2101", "Oral presentation");
+
+        ScreenShotManager.setMemoryBudget(1);
+
+        // The latest screen shot is always kept
+        ScreenShotManager.undo();
+        assertEquals(2, ModuleManager.countAllTasks());
+        assertThrows(EmptyStackException.class, ScreenShotManager::undo);
+    }
+}
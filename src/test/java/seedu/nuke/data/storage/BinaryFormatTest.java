@@ -0,0 +1,153 @@
+package seedu.nuke.data.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.nuke.data.ModuleManager;
+import seedu.nuke.directory.Category;
+import seedu.nuke.directory.DirectoryTraverser;
+import seedu.nuke.directory.Module;
+import seedu.nuke.directory.Task;
+import seedu.nuke.directory.TaskFile;
+import seedu.nuke.exception.CorruptedFileException;
+import seedu.nuke.util.DateTime;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BinaryFormatTest {
+    @TempDir
+    Path tempDirectory;
+
+    @BeforeEach
+    void setUp() {
+        HashMap<String, String> modulesMap = new HashMap<>();
+        modulesMap.put("CS2113T", "Software Engineering & Object-Oriented Programming");
+        modulesMap.put("CS3235", "Computer Security");
+        ModuleManager.initialise(modulesMap);
+        DirectoryTraverser.setCurrentLevelToRoot();
+    }
+
+    private ArrayList<Module> createModuleList(String categoryName, String taskDescription) {
+        Module module = new Module("CS2113T", "Software Engineering & Object-Oriented Programming", "NIL");
+        Category category = new Category(module, categoryName, 3);
+        Task task = new Task(category, taskDescription, new DateTime(LocalDate.of(2020, 4, 13),
+                LocalTime.of(23, 59)), 8, true, new ArrayList<>(Arrays.asList("urgent", "graded")));
+        task.getFiles().loadFileList(new ArrayList<>(Arrays.asList(
+                new TaskFile(task, "quiz.pdf", "data/files/quiz.pdf", "C:/Users/nuke/quiz.pdf"))));
+        Task taskWithoutDeadline = new Task(category, "Read notes", new DateTime(), -2, false, new ArrayList<>());
+        Task oldTask = new Task(category, "Old lab", new DateTime(LocalDate.of(1960, 1, 1), LocalTime.of(0, 1)),
+                0, false, new ArrayList<>());
+        category.getTasks().loadTaskList(new ArrayList<>(Arrays.asList(task, taskWithoutDeadline, oldTask)));
+        module.getCategories().loadCategoryList(new ArrayList<>(Arrays.asList(category,
+                new Category(module, "Lecture", 0))));
+
+        return new ArrayList<>(Arrays.asList(module, new Module("CS3235", "Computer Security", "")));
+    }
+
+    private byte[] encode(ArrayList<Module> moduleList) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new BinaryEncoder(moduleList).encodeTo(out);
+        return out.toByteArray();
+    }
+
+    private ArrayList<Module> decode(byte[] bytes) throws Exception {
+        return new BinaryDecoder(new ByteArrayInputStream(bytes)).decode();
+    }
+
+    @Test
+    void decode_encodedList_sameAsEncodedList() throws Exception {
+        ArrayList<Module> moduleList = createModuleList("Tutorial \u00e9t\u00e9 \u2603", "Weekly Quiz \ud83d\ude00");
+        ArrayList<Module> decodedList = decode(encode(moduleList));
+
+        // The text format writes out every field, so both lists are the same if their texts are
+        assertEquals(new Encoder(moduleList).encode(), new Encoder(decodedList).encode());
+        Task decodedTask = decodedList.get(0).getCategories().getCategoryList().get(0).getTasks().getTaskList().get(0);
+        assertTrue(decodedTask.isDone());
+        assertEquals(Arrays.asList("urgent", "graded"), decodedTask.getTags());
+        assertSame(decodedTask, decodedTask.getFiles().getFileList().get(0).getParent());
+    }
+
+    @Test
+    void decode_wrongMagicOrVersion_exceptionThrown() throws Exception {
+        byte[] bytes = encode(createModuleList("Tutorial", "Weekly Quiz"));
+        byte[] wrongMagic = bytes.clone();
+        wrongMagic[0] = 'M';
+        byte[] wrongVersion = bytes.clone();
+        wrongVersion[BinaryEncoder.MAGIC.length] = BinaryEncoder.VERSION + 1;
+
+        assertThrows(CorruptedFileException.class, () -> decode(wrongMagic));
+        assertThrows(CorruptedFileException.class, () -> decode(wrongVersion));
+        assertThrows(CorruptedFileException.class, () -> decode(new byte[0]));
+    }
+
+    @Test
+    void decode_wrongLengths_exceptionThrown() throws Exception {
+        byte[] bytes = encode(createModuleList("Tutorial", "Weekly Quiz"));
+
+        // Every cut short list is rejected instead of being loaded in part
+        for (int length = 0; length < bytes.length; ++length) {
+            byte[] truncated = Arrays.copyOf(bytes, length);
+            assertThrows(CorruptedFileException.class, () -> decode(truncated), "Cut at " + length);
+        }
+
+        byte[] trailing = Arrays.copyOf(bytes, bytes.length + 1);
+        assertThrows(CorruptedFileException.class, () -> decode(trailing));
+
+        // A string length far beyond the end of the file is not allocated
+        byte[] hugeLength = Arrays.copyOf(bytes, BinaryEncoder.MAGIC.length + 6);
+        hugeLength[BinaryEncoder.MAGIC.length + 1] = 2;
+        hugeLength[BinaryEncoder.MAGIC.length + 2] = (byte) 0xFE;
+        hugeLength[BinaryEncoder.MAGIC.length + 3] = (byte) 0xFF;
+        hugeLength[BinaryEncoder.MAGIC.length + 4] = (byte) 0xFF;
+        hugeLength[BinaryEncoder.MAGIC.length + 5] = 0x07;
+        assertThrows(CorruptedFileException.class, () -> decode(hugeLength));
+    }
+
+    @Test
+    void loadList_legacyTextSave_migratedToBinarySave() throws Exception {
+        Path legacyPath = tempDirectory.resolve("save.txt");
+        Path savePath = tempDirectory.resolve("save.bin");
+        // The text save is written in the default charset, which may not hold every character
+        ArrayList<Module> moduleList = createModuleList("Tutorial", "Weekly Quiz");
+        try (Writer writer = Files.newBufferedWriter(legacyPath, Charset.defaultCharset())) {
+            new Encoder(moduleList).encodeTo(writer);
+        }
+
+        StorageManager storageManager = new StorageManager(savePath.toString(),
+                tempDirectory.resolve("save.journal").toString(), SaveFormat.BINARY);
+        storageManager.setLegacyDataFileName(legacyPath.toString());
+        storageManager.loadList();
+        assertEquals(new Encoder(moduleList).encode(), new Encoder(ModuleManager.getModuleList()).encode());
+        assertFalse(Files.exists(savePath));
+
+        storageManager.commitList();
+        byte[] header = Arrays.copyOf(Files.readAllBytes(savePath), BinaryEncoder.MAGIC.length);
+        assertTrue(BinaryDecoder.isBinaryFormat(header));
+
+        // The binary save is read from now on, even if the legacy save is left behind
+        ModuleManager.delete(ModuleManager.getModule("CS3235"));
+        storageManager.commitList();
+        StorageManager reloadedStorageManager = new StorageManager(savePath.toString(),
+                tempDirectory.resolve("save.journal").toString(), SaveFormat.BINARY);
+        reloadedStorageManager.setLegacyDataFileName(legacyPath.toString());
+        reloadedStorageManager.loadList();
+        moduleList.remove(1);
+        assertEquals(new Encoder(moduleList).encode(), new Encoder(ModuleManager.getModuleList()).encode());
+    }
+}
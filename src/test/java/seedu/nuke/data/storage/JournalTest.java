@@ -0,0 +1,114 @@
+package seedu.nuke.data.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.nuke.data.ModuleManager;
+import seedu.nuke.directory.Category;
+import seedu.nuke.directory.DirectoryTraverser;
+import seedu.nuke.directory.Module;
+import seedu.nuke.directory.Task;
+import seedu.nuke.util.DateTime;
+
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JournalTest {
+    @TempDir
+    Path tempDirectory;
+
+    @BeforeEach
+    void setUp() {
+        HashMap<String, String> modulesMap = new HashMap<>();
+        modulesMap.put("CS2113T", "Software Engineering & Object-Oriented Programming");
+        modulesMap.put("CS3235", "Computer Security");
+        modulesMap.put("CS2101", "Effective Communication for Computing Professionals");
+        ModuleManager.initialise(modulesMap);
+        DirectoryTraverser.setCurrentLevelToRoot();
+    }
+
+    private StorageManager createStorageManager() {
+        return new StorageManager(tempDirectory.resolve("save.txt").toString(),
+                tempDirectory.resolve("save.journal").toString(), SaveFormat.TEXT);
+    }
+
+    private void addTask(String moduleCode, String taskDescription) throws Exception {
+        Category category = ModuleManager.getModule(moduleCode).getCategories().getCategoryList().get(0);
+        category.getTasks().add(new Task(category, taskDescription, new DateTime(), 0));
+    }
+
+    @Test
+    void loadList_journalRecords_replayedOnTopOfSavedList() throws Exception {
+        StorageManager storageManager = createStorageManager();
+        storageManager.loadList();
+        ModuleManager.add(new Module("CS2113T"));
+        ModuleManager.add(new Module("CS3235"));
+        storageManager.commitList();
+
+        // Only the journal holds the changes below
+        addTask("CS2113T", "Weekly Quiz");
+        storageManager.saveList();
+        ModuleManager.delete(ModuleManager.getModule("CS3235"));
+        storageManager.saveList();
+        ModuleManager.add(new Module("CS2101"));
+        storageManager.saveList();
+        assertTrue(Files.exists(tempDirectory.resolve("save.journal")));
+
+        createStorageManager().loadList();
+        assertTrue(ModuleManager.contains("CS2113T"));
+        assertFalse(ModuleManager.contains("CS3235"));
+        assertTrue(ModuleManager.contains("CS2101"));
+        assertEquals(1, ModuleManager.countAllTasks());
+    }
+
+    @Test
+    void saveList_manyRecords_compactedIntoSaveFile() throws Exception {
+        StorageManager storageManager = createStorageManager();
+        storageManager.loadList();
+        ModuleManager.add(new Module("CS2113T"));
+        storageManager.saveList();
+        for (int i = 0; i < 150; ++i) {
+            addTask("CS2113T", "Task " + i);
+            storageManager.saveList();
+        }
+        storageManager.closeJournal();
+
+        assertTrue(Files.exists(tempDirectory.resolve("save.txt")));
+        assertFalse(Files.exists(tempDirectory.resolve("save.journal")));
+        assertFalse(Files.exists(tempDirectory.resolve("save.journal.old")));
+
+        createStorageManager().loadList();
+        assertEquals(150, ModuleManager.countAllTasks());
+    }
+
+    @Test
+    void loadList_partialRecordAtEnd_laterRecordsNotLost() throws Exception {
+        StorageManager storageManager = createStorageManager();
+        storageManager.loadList();
+        ModuleManager.add(new Module("CS2113T"));
+        storageManager.saveList();
+
+        // The program is killed while a record is being appended
+        Path journalPath = tempDirectory.resolve("save.journal");
+        String partialRecord = "--- PUT MODULE ---" + System.lineSeparator() + "CS32";
+        Files.write(journalPath, partialRecord.getBytes(Charset.defaultCharset()), StandardOpenOption.APPEND);
+
+        storageManager = createStorageManager();
+        storageManager.loadList();
+        assertTrue(ModuleManager.contains("CS2113T"));
+        ModuleManager.add(new Module("CS2101"));
+        storageManager.saveList();
+
+        createStorageManager().loadList();
+        assertTrue(ModuleManager.contains("CS2113T"));
+        assertTrue(ModuleManager.contains("CS2101"));
+        assertFalse(ModuleManager.contains("CS3235"));
+    }
+}
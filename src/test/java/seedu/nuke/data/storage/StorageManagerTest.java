@@ -0,0 +1,123 @@
+package seedu.nuke.data.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.nuke.data.ModuleManager;
+import seedu.nuke.directory.DirectoryTraverser;
+import seedu.nuke.directory.Module;
+
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StorageManagerTest {
+    @TempDir
+    Path tempDirectory;
+
+    private Path savePath;
+
+    @BeforeEach
+    void setUp() {
+        HashMap<String, String> modulesMap = new HashMap<>();
+        modulesMap.put("CS2113T", "Software Engineering & Object-Oriented Programming");
+        modulesMap.put("CS3235", "Computer Security");
+        modulesMap.put("CS2101", "Effective Communication for Computing Professionals");
+        modulesMap.put("CS3230", "Design and Analysis of Algorithms");
+        modulesMap.put("CS1010", "Programming Methodology");
+        ModuleManager.initialise(modulesMap);
+        DirectoryTraverser.setCurrentLevelToRoot();
+        savePath = tempDirectory.resolve("save.txt");
+    }
+
+    private StorageManager createStorageManager() {
+        return new StorageManager(savePath.toString());
+    }
+
+    private Path getGeneration(int generation) {
+        return tempDirectory.resolve("save.txt." + generation);
+    }
+
+    /**
+     * Adds the module with the specified module code and saves the list, so that each save holds one more module.
+     */
+    private void addAndSave(StorageManager storageManager, String moduleCode) throws Exception {
+        ModuleManager.add(new Module(moduleCode));
+        storageManager.saveList();
+    }
+
+    private ArrayList<String> loadModuleCodes() {
+        createStorageManager().loadList();
+        ArrayList<String> moduleCodes = new ArrayList<>();
+        for (Module module : ModuleManager.getModuleList()) {
+            moduleCodes.add(module.getModuleCode());
+        }
+        return moduleCodes;
+    }
+
+    private void corrupt(Path path) throws Exception {
+        Files.write(path, "--- MODULE ---\nCS2113T -|||- Soft".getBytes(Charset.defaultCharset()));
+    }
+
+    @Test
+    void saveList_existingSaves_movedIntoPlaceAndOlderGenerationsKept() throws Exception {
+        StorageManager storageManager = createStorageManager();
+        addAndSave(storageManager, "CS2113T");
+        addAndSave(storageManager, "CS3235");
+        addAndSave(storageManager, "CS2101");
+        addAndSave(storageManager, "CS3230");
+        addAndSave(storageManager, "CS1010");
+
+        // No temporary file is left behind once the save is moved into place
+        assertFalse(Files.exists(tempDirectory.resolve("save.txt.tmp")));
+        assertTrue(Files.exists(getGeneration(3)));
+        assertFalse(Files.exists(getGeneration(4)));
+        assertEquals("[CS2113T, CS3235, CS2101, CS3230, CS1010]", loadModuleCodes().toString());
+    }
+
+    @Test
+    void loadList_interruptedSave_previousSaveLoaded() throws Exception {
+        StorageManager storageManager = createStorageManager();
+        addAndSave(storageManager, "CS2113T");
+
+        // The program is killed while the temporary file is being written
+        Files.write(tempDirectory.resolve("save.txt.tmp"), "--- MODULE ---\nCS32".getBytes(Charset.defaultCharset()));
+
+        assertEquals("[CS2113T]", loadModuleCodes().toString());
+        addAndSave(createStorageManager(), "CS3235");
+        assertEquals("[CS2113T, CS3235]", loadModuleCodes().toString());
+    }
+
+    @Test
+    void loadList_newestGenerationsCorrupted_newestValidGenerationLoaded() throws Exception {
+        StorageManager storageManager = createStorageManager();
+        addAndSave(storageManager, "CS2113T");
+        addAndSave(storageManager, "CS3235");
+        addAndSave(storageManager, "CS2101");
+        addAndSave(storageManager, "CS3230");
+
+        corrupt(savePath);
+        assertEquals("[CS2113T, CS3235, CS2101]", loadModuleCodes().toString());
+
+        corrupt(getGeneration(1));
+        Files.delete(getGeneration(2));
+        assertEquals("[CS2113T]", loadModuleCodes().toString());
+    }
+
+    @Test
+    void loadList_allGenerationsCorrupted_emptyList() throws Exception {
+        StorageManager storageManager = createStorageManager();
+        addAndSave(storageManager, "CS2113T");
+        addAndSave(storageManager, "CS3235");
+
+        corrupt(savePath);
+        corrupt(getGeneration(1));
+        assertTrue(loadModuleCodes().isEmpty());
+    }
+}
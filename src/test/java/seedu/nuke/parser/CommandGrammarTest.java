@@ -0,0 +1,202 @@
+package seedu.nuke.parser;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.nuke.parser.CommandGrammar.ALL_GROUP;
+import static seedu.nuke.parser.CommandGrammar.ALL_GROUP_SECOND;
+import static seedu.nuke.parser.CommandGrammar.CATEGORY_GROUP;
+import static seedu.nuke.parser.CommandGrammar.COMMAND_WORD_GROUP;
+import static seedu.nuke.parser.CommandGrammar.DEADLINE_GROUP;
+import static seedu.nuke.parser.CommandGrammar.EXACT_GROUP;
+import static seedu.nuke.parser.CommandGrammar.IDENTIFIER_GROUP;
+import static seedu.nuke.parser.CommandGrammar.INVALID_GROUP;
+import static seedu.nuke.parser.CommandGrammar.MODULE_GROUP;
+import static seedu.nuke.parser.CommandGrammar.PARAMETERS_GROUP;
+import static seedu.nuke.parser.CommandGrammar.PRIORITY_GROUP;
+import static seedu.nuke.parser.CommandGrammar.PRIORITY_GROUP_SECOND;
+import static seedu.nuke.parser.CommandGrammar.attribute;
+import static seedu.nuke.parser.CommandGrammar.flag;
+import static seedu.nuke.parser.CommandGrammar.identifier;
+import static seedu.nuke.parser.CommandGrammar.requiredIdentifier;
+import static seedu.nuke.parser.CommandGrammar.tagIdentifier;
+import static seedu.nuke.parser.CommandGrammar.value;
+import static seedu.nuke.parser.Parser.ALL_FLAG;
+import static seedu.nuke.parser.Parser.CATEGORY_PREFIX;
+import static seedu.nuke.parser.Parser.DEADLINE_PREFIX;
+import static seedu.nuke.parser.Parser.EXACT_FLAG;
+import static seedu.nuke.parser.Parser.MODULE_PREFIX;
+import static seedu.nuke.parser.Parser.PRIORITY_PREFIX;
+
+class CommandGrammarTest {
+    private static final String[] TOKENS = {"CS2113T", "do", "tutorial_1", "a-b", "!urgent", "&", "-", "-m", "-c",
+        "-p", "-d", "-a", "-e", "-ab", "-mx", "5", "#", "\u00e9t\u00e9", "a\u2028b", "\u2029", "sat"};
+    private static final String[] SPACES = {" ", " ", " ", "  ", "\t", "\n"};
+
+    private static final CommandGrammar TASK_GRAMMAR = new CommandGrammar(identifier(),
+            attribute(MODULE_GROUP, MODULE_PREFIX), attribute(CATEGORY_GROUP, CATEGORY_PREFIX),
+            flag(ALL_GROUP, ALL_FLAG), flag(EXACT_GROUP, EXACT_FLAG), flag(ALL_GROUP_SECOND, ALL_FLAG));
+    private static final Pattern TASK_REGEX = Pattern.compile(
+            "(?<identifier>(?:\\s+\\w\\S*)*)"
+            + "(?<moduleCode>(?:\\s+-m(?:\\s+\\w\\S*)+)?)"
+            + "(?<categoryName>(?:\\s+-c(?:\\s+\\w\\S*)+)?)"
+            + "(?<all>(?:\\s+-a)?)"
+            + "(?<exact>(?:\\s+-e)?)"
+            + "(?<allSecond>(?:\\s+-a)?)"
+            + "(?<invalid>.*)");
+    private static final String[] TASK_GROUPS = {IDENTIFIER_GROUP, MODULE_GROUP, CATEGORY_GROUP, ALL_GROUP,
+        EXACT_GROUP, ALL_GROUP_SECOND, INVALID_GROUP};
+
+    private static final CommandGrammar ADD_TASK_GRAMMAR = new CommandGrammar(identifier(),
+            attribute(MODULE_GROUP, MODULE_PREFIX), attribute(CATEGORY_GROUP, CATEGORY_PREFIX),
+            value(PRIORITY_GROUP, PRIORITY_PREFIX), attribute(DEADLINE_GROUP, DEADLINE_PREFIX),
+            value(PRIORITY_GROUP_SECOND, PRIORITY_PREFIX));
+    private static final Pattern ADD_TASK_REGEX = Pattern.compile(
+            "(?<identifier>(?:\\s+\\w\\S*)*)"
+            + "(?<moduleCode>(?:\\s+-m(?:\\s+\\w\\S*)+)?)"
+            + "(?<categoryName>(?:\\s+-c(?:\\s+\\w\\S*)+)?)"
+            + "(?<priority>(?:\\s+-p\\s+\\S+)?)"
+            + "(?<deadline>(?:\\s+-d(?:\\s+\\w\\S*)+)?)"
+            + "(?<prioritySecond>(?:\\s+-p\\s+\\S+)?)"
+            + "(?<invalid>.*)");
+    private static final String[] ADD_TASK_GROUPS = {IDENTIFIER_GROUP, MODULE_GROUP, CATEGORY_GROUP, PRIORITY_GROUP,
+        DEADLINE_GROUP, PRIORITY_GROUP_SECOND, INVALID_GROUP};
+
+    private static final CommandGrammar TAG_GRAMMAR = new CommandGrammar(tagIdentifier(),
+            attribute(MODULE_GROUP, MODULE_PREFIX), flag(ALL_GROUP, ALL_FLAG));
+    private static final Pattern TAG_REGEX = Pattern.compile(
+            "(?<identifier>(?:\\s+[\\w!&|]\\S*)*)"
+            + "(?<moduleCode>(?:\\s+-m(?:\\s+\\w\\S*)+)?)"
+            + "(?<all>(?:\\s+-a)?)"
+            + "(?<invalid>.*)");
+    private static final String[] TAG_GROUPS = {IDENTIFIER_GROUP, MODULE_GROUP, ALL_GROUP, INVALID_GROUP};
+
+    private static final CommandGrammar DUE_GRAMMAR = new CommandGrammar(requiredIdentifier(),
+            flag(ALL_GROUP, ALL_FLAG));
+    private static final Pattern DUE_REGEX = Pattern.compile(
+            "(?<identifier>(?:\\s+\\w\\S*)+)"
+            + "(?<all>(?:\\s+-a)?)"
+            + "(?<invalid>.*)");
+    private static final String[] DUE_GROUPS = {IDENTIFIER_GROUP, ALL_GROUP, INVALID_GROUP};
+
+    private static final Pattern COMMAND_REGEX = Pattern.compile("(?<commandWord>\\s*\\S+)(?<parameters>.*)");
+    private static final String[] COMMAND_GROUPS = {COMMAND_WORD_GROUP, PARAMETERS_GROUP};
+
+    private String createParameters(Random random, int tokenCount) {
+        StringBuilder parameters = new StringBuilder();
+        for (int i = 0; i < tokenCount; ++i) {
+            parameters.append(SPACES[random.nextInt(SPACES.length)]).append(TOKENS[random.nextInt(TOKENS.length)]);
+        }
+        return parameters.toString();
+    }
+
+    private void assertSameAsRegex(CommandGrammar grammar, Pattern regex, String[] groups, String parameters) {
+        Matcher expected = regex.matcher(parameters);
+        CommandGrammar.Match actual = grammar.match(parameters);
+
+        assertEquals(expected.matches(), actual.matches(), parameters);
+        if (!expected.matches()) {
+            return;
+        }
+        for (String group : groups) {
+            assertEquals(expected.group(group), actual.group(group), group + " of " + parameters);
+            assertEquals(expected.start(group), actual.start(group), group + " of " + parameters);
+            assertEquals(expected.end(group), actual.end(group), group + " of " + parameters);
+        }
+    }
+
+    private int countPrefixOccurrences(String fullString, String prefix) {
+        if (fullString.length() < prefix.length() + 1) {
+            return 0;
+        }
+        int count = 0;
+        int index = 0;
+        String prefixWithSpaces = String.format(" %s ", prefix);
+        while ((index = fullString.indexOf(prefixWithSpaces, index)) >= 0) {
+            ++count;
+            ++index;
+        }
+        String prefixWithFrontSpace = String.format(" %s", prefix);
+        if (fullString.substring(fullString.length() - prefixWithFrontSpace.length()).equals(prefixWithFrontSpace)) {
+            ++count;
+        }
+        return count;
+    }
+
+    @Test
+    void match_randomParameters_sameAsRegex() {
+        Random random = new Random(2113);
+        for (int i = 0; i < 20000; ++i) {
+            String parameters = createParameters(random, random.nextInt(12));
+            assertSameAsRegex(TASK_GRAMMAR, TASK_REGEX, TASK_GROUPS, parameters);
+            assertSameAsRegex(ADD_TASK_GRAMMAR, ADD_TASK_REGEX, ADD_TASK_GROUPS, parameters);
+            assertSameAsRegex(TAG_GRAMMAR, TAG_REGEX, TAG_GROUPS, parameters);
+            assertSameAsRegex(DUE_GRAMMAR, DUE_REGEX, DUE_GROUPS, parameters);
+            assertSameAsRegex(CommandGrammar.COMMAND_FORMAT, COMMAND_REGEX, COMMAND_GROUPS, parameters.trim());
+        }
+    }
+
+    @Test
+    void countPrefix_randomParameters_sameAsCountingEachPrefix() {
+        Random random = new Random(2113);
+        for (int i = 0; i < 20000; ++i) {
+            String parameters = createParameters(random, random.nextInt(12));
+            CommandGrammar.Match match = TASK_GRAMMAR.match(parameters);
+            for (String prefix : new String[] {MODULE_PREFIX, CATEGORY_PREFIX, PRIORITY_PREFIX, DEADLINE_PREFIX,
+                ALL_FLAG, EXACT_FLAG}) {
+                assertEquals(countPrefixOccurrences(parameters, prefix), match.countPrefix(prefix),
+                        prefix + " in " + parameters);
+            }
+            assertEquals(Pattern.compile(".*?\\s+-.*").matcher(parameters).matches(),
+                    CommandGrammar.containsPrefix(parameters), parameters);
+        }
+    }
+
+    @Test
+    void match_typicalParameters_attributesSplit() {
+        CommandGrammar.Match match = ADD_TASK_GRAMMAR.match(" do tutorial 1 -m CS2113T -c Tutorial -d sat 2359 -p 8");
+
+        assertTrue(match.matches());
+        assertEquals(" do tutorial 1", match.group(IDENTIFIER_GROUP));
+        assertEquals(" -m CS2113T", match.group(MODULE_GROUP));
+        assertEquals(" -c Tutorial", match.group(CATEGORY_GROUP));
+        assertEquals("", match.group(PRIORITY_GROUP));
+        assertEquals(" -d sat 2359", match.group(DEADLINE_GROUP));
+        assertEquals(" -p 8", match.group(PRIORITY_GROUP_SECOND));
+        assertEquals("", match.group(INVALID_GROUP));
+        assertEquals(1, match.countPrefix(MODULE_PREFIX));
+        assertFalse(DUE_GRAMMAR.match(" -a").matches());
+    }
+
+    /**
+     * Matches adversarial parameters, which made the regexes backtrack heavily or run out of stack. Short ones are
+     * checked against the regexes, and long ones, which the regexes cannot match, are checked to be rejected without
+     * running out of stack. The time taken per character is measured by
+     * {@link seedu.nuke.bench.CommandGrammarBenchmark} instead.
+     */
+    @Test
+    void match_adversarialParameters_sameAsRegexAndNoStackOverflow() {
+        String[] units = {" ab", " a-b", " -m ab", " ab\t\t\t\t", " -m", " -ab"};
+        for (String unit : units) {
+            StringBuilder builder = new StringBuilder();
+            for (int i = 0; i < 30; ++i) {
+                builder.append(unit);
+                // The line break at the end cannot be matched, which made the regexes try every other split
+                assertSameAsRegex(TASK_GRAMMAR, TASK_REGEX, TASK_GROUPS, builder.toString() + "\n");
+                assertSameAsRegex(TASK_GRAMMAR, TASK_REGEX, TASK_GROUPS, builder.toString());
+            }
+
+            for (int i = 0; i < 80000; ++i) {
+                builder.append(unit);
+            }
+            assertFalse(TASK_GRAMMAR.match(builder.toString() + "\n").matches());
+            assertTrue(TASK_GRAMMAR.match(builder.toString()).matches());
+        }
+    }
+}
@@ -163,6 +163,19 @@ class DateTimeFormatTest {
         assertEquals(LocalTime.of(19, 6), DateTimeFormat.stringToTime("7.06pm"));
     }
 
+    @Test
+    void canonicalStringToDateTime() throws DateTimeFormat.InvalidDateTimeException {
+        DateTime dateTime = new DateTime(LocalDate.of(2020, 8, 8), LocalTime.of(16, 38));
+        assertEquals(dateTime.toString(), DateTimeFormat.canonicalStringToDateTime(dateTime.toString()).toString());
+
+        DateTime midnight = DateTimeFormat.canonicalStringToDateTime("08/08/2020 12:05am");
+        assertEquals(LocalTime.of(0, 5), midnight.getTime());
+
+        // Falls back to the accepted formats
+        DateTime otherFormat = DateTimeFormat.canonicalStringToDateTime("8/8/2020 4:38pm");
+        assertEquals(dateTime.toString(), otherFormat.toString());
+    }
+
     @Test
     void stringToTime_invalidDate() {
         try {
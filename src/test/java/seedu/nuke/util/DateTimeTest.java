@@ -38,6 +38,18 @@ class DateTimeTest {
         assertEquals("__", emptyDateTime.getDateTimeInSortFormat());
     }
 
+    @Test
+    void getSortKey_sameOrderAsSortFormat() {
+        DateTime earlier = new DateTime(LocalDate.of(2020, 8, 8), LocalTime.of(9, 0));
+        DateTime dateOnly = new DateTime(LocalDate.of(2020, 8, 8), null);
+        DateTime nextDay = new DateTime(LocalDate.of(2020, 8, 9));
+        assertTrue(earlier.getSortKey() < dateTime.getSortKey());
+        assertTrue(dateTime.getSortKey() < dateOnly.getSortKey());
+        assertTrue(dateOnly.getSortKey() < nextDay.getSortKey());
+        assertTrue(nextDay.getSortKey() < emptyDateTime.getSortKey());
+        assertEquals(Long.MAX_VALUE, emptyDateTime.getSortKey());
+    }
+
     @Test
     void isOn_onDate() throws DateTimeFormat.InvalidDateException {
         LocalDate toCompare = DateTimeFormat.stringToDate("8/8");